@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 import point.ttodoApi.category.domain.*;
 import point.ttodoApi.user.domain.User;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -62,6 +63,14 @@ public interface CategoryCollaboratorRepository extends JpaRepository<CategoryCo
           "ORDER BY cc.acceptedAt ASC")
   List<CategoryCollaborator> findActiveByCategoryId(@Param("category") Category category);
 
+  /**
+   * 여러 카테고리의 활성 협업자 조회 (변경 알림 수신자)
+   */
+  @Query("SELECT cc FROM CategoryCollaborator cc " +
+          "WHERE cc.category.id IN :categoryIds AND cc.status = 'ACCEPTED' " +
+          "AND cc.deletedAt IS NULL")
+  List<CategoryCollaborator> findActiveByCategoryIds(@Param("categoryIds") Collection<UUID> categoryIds);
+
   /**
    * 카테고리의 수락된 협업자 수 조회
    */
@@ -137,4 +146,24 @@ public interface CategoryCollaboratorRepository extends JpaRepository<CategoryCo
           @Param("category") Category category,
           @Param("user") User user
   );
-}
\ No newline at end of file
+
+  /**
+   * 보존 기간이 지난 소프트 삭제 협업자 영구 삭제 (키셋 배치, 잠긴 행은 건너뜀)
+   */
+  @Query(value = "WITH batch AS (" +
+          "  SELECT cc.id FROM category_collaborators cc " +
+          "  WHERE cc.deleted_at < :deletedBefore " +
+          "    AND cc.id > :afterId " +
+          "  ORDER BY cc.id " +
+          "  LIMIT :limit " +
+          "  FOR UPDATE SKIP LOCKED" +
+          "), purged AS (" +
+          "  DELETE FROM category_collaborators t USING batch b WHERE t.id = b.id RETURNING t.id" +
+          ") " +
+          "SELECT id FROM purged ORDER BY id", nativeQuery = true)
+  List<Long> purgeDeletedBatch(
+          @Param("deletedBefore") LocalDateTime deletedBefore,
+          @Param("afterId") long afterId,
+          @Param("limit") int limit
+  );
+}
@@ -26,16 +26,19 @@ public class ExperienceEventHandler {
                     .build()));
   }
 
+  /**
+   * 완료를 반영한 쓰기 트랜잭션에 참여해 완료와 경험치가 함께 커밋/롤백됨 (릴레이 설정이나 지연과 무관)
+   */
   @EventListener
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void handleTodoCompleted(TodoCompletedEvent event) {
-    experienceService.addExperience(event.userId(), 10);
+  @Transactional
+  public void handleTodosCompleted(TodosCompletedEvent event) {
+    experienceService.addExperience(event.userId(), 10 * event.todoIds().size());
   }
 
   @EventListener
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void handleTodoUncompleted(TodoUncompletedEvent event) {
-    experienceService.subtractExperience(event.userId(), 10);
+  @Transactional
+  public void handleTodosUncompleted(TodosUncompletedEvent event) {
+    experienceService.subtractExperience(event.userId(), 10 * event.todoIds().size());
   }
 
   @EventListener
@@ -0,0 +1,13 @@
+package point.ttodoApi.experience.application.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 투두 완료 이벤트 (완료를 반영한 쓰기 트랜잭션 안에서 발행)
+ */
+public record TodosCompletedEvent(
+        UUID userId,
+        List<UUID> todoIds
+) {
+}
@@ -0,0 +1,88 @@
+package point.ttodoApi.shared.bootstrap.synthetic;
+
+import org.postgresql.copy.CopyManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 한 테이블에 COPY할 CSV 행 버퍼
+ * NULL은 빈 값(따옴표 없음), 문자열은 항상 따옴표로 감싸 빈 문자열과 구분
+ */
+final class CopyBuffer {
+
+    private final String table;
+    private final String columns;
+    private final StringBuilder rows = new StringBuilder();
+    private int rowCount;
+    private boolean rowStarted;
+
+    CopyBuffer(String table, String... columns) {
+        this.table = table;
+        this.columns = String.join(", ", columns);
+    }
+
+    CopyBuffer row(Object... values) {
+        for (Object value : values) {
+            append(value);
+        }
+        rows.append('\n');
+        rowStarted = false;
+        rowCount++;
+        return this;
+    }
+
+    String table() {
+        return table;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 버퍼의 행을 COPY로 적재하고 적재 행 수 반환
+     */
+    long copyTo(CopyManager copyManager) throws SQLException, IOException {
+        if (rowCount == 0) return 0;
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        return copyManager.copyIn(sql, new StringReader(rows.toString()));
+    }
+
+    private void append(Object value) {
+        if (rowStarted) rows.append(',');
+        rowStarted = true;
+
+        switch (value) {
+            case null -> {
+            }
+            case String s -> quote(s);
+            case Collection<?> c -> quote(arrayLiteral(c));
+            case LocalDateTime t -> rows.append(t.toLocalDate()).append(' ').append(t.toLocalTime());
+            case LocalDate d -> rows.append(d);
+            case LocalTime t -> rows.append(t);
+            case Enum<?> e -> rows.append(e.name());
+            default -> rows.append(value);
+        }
+    }
+
+    private void quote(String s) {
+        rows.append('"').append(s.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * text[] 리터럴 ({"a","b"})
+     */
+    private static String arrayLiteral(Collection<?> values) {
+        StringJoiner joiner = new StringJoiner(",", "{", "}");
+        for (Object v : values) {
+            joiner.add('"' + v.toString().replace("\\", "\\\\").replace("\"", "\\\"") + '"');
+        }
+        return joiner.toString();
+    }
+}
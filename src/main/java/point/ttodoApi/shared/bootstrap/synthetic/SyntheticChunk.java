@@ -0,0 +1,284 @@
+package point.ttodoApi.shared.bootstrap.synthetic;
+
+import point.ttodoApi.category.domain.CollaboratorStatus;
+import point.ttodoApi.challenge.domain.ChallengeVisibility;
+import point.ttodoApi.challenge.domain.PeriodType;
+import point.ttodoApi.profile.domain.Theme;
+import point.ttodoApi.todo.domain.RankKey;
+import point.ttodoApi.todo.domain.recurrence.*;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
+
+import java.time.*;
+import java.util.*;
+
+import static point.ttodoApi.challenge.domain.ChallengeConstants.INVITE_CODE_LENGTH;
+
+/**
+ * 사용자 구간 [from, to) 하나의 합성 데이터
+ * 청크 번호로 시드를 정하므로 같은 설정이면 실행 순서와 무관하게 같은 데이터가 생성됨.
+ * 협업자/챌린지 참여자는 같은 청크의 사용자 중에서 골라 청크 단위로 FK가 닫혀 있음
+ */
+final class SyntheticChunk {
+
+    static final String EMAIL_DOMAIN = "loadtest.ttodo.dev";
+
+    private static final String[] TITLES = {
+            "아침 운동", "이메일 정리", "주간 보고서 작성", "장보기", "독서 30분", "영어 단어 암기",
+            "알고리즘 문제 풀기", "방 청소", "물 2L 마시기", "회의 준비", "일기 쓰기", "명상 10분",
+            "가계부 정리", "빨래하기", "코드 리뷰", "강의 듣기", "산책하기", "약 먹기", "화분 물주기", "친구 연락"
+    };
+    private static final String[] CATEGORY_NAMES = {"개인", "업무", "공부", "가족", "약속", "운동", "취미", "건강"};
+    private static final String[] TAGS = {"습관", "업무", "중요", "건강", "학습", "집", "루틴", "마감", "가족", "운동"};
+    private static final WeekDay[] WEEK_DAYS = WeekDay.values();
+    private static final Theme[] THEMES = Theme.values();
+    private static final String CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    private final SyntheticDataProperties properties;
+    private final int from;
+    private final int to;
+    private final List<Long> challengeIds;
+    private final String passwordHash;
+    private final LocalDate today;
+    private final LocalDateTime now;
+    private final SplittableRandom random;
+    private final RecurrenceRuleJsonConverter ruleConverter = new RecurrenceRuleJsonConverter();
+
+    final CopyBuffer users = new CopyBuffer("\"user\"", "id", "email", "password", "created_at", "updated_at");
+    final CopyBuffer profiles = new CopyBuffer("profile",
+            "id", "owner_id", "nickname", "theme", "time_zone", "locale", "deleted", "created_at", "updated_at");
+    final CopyBuffer categories = new CopyBuffer("categories",
+            "id", "user_id", "name", "description", "order_index", "created_at", "updated_at");
+    final CopyBuffer collaborators = new CopyBuffer("category_collaborators",
+            "category_id", "user_id", "status", "invited_at", "accepted_at", "created_at", "updated_at");
+    final CopyBuffer definitions = new CopyBuffer("todo_definitions",
+            "id", "user_id", "title", "description", "priority_id", "category_id", "tags", "recurrence_rule",
+            "base_date", "base_time", "is_collaborative", "created_at", "updated_at", "deleted_at");
+    final CopyBuffer instances = new CopyBuffer("todo_instances",
+            "id", "definition_id", "user_id", "sequence_number", "due_date", "due_time", "completed",
+            "completed_at", "is_pinned", "display_order", "rank_key", "created_at", "updated_at", "deleted_at");
+    final CopyBuffer challenges = new CopyBuffer("challenge",
+            "id", "title", "description", "start_date", "end_date", "period_type", "visibility", "invite_code",
+            "creator_id", "active", "created_at", "updated_at");
+    final CopyBuffer participations = new CopyBuffer("challenge_participation",
+            "user_id", "challenge_id", "joined_at", "created_at", "updated_at");
+
+    SyntheticChunk(SyntheticDataProperties properties, int chunkIndex, int from, int to,
+                   List<Long> challengeIds, String passwordHash, LocalDate today) {
+        this.properties = properties;
+        this.from = from;
+        this.to = to;
+        this.challengeIds = challengeIds;
+        this.passwordHash = passwordHash;
+        this.today = today;
+        this.now = today.atTime(12, 0);
+        this.random = new SplittableRandom(properties.seed() * 31 + chunkIndex);
+    }
+
+    /**
+     * 청크에 필요한 챌린지 수
+     */
+    static int challengeCount(int userCount, int usersPerChallenge) {
+        return Math.max(1, userCount / Math.max(1, usersPerChallenge));
+    }
+
+    /**
+     * FK 순서대로 적재할 버퍼
+     */
+    List<CopyBuffer> build() {
+        List<UUID> userIds = new ArrayList<>(to - from);
+        List<UUID[]> categoryIdsByUser = new ArrayList<>(to - from);
+
+        for (int index = from; index < to; index++) {
+            UUID userId = uuid();
+            userIds.add(userId);
+            addUser(index, userId);
+        }
+        for (UUID userId : userIds) {
+            UUID[] categoryIds = addCategories(userId);
+            categoryIdsByUser.add(categoryIds);
+            addTodos(userId, categoryIds);
+        }
+        addCollaborators(userIds, categoryIdsByUser);
+        addChallenges(userIds);
+
+        return List.of(users, profiles, categories, collaborators, definitions, instances, challenges, participations);
+    }
+
+    private void addUser(int index, UUID userId) {
+        LocalDateTime joined = now.minusDays(random.nextInt(30, 730)).plusSeconds(random.nextInt(86_400));
+        users.row(userId, "synthetic-" + index + "@" + EMAIL_DOMAIN, passwordHash, joined, joined);
+        profiles.row(uuid(), userId, "user" + index, THEMES[random.nextInt(THEMES.length)],
+                "Asia/Seoul", "ko-KR", false, joined, joined);
+    }
+
+    private UUID[] addCategories(UUID userId) {
+        int count = random.nextInt(1, Math.max(1, properties.categoriesPerUser()) + 1);
+        UUID[] ids = new UUID[Math.min(count, CATEGORY_NAMES.length)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = uuid();
+            LocalDateTime created = now.minusDays(random.nextInt(1, 365));
+            categories.row(ids[i], userId, CATEGORY_NAMES[i], null, i, created, created);
+        }
+        return ids;
+    }
+
+    private void addTodos(UUID userId, UUID[] categoryIds) {
+        int count = poisson(properties.definitionsPerUser());
+        String rankKey = null;
+
+        for (int i = 0; i < count; i++) {
+            UUID definitionId = uuid();
+            UUID categoryId = random.nextInt(4) == 0 ? null : categoryIds[random.nextInt(categoryIds.length)];
+            RecurrenceRule rule = random.nextDouble() < properties.recurringRatio() ? randomRule() : null;
+            LocalDate baseDate = rule != null
+                    ? rule.getAnchorDate()
+                    : today.plusDays(random.nextInt(-properties.historyDays(), properties.futureDays() + 1));
+            LocalTime baseTime = random.nextInt(3) == 0 ? LocalTime.of(random.nextInt(6, 23), random.nextInt(4) * 15) : null;
+            LocalDateTime created = baseDate.atTime(9, 0).minusDays(random.nextInt(0, 14));
+            LocalDateTime deletedAt = deleted() ? now.minusDays(random.nextInt(0, 120)) : null;
+
+            definitions.row(definitionId, userId, TITLES[random.nextInt(TITLES.length)], null,
+                    random.nextInt(3), categoryId, randomTags(), rule != null ? ruleConverter.convertToDatabaseColumn(rule) : null,
+                    baseDate, baseTime, false, created, created, deletedAt);
+
+            List<LocalDate> dueDates = rule != null
+                    ? RecurrenceEngine.generateBetween(rule, today.minusDays(properties.historyDays()), today.plusDays(properties.futureDays()))
+                    : List.of(baseDate);
+            int sequence = 1;
+            for (LocalDate dueDate : dueDates) {
+                rankKey = RankKey.between(rankKey, null);
+                boolean completed = dueDate.isBefore(today) && random.nextDouble() < properties.completedRatio();
+                LocalDateTime completedAt = completed ? dueDate.atTime(random.nextInt(7, 24), random.nextInt(60)) : null;
+                LocalDateTime instanceDeletedAt = deletedAt != null ? deletedAt : deleted() ? now.minusDays(random.nextInt(0, 120)) : null;
+                LocalDateTime updated = completedAt != null ? completedAt : created;
+
+                instances.row(uuid(), definitionId, userId, sequence++, dueDate, baseTime, completed, completedAt,
+                        random.nextInt(50) == 0, 0, rankKey, created, updated, instanceDeletedAt);
+            }
+        }
+    }
+
+    /**
+     * 반복 규칙 분포: 매일 50%, 매주 35% (1~3개 요일), 매월 15% (특정 일자), 10%는 종료일 있음
+     */
+    private RecurrenceRule randomRule() {
+        RecurrenceRule rule = new RecurrenceRule();
+        int kind = random.nextInt(100);
+        if (kind < 50) {
+            rule.setFrequency(Frequency.DAILY);
+            rule.setInterval(random.nextInt(5) == 0 ? 2 : 1);
+        } else if (kind < 85) {
+            rule.setFrequency(Frequency.WEEKLY);
+            rule.setInterval(1);
+            Set<WeekDay> days = EnumSet.noneOf(WeekDay.class);
+            int dayCount = random.nextInt(1, 4);
+            while (days.size() < dayCount) {
+                days.add(WEEK_DAYS[random.nextInt(WEEK_DAYS.length)]);
+            }
+            rule.setByWeekDays(days);
+        } else {
+            rule.setFrequency(Frequency.MONTHLY);
+            rule.setInterval(1);
+            rule.setByMonthDay(Set.of(random.nextInt(1, 29)));
+        }
+        rule.setAnchorDate(today.minusDays(random.nextInt(0, properties.historyDays() + 180)));
+        if (random.nextInt(10) == 0) {
+            rule.setEndCondition(new EndCondition(EndConditionType.UNTIL, today.plusDays(random.nextInt(0, 60)), null));
+        }
+        return rule;
+    }
+
+    private void addCollaborators(List<UUID> userIds, List<UUID[]> categoryIdsByUser) {
+        if (userIds.size() < 2) return;
+
+        for (int owner = 0; owner < userIds.size(); owner++) {
+            for (UUID categoryId : categoryIdsByUser.get(owner)) {
+                if (random.nextDouble() >= properties.sharedCategoryRatio()) continue;
+
+                Set<Integer> picked = new HashSet<>();
+                int count = Math.min(random.nextInt(1, 4), userIds.size() - 1);
+                while (picked.size() < count) {
+                    int collaborator = random.nextInt(userIds.size());
+                    if (collaborator != owner) picked.add(collaborator);
+                }
+                for (int collaborator : picked) {
+                    LocalDateTime invited = now.minusDays(random.nextInt(1, 180));
+                    boolean accepted = random.nextInt(5) != 0;
+                    collaborators.row(categoryId, userIds.get(collaborator),
+                            accepted ? CollaboratorStatus.ACCEPTED : CollaboratorStatus.PENDING,
+                            invited, accepted ? invited.plusHours(random.nextInt(1, 72)) : null, invited, invited);
+                }
+            }
+        }
+    }
+
+    private void addChallenges(List<UUID> userIds) {
+        if (challengeIds.isEmpty()) return;
+
+        for (Long challengeId : challengeIds) {
+            LocalDate start = today.minusDays(random.nextInt(0, 60));
+            boolean inviteOnly = random.nextInt(4) == 0;
+            LocalDateTime created = start.atTime(10, 0).minusDays(random.nextInt(1, 14));
+            challenges.row(challengeId, TITLES[random.nextInt(TITLES.length)] + " 챌린지", null,
+                    start, start.plusDays(random.nextInt(7, 90)), PeriodType.values()[random.nextInt(PeriodType.values().length)],
+                    inviteOnly ? ChallengeVisibility.INVITE_ONLY : ChallengeVisibility.PUBLIC,
+                    inviteOnly ? inviteCode() : null,
+                    userIds.get(random.nextInt(userIds.size())), true, created, created);
+        }
+        // 사용자의 약 30%가 청크 내 챌린지 하나에 참여
+        for (UUID userId : userIds) {
+            if (random.nextInt(10) >= 3) continue;
+            LocalDateTime joined = now.minusDays(random.nextInt(0, 60));
+            participations.row(userId, challengeIds.get(random.nextInt(challengeIds.size())), joined, joined, joined);
+        }
+    }
+
+    private Set<String> randomTags() {
+        int count = random.nextInt(4);
+        Set<String> tags = new LinkedHashSet<>();
+        while (tags.size() < count) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+        return tags;
+    }
+
+    private boolean deleted() {
+        return random.nextDouble() < properties.deletedRatio();
+    }
+
+    private String inviteCode() {
+        StringBuilder code = new StringBuilder(INVITE_CODE_LENGTH);
+        for (int i = 0; i < INVITE_CODE_LENGTH; i++) {
+            code.append(CODE_CHARS.charAt(random.nextInt(CODE_CHARS.length())));
+        }
+        return code.toString();
+    }
+
+    /**
+     * 평균 mean의 포아송 분포 (사용자별 할일 수 편차 재현, 큰 평균은 정규 근사)
+     */
+    private int poisson(int mean) {
+        if (mean <= 0) return 0;
+        if (mean > 30) {
+            double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+            return Math.max(0, (int) Math.round(mean + Math.sqrt(mean) * gaussian));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 시드 기반 UUID v4
+     */
+    private UUID uuid() {
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,182 @@
+package point.ttodoApi.shared.bootstrap.synthetic;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 부하 테스트용 대용량 합성 데이터 생성기
+ * 사용자 청크마다 커넥션 하나로 FK 순서대로 COPY 후 커밋하고, 청크는 병렬로 적재.
+ * 일간 집계와 반복 정의의 next/last 발생일은 이 프로필에서 켜 둔 기존 백필 작업이 이어서 계산
+ *
+ * <pre>
+ * ./gradlew bootRun --args='--spring.profiles.active=synthetic-data --app.synthetic-data.users=100000'
+ * </pre>
+ */
+@Slf4j
+@Component
+@Order(5)
+@Profile("synthetic-data")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SyntheticDataProperties.class)
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    /** 생성된 사용자의 로그인 비밀번호 */
+    static final String PASSWORD = "Synthetic1!";
+
+    private static final List<String> ANALYZE_TABLES = List.of(
+            "\"user\"", "profile", "categories", "category_collaborators",
+            "todo_definitions", "todo_instances", "challenge", "challenge_participation");
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final SyntheticDataProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (alreadyGenerated()) {
+            log.info("Synthetic users already exist (@{}), skipping generation", SyntheticChunk.EMAIL_DOMAIN);
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        ensurePartitions(today);
+
+        int chunkSize = Math.max(1, properties.chunkSize());
+        int chunkCount = (properties.users() + chunkSize - 1) / chunkSize;
+        log.info("Generating synthetic data: {} users in {} chunks (parallelism {}, seed {})",
+                properties.users(), chunkCount, properties.parallelism(), properties.seed());
+
+        long started = System.nanoTime();
+        Map<String, Long> totals = new ConcurrentSkipListMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.parallelism()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int chunkIndex = chunk;
+                int from = chunk * chunkSize;
+                int to = Math.min(properties.users(), from + chunkSize);
+                futures.add(executor.submit(() -> {
+                    loadChunk(chunkIndex, from, to, passwordHash, today, totals);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        analyze();
+        log.info("Synthetic data generated in {}s: {}", (System.nanoTime() - started) / 1_000_000_000, totals);
+    }
+
+    /**
+     * 백필 작업(ApplicationRunner)까지 끝난 뒤 종료
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void exitWhenDone(ApplicationReadyEvent event) {
+        if (properties.exitOnCompletion()) {
+            System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+        }
+    }
+
+    private void loadChunk(int chunkIndex, int from, int to, String passwordHash, LocalDate today,
+                           Map<String, Long> totals) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                List<Long> challengeIds = allocateChallengeIds(connection,
+                        SyntheticChunk.challengeCount(to - from, properties.usersPerChallenge()));
+                SyntheticChunk chunk = new SyntheticChunk(properties, chunkIndex, from, to, challengeIds, passwordHash, today);
+
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                for (CopyBuffer buffer : chunk.build()) {
+                    long rows = buffer.copyTo(copyManager);
+                    totals.merge(buffer.table(), rows, Long::sum);
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        log.debug("Synthetic chunk {} loaded (users {}..{})", chunkIndex, from, to - 1);
+    }
+
+    /**
+     * IDENTITY 시퀀스에서 챌린지 ID를 미리 받아 참여 행에서 참조
+     */
+    private List<Long> allocateChallengeIds(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT nextval(pg_get_serial_sequence('challenge', 'id')) FROM generate_series(1, ?)")) {
+            statement.setInt(1, count);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 생성 구간의 월 파티션을 미리 만들어 default 파티션에 쌓이지 않게 함
+     */
+    private void ensurePartitions(LocalDate today) throws SQLException {
+        YearMonth month = YearMonth.from(today.minusDays(properties.historyDays()));
+        YearMonth last = YearMonth.from(today.plusDays(properties.futureDays()));
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT ensure_todo_instance_partition(?)")) {
+            for (; !month.isAfter(last); month = month.plusMonths(1)) {
+                statement.setObject(1, month.atDay(1));
+                statement.execute();
+            }
+        }
+    }
+
+    private boolean alreadyGenerated() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT EXISTS (SELECT 1 FROM \"user\" WHERE email LIKE ?)")) {
+            statement.setString(1, "%@" + SyntheticChunk.EMAIL_DOMAIN);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * 대량 적재 직후 통계를 갱신해 실제와 같은 실행 계획이 나오도록 함
+     */
+    private void analyze() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : ANALYZE_TABLES) {
+                statement.execute("ANALYZE " + table);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package point.ttodoApi.shared.bootstrap.synthetic;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 부하 테스트용 합성 데이터 생성 설정 (synthetic-data 프로필)
+ *
+ * @param users                   생성할 사용자 수
+ * @param definitionsPerUser      사용자당 평균 할일 정의 수
+ * @param categoriesPerUser       사용자당 최대 카테고리 수 (1 ~ 값)
+ * @param historyDays             반복 정의의 과거 인스턴스 생성 기간
+ * @param futureDays              반복 정의의 미래 인스턴스 생성 기간
+ * @param recurringRatio          반복 정의 비율 (나머지는 1회용)
+ * @param completedRatio          지난 인스턴스의 완료 비율
+ * @param deletedRatio            소프트 삭제 비율 (정의/인스턴스)
+ * @param sharedCategoryRatio     협업자가 있는 카테고리 비율
+ * @param usersPerChallenge       챌린지 1개당 사용자 수
+ * @param chunkSize               한 트랜잭션에 적재할 사용자 수
+ * @param parallelism             동시에 적재할 청크 수 (청크마다 커넥션 1개)
+ * @param seed                    난수 시드 (같은 시드면 같은 데이터)
+ * @param exitOnCompletion        생성(및 백필) 후 애플리케이션 종료 여부
+ */
+@ConfigurationProperties(prefix = "app.synthetic-data")
+public record SyntheticDataProperties(
+    @DefaultValue("1000") int users,
+    @DefaultValue("20") int definitionsPerUser,
+    @DefaultValue("6") int categoriesPerUser,
+    @DefaultValue("60") int historyDays,
+    @DefaultValue("14") int futureDays,
+    @DefaultValue("0.3") double recurringRatio,
+    @DefaultValue("0.7") double completedRatio,
+    @DefaultValue("0.03") double deletedRatio,
+    @DefaultValue("0.05") double sharedCategoryRatio,
+    @DefaultValue("200") int usersPerChallenge,
+    @DefaultValue("200") int chunkSize,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("42") long seed,
+    @DefaultValue("true") boolean exitOnCompletion
+) {
+}
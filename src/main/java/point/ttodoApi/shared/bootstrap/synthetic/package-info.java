@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.shared.bootstrap.synthetic package
+ */
+@NullMarked
+package point.ttodoApi.shared.bootstrap.synthetic;
+
+import org.jspecify.annotations.NullMarked;
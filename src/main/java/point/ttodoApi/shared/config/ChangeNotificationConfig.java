@@ -0,0 +1,74 @@
+package point.ttodoApi.shared.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import point.ttodoApi.sync.application.ChangeBroadcaster;
+import point.ttodoApi.sync.infrastructure.notification.CategoryHintRecipients;
+import point.ttodoApi.sync.infrastructure.notification.ChangeHintCollector;
+import point.ttodoApi.sync.infrastructure.notification.RedisChangeBroadcaster;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCaptureListener;
+
+import java.util.List;
+
+/**
+ * 변경 캡처/알림(SSE) 설정
+ * 엔티티 쓰기 이벤트를 받는 Hibernate 리스너(투두 변경 로그 기록, 카테고리 알림)를 등록하고,
+ * redis 프로필이면 노드 간 pub/sub 구독을 시작
+ */
+@Configuration
+public class ChangeNotificationConfig {
+
+  /**
+   * 리스너는 EntityManagerFactory 생성 시점에 등록되므로 브로드캐스터/캡처 빈은 처음 쓸 때 조회
+   */
+  @Bean
+  public HibernatePropertiesCustomizer changeHintListenerCustomizer(ObjectProvider<ChangeBroadcaster> broadcaster,
+                                                                    ObjectProvider<CategoryHintRecipients> recipients,
+                                                                    ObjectProvider<TodoMutationCapture> capture) {
+    ChangeHintCollector collector = new ChangeHintCollector(broadcaster, recipients);
+    TodoMutationCaptureListener captureListener = new TodoMutationCaptureListener(capture);
+    Integrator integrator = new Integrator() {
+      @Override
+      public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                            SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, captureListener, collector);
+        registry.appendListeners(EventType.POST_UPDATE, captureListener, collector);
+        registry.appendListeners(EventType.POST_DELETE, captureListener, collector);
+      }
+
+      @Override
+      public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+      }
+    };
+    return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+  }
+
+  @Bean
+  @Profile("redis")
+  public RedisMessageListenerContainer changeNoticeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     RedisChangeBroadcaster broadcaster) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.setTaskExecutor(new VirtualThreadTaskExecutor("change-notice-"));
+    container.addMessageListener(broadcaster, new ChannelTopic(RedisChangeBroadcaster.CHANNEL));
+    return container;
+  }
+}
@@ -0,0 +1,47 @@
+package point.ttodoApi.shared.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import point.ttodoApi.shared.config.properties.PayloadProperties;
+import point.ttodoApi.shared.web.GzipRequestFilter;
+
+/**
+ * 요청/응답 본문 포맷 설정
+ * Accept/Content-Type이 application/cbor, application/x-jackson-smile이면 바이너리로 주고받고 기본은 JSON.
+ * 두 컨버터 모두 spring.jackson 설정이 적용된 빌더로 만들어 JSON과 같은 필드/날짜 표현을 씀
+ * (기본 등록되는 컨버터는 빌더 설정을 따르지 않아 같은 타입의 빈으로 대체)
+ */
+@Configuration
+@EnableConfigurationProperties(PayloadProperties.class)
+public class PayloadFormatConfig {
+
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+
+  /**
+   * 계측 필터 다음, 보안 필터보다 앞에서 gzip 본문을 풀어 이후 단계는 압축 여부를 모르게 함
+   */
+  @Bean
+  public FilterRegistrationBean<GzipRequestFilter> gzipRequestFilter(PayloadProperties properties) {
+    FilterRegistrationBean<GzipRequestFilter> registration =
+        new FilterRegistrationBean<>(new GzipRequestFilter(properties.maxInflatedRequestSize().toBytes()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+    registration.setEnabled(properties.gzipRequests());
+    return registration;
+  }
+}
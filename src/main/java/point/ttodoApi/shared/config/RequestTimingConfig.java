@@ -0,0 +1,104 @@
+package point.ttodoApi.shared.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import point.ttodoApi.shared.config.properties.RequestTimingProperties;
+import point.ttodoApi.shared.logging.*;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL/직렬화 계측 설정
+ * dataSource 빈을 datasource-proxy로 감싸 SQL 시간을 재고, 커넥션 대기는 그 아래 실제 Hikari 풀(라우팅이면 primary/replica 풀)의
+ * 획득 시간으로 재며, 보안 필터보다 앞에서 요청 단위로 집계
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RequestTimingProperties.class)
+@ConditionalOnProperty(prefix = "app.request-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+  private final RequestTimingProperties properties;
+
+  @Bean
+  public static BeanPostProcessor requestTimingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+          timeConnectionWaits(dataSource, meterRegistry);
+          return ProxyDataSourceBuilder.create(dataSource)
+              .name(beanName)
+              .listener(new RequestSqlListener())
+              .build();
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * 지연 프록시/라우팅 DataSource를 따라 내려가 Hikari 풀마다 대기 시간 트래커 설치 (풀 시작 전이어야 함)
+   */
+  static void timeConnectionWaits(DataSource dataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+    if (dataSource instanceof HikariDataSource hikari) {
+      MetricsTrackerFactory current = hikari.getMetricsTrackerFactory();
+      if (current instanceof RequestTimingMetricsTrackerFactory || hikari.getMetricRegistry() != null) return;
+      hikari.setMetricsTrackerFactory(new RequestTimingMetricsTrackerFactory(
+          current != null ? current : hikariMetrics(meterRegistry.getIfAvailable())));
+    } else if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+      timeConnectionWaits(delegating.getTargetDataSource(), meterRegistry);
+    } else if (dataSource instanceof AbstractRoutingDataSource routing) {
+      routing.getResolvedDataSources().values().forEach(target -> timeConnectionWaits(target, meterRegistry));
+    }
+  }
+
+  /**
+   * 아직 풀 메트릭이 없으면 Spring Boot가 붙였을 hikaricp.* 메트릭을 대신 붙임 (설정된 팩토리가 있으면 Boot는 건너뜀)
+   */
+  private static MetricsTrackerFactory hikariMetrics(@Nullable MeterRegistry meterRegistry) {
+    if (meterRegistry == null) {
+      return (poolName, poolStats) -> new IMetricsTracker() {
+      };
+    }
+    return new MicrometerMetricsTrackerFactory(meterRegistry);
+  }
+
+  @Bean
+  public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(MeterRegistry meterRegistry) {
+    FilterRegistrationBean<RequestTimingFilter> registration =
+        new FilterRegistrationBean<>(new RequestTimingFilter(properties, meterRegistry));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+    return registration;
+  }
+
+  @Bean
+  public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+    return new TimedJacksonHttpMessageConverter(objectMapper);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new RequestTimingInterceptor());
+  }
+}
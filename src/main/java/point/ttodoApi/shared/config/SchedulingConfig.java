@@ -0,0 +1,12 @@
+package point.ttodoApi.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (주기 작업은 각 작업의 app.* 속성으로 켜고 끔)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,86 @@
+package point.ttodoApi.shared.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import point.ttodoApi.shared.config.properties.DataSourceRoutingProperties;
+
+import javax.sql.DataSource;
+import java.util.*;
+
+/**
+ * primary/replica 라우팅 DataSource 설정
+ * 각 대상은 독립 Hikari 풀이며 hikaricp.* 메트릭이 pool 태그(primary, replica-N)로 노출됩니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+  private final DataSourceRoutingProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Bean
+  @Profile("!redis")
+  public PrimaryStickinessTracker primaryStickinessTracker() {
+    return new InMemoryPrimaryStickinessTracker(properties.stickyWindow());
+  }
+
+  /**
+   * 여러 노드가 쓰기 고정 상태를 공유 (다른 노드로 간 요청도 자신의 쓰기를 읽음)
+   */
+  @Bean
+  @Profile("redis")
+  public PrimaryStickinessTracker redisPrimaryStickinessTracker(RedisTemplate<String, String> redisTemplate) {
+    return new RedisPrimaryStickinessTracker(redisTemplate, properties.stickyWindow());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(PrimaryStickinessTracker stickinessTracker) {
+    if (properties.primary() == null) {
+      throw new IllegalStateException("app.datasource.routing.primary must be configured when routing is enabled");
+    }
+
+    Map<Object, Object> targets = new HashMap<>();
+    HikariDataSource primary = createPool(ReplicaRoutingDataSource.PRIMARY, properties.primary(), false);
+    targets.put(ReplicaRoutingDataSource.PRIMARY, primary);
+
+    List<DataSourceRoutingProperties.Target> replicas = properties.replicas();
+    for (int i = 0; i < replicas.size(); i++) {
+      String key = ReplicaRoutingDataSource.REPLICA_PREFIX + i;
+      targets.put(key, createPool(key, replicas.get(i), true));
+    }
+
+    ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(replicas.size(), stickinessTracker);
+    routing.setTargetDataSources(targets);
+    routing.setDefaultTargetDataSource(primary);
+    routing.afterPropertiesSet();
+
+    log.info("Read-replica routing enabled: {} replica(s), sticky window {}",
+        replicas.size(), properties.stickyWindow());
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  private HikariDataSource createPool(String name, DataSourceRoutingProperties.Target target, boolean readOnly) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(name);
+    config.setJdbcUrl(target.url());
+    config.setUsername(target.username());
+    config.setPassword(target.password());
+    config.setMaximumPoolSize(target.maximumPoolSize());
+    config.setReadOnly(readOnly);
+    config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return new HikariDataSource(config);
+  }
+}
@@ -0,0 +1,43 @@
+package point.ttodoApi.shared.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 메모리 기반 쓰기 추적 (단일 노드용 - 다른 노드의 쓰기는 모름)
+ */
+public class InMemoryPrimaryStickinessTracker implements PrimaryStickinessTracker {
+
+  private static final int CLEANUP_THRESHOLD = 10_000;
+
+  private final long windowNanos;
+  private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+  public InMemoryPrimaryStickinessTracker(Duration stickyWindow) {
+    this.windowNanos = stickyWindow.toNanos();
+  }
+
+  @Override
+  public void markWrite(String principal) {
+    if (windowNanos <= 0) return;
+    if (lastWriteNanos.size() > CLEANUP_THRESHOLD) {
+      evictExpired();
+    }
+    lastWriteNanos.put(principal, System.nanoTime());
+  }
+
+  @Override
+  public boolean isSticky(String principal) {
+    Long writtenAt = lastWriteNanos.get(principal);
+    if (writtenAt == null) return false;
+    if (System.nanoTime() - writtenAt < windowNanos) return true;
+    lastWriteNanos.remove(principal, writtenAt);
+    return false;
+  }
+
+  private void evictExpired() {
+    long now = System.nanoTime();
+    lastWriteNanos.entrySet().removeIf(e -> now - e.getValue() >= windowNanos);
+  }
+}
@@ -0,0 +1,19 @@
+package point.ttodoApi.shared.config.datasource;
+
+/**
+ * 사용자별 최근 쓰기 추적
+ * 쓰기 커밋 후 stickyWindow 동안은 같은 사용자의 읽기도 primary로 보내 복제 지연으로 인한 stale read를 방지.
+ * 여러 노드로 운영하면 어느 노드에서 읽어도 같은 결과가 나오도록 공유 저장소 구현(redis 프로필)을 사용
+ */
+public interface PrimaryStickinessTracker {
+
+  /**
+   * 쓰기 커밋 기록 (커밋 후에만 호출)
+   */
+  void markWrite(String principal);
+
+  /**
+   * primary 고정 여부
+   */
+  boolean isSticky(String principal);
+}
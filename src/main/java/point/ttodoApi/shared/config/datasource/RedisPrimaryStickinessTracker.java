@@ -0,0 +1,46 @@
+package point.ttodoApi.shared.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 쓰기 추적 (여러 노드 공유)
+ * 사용자별 키에 쓰기 커밋 시각(epoch ms)을 stickyWindow 만료로 저장해, 다른 노드로 간 다음 요청도 primary에서 읽음.
+ * Redis 장애 시 고정 여부를 모르므로 primary로 읽음 (stale read보다 primary 부하를 택함)
+ */
+@Slf4j
+public class RedisPrimaryStickinessTracker implements PrimaryStickinessTracker {
+
+  static final String KEY_PREFIX = "datasource:primary-sticky:";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final Duration stickyWindow;
+
+  public RedisPrimaryStickinessTracker(RedisTemplate<String, String> redisTemplate, Duration stickyWindow) {
+    this.redisTemplate = redisTemplate;
+    this.stickyWindow = stickyWindow;
+  }
+
+  @Override
+  public void markWrite(String principal) {
+    if (stickyWindow.isZero() || stickyWindow.isNegative()) return;
+    try {
+      redisTemplate.opsForValue().set(KEY_PREFIX + principal, Long.toString(System.currentTimeMillis()), stickyWindow);
+    } catch (RuntimeException e) {
+      log.warn("Failed to record primary stickiness for {}", principal, e);
+    }
+  }
+
+  @Override
+  public boolean isSticky(String principal) {
+    if (stickyWindow.isZero() || stickyWindow.isNegative()) return false;
+    try {
+      return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + principal));
+    } catch (RuntimeException e) {
+      log.warn("Failed to read primary stickiness for {}, reading from primary", principal, e);
+      return true;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package point.ttodoApi.shared.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * readOnly 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ * <p>
+ * 트랜잭션의 readOnly 플래그는 커넥션 획득 이후에 설정되므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ * 쓰기 트랜잭션은 커밋된 뒤에만 사용자를 primary에 고정합니다 (롤백된 쓰기는 고정하지 않음).
+ * </p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+  public static final String REPLICA_PREFIX = "replica-";
+
+  private final List<String> replicaKeys;
+  private final PrimaryStickinessTracker stickinessTracker;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(int replicaCount, PrimaryStickinessTracker stickinessTracker) {
+    this.replicaKeys = IntStream.range(0, replicaCount)
+        .mapToObj(i -> REPLICA_PREFIX + i)
+        .toList();
+    this.stickinessTracker = stickinessTracker;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    String principal = currentPrincipal();
+    boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+    if (!readOnly) {
+      if (principal != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            stickinessTracker.markWrite(principal);
+          }
+        });
+      }
+      return PRIMARY;
+    }
+
+    if (replicaKeys.isEmpty() || (principal != null && stickinessTracker.isSticky(principal))) {
+      return PRIMARY;
+    }
+
+    String key = replicaKeys.get(Math.floorMod(cursor.getAndIncrement(), replicaKeys.size()));
+    log.trace("Routing read-only transaction to {}", key);
+    return key;
+  }
+
+  private String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) return null;
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.shared.config.datasource package
+ */
+@NullMarked
+package point.ttodoApi.shared.config.datasource;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,27 @@
+package point.ttodoApi.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * @param enabled      라우팅 활성화 여부 (false면 Spring Boot 기본 DataSource 사용)
+ * @param stickyWindow 사용자 쓰기 커밋 후 읽기를 primary로 고정하는 시간 (복제 지연 보호, redis 프로필이면 노드 간 공유)
+ * @param primary      쓰기/일반 트랜잭션 대상
+ * @param replicas     readOnly 트랜잭션 대상 (라운드 로빈)
+ */
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public record DataSourceRoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("5s") Duration stickyWindow,
+    Target primary,
+    @DefaultValue List<Target> replicas
+) {
+  public record Target(String url, String username, String password,
+                       @DefaultValue("10") int maximumPoolSize) {
+  }
+}
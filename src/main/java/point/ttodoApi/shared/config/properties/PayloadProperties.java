@@ -0,0 +1,18 @@
+package point.ttodoApi.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 요청/응답 본문 포맷 설정
+ *
+ * @param gzipRequests           Content-Encoding: gzip 요청 본문 해제 여부
+ * @param maxInflatedRequestSize 해제한 요청 본문의 최대 크기 (압축 폭탄 방지)
+ */
+@ConfigurationProperties(prefix = "app.payload")
+public record PayloadProperties(
+    @DefaultValue("true") boolean gzipRequests,
+    @DefaultValue("16MB") DataSize maxInflatedRequestSize
+) {
+}
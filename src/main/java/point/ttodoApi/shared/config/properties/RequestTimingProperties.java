@@ -0,0 +1,23 @@
+package point.ttodoApi.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청별 SQL/직렬화 계측 설정
+ *
+ * @param enabled             계측 활성화 여부 (DataSource 프록시, 필터, 메트릭)
+ * @param serverTimingHeader  Server-Timing 응답 헤더 추가 여부 (응답 본문을 버퍼링함)
+ * @param slowThreshold       이 시간보다 느린 요청은 실행한 SQL과 함께 WARN 로그
+ * @param maxLoggedStatements 느린 요청 로그에 남길 최대 SQL 수
+ */
+@ConfigurationProperties(prefix = "app.request-timing")
+public record RequestTimingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("false") boolean serverTimingHeader,
+    @DefaultValue("1s") Duration slowThreshold,
+    @DefaultValue("50") int maxLoggedStatements
+) {
+}
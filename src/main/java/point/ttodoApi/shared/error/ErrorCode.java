@@ -15,6 +15,7 @@ public enum ErrorCode {
   RESOURCE_NOT_FOUND("COMMON_005", "리소스를 찾을 수 없음", HttpStatus.NOT_FOUND),
   INTERNAL_SERVER_ERROR("COMMON_006", "서버 내부 오류", HttpStatus.INTERNAL_SERVER_ERROR),
   METHOD_NOT_ALLOWED("COMMON_007", "허용되지 않은 메소드", HttpStatus.METHOD_NOT_ALLOWED),
+  PAYLOAD_TOO_LARGE("COMMON_009", "요청 본문 크기 초과", HttpStatus.CONTENT_TOO_LARGE),
 
   // Authentication & Authorization Errors
   AUTHENTICATION_FAILED("AUTH_001", "인증 실패", HttpStatus.UNAUTHORIZED),
@@ -48,6 +49,10 @@ public enum ErrorCode {
   CHALLENGE_NOT_STARTED("CHALLENGE_005", "시작되지 않은 챌린지", HttpStatus.BAD_REQUEST),
   INVALID_INVITE_LINK("CHALLENGE_006", "유효하지 않은 초대 링크", HttpStatus.BAD_REQUEST),
 
+  // Sync Errors
+  SYNC_BATCH_TOO_LARGE("SYNC_001", "동기화 배치 크기 초과", HttpStatus.CONTENT_TOO_LARGE),
+  SYNC_BUSY("SYNC_002", "동기화 요청 처리 한도 초과", HttpStatus.TOO_MANY_REQUESTS),
+
   // File Upload Errors
   FILE_NOT_FOUND("FILE_001", "파일을 찾을 수 없음", HttpStatus.NOT_FOUND),
   INVALID_FILE_TYPE("FILE_002", "허용되지 않은 파일 형식", HttpStatus.BAD_REQUEST),
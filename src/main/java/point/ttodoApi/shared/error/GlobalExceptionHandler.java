@@ -3,6 +3,7 @@ package point.ttodoApi.shared.error;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -13,6 +14,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import point.ttodoApi.shared.web.GzipRequestFilter;
 
 import java.net.URI;
 import java.nio.file.AccessDeniedException;
@@ -202,6 +204,39 @@ public class GlobalExceptionHandler {
     return problemDetail;
   }
 
+  /**
+   * 요청 본문을 읽을 수 없음 (JSON/CBOR/Smile 형식 오류, gzip 해제 한도 초과)
+   */
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ProblemDetail handleHttpMessageNotReadable(
+          HttpMessageNotReadableException ex, HttpServletRequest request) {
+
+    ErrorCode errorCode = isPayloadTooLarge(ex) ? ErrorCode.PAYLOAD_TOO_LARGE : ErrorCode.INVALID_INPUT_VALUE;
+    log.warn("Unreadable request body - {}: {}", errorCode, ex.getMessage());
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            errorCode.getHttpStatus(),
+            errorCode == ErrorCode.PAYLOAD_TOO_LARGE
+                    ? "요청 본문이 허용된 최대 크기를 초과했습니다."
+                    : "요청 본문을 읽을 수 없습니다. 형식을 확인해주세요."
+    );
+    problemDetail.setType(URI.create(errorCode == ErrorCode.PAYLOAD_TOO_LARGE
+            ? "/errors/payload-too-large" : "/errors/unreadable-body"));
+    problemDetail.setTitle(errorCode.getMessage());
+    problemDetail.setInstance(URI.create(request.getRequestURI()));
+    problemDetail.setProperty("errorCode", errorCode.getCode());
+    problemDetail.setProperty("timestamp", Instant.now());
+
+    return problemDetail;
+  }
+
+  private static boolean isPayloadTooLarge(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof GzipRequestFilter.InflatedSizeExceededException) return true;
+    }
+    return false;
+  }
+
   @ExceptionHandler(AuthenticationException.class)
   public ProblemDetail handleAuthenticationException(
           AuthenticationException ex, HttpServletRequest request) {
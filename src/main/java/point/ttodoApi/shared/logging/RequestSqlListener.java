@@ -0,0 +1,32 @@
+package point.ttodoApi.shared.logging;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.*;
+
+/**
+ * datasource-proxy 리스너 - SQL 실행 시간을 현재 요청에 누적 (커넥션 대기는 RequestTimingMetricsTrackerFactory)
+ * 요청 밖(스케줄 작업 등)에서 실행된 SQL은 무시
+ */
+public class RequestSqlListener implements QueryExecutionListener {
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    RequestTimings timings = RequestTimings.current();
+    if (timings != null) timings.statementStarted();
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) return;
+
+    List<String> queries = new ArrayList<>(queryInfoList.size());
+    for (QueryInfo queryInfo : queryInfoList) {
+      queries.add(queryInfo.getQuery());
+    }
+    timings.statementFinished(queries);
+  }
+}
@@ -0,0 +1,135 @@
+package point.ttodoApi.shared.logging;
+
+import io.micrometer.core.instrument.*;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+import point.ttodoApi.shared.config.properties.RequestTimingProperties;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 수, DB 시간, 커넥션 대기, JSON 쓰기, 필터 구간 계측
+ * 보안 필터보다 앞에 등록해 전체 요청 시간을 측정하고 Micrometer에 기록.
+ * Server-Timing 헤더를 켜면 응답 본문을 버퍼링한 뒤 헤더를 붙여 내보냄 (SSE 요청은 제외).
+ * 비동기 응답(StreamingResponseBody 등)은 본문이 첫 디스패치 뒤에 버퍼에 쓰이므로 비동기 디스패치에서 내보냄
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+  static final String SERVER_TIMING = "Server-Timing";
+
+  private final RequestTimingProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (isAsyncDispatch(request)) {
+      // 계측은 첫 디스패치에서 끝났고, 여기서는 비동기로 쓰인 버퍼만 내보냄
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        ContentCachingResponseWrapper buffered =
+            WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (buffered != null && !request.isAsyncStarted()) {
+          buffered.copyBodyToResponse();
+        }
+      }
+      return;
+    }
+
+    RequestTimings timings = RequestTimings.start(properties.maxLoggedStatements());
+    ContentCachingResponseWrapper buffered = properties.serverTimingHeader() && !isEventStream(request)
+        ? new ContentCachingResponseWrapper(response)
+        : null;
+
+    try {
+      filterChain.doFilter(request, buffered != null ? buffered : response);
+    } finally {
+      try {
+        if (buffered != null && !request.isAsyncStarted()) {
+          if (!response.isCommitted()) {
+            response.setHeader(SERVER_TIMING, serverTiming(timings));
+          }
+          buffered.copyBodyToResponse();
+        }
+        record(request, timings);
+      } finally {
+        RequestTimings.clear();
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, RequestTimings timings) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+
+    DistributionSummary.builder("http.server.requests.db.statements").tags(tags)
+        .register(meterRegistry).record(timings.statementCount());
+    timer("http.server.requests.db", tags, timings.dbNanos());
+    timer("http.server.requests.db.connection.wait", tags, timings.connectionWaitNanos());
+    timer("http.server.requests.json.write", tags, timings.jsonWriteNanos());
+    timer("http.server.requests.filters", tags, timings.filterNanos());
+
+    long elapsed = timings.elapsedNanos();
+    if (elapsed > properties.slowThreshold().toNanos()) {
+      log.warn("Slow request {} {} took {} ms (db {} ms / {} statements, connection wait {} ms, json {} ms, filters {} ms){}",
+          request.getMethod(), request.getRequestURI(), millis(elapsed), millis(timings.dbNanos()),
+          timings.statementCount(), millis(timings.connectionWaitNanos()), millis(timings.jsonWriteNanos()),
+          millis(timings.filterNanos()), formatStatements(timings));
+    }
+  }
+
+  private void timer(String name, Tags tags, long nanos) {
+    Timer.builder(name).tags(tags).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * total;dur=12.3, db;dur=4.1;desc="3 statements", db-wait;dur=0.2, json;dur=1.0, filters;dur=2.0
+   */
+  static String serverTiming(RequestTimings timings) {
+    return "total;dur=" + millis(timings.elapsedNanos())
+        + ", db;dur=" + millis(timings.dbNanos()) + ";desc=\"" + timings.statementCount() + " statements\""
+        + ", db-wait;dur=" + millis(timings.connectionWaitNanos())
+        + ", json;dur=" + millis(timings.jsonWriteNanos())
+        + ", filters;dur=" + millis(timings.filterNanos());
+  }
+
+  private static String formatStatements(RequestTimings timings) {
+    if (timings.statements().isEmpty()) return "";
+    StringBuilder out = new StringBuilder();
+    for (String statement : timings.statements()) {
+      out.append("\n  ").append(statement);
+    }
+    if (timings.statementCount() > timings.statements().size()) {
+      out.append("\n  ... ").append(timings.statementCount() - timings.statements().size()).append(" more");
+    }
+    return out.toString();
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+  }
+
+  private static boolean isEventStream(HttpServletRequest request) {
+    String accept = request.getHeader("Accept");
+    return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+}
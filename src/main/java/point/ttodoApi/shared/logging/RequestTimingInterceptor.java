@@ -0,0 +1,18 @@
+package point.ttodoApi.shared.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 진입 시점 기록 (요청 시작부터 여기까지가 필터 체인 구간)
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    RequestTimings timings = RequestTimings.current();
+    if (timings != null) timings.markHandlerStart();
+    return true;
+  }
+}
@@ -0,0 +1,53 @@
+package point.ttodoApi.shared.logging;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Hikari 풀의 커넥션 획득 대기 시간을 현재 요청에 누적하는 메트릭 트래커 팩토리
+ * Hikari는 빌린 스레드에서 획득 시간을 기록하므로 요청 스레드의 실제 풀 대기가 잡힘
+ * (지연 커넥션 프록시나 라우팅 DataSource 바깥에서 재면 풀 대기가 아니라 프록시 생성 시간만 잡힘).
+ * 기존 트래커(hikaricp.* 메트릭)에는 그대로 위임
+ */
+public class RequestTimingMetricsTrackerFactory implements MetricsTrackerFactory {
+
+  private final MetricsTrackerFactory delegate;
+
+  public RequestTimingMetricsTrackerFactory(MetricsTrackerFactory delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats) {
+    IMetricsTracker tracker = delegate.create(poolName, poolStats);
+    return new IMetricsTracker() {
+      @Override
+      public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        tracker.recordConnectionCreatedMillis(connectionCreatedMillis);
+      }
+
+      @Override
+      public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) timings.connectionWaited(elapsedAcquiredNanos);
+      }
+
+      @Override
+      public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        tracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
+      }
+
+      @Override
+      public void recordConnectionTimeout() {
+        tracker.recordConnectionTimeout();
+      }
+
+      @Override
+      public void close() {
+        tracker.close();
+      }
+    };
+  }
+}
@@ -0,0 +1,111 @@
+package point.ttodoApi.shared.logging;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * 요청 하나의 계측 값 (요청 스레드에 바인딩)
+ * DB 시간, 커넥션 대기, JSON 쓰기, 필터(보안 등) 구간을 나노초로 누적
+ */
+public final class RequestTimings {
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+  private final long startNanos = System.nanoTime();
+  private final int maxStatements;
+  private final List<String> statements;
+  private long handlerStartNanos;
+  private long statementCount;
+  private long dbNanos;
+  private long connectionWaitNanos;
+  private long jsonWriteNanos;
+  private long statementStartNanos;
+
+  private RequestTimings(int maxStatements) {
+    this.maxStatements = maxStatements;
+    this.statements = new ArrayList<>(Math.min(maxStatements, 16));
+  }
+
+  /**
+   * 현재 스레드에서 계측 시작 (maxStatements개까지 SQL 문자열 보관)
+   */
+  static RequestTimings start(int maxStatements) {
+    RequestTimings timings = new RequestTimings(maxStatements);
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * 현재 요청의 계측 값 (요청 밖이면 null)
+   */
+  public static @Nullable RequestTimings current() {
+    return CURRENT.get();
+  }
+
+  void markHandlerStart() {
+    if (handlerStartNanos == 0) handlerStartNanos = System.nanoTime();
+  }
+
+  void statementStarted() {
+    statementStartNanos = System.nanoTime();
+  }
+
+  void statementFinished(List<String> queries) {
+    statementCount++;
+    if (statementStartNanos != 0) {
+      dbNanos += System.nanoTime() - statementStartNanos;
+      statementStartNanos = 0;
+    }
+    for (String query : queries) {
+      if (statements.size() >= maxStatements) break;
+      statements.add(query);
+    }
+  }
+
+  /**
+   * Hikari 풀에서 커넥션을 빌리기까지 걸린 시간
+   */
+  void connectionWaited(long nanos) {
+    connectionWaitNanos += nanos;
+  }
+
+  public void addJsonWrite(long nanos) {
+    jsonWriteNanos += nanos;
+  }
+
+  long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * 요청 시작부터 컨트롤러 진입까지 (보안 등 필터 체인), 컨트롤러에 도달하지 않았으면 0
+   */
+  long filterNanos() {
+    return handlerStartNanos == 0 ? 0 : handlerStartNanos - startNanos;
+  }
+
+  long statementCount() {
+    return statementCount;
+  }
+
+  long dbNanos() {
+    return dbNanos;
+  }
+
+  long connectionWaitNanos() {
+    return connectionWaitNanos;
+  }
+
+  long jsonWriteNanos() {
+    return jsonWriteNanos;
+  }
+
+  List<String> statements() {
+    return statements;
+  }
+}
@@ -0,0 +1,37 @@
+package point.ttodoApi.shared.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 응답 쓰기 시간을 현재 요청 계측에 누적하는 Jackson 컨버터
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+    super(objectMapper);
+  }
+
+  @Override
+  protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    RequestTimings timings = RequestTimings.current();
+    if (timings == null) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+
+    long start = System.nanoTime();
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      timings.addJsonWrite(System.nanoTime() - start);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package point.ttodoApi.shared.web;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Content-Encoding: gzip 요청 본문을 풀어서 넘기는 필터
+ * 본문은 읽는 만큼만 풀고, 해제한 크기가 한도를 넘으면 읽는 도중 예외를 던짐
+ */
+@RequiredArgsConstructor
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+  private static final String GZIP = "gzip";
+
+  private final long maxInflatedSize;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+    return encoding == null || !GZIP.equalsIgnoreCase(encoding.trim());
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    filterChain.doFilter(new InflatedRequest(request, maxInflatedSize), response);
+  }
+
+  /**
+   * 해제한 본문이 한도를 넘음 (GlobalExceptionHandler에서 413으로 응답)
+   */
+  public static final class InflatedSizeExceededException extends IOException {
+    InflatedSizeExceededException(long limit) {
+      super("Inflated request body exceeds " + limit + " bytes");
+    }
+  }
+
+  /**
+   * 본문은 gzip 스트림으로, Content-Encoding/Content-Length 헤더는 숨겨 다음 단계가 평문 요청으로 보게 함
+   */
+  private static final class InflatedRequest extends HttpServletRequestWrapper {
+
+    private final long maxInflatedSize;
+    private @Nullable ServletInputStream inputStream;
+
+    InflatedRequest(HttpServletRequest request, long maxInflatedSize) {
+      super(request);
+      this.maxInflatedSize = maxInflatedSize;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        inputStream = new InflatingInputStream(new GZIPInputStream(super.getInputStream()), maxInflatedSize);
+      }
+      return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(), encoding != null ? encoding : "UTF-8"));
+    }
+
+    @Override
+    public int getContentLength() {
+      return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return -1;
+    }
+
+    @Override
+    public @Nullable String getHeader(String name) {
+      if (isHidden(name)) return null;
+      return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      if (isHidden(name)) return Collections.emptyEnumeration();
+      return super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      List<String> names = Collections.list(super.getHeaderNames());
+      names.removeIf(InflatedRequest::isHidden);
+      return Collections.enumeration(names);
+    }
+
+    private static boolean isHidden(String name) {
+      return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+  }
+
+  private static final class InflatingInputStream extends ServletInputStream {
+
+    private final InputStream delegate;
+    private final long limit;
+    private long read;
+    private boolean finished;
+
+    InflatingInputStream(InputStream delegate, long limit) {
+      this.delegate = delegate;
+      this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = delegate.read();
+      if (b < 0) {
+        finished = true;
+      } else {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int off, int len) throws IOException {
+      int n = delegate.read(buffer, off, len);
+      if (n < 0) {
+        finished = true;
+      } else {
+        count(n);
+      }
+      return n;
+    }
+
+    private void count(int n) throws IOException {
+      read += n;
+      if (read > limit) throw new InflatedSizeExceededException(limit);
+    }
+
+    @Override
+    public boolean isFinished() {
+      return finished;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      throw new UnsupportedOperationException("Async read is not supported for gzip request bodies");
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.shared.web package
+ */
+@NullMarked
+package point.ttodoApi.shared.web;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,14 @@
+package point.ttodoApi.sync.application;
+
+import point.ttodoApi.sync.application.result.ChangeHint;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 커밋된 변경 알림을 해당 사용자의 스트림 연결이 있는 모든 노드에 전달
+ */
+public interface ChangeBroadcaster {
+
+  void broadcast(UUID userId, List<ChangeHint> hints);
+}
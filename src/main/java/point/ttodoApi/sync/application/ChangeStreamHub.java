@@ -0,0 +1,138 @@
+package point.ttodoApi.sync.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import point.ttodoApi.sync.application.result.ChangeHint;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자별 변경 알림 스트림 (SSE)
+ * 연결마다 가상 스레드 하나가 자기 큐를 기다렸다가 보내므로, 대기 중인 연결은 플랫폼 스레드를 점유하지 않음.
+ * 큐가 넘칠 만큼 느린 연결에는 알림 대신 resync 이벤트를 보내 전체 변경분을 다시 조회하게 함
+ */
+@Slf4j
+@Component
+public class ChangeStreamHub implements DisposableBean {
+
+  static final String CHANGES_EVENT = "changes";
+  static final String RESYNC_EVENT = "resync";
+  private static final int QUEUE_CAPACITY = 64;
+
+  private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("change-stream-", 0).factory());
+  private final Duration timeout;
+  private final Duration heartbeat;
+
+  public ChangeStreamHub(
+      @Value("${app.sync.stream.timeout:PT30M}") Duration timeout,
+      @Value("${app.sync.stream.heartbeat:PT25S}") Duration heartbeat) {
+    this.timeout = timeout;
+    this.heartbeat = heartbeat;
+  }
+
+  public SseEmitter subscribe(UUID userId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscription subscription = new Subscription(userId, emitter);
+    subscriptions.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+    emitter.onCompletion(subscription::close);
+    emitter.onTimeout(subscription::close);
+    emitter.onError(e -> subscription.close());
+    executor.execute(subscription);
+    return emitter;
+  }
+
+  /**
+   * 이 노드에 연결된 사용자 스트림에 알림 전달 (연결이 없으면 무시)
+   */
+  public void deliver(UUID userId, List<ChangeHint> hints) {
+    Set<Subscription> targets = subscriptions.get(userId);
+    if (targets == null || hints.isEmpty()) return;
+    targets.forEach(subscription -> subscription.offer(hints));
+  }
+
+  public int connectionCount() {
+    return subscriptions.values().stream().mapToInt(Set::size).sum();
+  }
+
+  @Override
+  public void destroy() {
+    subscriptions.values().forEach(targets -> targets.forEach(subscription -> subscription.emitter.complete()));
+    executor.shutdownNow();
+  }
+
+  private final class Subscription implements Runnable {
+
+    private final UUID userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<List<ChangeHint>> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile @Nullable Thread worker;
+
+    Subscription(UUID userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+    }
+
+    void offer(List<ChangeHint> hints) {
+      if (!queue.offer(hints)) {
+        overflowed.set(true);
+      }
+    }
+
+    @Override
+    public void run() {
+      worker = Thread.currentThread();
+      try {
+        emitter.send(SseEmitter.event().comment("connected"));
+        while (!closed) {
+          List<ChangeHint> hints = queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+          if (overflowed.getAndSet(false)) {
+            queue.clear();
+            emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+          } else if (hints == null) {
+            emitter.send(SseEmitter.event().comment("ping"));
+          } else {
+            // 기다리는 동안 쌓인 알림을 한 이벤트로 묶음
+            List<ChangeHint> batch = new ArrayList<>(hints);
+            for (List<ChangeHint> more = queue.poll(); more != null; more = queue.poll()) {
+              batch.addAll(more);
+            }
+            emitter.send(SseEmitter.event().name(CHANGES_EVENT).data(batch, MediaType.APPLICATION_JSON));
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | IllegalStateException e) {
+        // 클라이언트가 끊었거나 이미 완료된 연결 - 컨테이너가 onError/onCompletion을 호출함
+        log.debug("Change stream for user {} closed: {}", userId, e.getMessage());
+      } finally {
+        close();
+      }
+    }
+
+    void close() {
+      if (closed) return;
+      closed = true;
+      subscriptions.computeIfPresent(userId, (key, targets) -> {
+        targets.remove(this);
+        return targets.isEmpty() ? null : targets;
+      });
+      Thread thread = worker;
+      if (thread != null && thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    }
+  }
+}
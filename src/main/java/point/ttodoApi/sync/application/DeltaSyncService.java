@@ -0,0 +1,123 @@
+package point.ttodoApi.sync.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.sync.application.result.DeltaSyncResult;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.MutationLogEntry;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.Position;
+import point.ttodoApi.sync.infrastructure.persistence.SyncCursorRepository;
+
+import java.util.*;
+
+/**
+ * 커서 기반 델타 동기화
+ * 전체 목록 대신 마지막 커서 이후의 변경 로그만 읽고, 페이지 안에서는 엔티티별로 변경을 합쳐 하나만 전달.
+ * 요청한 커서는 클라이언트별로 기록해 변경 로그 보존 기준으로 사용 (MutationLogRetentionJob)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaSyncService {
+
+  public static final int DEFAULT_LIMIT = 500;
+  public static final int MAX_LIMIT = 1000;
+  public static final String DEFAULT_CLIENT = "default";
+  private static final int MAX_CLIENT_ID_LENGTH = 255;
+
+  private final MutationLogRepository mutationLogRepository;
+  private final SyncCursorRepository syncCursorRepository;
+  private final ObjectMapper objectMapper;
+
+  @Transactional
+  public DeltaSyncResult changesSince(UUID userId, @Nullable String clientId, @Nullable String cursorToken,
+                                      @Nullable Integer limit) {
+    String client = clientId == null || clientId.isBlank() ? DEFAULT_CLIENT : clientId;
+    if (client.length() > MAX_CLIENT_ID_LENGTH) {
+      throw new IllegalArgumentException("clientId must be at most " + MAX_CLIENT_ID_LENGTH + " characters");
+    }
+    if (cursorToken == null || cursorToken.isBlank()) {
+      // 최초 동기화: 전체 상태는 목록 API로 받고 이 위치부터 델타 수신
+      return snapshot(userId, client);
+    }
+
+    SyncCursor cursor = SyncCursor.decode(cursorToken);
+    // 워터마크보다 먼저 커서를 기록해야 보존 작업과 겹쳐도 아직 읽지 않은 파티션이 삭제되지 않음
+    syncCursorRepository.save(userId, client, cursor.xactId(), cursor.seq());
+    Position watermark = mutationLogRepository.watermark();
+    if (cursor.isBefore(new SyncCursor(watermark.xactId(), watermark.seq()))) {
+      log.info("Sync cursor of client {} (user {}) is behind the mutation log retention, snapshot required", client, userId);
+      return snapshot(userId, client);
+    }
+
+    SyncCursor horizon = new SyncCursor(mutationLogRepository.currentHorizon(), 0);
+    int pageSize = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+    List<MutationLogEntry> entries = mutationLogRepository.findAfter(userId, cursor.xactId(), cursor.seq(), pageSize + 1);
+
+    boolean hasMore = entries.size() > pageSize;
+    if (hasMore) {
+      entries = entries.subList(0, pageSize);
+    }
+
+    SyncCursor next = cursor;
+    Map<String, EntityChange> compacted = new LinkedHashMap<>();
+    for (MutationLogEntry entry : entries) {
+      String key = entry.entityType() + ":" + entry.entityId();
+      // 로그 순서를 유지하도록 마지막 변경 위치로 다시 넣음
+      EntityChange previous = compacted.remove(key);
+      compacted.put(key, merge(previous, entry));
+      next = new SyncCursor(entry.xactId(), entry.seq());
+    }
+    if (!hasMore) {
+      // 남은 변경이 없으면 확정 구간 끝까지 커서를 당겨 빈 구간을 다시 훑지 않음
+      next = next.max(horizon);
+    }
+
+    return new DeltaSyncResult(next.encode(), hasMore, false, List.copyOf(compacted.values()));
+  }
+
+  private DeltaSyncResult snapshot(UUID userId, String clientId) {
+    SyncCursor horizon = new SyncCursor(mutationLogRepository.currentHorizon(), 0);
+    syncCursorRepository.save(userId, clientId, horizon.xactId(), horizon.seq());
+    return new DeltaSyncResult(horizon.encode(), false, true, List.of());
+  }
+
+  /**
+   * 같은 엔티티의 이전 변경에 이번 로그를 합침
+   * UPDATE/STATUS_CHANGE 로그는 바뀐 컬럼만 담고 있으므로(V2.15) 앞선 UPSERT/PATCH 데이터에 덮어씀
+   */
+  private EntityChange merge(@Nullable EntityChange previous, MutationLogEntry entry) {
+    String type = entry.entityType();
+    UUID id = entry.entityId();
+    return switch (entry.mutationType()) {
+      case "DELETE" -> new EntityChange(type, id, EntityChange.DELETE, null, entry.seq());
+      case "CREATE", "RESTORE" -> new EntityChange(type, id, EntityChange.UPSERT, read(entry), entry.seq());
+      default -> {
+        ObjectNode diff = read(entry);
+        if (previous == null) {
+          yield new EntityChange(type, id, EntityChange.PATCH, diff, entry.seq());
+        }
+        if (!(previous.data() instanceof ObjectNode data)) {
+          // 삭제된 행의 수정은 클라이언트에 보이지 않음
+          yield new EntityChange(type, id, previous.operation(), null, entry.seq());
+        }
+        yield new EntityChange(type, id, previous.operation(), data.setAll(diff), entry.seq());
+      }
+    };
+  }
+
+  private ObjectNode read(MutationLogEntry entry) {
+    try {
+      return (ObjectNode) objectMapper.readTree(entry.data());
+    } catch (JsonProcessingException | ClassCastException e) {
+      throw new IllegalStateException("Corrupt mutation log entry: " + entry.entityType() + " " + entry.entityId(), e);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package point.ttodoApi.sync.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler.Snapshot;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository.FieldClock;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.util.*;
+
+/**
+ * 카테고리/투두 변경 하나를 호출자(EntitySyncService)의 단위 트랜잭션 안에서 반영
+ * 성공한 변경의 결과(changeId)도 같은 트랜잭션에서 기록.
+ * REST/서비스 쓰기는 필드 HLC를 남기지 않으므로, 동기화가 마지막으로 쓴 뒤 행의 updated_at이 움직였으면
+ * 그 시각을 모든 필드 HLC의 하한으로 봄 (오래된 오프라인 수정이 더 최근의 REST 수정을 덮지 않게 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeApplier {
+
+  /**
+   * 동기화가 마지막으로 쓴 직후 행의 updated_at (필드 HLC와 같은 표에 예약 필드로 기록)
+   */
+  static final String ROW_CLOCK = "_row";
+
+  private final EntityManager entityManager;
+  private final FieldClockRepository fieldClockRepository;
+  private final ObjectMapper objectMapper;
+  private final SyncIdempotencyService syncIdempotencyService;
+
+  @Transactional
+  public Outcome insert(SyncBatch batch, int index, EntitySyncHandler handler, UUID userId,
+                        Map<String, @Nullable Object> data) {
+    HybridTimestamp stamp = batch.stamps[index];
+    UUID id = handler.create(userId, data);
+    List<FieldClock> writes = new ArrayList<>(handler.fields().stream()
+        .map(field -> new FieldClock(id.toString(), field, stamp.pack(), batch.clientId))
+        .toList());
+    writes.add(rowClock(handler, userId, id));
+    fieldClockRepository.upsertAll(handler.tableName(), writes);
+    return recorded(batch, index, new Outcome(result(batch, index, handler, id, true, null), List.of()));
+  }
+
+  /**
+   * 필드마다 변경의 HLC가 서버 필드 HLC보다 늦을 때만 반영, 진 필드는 충돌로 보고.
+   * 이긴 null 값은 필드를 비우는 것으로 전달하고, 비울 수 없는 필드면 변경 전체를 거부
+   */
+  @Transactional
+  public Outcome update(SyncBatch batch, int index, EntitySyncHandler handler, UUID userId, UUID id,
+                        Map<String, @Nullable Object> data, Collection<String> fields) {
+    HybridTimestamp stamp = batch.stamps[index];
+    String recordId = id.toString();
+    Snapshot snapshot = handler.load(userId, id);
+    Map<String, Long> clocks = fieldClockRepository.findAll(handler.tableName(), List.of(recordId))
+        .getOrDefault(recordId, Map.of());
+    HybridTimestamp base = base(snapshot);
+    HybridTimestamp floor = floor(clocks, base);
+
+    Map<String, @Nullable Object> winners = new LinkedHashMap<>();
+    List<SyncResponse.ConflictRecord> conflicts = new ArrayList<>();
+    for (String field : fields) {
+      HybridTimestamp server = clock(clocks, field, base, floor);
+      Object clientValue = data.get(field);
+      if (stamp.isAfter(server)) {
+        if (clientValue == null && !handler.clearableFields().contains(field)) {
+          throw new IllegalArgumentException(field + " cannot be cleared");
+        }
+        winners.put(field, clientValue);
+      } else if (!sameValue(snapshot.values().get(field), clientValue)) {
+        conflicts.add(SyncResponse.ConflictRecord.builder()
+                .tableName(handler.tableName())
+                .recordId(id)
+                .field(field)
+                .serverVersion(snapshot.values().get(field))
+                .clientVersion(clientValue)
+                .resolution("server_wins")
+                .serverHlc(server.toString())
+                .clientHlc(stamp.toString())
+                .build());
+      }
+    }
+
+    if (!winners.isEmpty()) {
+      handler.update(userId, id, winners);
+      // 나머지 필드는 수정 전의 실효 HLC를 기록 (이번 수정으로 updated_at이 당겨지거나 행 기준 시각이 바뀌어도 유지되도록)
+      List<FieldClock> writes = new ArrayList<>();
+      for (String field : handler.fields()) {
+        if (winners.containsKey(field)) {
+          writes.add(new FieldClock(recordId, field, stamp.pack(), batch.clientId));
+          continue;
+        }
+        HybridTimestamp effective = clock(clocks, field, base, floor);
+        if (!Objects.equals(clocks.get(field), effective.pack())) {
+          writes.add(new FieldClock(recordId, field, effective.pack(), null));
+        }
+      }
+      writes.add(rowClock(handler, userId, id));
+      fieldClockRepository.upsertAll(handler.tableName(), writes);
+    }
+
+    boolean success = !winners.isEmpty() || conflicts.isEmpty();
+    return recorded(batch, index,
+        new Outcome(result(batch, index, handler, id, success, success ? null : "Server version is newer"), conflicts));
+  }
+
+  /**
+   * 삭제보다 늦은 HLC로 수정된 필드가 있으면 삭제하지 않음 (수정 우선)
+   */
+  @Transactional
+  public Outcome delete(SyncBatch batch, int index, EntitySyncHandler handler, UUID userId, UUID id) {
+    HybridTimestamp stamp = batch.stamps[index];
+    String recordId = id.toString();
+    Snapshot snapshot = handler.load(userId, id);
+    Map<String, Long> clocks = fieldClockRepository.findAll(handler.tableName(), List.of(recordId))
+        .getOrDefault(recordId, Map.of());
+    HybridTimestamp base = base(snapshot);
+    HybridTimestamp floor = floor(clocks, base);
+    HybridTimestamp latest = clocks.keySet().stream()
+        .filter(field -> !ROW_CLOCK.equals(field))
+        .map(field -> clock(clocks, field, base, floor))
+        .max(Comparator.naturalOrder()).orElse(base);
+
+    if (stamp.compareTo(latest) < 0) {
+      SyncResponse.ConflictRecord conflict = SyncResponse.ConflictRecord.builder()
+              .tableName(handler.tableName())
+              .recordId(id)
+              .serverVersion(snapshot.values())
+              .clientVersion(null)
+              .resolution("server_wins")
+              .serverHlc(latest.toString())
+              .clientHlc(stamp.toString())
+              .build();
+      return new Outcome(result(batch, index, handler, id, false, "Record was modified after delete"), List.of(conflict));
+    }
+
+    handler.delete(userId, id);
+    fieldClockRepository.deleteAll(handler.tableName(), List.of(recordId));
+    return recorded(batch, index, new Outcome(result(batch, index, handler, id, true, null), List.of()));
+  }
+
+  private Outcome recorded(SyncBatch batch, int index, Outcome outcome) {
+    batch.results[index] = outcome.result();
+    syncIdempotencyService.record(batch, List.of(index));
+    return outcome;
+  }
+
+  /**
+   * 쓴 직후의 updated_at을 행 기준 시각으로 기록. flush 후 다시 읽어 DB에 저장된 값(마이크로초로 반올림된 값)을 사용
+   */
+  private FieldClock rowClock(EntitySyncHandler handler, UUID userId, UUID id) {
+    entityManager.flush();
+    entityManager.clear();
+    return new FieldClock(id.toString(), ROW_CLOCK, base(handler.load(userId, id)).pack(), null);
+  }
+
+  /**
+   * 필드의 실효 HLC. 기록이 없으면 행의 마지막 수정 시각, 있으면 행 하한과 비교해 늦은 쪽
+   */
+  private static HybridTimestamp clock(Map<String, Long> clocks, String field, HybridTimestamp base,
+                                       HybridTimestamp floor) {
+    Long packed = clocks.get(field);
+    if (packed == null) return base;
+    HybridTimestamp recorded = HybridTimestamp.unpack(packed);
+    return recorded.compareTo(floor) >= 0 ? recorded : floor;
+  }
+
+  /**
+   * 모든 필드 HLC의 하한 - 동기화가 마지막으로 쓴 뒤 다른 경로로 행이 바뀌었으면(또는 기록이 없으면) 그 수정 시각
+   */
+  private static HybridTimestamp floor(Map<String, Long> clocks, HybridTimestamp base) {
+    Long written = clocks.get(ROW_CLOCK);
+    if (written != null && base.compareTo(HybridTimestamp.unpack(written)) <= 0) return HybridTimestamp.ZERO;
+    return base;
+  }
+
+  /**
+   * 필드 HLC 기록이 없을 때의 기준 - 서버 행의 마지막 수정 시각
+   */
+  private static HybridTimestamp base(Snapshot snapshot) {
+    return snapshot.updatedAt() != null
+        ? new HybridTimestamp(snapshot.updatedAt().toEpochMilli(), 0)
+        : HybridTimestamp.ZERO;
+  }
+
+  /**
+   * 타입이 달라도(LocalDate vs 문자열 등) JSON 표현이 같으면 같은 값
+   */
+  private boolean sameValue(@Nullable Object server, @Nullable Object client) {
+    return Objects.equals(objectMapper.valueToTree(server), objectMapper.valueToTree(client));
+  }
+
+  private static SyncResponse.SyncResult result(SyncBatch batch, int index, EntitySyncHandler handler, UUID id,
+                                                boolean success, @Nullable String error) {
+    return SyncResponse.SyncResult.builder()
+            .tableName(handler.tableName())
+            .localId(batch.record(index).getId())
+            .serverUuid(id)
+            .operation(batch.change(index).getOperation().toLowerCase())
+            .success(success)
+            .error(error)
+            .hlc(batch.stamps[index].toString())
+            .build();
+  }
+
+  public record Outcome(SyncResponse.SyncResult result, List<SyncResponse.ConflictRecord> conflicts) {
+  }
+}
@@ -0,0 +1,243 @@
+package point.ttodoApi.sync.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.sync.application.EntityChangeApplier.Outcome;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리/투두 정의/인스턴스 변경 반영
+ * 청크 안에서는 요청 순서와 관계없이 부모 테이블의 생성/수정을 먼저, 삭제는 자식부터 처리하고
+ * 클라이언트가 만든 임시 ID는 생성 직후 서버 ID로 매핑해 같은 요청의 뒤따르는 변경/참조에 사용.
+ * 서로 관계없는 변경은 변경마다, 같은 청크의 임시 ID로 이어진 변경은 묶어서 한 트랜잭션으로 반영
+ */
+@Slf4j
+@Service
+public class EntitySyncService {
+
+  private final Map<String, EntitySyncHandler> handlers;
+  private final EntityChangeApplier applier;
+  private final TransactionTemplate transactionTemplate;
+
+  public EntitySyncService(List<EntitySyncHandler> handlers, EntityChangeApplier applier,
+                           PlatformTransactionManager transactionManager) {
+    this.handlers = handlers.stream().collect(Collectors.toMap(EntitySyncHandler::tableName, Function.identity()));
+    this.applier = applier;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  public boolean supports(@Nullable String tableName) {
+    return tableName != null && handlers.containsKey(tableName);
+  }
+
+  public void apply(SyncBatch batch, List<Integer> indexes) {
+    UUID userId = batch.userId;
+    if (userId == null) {
+      indexes.forEach(index -> batch.fail(index, "Authentication required"));
+      return;
+    }
+
+    for (List<Integer> unit : units(batch, ordered(batch, indexes))) {
+      applyUnit(batch, userId, unit);
+    }
+  }
+
+  /**
+   * 단위 하나를 한 트랜잭션으로 반영. 변경 하나라도 예외로 실패하면 단위 전체를 롤백하고
+   * 나머지 변경도 실패로 보고 (이번 단위에서 만든 임시 ID 매핑과 충돌도 되돌림)
+   */
+  private void applyUnit(SyncBatch batch, UUID userId, List<Integer> unit) {
+    int conflicts = batch.conflicts.size();
+    List<Map.Entry<String, String>> mapped = new ArrayList<>();
+    Integer failed;
+    try {
+      failed = transactionTemplate.execute(status -> {
+        for (int index : unit) {
+          if (!applyChange(batch, userId, index, mapped)) {
+            status.setRollbackOnly();
+            return index;
+          }
+        }
+        return null;
+      });
+    } catch (RuntimeException e) {
+      log.warn("Failed to commit sync changes {}: {}", unit, e.getMessage());
+      failed = unit.get(unit.size() - 1);
+      batch.fail(failed, e.getMessage());
+    }
+    if (failed == null) return;
+
+    mapped.forEach(entry -> batch.tempIds.get(entry.getKey()).remove(entry.getValue()));
+    batch.conflicts.subList(conflicts, batch.conflicts.size()).clear();
+    for (int index : unit) {
+      if (index != failed) {
+        batch.fail(index, "Rolled back with dependent change: " + batch.record(failed).getId());
+      }
+    }
+  }
+
+  /**
+   * @param mapped 이번에 추가한 임시 ID 매핑 (테이블, 임시 ID)
+   * @return 실패(예외)하면 false
+   */
+  private boolean applyChange(SyncBatch batch, UUID userId, int index, List<Map.Entry<String, String>> mapped) {
+    Map<String, Map<String, UUID>> tempIds = batch.tempIds;
+    SyncRequest.SyncChange change = batch.change(index);
+    EntitySyncHandler handler = handlers.get(change.getTableName());
+    SyncRequest.SyncRecord record = change.getRecord();
+    try {
+      Map<String, @Nullable Object> data = resolveReferences(handler, record, tempIds);
+      Outcome outcome = switch (change.getOperation().toLowerCase()) {
+        case "insert" -> {
+          requireFields(handler, data.keySet(), true);
+          yield applier.insert(batch, index, handler, userId, data);
+        }
+        case "update" -> {
+          Collection<String> fields = record.getChangedFields() != null && !record.getChangedFields().isEmpty()
+              ? record.getChangedFields() : data.keySet();
+          requireFields(handler, fields, false);
+          yield applier.update(batch, index, handler, userId, resolveId(handler.tableName(), record.getId(), tempIds),
+              data, fields);
+        }
+        case "delete" -> applier.delete(batch, index, handler, userId,
+            resolveId(handler.tableName(), record.getId(), tempIds));
+        default -> throw new IllegalArgumentException("Unknown operation: " + change.getOperation());
+      };
+
+      batch.results[index] = outcome.result();
+      batch.conflicts.addAll(outcome.conflicts());
+      if ("insert".equalsIgnoreCase(change.getOperation()) && record.getId() != null) {
+        tempIds.computeIfAbsent(handler.tableName(), key -> new HashMap<>())
+            .put(record.getId(), outcome.result().getServerUuid());
+        mapped.add(Map.entry(handler.tableName(), record.getId()));
+      }
+      return true;
+    } catch (RuntimeException e) {
+      log.warn("Failed to apply sync change to {}: {}", change.getTableName(), e.getMessage());
+      batch.fail(index, e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * 같은 청크에서 만든 임시 ID(레코드 ID 또는 참조)로 이어진 변경끼리 한 단위로 묶음.
+   * 부모 생성이 실패하거나 자식 변경이 실패하면 함께 롤백돼 일부만 커밋되지 않음.
+   * 단위는 첫 변경의 순서대로, 단위 안은 주어진 순서대로
+   */
+  private List<List<Integer>> units(SyncBatch batch, List<Integer> ordered) {
+    Set<String> created = new HashSet<>();
+    for (int index : ordered) {
+      SyncRequest.SyncChange change = batch.change(index);
+      if ("insert".equalsIgnoreCase(change.getOperation()) && change.getRecord().getId() != null) {
+        created.add(change.getTableName() + ":" + change.getRecord().getId());
+      }
+    }
+
+    int[] parent = new int[ordered.size()];
+    Map<String, Integer> firstByKey = new HashMap<>();
+    for (int position = 0; position < ordered.size(); position++) {
+      parent[position] = position;
+      for (String key : tempKeys(batch.change(ordered.get(position)))) {
+        if (!created.contains(key)) continue;
+        Integer first = firstByKey.putIfAbsent(key, position);
+        if (first != null) {
+          int a = root(parent, first);
+          int b = root(parent, position);
+          parent[Math.max(a, b)] = Math.min(a, b);
+        }
+      }
+    }
+
+    Map<Integer, List<Integer>> units = new LinkedHashMap<>();
+    for (int position = 0; position < ordered.size(); position++) {
+      units.computeIfAbsent(root(parent, position), key -> new ArrayList<>()).add(ordered.get(position));
+    }
+    return List.copyOf(units.values());
+  }
+
+  /**
+   * 변경이 가리키는 "테이블:ID" - 레코드 자신과 참조 필드
+   */
+  private List<String> tempKeys(SyncRequest.SyncChange change) {
+    List<String> keys = new ArrayList<>();
+    if (change.getRecord().getId() != null) {
+      keys.add(change.getTableName() + ":" + change.getRecord().getId());
+    }
+    Map<String, Object> data = change.getRecord().getData();
+    if (data != null) {
+      handlers.get(change.getTableName()).references().forEach((field, table) -> {
+        if (data.get(field) instanceof String reference) {
+          keys.add(table + ":" + reference);
+        }
+      });
+    }
+    return keys;
+  }
+
+  private static int root(int[] parent, int position) {
+    while (parent[position] != position) {
+      position = parent[position];
+    }
+    return position;
+  }
+
+  /**
+   * 생성/수정은 부모 테이블부터, 삭제는 자식 테이블부터. 같은 단계 안에서는 요청 순서 유지
+   */
+  private List<Integer> ordered(SyncBatch batch, List<Integer> indexes) {
+    Comparator<Integer> byPhase = Comparator.comparingInt(index -> {
+      SyncRequest.SyncChange change = batch.change(index);
+      int order = handlers.get(change.getTableName()).order();
+      return "delete".equalsIgnoreCase(change.getOperation()) ? 1000 - order : order;
+    });
+    return indexes.stream().sorted(byPhase).toList();
+  }
+
+  /**
+   * 참조 필드의 임시 ID를 서버 ID로 변환한 data 사본
+   */
+  private Map<String, @Nullable Object> resolveReferences(EntitySyncHandler handler, SyncRequest.SyncRecord record,
+                                                          Map<String, Map<String, UUID>> tempIds) {
+    Map<String, @Nullable Object> data = record.getData() != null ? new HashMap<>(record.getData()) : new HashMap<>();
+    handler.references().forEach((field, table) -> {
+      Object value = data.get(field);
+      if (value == null) return;
+      if (!(value instanceof String reference)) {
+        throw new IllegalArgumentException("Invalid reference for " + field + ": " + value);
+      }
+      data.put(field, resolveId(table, reference, tempIds));
+    });
+    return data;
+  }
+
+  private static UUID resolveId(String table, @Nullable String id, Map<String, Map<String, UUID>> tempIds) {
+    if (id == null) {
+      throw new IllegalArgumentException("Record id is required");
+    }
+    UUID mapped = tempIds.getOrDefault(table, Map.of()).get(id);
+    if (mapped != null) return mapped;
+    try {
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown " + table + " id: " + id, e);
+    }
+  }
+
+  private static void requireFields(EntitySyncHandler handler, Collection<String> fields, boolean create) {
+    for (String field : fields) {
+      if (!handler.fields().contains(field) && !(create && handler.createOnlyFields().contains(field))) {
+        throw new IllegalArgumentException("Unknown field for " + handler.tableName() + ": " + field);
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package point.ttodoApi.sync.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 서버 HLC
+ * 서버가 발급하는 타임스탬프는 지금까지 보거나 발급한 모든 타임스탬프보다 크게 유지
+ */
+@Slf4j
+@Component
+public class HybridLogicalClock {
+
+  private final Clock clock;
+  private final long maxDriftMillis;
+
+  private HybridTimestamp last = HybridTimestamp.ZERO;
+
+  @Autowired
+  public HybridLogicalClock(@Value("${app.sync.max-clock-drift:PT1M}") Duration maxDrift) {
+    this(Clock.systemUTC(), maxDrift);
+  }
+
+  HybridLogicalClock(Clock clock, Duration maxDrift) {
+    this.clock = clock;
+    this.maxDriftMillis = maxDrift.toMillis();
+  }
+
+  /**
+   * 로컬 이벤트(서버 발급)용 타임스탬프
+   */
+  public synchronized HybridTimestamp now() {
+    long wall = clock.millis();
+    last = wall > last.physical() ? new HybridTimestamp(wall, 0) : tick(last.physical(), last.logical());
+    return last;
+  }
+
+  /**
+   * 클라이언트 타임스탬프 수신 - 서버 시계를 그 뒤로 당김
+   * 서버 시각보다 허용 오차 이상 앞선 타임스탬프는 거부 (잘못된 시계가 이후 모든 쓰기를 이기는 것 방지)
+   */
+  public synchronized HybridTimestamp receive(HybridTimestamp remote) {
+    long wall = clock.millis();
+    if (remote.physical() - wall > maxDriftMillis) {
+      log.warn("Rejected HLC timestamp {} ahead of server time {} by more than {}ms", remote, wall, maxDriftMillis);
+      throw new IllegalArgumentException("Clock drift too large: " + remote);
+    }
+
+    long physical = Math.max(wall, Math.max(last.physical(), remote.physical()));
+    if (physical == last.physical() && physical == remote.physical()) {
+      last = tick(physical, Math.max(last.logical(), remote.logical()));
+    } else if (physical == last.physical()) {
+      last = tick(physical, last.logical());
+    } else if (physical == remote.physical()) {
+      last = tick(physical, remote.logical());
+    } else {
+      last = new HybridTimestamp(physical, 0);
+    }
+    return last;
+  }
+
+  private static HybridTimestamp tick(long physical, int logical) {
+    // 카운터가 넘치면 물리 시각을 1ms 앞당김
+    return logical < HybridTimestamp.MAX_LOGICAL
+        ? new HybridTimestamp(physical, logical + 1)
+        : new HybridTimestamp(physical + 1, 0);
+  }
+}
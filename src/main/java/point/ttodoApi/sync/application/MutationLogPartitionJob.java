@@ -0,0 +1,37 @@
+package point.ttodoApi.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+
+/**
+ * 변경 로그 일별 파티션 사전 생성 작업 (V2.15 ensure_todo_mutation_partitions)
+ * 파티션이 없는 날의 로그는 기본 파티션에 쌓여 통째로 삭제할 수 없으므로 보존(삭제) 작업과 따로 켜고 끔
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sync.log", name = "partition-enabled", havingValue = "true", matchIfMissing = true)
+public class MutationLogPartitionJob {
+
+  private final MutationLogRepository mutationLogRepository;
+
+  @Value("${app.sync.log.days-ahead:7}")
+  private int daysAhead;
+
+  @Scheduled(cron = "${app.sync.log.partition-cron:0 40 3 * * *}")
+  public void run() {
+    try {
+      int created = mutationLogRepository.ensurePartitions(daysAhead);
+      if (created > 0) {
+        log.info("Created {} mutation log partitions ({} days ahead)", created, daysAhead);
+      }
+    } catch (Exception e) {
+      log.warn("Mutation log partition maintenance failed", e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package point.ttodoApi.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.sync.infrastructure.persistence.SyncCursorRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 변경 로그 보존 작업 (V2.15)
+ * 활성 클라이언트 커서가 모두 지나간 지난 파티션을 통째로 삭제해
+ * 로그 크기를 동기화 중인 구간에 비례하게 유지. cursor-ttl 동안 동기화하지 않은 클라이언트는 돌아오면 전체 재동기화.
+ * 파티션 생성은 MutationLogPartitionJob이 맡아 보존을 꺼도 계속됨.
+ * 릴레이 위치는 릴레이가 켜져 있을 때만 파티션을 붙잡음 (꺼 두면 위치가 멈춰 로그가 끝없이 쌓이므로, V2.20)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sync.log", name = "retention-enabled", havingValue = "true", matchIfMissing = true)
+public class MutationLogRetentionJob {
+
+  private final MutationLogRepository mutationLogRepository;
+  private final SyncCursorRepository syncCursorRepository;
+
+  @Value("${app.sync.log.cursor-ttl:P30D}")
+  private Duration cursorTtl;
+
+  @Value("${app.sync.relay.enabled:true}")
+  private boolean relayEnabled;
+
+  @Scheduled(cron = "${app.sync.log.cron:0 45 3 * * *}")
+  public void run() {
+    try {
+      Instant activeSince = Instant.now().minus(cursorTtl);
+      int expired = syncCursorRepository.deleteInactive(activeSince);
+      // 어제 파티션은 남겨 자정 무렵 시작한 트랜잭션이 아직 쓰고 있을 수 있는 구간을 건드리지 않음
+      int dropped = mutationLogRepository.dropPartitions(LocalDate.now().minusDays(1), activeSince, relayEnabled);
+      if (expired > 0 || dropped > 0) {
+        log.info("Dropped {} mutation log partitions ({} inactive sync cursors expired)", dropped, expired);
+      }
+    } catch (Exception e) {
+      log.warn("Mutation log retention failed", e);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package point.ttodoApi.sync.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.sync.application.result.ChangeHint;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.MutationLogEntry;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.Position;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationsCommittedEvent;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 로그(아웃박스) 릴레이
+ * 커밋된 변경을 로그 순서대로 읽어 SSE 변경 알림을 보냄. 위치를 먼저 커밋한 뒤 전송하므로 알림은 최대 한 번
+ * (유실 시 클라이언트가 재연결하며 /sync/changes로 보정). 알림 전용이라 꺼도 쓰기 결과(경험치 포함)는 달라지지 않음.
+ * 알림은 행 소유자(user_id)에게만 보냄 - 협업자는 공유 카테고리에 자기 투두를 둘 뿐 다른 사용자의 투두를 읽는 경로
+ * (/sync/changes 포함)가 없으므로 알려도 다시 조회할 것이 없음 (카테고리 알림은 협업자에게도 감, ChangeHintCollector).
+ * 위치 행을 SKIP LOCKED로 잠가 여러 노드 중 한 곳만 릴레이함.
+ * 변경을 커밋한 노드는 바로 깨우고, 다른 노드의 변경은 poll-interval마다 확인
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sync.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MutationRelay implements SmartLifecycle {
+
+  static final String NAME = "relay";
+
+  private final MutationLogRepository mutationLogRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ChangeBroadcaster changeBroadcaster;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Semaphore wakeUp = new Semaphore(0);
+  private volatile @Nullable Thread worker;
+
+  public MutationRelay(
+      MutationLogRepository mutationLogRepository,
+      TransactionTemplate transactionTemplate,
+      ChangeBroadcaster changeBroadcaster,
+      @Value("${app.sync.relay.batch-size:500}") int batchSize,
+      @Value("${app.sync.relay.poll-interval:PT1S}") Duration pollInterval) {
+    this.mutationLogRepository = mutationLogRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.changeBroadcaster = changeBroadcaster;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+  }
+
+  @EventListener
+  public void onMutationsCommitted(TodoMutationsCommittedEvent event) {
+    wakeUp.release();
+  }
+
+  @Override
+  public void start() {
+    worker = Thread.ofVirtual().name("mutation-relay").start(this::run);
+  }
+
+  @Override
+  public void stop() {
+    Thread current = worker;
+    worker = null;
+    if (current != null) current.interrupt();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return worker != null;
+  }
+
+  private void run() {
+    while (worker == Thread.currentThread()) {
+      try {
+        while (relayBatch() == batchSize) {
+          // 밀린 변경은 쉬지 않고 이어서 처리
+        }
+        wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        wakeUp.drainPermits();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.warn("Mutation relay failed, retrying in {}", pollInterval, e);
+        try {
+          Thread.sleep(pollInterval);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 한 배치 릴레이 후 처리한 변경 수 반환 (다른 노드가 릴레이 중이면 0)
+   */
+  int relayBatch() {
+    Map<UUID, Map<UUID, ChangeHint>> hintsByUser = new LinkedHashMap<>();
+    Integer relayed = transactionTemplate.execute(status -> {
+      Optional<Position> offset = mutationLogRepository.lockRelayOffset(NAME);
+      if (offset.isEmpty()) return 0;
+      List<MutationLogEntry> entries = mutationLogRepository.findAllAfter(offset.get(), batchSize);
+      if (entries.isEmpty()) return 0;
+
+      for (MutationLogEntry entry : entries) {
+        hintsByUser.computeIfAbsent(entry.userId(), key -> new LinkedHashMap<>())
+            .put(entry.entityId(), hint(entry));
+      }
+      MutationLogEntry last = entries.getLast();
+      mutationLogRepository.saveRelayOffset(NAME, new Position(last.xactId(), last.seq()));
+      return entries.size();
+    });
+
+    hintsByUser.forEach((userId, hints) -> {
+      try {
+        changeBroadcaster.broadcast(userId, List.copyOf(hints.values()));
+      } catch (RuntimeException e) {
+        log.warn("Failed to broadcast {} change hints for user {}", hints.size(), userId, e);
+      }
+    });
+    return relayed == null ? 0 : relayed;
+  }
+
+  /**
+   * 버전은 카테고리 알림과 같이 변경 시각 (epoch ms) - 로그 순번은 /sync/changes 커서에서만 쓰임
+   */
+  private static ChangeHint hint(MutationLogEntry entry) {
+    String operation = TodoMutation.DELETE.equals(entry.mutationType()) ? EntityChange.DELETE : EntityChange.UPSERT;
+    return new ChangeHint(entry.entityType(), entry.entityId(), operation, entry.recordedAt());
+  }
+}
@@ -0,0 +1,378 @@
+package point.ttodoApi.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository.FieldClock;
+import point.ttodoApi.sync.infrastructure.persistence.SimpleTodoSyncRepository;
+import point.ttodoApi.sync.infrastructure.persistence.SimpleTodoSyncRepository.NewSimpleTodo;
+import point.ttodoApi.sync.infrastructure.persistence.SimpleTodoSyncRepository.SimpleTodoRow;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * simple_todo 변경 일괄 반영 (한 트랜잭션 - 실패하면 청크의 simple_todo 변경 전체가 롤백)
+ * 요청 순서를 지키도록 같은 ID를 다른 작업으로 다시 다루기 전까지를 한 구간으로 묶고, 구간마다 작업 종류별로 배치 실행.
+ * 충돌은 필드 단위 HLC 비교로 해결 (필드마다 더 늦은 HLC의 값이 이김)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimpleTodoSyncService {
+
+  static final String TABLE = "simple_todo";
+  static final List<String> FIELDS = List.of("title", "description", "complete");
+
+  private final SimpleTodoSyncRepository simpleTodoSyncRepository;
+  private final FieldClockRepository fieldClockRepository;
+  private final SyncIdempotencyService syncIdempotencyService;
+
+  @Transactional
+  public void apply(SyncBatch batch, List<Integer> indexes) {
+    State state = new State(batch);
+    Segment segment = new Segment();
+    int segments = 0;
+
+    for (int i : indexes) {
+      SyncRequest.SyncChange change = batch.change(i);
+      try {
+        String operation = change.getOperation().toLowerCase();
+        switch (operation) {
+          case "insert" -> createdAt(change.getRecord());
+          case "update" -> fields(change.getRecord());
+          case "delete" -> { }
+          default -> throw new IllegalArgumentException("Unknown operation: " + change.getOperation());
+        }
+        Integer id = "insert".equals(operation) ? null : parseId(change.getRecord().getId());
+        if (id == null && "delete".equals(operation)) {
+          batch.fail(i, "Record not found");
+          continue;
+        }
+        if (id == null) {
+          // 삽입 또는 서버에 없는 로컬 ID의 수정 - 새로 삽입
+          createdAt(change.getRecord());
+        }
+        if (!segment.accepts(operation, id)) {
+          flush(state, segment);
+          segment = new Segment();
+          segments++;
+        }
+        segment.add(operation, id, i);
+      } catch (IllegalArgumentException e) {
+        log.warn("Rejected sync change: {}", change, e);
+        batch.fail(i, e.getMessage());
+      }
+    }
+    flush(state, segment);
+
+    fieldClockRepository.upsertAll(TABLE, List.copyOf(state.clockWrites.values()));
+    syncIdempotencyService.record(batch, indexes);
+
+    log.debug("simple_todo sync from client {}: {} changes in {} segments", batch.clientId, indexes.size(), segments + 1);
+  }
+
+  /**
+   * 구간 하나 반영. 구간 안에서는 ID마다 작업 종류가 하나라 수정 → 삽입 → 삭제 순으로 묶어도 요청 순서와 결과가 같음
+   * 행/시계를 한 번에 잠가 읽은 뒤 메모리에서 병합하고 작업 종류별로 한 번씩 기록
+   */
+  private void flush(State state, Segment segment) {
+    Set<Integer> ids = new LinkedHashSet<>(segment.updatesById.keySet());
+    ids.addAll(segment.deletesById.keySet());
+    state.load(ids);
+    applyUpdates(state, segment.updatesById, segment.inserts);
+    applyInserts(state, segment.inserts);
+    applyDeletes(state, segment.deletesById);
+  }
+
+  /**
+   * 필드 단위 병합 후 일괄 수정. 같은 ID의 변경은 요청 순서대로 메모리에서 차례로 병합
+   * 서버에 없는 행은 삽입 대상으로 넘김
+   */
+  private void applyUpdates(State state, Map<Integer, List<Integer>> updatesById, List<Integer> inserts) {
+    SyncBatch batch = state.batch;
+    List<SimpleTodoRow> dirty = new ArrayList<>();
+
+    updatesById.forEach((id, indexes) -> {
+      SimpleTodoRow row = state.rows.get(id);
+      if (row == null) {
+        for (int index : indexes) {
+          try {
+            createdAt(batch.record(index));
+            inserts.add(index);
+          } catch (IllegalArgumentException e) {
+            batch.fail(index, e.getMessage());
+          }
+        }
+        return;
+      }
+
+      Map<String, @Nullable Object> values = values(row);
+      @Nullable HybridTimestamp lastApplied = null;
+      for (int index : indexes) {
+        SyncRequest.SyncRecord record = batch.record(index);
+        HybridTimestamp stamp = batch.stamps[index];
+        int applied = 0;
+        int rejected = 0;
+        for (String field : fields(record)) {
+          HybridTimestamp server = state.clock(row, field);
+          Object clientValue = value(record, field);
+          if (stamp.isAfter(server)) {
+            values.put(field, clientValue);
+            state.writeClock(id, field, stamp);
+            applied++;
+          } else if (!Objects.equals(values.get(field), clientValue)) {
+            batch.conflicts.add(SyncResponse.ConflictRecord.builder()
+                    .tableName(TABLE)
+                    .id(id)
+                    .field(field)
+                    .serverVersion(values.get(field))
+                    .clientVersion(clientValue)
+                    .resolution("server_wins")
+                    .serverHlc(server.toString())
+                    .clientHlc(stamp.toString())
+                    .build());
+            rejected++;
+          }
+        }
+        if (applied > 0) lastApplied = stamp;
+
+        boolean success = applied > 0 || rejected == 0;
+        batch.results[index] = SyncResponse.SyncResult.builder()
+                .tableName(TABLE)
+                .localId(record.getId())
+                .serverId(id)
+                .operation("update")
+                .success(success)
+                .error(success ? null : "Server version is newer")
+                .hlc(stamp.toString())
+                .build();
+      }
+
+      if (lastApplied != null) {
+        SimpleTodoRow merged = new SimpleTodoRow(id, (String) values.get("title"), (String) values.get("description"),
+            (Boolean) values.get("complete"), lastApplied.physical());
+        state.rows.put(id, merged);
+        dirty.add(merged);
+      }
+    });
+
+    simpleTodoSyncRepository.updateAll(dirty);
+  }
+
+  /**
+   * ID를 미리 받아 다중 행 INSERT 한 번으로 삽입
+   */
+  private void applyInserts(State state, List<Integer> inserts) {
+    if (inserts.isEmpty()) return;
+    SyncBatch batch = state.batch;
+
+    List<Integer> ids = simpleTodoSyncRepository.allocateIds(inserts.size());
+    List<NewSimpleTodo> rows = new ArrayList<>(inserts.size());
+    for (int i = 0; i < inserts.size(); i++) {
+      SyncRequest.SyncRecord record = batch.record(inserts.get(i));
+      rows.add(new NewSimpleTodo(ids.get(i), record.getTitle(), record.getDescription(),
+          record.getComplete() != null ? record.getComplete() : false, createdAt(record)));
+    }
+    simpleTodoSyncRepository.insertAll(rows);
+
+    for (int i = 0; i < inserts.size(); i++) {
+      int index = inserts.get(i);
+      int id = ids.get(i);
+      HybridTimestamp stamp = batch.stamps[index];
+      FIELDS.forEach(field -> state.writeClock(id, field, stamp));
+      batch.results[index] = SyncResponse.SyncResult.builder()
+              .tableName(TABLE)
+              .localId(batch.record(index).getId())
+              .serverId(id)
+              .operation("insert")
+              .success(true)
+              .hlc(stamp.toString())
+              .build();
+    }
+  }
+
+  /**
+   * 삭제보다 늦은 HLC로 수정된 필드가 있으면 삭제하지 않음 (수정 우선)
+   */
+  private void applyDeletes(State state, Map<Integer, List<Integer>> deletesById) {
+    if (deletesById.isEmpty()) return;
+    SyncBatch batch = state.batch;
+
+    Map<Integer, List<Integer>> accepted = new LinkedHashMap<>();
+    deletesById.forEach((id, indexes) -> {
+      SimpleTodoRow row = state.rows.get(id);
+      if (row == null) {
+        accepted.put(id, indexes);
+        return;
+      }
+      HybridTimestamp latest = FIELDS.stream().map(field -> state.clock(row, field))
+          .max(Comparator.naturalOrder()).orElse(HybridTimestamp.ZERO);
+      HybridTimestamp stamp = indexes.stream().map(index -> batch.stamps[index])
+          .max(Comparator.naturalOrder()).orElseThrow();
+      if (stamp.compareTo(latest) >= 0) {
+        accepted.put(id, indexes);
+        return;
+      }
+      batch.conflicts.add(SyncResponse.ConflictRecord.builder()
+              .tableName(TABLE)
+              .id(id)
+              .serverVersion(values(row))
+              .clientVersion(null)
+              .resolution("server_wins")
+              .serverHlc(latest.toString())
+              .clientHlc(stamp.toString())
+              .build());
+      indexes.forEach(index -> batch.fail(index, "Record was modified after delete"));
+    });
+
+    Set<Integer> deleted = simpleTodoSyncRepository.deleteAll(accepted.keySet());
+    deleted.forEach(state::forget);
+    fieldClockRepository.deleteAll(TABLE, deleted.stream().map(String::valueOf).toList());
+
+    accepted.forEach((id, indexes) -> {
+      for (int index : indexes) {
+        batch.results[index] = SyncResponse.SyncResult.builder()
+                .tableName(TABLE)
+                .localId(batch.record(index).getId())
+                .operation("delete")
+                .success(deleted.contains(id))
+                .error(deleted.contains(id) ? null : "Record not found")
+                .hlc(batch.stamps[index].toString())
+                .build();
+      }
+    });
+  }
+
+  private static List<String> fields(SyncRequest.SyncRecord record) {
+    List<String> fields = record.getChangedFields();
+    if (fields == null || fields.isEmpty()) return FIELDS;
+    for (String field : fields) {
+      if (!FIELDS.contains(field)) {
+        throw new IllegalArgumentException("Unknown field: " + field);
+      }
+    }
+    return fields;
+  }
+
+  private static @Nullable Object value(SyncRequest.SyncRecord record, String field) {
+    return switch (field) {
+      case "title" -> record.getTitle();
+      case "description" -> record.getDescription();
+      case "complete" -> record.getComplete();
+      default -> throw new IllegalArgumentException("Unknown field: " + field);
+    };
+  }
+
+  private static Map<String, @Nullable Object> values(SimpleTodoRow row) {
+    Map<String, @Nullable Object> values = new LinkedHashMap<>();
+    values.put("title", row.title());
+    values.put("description", row.description());
+    values.put("complete", row.complete());
+    return values;
+  }
+
+  /**
+   * 서버 ID(정수)가 아니면 null
+   */
+  private static @Nullable Integer parseId(@Nullable String id) {
+    if (id == null) return null;
+    try {
+      return Integer.valueOf(id);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * 형식이 잘못되면 IllegalArgumentException
+   */
+  private static Timestamp createdAt(SyncRequest.SyncRecord record) {
+    return record.getCreatedAt() != null ? Timestamp.valueOf(record.getCreatedAt()) : Timestamp.from(Instant.now());
+  }
+
+  /**
+   * 요청 순서로 이어진 변경 묶음. 앞서 다른 작업으로 다룬 ID가 나오면 새 구간을 시작
+   */
+  private static final class Segment {
+
+    final List<Integer> inserts = new ArrayList<>();
+    final Map<Integer, List<Integer>> updatesById = new LinkedHashMap<>();
+    final Map<Integer, List<Integer>> deletesById = new LinkedHashMap<>();
+
+    boolean accepts(String operation, @Nullable Integer id) {
+      if (id == null) return true;
+      return "delete".equals(operation) ? !updatesById.containsKey(id) : !deletesById.containsKey(id);
+    }
+
+    void add(String operation, @Nullable Integer id, int index) {
+      if (id == null) {
+        inserts.add(index);
+      } else if ("delete".equals(operation)) {
+        deletesById.computeIfAbsent(id, key -> new ArrayList<>()).add(index);
+      } else {
+        updatesById.computeIfAbsent(id, key -> new ArrayList<>()).add(index);
+      }
+    }
+  }
+
+  /**
+   * 잠근 행, 필드 시계, 기록할 시계 (구간 사이에 이어짐)
+   */
+  private final class State {
+
+    final SyncBatch batch;
+    final Map<String, FieldClock> clockWrites = new LinkedHashMap<>();
+
+    final Map<Integer, SimpleTodoRow> rows = new HashMap<>();
+    final Map<String, Map<String, Long>> clocks = new HashMap<>();
+    final Set<Integer> loaded = new HashSet<>();
+
+    State(SyncBatch batch) {
+      this.batch = batch;
+    }
+
+    /**
+     * 앞 구간에서 읽지 않은 행만 잠가 읽음 (앞 구간이 바꾸거나 지운 행은 메모리 상태를 그대로 사용)
+     */
+    void load(Set<Integer> ids) {
+      List<Integer> missing = ids.stream().filter(loaded::add).toList();
+      if (missing.isEmpty()) return;
+      rows.putAll(simpleTodoSyncRepository.lockAll(missing));
+      fieldClockRepository.findAll(TABLE, missing.stream().map(String::valueOf).toList())
+          .forEach((recordId, fields) -> clocks.put(recordId, new HashMap<>(fields)));
+    }
+
+    /**
+     * 삭제된 행 - 뒤 구간의 수정은 없는 행으로 보고 삽입, 기록하려던 시계도 버림
+     */
+    void forget(int id) {
+      String recordId = String.valueOf(id);
+      rows.remove(id);
+      clocks.remove(recordId);
+      clockWrites.keySet().removeIf(key -> key.startsWith(recordId + ":"));
+    }
+
+    /**
+     * 필드의 현재 HLC. 기록이 없으면 행의 updated_at(ms) 기준
+     */
+    HybridTimestamp clock(SimpleTodoRow row, String field) {
+      Long packed = clocks.getOrDefault(String.valueOf(row.id()), Map.of()).get(field);
+      if (packed != null) return HybridTimestamp.unpack(packed);
+      return row.updatedAt() != null ? new HybridTimestamp(row.updatedAt(), 0) : HybridTimestamp.ZERO;
+    }
+
+    void writeClock(int id, String field, HybridTimestamp stamp) {
+      String recordId = String.valueOf(id);
+      clocks.computeIfAbsent(recordId, key -> new HashMap<>()).put(field, stamp.pack());
+      clockWrites.put(recordId + ":" + field, new FieldClock(recordId, field, stamp.pack(), batch.clientId));
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package point.ttodoApi.sync.application;
+
+import org.jspecify.annotations.Nullable;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.util.*;
+
+/**
+ * 동기화 요청 청크 하나의 처리 상태 - 변경별 HLC, 결과(요청 순서), 충돌, 멱등 키 범위
+ * 임시 ID 매핑은 같은 요청의 청크끼리 공유 (앞 청크에서 만든 부모를 뒤 청크가 참조)
+ */
+public final class SyncBatch {
+
+  final @Nullable UUID userId;
+  final @Nullable String clientId;
+  final String scope;
+  final List<SyncRequest.SyncChange> changes;
+  final SyncResponse.@Nullable SyncResult[] results;
+  final HybridTimestamp[] stamps;
+  final List<SyncResponse.ConflictRecord> conflicts = new ArrayList<>();
+  final Map<String, Map<String, UUID>> tempIds;
+
+  SyncBatch(@Nullable UUID userId, @Nullable String clientId, List<SyncRequest.SyncChange> changes,
+            Map<String, Map<String, UUID>> tempIds) {
+    this.userId = userId;
+    this.clientId = clientId;
+    this.scope = SyncIdempotencyService.scope(userId, clientId);
+    this.changes = changes;
+    this.results = new SyncResponse.SyncResult[changes.size()];
+    this.stamps = new HybridTimestamp[changes.size()];
+    this.tempIds = tempIds;
+  }
+
+  SyncRequest.SyncChange change(int index) {
+    return changes.get(index);
+  }
+
+  SyncRequest.SyncRecord record(int index) {
+    return changes.get(index).getRecord();
+  }
+
+  void fail(int index, @Nullable String error) {
+    SyncRequest.SyncChange change = changes.get(index);
+    results[index] = SyncResponse.SyncResult.builder()
+            .localId(change.getRecord().getId())
+            .tableName(change.getTableName())
+            .operation(change.getOperation())
+            .success(false)
+            .error(error)
+            .build();
+  }
+
+  List<SyncResponse.SyncResult> results() {
+    return Arrays.stream(results).filter(Objects::nonNull).toList();
+  }
+}
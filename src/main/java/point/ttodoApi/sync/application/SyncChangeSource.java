@@ -0,0 +1,28 @@
+package point.ttodoApi.sync.application;
+
+import org.jspecify.annotations.Nullable;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.util.List;
+
+/**
+ * 동기화 요청 본문을 앞에서부터 조금씩 읽는 원본
+ * 변경 배열 전체를 한 번에 올리지 않고 청크 단위로 넘겨 요청 크기와 관계없이 메모리 사용을 제한
+ */
+public interface SyncChangeSource {
+
+  /**
+   * 요청의 clientId (첫 변경을 읽기 전에 필요)
+   */
+  @Nullable String clientId();
+
+  /**
+   * 다음 변경을 최대 size건 읽음 (끝이면 빈 목록)
+   */
+  List<SyncRequest.SyncChange> next(int size);
+
+  /**
+   * 본문을 끝까지 읽고 본문 전체의 SHA-256 (hex) 반환 - 같은 Idempotency-Key의 본문 비교용
+   */
+  String digest();
+}
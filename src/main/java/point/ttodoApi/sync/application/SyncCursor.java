@@ -0,0 +1,50 @@
+package point.ttodoApi.sync.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 델타 동기화 커서 - 변경 로그의 (트랜잭션 ID, 순번) 위치
+ * 클라이언트에는 불투명한 base64url 문자열로 전달
+ *
+ * @param xactId 마지막으로 전달한 변경의 트랜잭션 ID (xid8)
+ * @param seq    같은 트랜잭션 안의 순번
+ */
+public record SyncCursor(long xactId, long seq) {
+
+  private static final String VERSION = "v1";
+
+  public String encode() {
+    String raw = VERSION + ":" + xactId + ":" + seq;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static SyncCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split(":");
+      if (parts.length != 3 || !VERSION.equals(parts[0])) {
+        throw new IllegalArgumentException("Invalid sync cursor: " + token);
+      }
+      return new SyncCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException e) {
+      // Base64/숫자 형식 오류 포함
+      throw new IllegalArgumentException("Invalid sync cursor: " + token, e);
+    }
+  }
+
+  /**
+   * 둘 중 뒤쪽 위치
+   */
+  public SyncCursor max(SyncCursor other) {
+    return isBefore(other) ? other : this;
+  }
+
+  /**
+   * other보다 앞쪽 위치인지 (같으면 false)
+   */
+  public boolean isBefore(SyncCursor other) {
+    if (xactId != other.xactId) return xactId < other.xactId;
+    return seq < other.seq;
+  }
+}
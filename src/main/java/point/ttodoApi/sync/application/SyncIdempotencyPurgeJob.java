@@ -0,0 +1,47 @@
+package point.ttodoApi.sync.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.infrastructure.persistence.SyncIdempotencyRepository;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 만료된 동기화 멱등 기록(sync_batches, sync_applied_changes) 삭제 작업
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sync.idempotency", name = "purge-enabled", havingValue = "true", matchIfMissing = true)
+public class SyncIdempotencyPurgeJob {
+
+  private final SyncIdempotencyRepository syncIdempotencyRepository;
+
+  @Value("${app.sync.idempotency.purge-batch-size:1000}")
+  private int batchSize;
+
+  @Value("${app.sync.idempotency.purge-max-batches:100}")
+  private int maxBatches;
+
+  @Scheduled(cron = "${app.sync.idempotency.purge-cron:0 15 * * * *}")
+  public void run() {
+    purge("sync_batches", syncIdempotencyRepository::purgeExpiredBatches);
+    purge("sync_applied_changes", syncIdempotencyRepository::purgeExpiredChanges);
+  }
+
+  private void purge(String table, IntUnaryOperator batchPurge) {
+    int purged = 0;
+    for (int batches = 0; batches < maxBatches; batches++) {
+      int deleted = batchPurge.applyAsInt(batchSize);
+      purged += deleted;
+      if (deleted < batchSize) break;
+    }
+    if (purged > 0) {
+      log.info("Purged {} expired rows from {}", purged, table);
+    }
+  }
+}
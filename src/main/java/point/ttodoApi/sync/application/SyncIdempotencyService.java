@@ -0,0 +1,137 @@
+package point.ttodoApi.sync.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import point.ttodoApi.shared.error.ConflictException;
+import point.ttodoApi.sync.infrastructure.persistence.SyncIdempotencyRepository;
+import point.ttodoApi.sync.infrastructure.persistence.SyncIdempotencyRepository.AppliedChange;
+import point.ttodoApi.sync.infrastructure.persistence.SyncIdempotencyRepository.StoredBatch;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 동기화 재전송 처리
+ * 배치 키(Idempotency-Key)로 같은 요청에는 기록된 응답을 그대로 돌려주고,
+ * 변경 ID(changeId)로 다른 배치에 다시 담겨 온 변경은 반영하지 않고 기록된 결과를 돌려줌.
+ * 변경 결과는 변경을 반영한 트랜잭션 안에서 기록해 반영과 기록이 함께 커밋/롤백됨
+ */
+@Slf4j
+@Service
+public class SyncIdempotencyService {
+
+  static final int MAX_KEY_LENGTH = 255;
+
+  private final SyncIdempotencyRepository syncIdempotencyRepository;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+  private final Duration lease;
+
+  public SyncIdempotencyService(
+      SyncIdempotencyRepository syncIdempotencyRepository,
+      ObjectMapper objectMapper,
+      @Value("${app.sync.idempotency.ttl:P1D}") Duration ttl,
+      @Value("${app.sync.idempotency.lease:PT5M}") Duration lease) {
+    this.syncIdempotencyRepository = syncIdempotencyRepository;
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+    this.lease = lease;
+  }
+
+  /**
+   * 키의 범위 - 사용자와 클라이언트 (클라이언트가 만든 키가 다른 사용자의 키와 겹치지 않게 함)
+   */
+  static String scope(@Nullable UUID userId, @Nullable String clientId) {
+    return (userId != null ? userId.toString() : "-") + ":" + (clientId != null ? clientId : "-");
+  }
+
+  /**
+   * 배치 키 선점. 처음이면 null, 이미 처리된 요청이면 기록 (본문 비교 후 {@link #replay}로 응답)
+   *
+   * @throws ConflictException 첫 시도가 아직 처리 중인 경우
+   */
+  public @Nullable StoredBatch claim(String scope, String batchKey) {
+    if (batchKey.isBlank() || batchKey.length() > MAX_KEY_LENGTH) {
+      throw new IllegalArgumentException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+    }
+    if (syncIdempotencyRepository.claimBatch(scope, batchKey, lease, ttl)) {
+      return null;
+    }
+
+    StoredBatch stored = syncIdempotencyRepository.findBatch(scope, batchKey).orElse(null);
+    if (stored == null || stored.response() == null) {
+      throw new ConflictException("Sync batch " + batchKey + " is being processed");
+    }
+    return stored;
+  }
+
+  /**
+   * 기록된 응답 재생
+   *
+   * @throws IllegalArgumentException 같은 키로 다른 본문을 보낸 경우
+   */
+  public SyncResponse replay(String batchKey, StoredBatch stored, String requestHash) {
+    if (!requestHash.equals(stored.requestHash())) {
+      throw new IllegalArgumentException("Idempotency-Key " + batchKey + " was used for a different request");
+    }
+    SyncResponse response = read(Objects.requireNonNull(stored.response()), SyncResponse.class);
+    response.setReplayed(true);
+    return response;
+  }
+
+  public void complete(String scope, String batchKey, String requestHash, SyncResponse response) {
+    syncIdempotencyRepository.completeBatch(scope, batchKey, requestHash, write(response));
+  }
+
+  public void release(String scope, String batchKey) {
+    syncIdempotencyRepository.releaseBatch(scope, batchKey);
+  }
+
+  /**
+   * 이미 반영된 변경의 기록된 결과 (변경 ID → 결과)
+   */
+  public Map<String, SyncResponse.SyncResult> recordedResults(String scope, Collection<String> changeIds) {
+    Map<String, SyncResponse.SyncResult> results = new HashMap<>();
+    syncIdempotencyRepository.findChanges(scope, changeIds)
+        .forEach((changeId, json) -> results.put(changeId, read(json, SyncResponse.SyncResult.class)));
+    return results;
+  }
+
+  /**
+   * 성공한 변경의 결과 기록 (실패한 변경은 재전송 시 다시 시도하도록 기록하지 않음)
+   * 변경을 반영한 트랜잭션 안에서 호출
+   */
+  public void record(SyncBatch batch, Collection<Integer> indexes) {
+    List<AppliedChange> changes = new ArrayList<>();
+    for (int index : indexes) {
+      String changeId = batch.change(index).getChangeId();
+      SyncResponse.SyncResult result = batch.results[index];
+      if (changeId == null || result == null || !result.isSuccess()) continue;
+      changes.add(new AppliedChange(changeId, write(result)));
+    }
+    if (!changes.isEmpty()) {
+      syncIdempotencyRepository.saveChanges(batch.scope, changes, ttl);
+    }
+  }
+
+  private String write(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode sync idempotency record", e);
+    }
+  }
+
+  private <T> T read(String json, Class<T> type) {
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Corrupt sync idempotency record", e);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package point.ttodoApi.sync.application;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import point.ttodoApi.shared.error.BusinessException;
+import point.ttodoApi.shared.error.ErrorCode;
+
+import java.time.Duration;
+
+/**
+ * 동기화 요청이 서버 한도를 넘음 - 클라이언트가 나눠 보내거나(413) 잠시 후 다시 보내도록(429) 안내
+ */
+@Getter
+public class SyncLimitExceededException extends BusinessException {
+
+  private final @Nullable Integer maxChanges;
+  private final int processedChanges;
+  private final @Nullable Duration retryAfter;
+
+  private SyncLimitExceededException(ErrorCode errorCode, String message, @Nullable Integer maxChanges,
+                                     int processedChanges, @Nullable Duration retryAfter) {
+    super(errorCode, message);
+    this.maxChanges = maxChanges;
+    this.processedChanges = processedChanges;
+    this.retryAfter = retryAfter;
+  }
+
+  /**
+   * 변경 수가 최대 배치 크기를 넘음. 앞에서 이미 반영한 변경 수를 함께 알림
+   */
+  public static SyncLimitExceededException tooLarge(int maxChanges, int processedChanges) {
+    return new SyncLimitExceededException(ErrorCode.SYNC_BATCH_TOO_LARGE,
+        "Sync batch exceeds " + maxChanges + " changes; " + processedChanges + " leading changes were applied",
+        maxChanges, processedChanges, null);
+  }
+
+  /**
+   * 동시에 처리 중인 동기화 요청이 한도에 도달
+   */
+  public static SyncLimitExceededException busy(Duration retryAfter) {
+    return new SyncLimitExceededException(ErrorCode.SYNC_BUSY,
+        "Too many concurrent sync uploads; retry later", null, 0, retryAfter);
+  }
+}
@@ -1,139 +1,217 @@
 package point.ttodoApi.sync.application;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.infrastructure.persistence.SyncIdempotencyRepository.StoredBatch;
 import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
 import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
 
-import java.sql.Timestamp;
-import java.time.Instant;
+import java.time.Duration;
 import java.util.*;
-
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 변경 반영 진입점
+ * 본문을 청크 단위로 읽어 변경마다 HLC를 정한 뒤 simple_todo는 청크마다 한 트랜잭션 배치로,
+ * 카테고리/투두 테이블은 변경별 트랜잭션으로 처리하고 결과는 요청 순서대로 변경마다 하나씩 반환.
+ * 재전송된 배치(Idempotency-Key)와 이미 반영된 변경(changeId)은 데이터 테이블을 건드리지 않고 기록된 결과를 반환
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SyncService {
 
-  private final JdbcTemplate jdbcTemplate;
+  private final SimpleTodoSyncService simpleTodoSyncService;
+  private final EntitySyncService entitySyncService;
+  private final HybridLogicalClock hybridLogicalClock;
+  private final SyncIdempotencyService syncIdempotencyService;
+  private final Validator validator;
+  private final int chunkSize;
+  private final int maxChanges;
+  private final Duration retryAfter;
+  private final Semaphore uploads;
+
+  public SyncService(
+      SimpleTodoSyncService simpleTodoSyncService,
+      EntitySyncService entitySyncService,
+      HybridLogicalClock hybridLogicalClock,
+      SyncIdempotencyService syncIdempotencyService,
+      Validator validator,
+      @Value("${app.sync.upload.chunk-size:500}") int chunkSize,
+      @Value("${app.sync.upload.max-changes:10000}") int maxChanges,
+      @Value("${app.sync.upload.max-concurrent:16}") int maxConcurrent,
+      @Value("${app.sync.upload.retry-after:PT5S}") Duration retryAfter) {
+    this.simpleTodoSyncService = simpleTodoSyncService;
+    this.entitySyncService = entitySyncService;
+    this.hybridLogicalClock = hybridLogicalClock;
+    this.syncIdempotencyService = syncIdempotencyService;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxChanges = maxChanges;
+    this.retryAfter = retryAfter;
+    this.uploads = new Semaphore(maxConcurrent);
+  }
+
+  /**
+   * @param idempotencyKey 배치 멱등 키 (없으면 재전송을 구분하지 않음)
+   * @throws SyncLimitExceededException 동시 처리 한도(429) 또는 최대 배치 크기(413) 초과
+   */
+  public SyncResponse processSync(@Nullable UUID userId, SyncChangeSource source, @Nullable String idempotencyKey) {
+    if (!uploads.tryAcquire()) {
+      throw SyncLimitExceededException.busy(retryAfter);
+    }
+    try {
+      return processSync(userId, source, source.clientId(), idempotencyKey);
+    } finally {
+      uploads.release();
+    }
+  }
+
+  private SyncResponse processSync(@Nullable UUID userId, SyncChangeSource source, @Nullable String clientId,
+                                   @Nullable String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return process(userId, clientId, source);
+    }
 
-  @Transactional
-  public SyncResponse processSync(SyncRequest request) {
+    String scope = SyncIdempotencyService.scope(userId, clientId);
+    StoredBatch recorded = syncIdempotencyService.claim(scope, idempotencyKey);
+    if (recorded != null) {
+      log.info("Replaying recorded sync response for client {} (key {})", clientId, idempotencyKey);
+      return syncIdempotencyService.replay(idempotencyKey, recorded, source.digest());
+    }
+
+    SyncResponse response;
+    try {
+      response = process(userId, clientId, source);
+    } catch (RuntimeException e) {
+      syncIdempotencyService.release(scope, idempotencyKey);
+      throw e;
+    }
+    syncIdempotencyService.complete(scope, idempotencyKey, source.digest(), response);
+    return response;
+  }
+
+  /**
+   * 청크를 읽는 대로 반영. 메모리에는 현재 청크의 변경과 변경별 결과만 남음
+   */
+  private SyncResponse process(@Nullable UUID userId, @Nullable String clientId, SyncChangeSource source) {
     List<SyncResponse.SyncResult> results = new ArrayList<>();
     List<SyncResponse.ConflictRecord> conflicts = new ArrayList<>();
+    Map<String, Map<String, UUID>> tempIds = new HashMap<>();
+    int processed = 0;
 
-    for (SyncRequest.SyncChange change : request.getChanges()) {
-      if (!"simple_todo".equals(change.getTableName())) continue; // Only process simple_todo for now
-
-      try {
-        SyncResponse.SyncResult result = processChange(change);
-        results.add(result);
-      } catch (Exception e) {
-        log.error("Failed to process sync change: {}", change, e);
-        results.add(SyncResponse.SyncResult.builder()
-                .localId(change.getRecord().getId())
-                .operation(change.getOperation())
-                .success(false)
-                .error(e.getMessage())
-                .build());
+    for (List<SyncRequest.SyncChange> chunk = source.next(chunkSize); !chunk.isEmpty(); chunk = source.next(chunkSize)) {
+      if (processed + chunk.size() > maxChanges) {
+        throw SyncLimitExceededException.tooLarge(maxChanges, processed);
       }
+      SyncBatch batch = new SyncBatch(userId, clientId, chunk, tempIds);
+      processChunk(batch);
+      results.addAll(batch.results());
+      conflicts.addAll(batch.conflicts);
+      processed += chunk.size();
     }
 
+    log.debug("Sync upload from client {}: {} changes, {} conflicts", clientId, processed, conflicts.size());
+
     return SyncResponse.builder()
             .success(true)
             .serverTimestamp(System.currentTimeMillis())
+            .hlc(hybridLogicalClock.now().toString())
             .results(results)
             .conflicts(conflicts)
             .build();
   }
 
-  private SyncResponse.SyncResult processChange(SyncRequest.SyncChange change) {
-    SyncRequest.SyncRecord record = change.getRecord();
-
-    switch (change.getOperation().toLowerCase()) {
-      case "insert":
-        return handleInsert(record);
-      case "update":
-        return handleUpdate(record);
-      case "delete":
-        return handleDelete(record);
-      default:
-        throw new IllegalArgumentException("Unknown operation: " + change.getOperation());
-    }
-  }
+  private void processChunk(SyncBatch batch) {
+    List<SyncRequest.SyncChange> changes = batch.changes;
+    Map<String, SyncResponse.SyncResult> applied = syncIdempotencyService.recordedResults(batch.scope,
+        changes.stream().map(SyncRequest.SyncChange::getChangeId).filter(Objects::nonNull).toList());
+
+    List<Integer> simpleTodo = new ArrayList<>();
+    List<Integer> entities = new ArrayList<>();
+    for (int i = 0; i < changes.size(); i++) {
+      SyncRequest.SyncChange change = changes.get(i);
+      String invalid = violations(change);
+      if (invalid != null) {
+        batch.fail(i, invalid);
+        continue;
+      }
+      boolean isSimpleTodo = SimpleTodoSyncService.TABLE.equals(change.getTableName());
+      if (!isSimpleTodo && !entitySyncService.supports(change.getTableName())) continue; // 지원하지 않는 테이블은 무시
 
-  private SyncResponse.SyncResult handleInsert(SyncRequest.SyncRecord record) {
-    // For insert, we'll generate a new ID on server side
-    final String sql = "INSERT INTO simple_todo (title, description, complete, created_at) VALUES (?, ?, ?, ?) RETURNING id";
-
-    Integer serverId = jdbcTemplate.queryForObject(sql, Integer.class,
-            record.getTitle(),
-            record.getDescription(),
-            record.getComplete() != null ? record.getComplete() : false,
-            record.getCreatedAt() != null ? Timestamp.valueOf(record.getCreatedAt()) : Timestamp.from(Instant.now())
-    );
-
-    return SyncResponse.SyncResult.builder()
-            .localId(record.getId())
-            .serverId(serverId)
-            .operation("insert")
-            .success(true)
-            .build();
-  }
+      if (change.getChangeId() != null && applied.containsKey(change.getChangeId())) {
+        batch.results[i] = applied.get(change.getChangeId());  // 이전 요청에서 반영된 변경
+        continue;
+      }
 
-  private SyncResponse.SyncResult handleUpdate(SyncRequest.SyncRecord record) {
-    // Last-Write-Wins: Check updated_at timestamp
-    final String checkSql = "SELECT updated_at FROM simple_todo WHERE id = ?";
-    Long serverUpdatedAt = null;
+      try {
+        batch.stamps[i] = stamp(change.getRecord());
+      } catch (IllegalArgumentException e) {
+        log.warn("Rejected sync change: {}", change, e);
+        batch.fail(i, e.getMessage());
+        continue;
+      }
+      (isSimpleTodo ? simpleTodo : entities).add(i);
+    }
 
-    try {
-      serverUpdatedAt = jdbcTemplate.queryForObject(checkSql, Long.class, record.getId());
-    } catch (Exception e) {
-      // Record doesn't exist, treat as insert
-      return handleInsert(record);
+    if (!simpleTodo.isEmpty()) {
+      applySimpleTodo(batch, simpleTodo);
+    }
+    if (!entities.isEmpty()) {
+      entitySyncService.apply(batch, entities);
     }
 
-    // Only update if client version is newer
-    if (record.getUpdatedAt() != null && serverUpdatedAt != null && record.getUpdatedAt() <= serverUpdatedAt)
-      return SyncResponse.SyncResult.builder()
-              .localId(record.getId())
-              .serverId(Integer.valueOf(record.getId()))
-              .operation("update")
-              .success(false)
-              .error("Server version is newer")
-              .build();
-
-    final String sql = "UPDATE simple_todo SET title = ?, description = ?, complete = ?, updated_at = ? WHERE id = ?";
-
-    int updated = jdbcTemplate.update(sql,
-            record.getTitle(),
-            record.getDescription(),
-            record.getComplete(),
-            record.getUpdatedAt() != null ? record.getUpdatedAt() : System.currentTimeMillis(),
-            record.getId()
-    );
-
-    return SyncResponse.SyncResult.builder()
-            .localId(record.getId())
-            .serverId(Integer.valueOf(record.getId()))
-            .operation("update")
-            .success(updated > 0)
-            .error(updated == 0 ? "Record not found" : null)
-            .build();
+    log.debug("Sync chunk from client {}: {} changes ({} simple_todo, {} entity, {} already applied)",
+        batch.clientId, changes.size(), simpleTodo.size(), entities.size(), applied.size());
   }
 
-  private SyncResponse.SyncResult handleDelete(SyncRequest.SyncRecord record) {
-    final String sql = "DELETE FROM simple_todo WHERE id = ?";
+  /**
+   * simple_todo 배치는 한 트랜잭션이라 DB 오류가 나면 청크의 simple_todo 변경이 모두 롤백됨.
+   * 앞서 채운 성공 결과와 충돌도 반영되지 않았으므로 전부 실패로 바꿈 (재전송하면 다시 반영)
+   */
+  private void applySimpleTodo(SyncBatch batch, List<Integer> indexes) {
+    int conflicts = batch.conflicts.size();
+    try {
+      simpleTodoSyncService.apply(batch, indexes);
+    } catch (DataAccessException e) {
+      log.warn("simple_todo sync batch from client {} rolled back: {}", batch.clientId, e.getMessage());
+      batch.conflicts.subList(conflicts, batch.conflicts.size()).clear();
+      indexes.forEach(index -> batch.fail(index, "Batch rolled back"));
+    }
+  }
 
-    int deleted = jdbcTemplate.update(sql, record.getId());
+  /**
+   * 스트리밍으로 읽어 @Valid가 적용되지 않으므로 변경마다 검증 (실패한 변경만 실패 처리)
+   */
+  private @Nullable String violations(SyncRequest.SyncChange change) {
+    Set<ConstraintViolation<SyncRequest.SyncChange>> violations = validator.validate(change);
+    if (violations.isEmpty()) return null;
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
 
-    return SyncResponse.SyncResult.builder()
-            .localId(record.getId())
-            .operation("delete")
-            .success(deleted > 0)
-            .error(deleted == 0 ? "Record not found" : null)
-            .build();
+  /**
+   * 변경의 HLC. 클라이언트 HLC가 없으면 updatedAt(ms), 둘 다 없으면 서버가 발급
+   * 받은 타임스탬프는 서버 시계에 병합해 이후 발급하는 값이 항상 더 크게 함
+   */
+  private HybridTimestamp stamp(SyncRequest.SyncRecord record) {
+    HybridTimestamp stamp;
+    if (record.getHlc() != null) {
+      stamp = HybridTimestamp.parse(record.getHlc());
+    } else if (record.getUpdatedAt() != null) {
+      stamp = new HybridTimestamp(record.getUpdatedAt(), 0);
+    } else {
+      return hybridLogicalClock.now();
+    }
+    hybridLogicalClock.receive(stamp);
+    return stamp;
   }
-}
\ No newline at end of file
+}
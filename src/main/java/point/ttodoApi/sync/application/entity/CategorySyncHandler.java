@@ -0,0 +1,91 @@
+package point.ttodoApi.sync.application.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.category.application.CategoryService;
+import point.ttodoApi.category.application.command.CreateCategoryCommand;
+import point.ttodoApi.category.application.command.DeleteCategoryCommand;
+import point.ttodoApi.category.application.command.UpdateCategoryCommand;
+import point.ttodoApi.category.application.result.CategoryResult;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class CategorySyncHandler implements EntitySyncHandler {
+
+  private static final Set<String> FIELDS = Set.of("name", "color", "description", "orderIndex");
+
+  private final CategoryService categoryService;
+  private final SyncFieldReader reader;
+
+  @Override
+  public String tableName() {
+    return "categories";
+  }
+
+  @Override
+  public int order() {
+    return 0;
+  }
+
+  @Override
+  public Set<String> fields() {
+    return FIELDS;
+  }
+
+  /**
+   * 수정 명령이 전체 필드를 받으므로 null이 그대로 반영됨
+   */
+  @Override
+  public Set<String> clearableFields() {
+    return Set.of("color", "description");
+  }
+
+  @Override
+  public UUID create(UUID userId, Map<String, @Nullable Object> data) {
+    CategoryResult created = categoryService.createCategory(new CreateCategoryCommand(
+        userId,
+        reader.require(data, "name", String.class),
+        reader.read(data, "color", String.class),
+        reader.read(data, "description", String.class)));
+    Integer orderIndex = reader.read(data, "orderIndex", Integer.class);
+    if (orderIndex != null) {
+      update(userId, created.id(), Map.of("orderIndex", orderIndex));
+    }
+    return created.id();
+  }
+
+  @Override
+  public Snapshot load(UUID userId, UUID id) {
+    CategoryResult category = categoryService.getCategory(userId, id);
+    Map<String, @Nullable Object> values = new HashMap<>();
+    values.put("name", category.name());
+    values.put("color", category.colorHex());
+    values.put("description", category.description());
+    values.put("orderIndex", category.displayOrder());
+    return new Snapshot(values, category.updatedAt());
+  }
+
+  /**
+   * 수정 명령은 전체 필드를 받으므로 현재 값 위에 바뀐 필드만 덮어씀
+   */
+  @Override
+  public void update(UUID userId, UUID id, Map<String, @Nullable Object> changes) {
+    Map<String, @Nullable Object> merged = new HashMap<>(load(userId, id).values());
+    merged.putAll(changes);
+    categoryService.updateCategory(new UpdateCategoryCommand(
+        userId,
+        id,
+        reader.require(merged, "name", String.class),
+        reader.read(merged, "color", String.class),
+        reader.read(merged, "description", String.class),
+        reader.read(merged, "orderIndex", Integer.class)));
+  }
+
+  @Override
+  public void delete(UUID userId, UUID id) {
+    categoryService.deleteCategory(new DeleteCategoryCommand(userId, id));
+  }
+}
@@ -0,0 +1,68 @@
+package point.ttodoApi.sync.application.entity;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 동기화 대상 테이블 하나의 변경 반영 (각 도메인 서비스에 위임해 권한/집계/순위 규칙을 그대로 적용)
+ * 필드 이름은 REST API의 필드명과 같고, 참조 필드 값은 서버 ID로 변환된 뒤 전달됨
+ */
+public interface EntitySyncHandler {
+
+  /**
+   * 요청의 tableName
+   */
+  String tableName();
+
+  /**
+   * 테이블 간 순서 - 생성/수정은 오름차순(부모 먼저), 삭제는 내림차순(자식 먼저)
+   */
+  int order();
+
+  /**
+   * 수정 가능한 필드 (필드별 HLC 추적 대상)
+   */
+  Set<String> fields();
+
+  /**
+   * null로 비울 수 있는 필드 (그 밖의 필드에 이긴 null 값은 거부)
+   */
+  default Set<String> clearableFields() {
+    return Set.of();
+  }
+
+  /**
+   * 생성할 때만 받는 필드
+   */
+  default Set<String> createOnlyFields() {
+    return Set.of();
+  }
+
+  /**
+   * 참조 필드 → 대상 테이블 (같은 요청에서 만든 임시 ID를 서버 ID로 바꿀 필드)
+   */
+  default Map<String, String> references() {
+    return Map.of();
+  }
+
+  UUID create(UUID userId, Map<String, @Nullable Object> data);
+
+  Snapshot load(UUID userId, UUID id);
+
+  /**
+   * 충돌 해결에서 이긴 필드만 반영 (값이 null인 필드는 비움)
+   */
+  void update(UUID userId, UUID id, Map<String, @Nullable Object> changes);
+
+  void delete(UUID userId, UUID id);
+
+  /**
+   * 현재 서버 값
+   *
+   * @param updatedAt 필드 HLC 기록이 없을 때의 기준 시각
+   */
+  record Snapshot(Map<String, @Nullable Object> values, @Nullable Instant updatedAt) {
+  }
+}
@@ -0,0 +1,75 @@
+package point.ttodoApi.sync.application.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 동기화 data 맵의 필드 값을 명령 객체 타입으로 변환 (형식이 잘못되면 IllegalArgumentException)
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncFieldReader {
+
+  private static final TypeReference<Set<String>> STRING_SET = new TypeReference<>() {
+  };
+
+  private final ObjectMapper objectMapper;
+
+  public <T> @Nullable T read(Map<String, @Nullable Object> data, String field, Class<T> type) {
+    Object value = data.get(field);
+    if (value == null) return null;
+    try {
+      return objectMapper.convertValue(value, type);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid value for " + field + ": " + value, e);
+    }
+  }
+
+  public <T> T require(Map<String, @Nullable Object> data, String field, Class<T> type) {
+    T value = read(data, field, type);
+    if (value == null) {
+      throw new IllegalArgumentException(field + " is required");
+    }
+    return value;
+  }
+
+  public @Nullable Set<String> readStringSet(Map<String, @Nullable Object> data, String field) {
+    Object value = data.get(field);
+    if (value == null) return null;
+    try {
+      return objectMapper.convertValue(value, STRING_SET);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid value for " + field + ": " + value, e);
+    }
+  }
+
+  /**
+   * 값이 null인 필드 - 수정 명령에서 null은 "변경 없음"이라 비울 필드로 따로 넘김
+   */
+  public Set<String> nullFields(Map<String, @Nullable Object> data) {
+    Set<String> fields = new HashSet<>();
+    data.forEach((field, value) -> {
+      if (value == null) fields.add(field);
+    });
+    return fields;
+  }
+
+  /**
+   * JSON 문자열 필드 (객체로 보내도 문자열로 직렬화)
+   */
+  public @Nullable String readJson(Map<String, @Nullable Object> data, String field) {
+    Object value = data.get(field);
+    if (value == null || value instanceof String) return (String) value;
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid value for " + field + ": " + value, e);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package point.ttodoApi.sync.application.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.application.TodoDefinitionService;
+import point.ttodoApi.todo.application.command.CreateTodoDefinitionCommand;
+import point.ttodoApi.todo.application.command.UpdateTodoDefinitionCommand;
+import point.ttodoApi.todo.domain.TodoDefinition;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 정의 생성 시 회차 인스턴스도 서버에서 함께 생성됨 (클라이언트가 보낸 같은 회차 인스턴스는 그 행에 연결)
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoDefinitionSyncHandler implements EntitySyncHandler {
+
+  private static final Set<String> FIELDS = Set.of(
+      "title", "description", "priorityId", "categoryId", "tags",
+      "recurrenceRule", "baseDate", "baseTime", "isCollaborative");
+
+  private final TodoDefinitionService definitionService;
+  private final SyncFieldReader reader;
+
+  @Override
+  public String tableName() {
+    return "todo_definitions";
+  }
+
+  @Override
+  public int order() {
+    return 1;
+  }
+
+  @Override
+  public Set<String> fields() {
+    return FIELDS;
+  }
+
+  @Override
+  public Set<String> clearableFields() {
+    return UpdateTodoDefinitionCommand.CLEARABLE_FIELDS;
+  }
+
+  @Override
+  public Map<String, String> references() {
+    return Map.of("categoryId", "categories");
+  }
+
+  @Override
+  public UUID create(UUID userId, Map<String, @Nullable Object> data) {
+    CreateTodoDefinitionCommand command = CreateTodoDefinitionCommand.builder()
+        .title(reader.require(data, "title", String.class))
+        .description(reader.read(data, "description", String.class))
+        .priorityId(reader.read(data, "priorityId", Integer.class))
+        .categoryId(reader.read(data, "categoryId", UUID.class))
+        .tags(reader.readStringSet(data, "tags"))
+        .recurrenceRule(reader.readJson(data, "recurrenceRule"))
+        .baseDate(reader.read(data, "baseDate", LocalDate.class))
+        .baseTime(reader.read(data, "baseTime", LocalTime.class))
+        .isCollaborative(reader.read(data, "isCollaborative", Boolean.class))
+        .build();
+    return definitionService.createDefinition(userId, command).getId();
+  }
+
+  @Override
+  public Snapshot load(UUID userId, UUID id) {
+    TodoDefinition definition = definitionService.getDefinition(userId, id);
+    Map<String, @Nullable Object> values = new HashMap<>();
+    values.put("title", definition.getTitle());
+    values.put("description", definition.getDescription());
+    values.put("priorityId", definition.getPriorityId());
+    values.put("categoryId", definition.getCategory() != null ? definition.getCategory().getId() : null);
+    values.put("tags", definition.getTags());
+    values.put("recurrenceRule", definition.getRecurrenceRule());
+    values.put("baseDate", definition.getBaseDate());
+    values.put("baseTime", definition.getBaseTime());
+    values.put("isCollaborative", definition.getIsCollaborative());
+    return new Snapshot(values, definition.getUpdatedAt());
+  }
+
+  @Override
+  public void update(UUID userId, UUID id, Map<String, @Nullable Object> changes) {
+    UpdateTodoDefinitionCommand command = UpdateTodoDefinitionCommand.builder()
+        .title(reader.read(changes, "title", String.class))
+        .description(reader.read(changes, "description", String.class))
+        .priorityId(reader.read(changes, "priorityId", Integer.class))
+        .categoryId(reader.read(changes, "categoryId", UUID.class))
+        .tags(reader.readStringSet(changes, "tags"))
+        .recurrenceRule(reader.readJson(changes, "recurrenceRule"))
+        .baseDate(reader.read(changes, "baseDate", LocalDate.class))
+        .baseTime(reader.read(changes, "baseTime", LocalTime.class))
+        .isCollaborative(reader.read(changes, "isCollaborative", Boolean.class))
+        .clearedFields(reader.nullFields(changes))
+        .build();
+    definitionService.updateDefinition(userId, id, command);
+  }
+
+  @Override
+  public void delete(UUID userId, UUID id) {
+    definitionService.deleteDefinition(userId, id);
+  }
+}
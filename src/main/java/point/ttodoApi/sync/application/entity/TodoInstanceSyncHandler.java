@@ -0,0 +1,142 @@
+package point.ttodoApi.sync.application.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.application.TodoInstanceService;
+import point.ttodoApi.todo.application.command.CreateTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.UpdateTodoInstanceCommand;
+import point.ttodoApi.todo.domain.TodoInstance;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class TodoInstanceSyncHandler implements EntitySyncHandler {
+
+  private static final Set<String> FIELDS = Set.of(
+      "title", "description", "priorityId", "categoryId", "tags",
+      "dueDate", "dueTime", "isPinned", "displayOrder", "completed");
+
+  private final TodoInstanceService instanceService;
+  private final SyncFieldReader reader;
+
+  @Override
+  public String tableName() {
+    return "todo_instances";
+  }
+
+  @Override
+  public int order() {
+    return 2;
+  }
+
+  @Override
+  public Set<String> fields() {
+    return FIELDS;
+  }
+
+  @Override
+  public Set<String> createOnlyFields() {
+    return Set.of("definitionId", "sequenceNumber");
+  }
+
+  @Override
+  public Set<String> clearableFields() {
+    return UpdateTodoInstanceCommand.CLEARABLE_FIELDS;
+  }
+
+  @Override
+  public Map<String, String> references() {
+    return Map.of("definitionId", "todo_definitions", "categoryId", "categories");
+  }
+
+  /**
+   * 같은 정의/회차 인스턴스가 이미 있으면(정의 생성 시 서버가 만든 회차) 새로 만들지 않고 그 행에 반영
+   */
+  @Override
+  public UUID create(UUID userId, Map<String, @Nullable Object> data) {
+    UUID definitionId = reader.require(data, "definitionId", UUID.class);
+    Integer sequenceNumber = reader.read(data, "sequenceNumber", Integer.class);
+
+    Optional<TodoInstance> existing = sequenceNumber != null
+        ? instanceService.findBySequence(userId, definitionId, sequenceNumber)
+        : Optional.empty();
+    if (existing.isPresent()) {
+      Map<String, @Nullable Object> changes = new HashMap<>(data);
+      changes.keySet().retainAll(FIELDS);
+      changes.values().removeIf(Objects::isNull);  // 생성 요청의 null은 "값 없음" - 서버가 만든 회차의 값을 비우지 않음
+      update(userId, existing.get().getId(), changes);
+      return existing.get().getId();
+    }
+
+    CreateTodoInstanceCommand command = CreateTodoInstanceCommand.builder()
+        .definitionId(definitionId)
+        .sequenceNumber(sequenceNumber)
+        .title(reader.read(data, "title", String.class))
+        .description(reader.read(data, "description", String.class))
+        .priorityId(reader.read(data, "priorityId", Integer.class))
+        .categoryId(reader.read(data, "categoryId", UUID.class))
+        .tags(reader.readStringSet(data, "tags"))
+        .scheduledDate(reader.read(data, "dueDate", LocalDate.class))
+        .scheduledTime(reader.read(data, "dueTime", LocalTime.class))
+        .isPinned(reader.read(data, "isPinned", Boolean.class))
+        .build();
+    UUID id = instanceService.createInstance(userId, command).getId();
+    if (Boolean.TRUE.equals(reader.read(data, "completed", Boolean.class))) {
+      instanceService.completeInstance(userId, id);
+    }
+    return id;
+  }
+
+  @Override
+  public Snapshot load(UUID userId, UUID id) {
+    TodoInstance instance = instanceService.getInstance(userId, id);
+    Map<String, @Nullable Object> values = new HashMap<>();
+    values.put("title", instance.getTitle());
+    values.put("description", instance.getDescription());
+    values.put("priorityId", instance.getPriorityId());
+    values.put("categoryId", instance.getCategory() != null ? instance.getCategory().getId() : null);
+    values.put("tags", instance.getTags());
+    values.put("dueDate", instance.getDueDate());
+    values.put("dueTime", instance.getDueTime());
+    values.put("isPinned", instance.getIsPinned());
+    values.put("displayOrder", instance.getDisplayOrder());
+    values.put("completed", instance.getCompleted());
+    return new Snapshot(values, instance.getUpdatedAt());
+  }
+
+  @Override
+  public void update(UUID userId, UUID id, Map<String, @Nullable Object> changes) {
+    UpdateTodoInstanceCommand command = UpdateTodoInstanceCommand.builder()
+        .title(reader.read(changes, "title", String.class))
+        .description(reader.read(changes, "description", String.class))
+        .priorityId(reader.read(changes, "priorityId", Integer.class))
+        .categoryId(reader.read(changes, "categoryId", UUID.class))
+        .tags(reader.readStringSet(changes, "tags"))
+        .dueDate(reader.read(changes, "dueDate", LocalDate.class))
+        .dueTime(reader.read(changes, "dueTime", LocalTime.class))
+        .isPinned(reader.read(changes, "isPinned", Boolean.class))
+        .displayOrder(reader.read(changes, "displayOrder", Integer.class))
+        .clearedFields(reader.nullFields(changes))
+        .build();
+    instanceService.updateInstance(userId, id, command);
+
+    // 완료 상태는 경험치/집계 이벤트가 있는 전용 경로로 변경
+    Boolean completed = reader.read(changes, "completed", Boolean.class);
+    if (completed != null && completed != instanceService.getInstance(userId, id).isCompleted()) {
+      if (completed) {
+        instanceService.completeInstance(userId, id);
+      } else {
+        instanceService.uncompleteInstance(userId, id);
+      }
+    }
+  }
+
+  @Override
+  public void delete(UUID userId, UUID id) {
+    instanceService.deleteInstance(userId, id);
+  }
+}
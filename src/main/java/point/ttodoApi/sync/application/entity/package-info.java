@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.application.entity package
+ */
+@NullMarked
+package point.ttodoApi.sync.application.entity;
+
+import org.jspecify.annotations.NullMarked;
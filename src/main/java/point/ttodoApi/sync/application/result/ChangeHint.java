@@ -0,0 +1,17 @@
+package point.ttodoApi.sync.application.result;
+
+import java.util.UUID;
+
+/**
+ * 커밋된 변경 알림 (본문 없음, 클라이언트는 받은 뒤 /sync/changes 또는 목록을 다시 조회)
+ *
+ * @param entityType category | definition | instance
+ * @param id         엔티티 ID
+ * @param operation  UPSERT | DELETE
+ * @param version    변경 시각 (epoch ms) - 카테고리는 변경 후 updatedAt, 정의/인스턴스는 변경 로그 기록 시각.
+ *                   같은 엔티티의 알림끼리 새로운지 비교하는 용도이며 /sync/changes 커서(로그 순번)로 쓸 수 없음
+ */
+public record ChangeHint(String entityType, UUID id, String operation, long version) {
+
+  public static final String CATEGORY = "category";
+}
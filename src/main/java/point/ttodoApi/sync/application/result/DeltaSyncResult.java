@@ -0,0 +1,14 @@
+package point.ttodoApi.sync.application.result;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 한 페이지
+ *
+ * @param cursor           다음 요청에 넘길 커서
+ * @param hasMore          남은 변경이 있으면 true (바로 다음 페이지 요청)
+ * @param snapshotRequired 커서 없이 요청했거나 커서가 로그 보존 기간보다 오래된 경우 true (목록 API로 전체 상태를 받은 뒤 이 커서부터 동기화)
+ * @param changes          엔티티별로 압축한 변경 목록 (로그 순서)
+ */
+public record DeltaSyncResult(String cursor, boolean hasMore, boolean snapshotRequired, List<EntityChange> changes) {
+}
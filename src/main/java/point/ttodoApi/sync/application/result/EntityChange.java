@@ -0,0 +1,22 @@
+package point.ttodoApi.sync.application.result;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 하나의 압축된 변경 (페이지 안의 변경을 합친 결과)
+ *
+ * @param entityType definition | instance
+ * @param id         엔티티 ID
+ * @param operation  UPSERT | PATCH | DELETE (PATCH는 바뀐 컬럼만, DELETE는 data 없는 삭제 표시)
+ * @param data       UPSERT는 전체 행, PATCH는 바뀐 컬럼과 id (컬럼명 그대로)
+ * @param version    마지막 변경의 로그 순번
+ */
+public record EntityChange(String entityType, UUID id, String operation, @Nullable JsonNode data, long version) {
+
+  public static final String UPSERT = "UPSERT";
+  public static final String PATCH = "PATCH";
+  public static final String DELETE = "DELETE";
+}
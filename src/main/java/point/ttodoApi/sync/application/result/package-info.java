@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.application.result package
+ */
+@NullMarked
+package point.ttodoApi.sync.application.result;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,63 @@
+package point.ttodoApi.sync.domain;
+
+/**
+ * 하이브리드 논리 시계(HLC) 타임스탬프
+ * 물리 시각(ms)이 같거나 뒤로 가도 논리 카운터로 인과 순서를 보장하며, 클라이언트 시계가 어긋나도 비교 가능
+ * DB에는 {@link #pack()} 한 bigint(상위 48비트 물리 시각, 하위 16비트 카운터)로, API에는 "물리시각-카운터" 문자열로 주고받음
+ *
+ * @param physical 물리 시각 (epoch ms)
+ * @param logical  같은 물리 시각 안의 순번
+ */
+public record HybridTimestamp(long physical, int logical) implements Comparable<HybridTimestamp> {
+
+  public static final HybridTimestamp ZERO = new HybridTimestamp(0, 0);
+
+  public static final int LOGICAL_BITS = 16;
+  public static final int MAX_LOGICAL = (1 << LOGICAL_BITS) - 1;
+
+  public HybridTimestamp {
+    if (physical < 0 || physical >= 1L << (Long.SIZE - 1 - LOGICAL_BITS)) {
+      throw new IllegalArgumentException("HLC physical time out of range: " + physical);
+    }
+    if (logical < 0 || logical > MAX_LOGICAL) {
+      throw new IllegalArgumentException("HLC logical counter out of range: " + logical);
+    }
+  }
+
+  public static HybridTimestamp unpack(long packed) {
+    return new HybridTimestamp(packed >>> LOGICAL_BITS, (int) (packed & MAX_LOGICAL));
+  }
+
+  /**
+   * "물리시각-카운터" 형식 파싱 (형식이 잘못되면 IllegalArgumentException)
+   */
+  public static HybridTimestamp parse(String value) {
+    int dash = value.indexOf('-');
+    if (dash <= 0) {
+      throw new IllegalArgumentException("Invalid HLC timestamp: " + value);
+    }
+    try {
+      return new HybridTimestamp(Long.parseLong(value.substring(0, dash)), Integer.parseInt(value.substring(dash + 1)));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid HLC timestamp: " + value, e);
+    }
+  }
+
+  public long pack() {
+    return physical << LOGICAL_BITS | logical;
+  }
+
+  @Override
+  public int compareTo(HybridTimestamp other) {
+    return Long.compare(pack(), other.pack());
+  }
+
+  public boolean isAfter(HybridTimestamp other) {
+    return compareTo(other) > 0;
+  }
+
+  @Override
+  public String toString() {
+    return physical + "-" + logical;
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.domain package
+ */
+@NullMarked
+package point.ttodoApi.sync.domain;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,35 @@
+package point.ttodoApi.sync.infrastructure.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.category.domain.CategoryCollaborator;
+import point.ttodoApi.category.infrastructure.persistence.CategoryCollaboratorRepository;
+
+import java.util.*;
+
+/**
+ * 카테고리 변경 알림의 협업자 수신자 조회
+ * 수락한 협업자도 공유 카테고리를 조회하므로 소유자와 함께 알림.
+ * 커밋 직후(afterCommit) 호출되므로 끝난 트랜잭션에 참여하지 않게 별도 읽기 트랜잭션에서 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryHintRecipients {
+
+  private final CategoryCollaboratorRepository collaboratorRepository;
+
+  /**
+   * 카테고리별 수락한 협업자 ID (협업자가 없는 카테고리는 빠짐)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public Map<UUID, Set<UUID>> collaborators(Collection<UUID> categoryIds) {
+    Map<UUID, Set<UUID>> collaboratorsByCategory = new HashMap<>();
+    for (CategoryCollaborator collaborator : collaboratorRepository.findActiveByCategoryIds(categoryIds)) {
+      collaboratorsByCategory.computeIfAbsent(collaborator.getCategory().getId(), key -> new LinkedHashSet<>())
+          .add(collaborator.getUser().getId());
+    }
+    return collaboratorsByCategory;
+  }
+}
@@ -0,0 +1,158 @@
+package point.ttodoApi.sync.infrastructure.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.sync.application.ChangeBroadcaster;
+import point.ttodoApi.sync.application.result.ChangeHint;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.user.domain.User;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 엔티티 쓰기를 Hibernate 이벤트로 모아 트랜잭션 커밋 직후 사용자별로 한 번에 알림
+ * 롤백된 변경은 알리지 않으며, 같은 트랜잭션에서 여러 번 바뀐 엔티티는 마지막 상태만 보냄.
+ * 카테고리 알림은 소유자와 수락한 협업자에게 보냄 (협업자도 공유 카테고리를 조회함).
+ * 투두 정의/인스턴스는 변경 로그에 기록되고 MutationRelay가 행 소유자에게만 알림
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ChangeHintCollector implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final ObjectProvider<ChangeBroadcaster> broadcaster;
+  private final ObjectProvider<CategoryHintRecipients> recipients;
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    collect(event.getEntity(), false);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    collect(event.getEntity(), false);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    collect(event.getEntity(), true);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void collect(Object entity, boolean deleted) {
+    if (!(entity instanceof Category category)) return;
+    Pending pending = pending(category, deleted);
+    if (pending == null) return;
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publish(List.of(pending));
+      return;
+    }
+    currentBuffer().add(pending);
+  }
+
+  private static @Nullable Pending pending(Category category, boolean deleted) {
+    User owner = category.getOwner();
+    UUID id = category.getId();
+    if (owner == null || id == null) return null;
+    Instant updatedAt = category.getUpdatedAt();
+    long version = updatedAt != null ? updatedAt.toEpochMilli() : System.currentTimeMillis();
+    ChangeHint hint = new ChangeHint(ChangeHint.CATEGORY, id,
+        deleted ? EntityChange.DELETE : EntityChange.UPSERT, version);
+    // 삭제되면 커밋 후에는 협업자 행도 없으므로, 연쇄 삭제로 이미 읽힌 협업자를 지금 기록
+    @Nullable Set<UUID> collaborators = deleted && Hibernate.isInitialized(category.getCollaborators())
+        ? category.getAcceptedCollaborators().stream().map(User::getId).collect(Collectors.toSet())
+        : null;
+    return new Pending(owner.getId(), hint, collaborators);
+  }
+
+  /**
+   * 현재 트랜잭션의 버퍼 (REQUIRES_NEW로 중첩된 트랜잭션은 바깥 동기화가 보이지 않아 자기 버퍼를 가짐)
+   */
+  private Buffer currentBuffer() {
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      if (synchronization instanceof Buffer buffer) return buffer;
+    }
+    Buffer buffer = new Buffer();
+    TransactionSynchronizationManager.registerSynchronization(buffer);
+    return buffer;
+  }
+
+  private void publish(Collection<Pending> pendings) {
+    ChangeBroadcaster target = broadcaster.getIfAvailable();
+    if (target == null) return;
+
+    Map<UUID, Set<UUID>> collaboratorsByCategory = lookUpCollaborators(pendings);
+    Map<UUID, Map<UUID, ChangeHint>> hintsByUser = new LinkedHashMap<>();
+    for (Pending pending : pendings) {
+      UUID categoryId = pending.hint().id();
+      Set<UUID> userIds = new LinkedHashSet<>();
+      userIds.add(pending.ownerId());
+      userIds.addAll(pending.collaborators() != null
+          ? pending.collaborators() : collaboratorsByCategory.getOrDefault(categoryId, Set.of()));
+      for (UUID userId : userIds) {
+        hintsByUser.computeIfAbsent(userId, key -> new LinkedHashMap<>()).put(categoryId, pending.hint());
+      }
+    }
+
+    hintsByUser.forEach((userId, hints) -> {
+      try {
+        target.broadcast(userId, List.copyOf(hints.values()));
+      } catch (RuntimeException e) {
+        // 알림 실패가 이미 커밋된 요청을 실패로 만들지 않게 함
+        log.warn("Failed to broadcast {} change hints for user {}", hints.size(), userId, e);
+      }
+    });
+  }
+
+  /**
+   * 협업자를 기록하지 않은 카테고리의 협업자 조회 (실패하면 소유자에게만 알림)
+   */
+  private Map<UUID, Set<UUID>> lookUpCollaborators(Collection<Pending> pendings) {
+    List<UUID> categoryIds = pendings.stream()
+        .filter(pending -> pending.collaborators() == null)
+        .map(pending -> pending.hint().id())
+        .toList();
+    CategoryHintRecipients lookup = recipients.getIfAvailable();
+    if (categoryIds.isEmpty() || lookup == null) return Map.of();
+    try {
+      return lookup.collaborators(categoryIds);
+    } catch (RuntimeException e) {
+      log.warn("Failed to look up collaborators of {} categories; notifying owners only", categoryIds.size(), e);
+      return Map.of();
+    }
+  }
+
+  /**
+   * @param collaborators 삭제 시 기록한 협업자 (null이면 커밋 후 조회)
+   */
+  private record Pending(UUID ownerId, ChangeHint hint, @Nullable Set<UUID> collaborators) {
+  }
+
+  private final class Buffer implements TransactionSynchronization {
+
+    private final Map<UUID, Pending> pendingByCategory = new LinkedHashMap<>();
+
+    void add(Pending pending) {
+      pendingByCategory.put(pending.hint().id(), pending);
+    }
+
+    @Override
+    public void afterCommit() {
+      publish(pendingByCategory.values());
+    }
+  }
+}
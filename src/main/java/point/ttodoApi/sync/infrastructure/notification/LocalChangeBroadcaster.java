@@ -0,0 +1,27 @@
+package point.ttodoApi.sync.infrastructure.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.application.ChangeBroadcaster;
+import point.ttodoApi.sync.application.ChangeStreamHub;
+import point.ttodoApi.sync.application.result.ChangeHint;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 단일 노드용 - 같은 프로세스의 연결에만 전달
+ */
+@Component
+@RequiredArgsConstructor
+@Profile("!redis")
+public class LocalChangeBroadcaster implements ChangeBroadcaster {
+
+  private final ChangeStreamHub changeStreamHub;
+
+  @Override
+  public void broadcast(UUID userId, List<ChangeHint> hints) {
+    changeStreamHub.deliver(userId, hints);
+  }
+}
@@ -0,0 +1,58 @@
+package point.ttodoApi.sync.infrastructure.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.application.ChangeBroadcaster;
+import point.ttodoApi.sync.application.ChangeStreamHub;
+import point.ttodoApi.sync.application.result.ChangeHint;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 다중 노드용 - Redis pub/sub 채널로 발행하고, 각 노드는 구독한 메시지를 자기 연결에 전달
+ * 발행한 노드도 구독으로 받으므로 로컬에 따로 전달하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Profile("redis")
+public class RedisChangeBroadcaster implements ChangeBroadcaster, MessageListener {
+
+  public static final String CHANNEL = "sync:changes";
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final ChangeStreamHub changeStreamHub;
+
+  @Override
+  public void broadcast(UUID userId, List<ChangeHint> hints) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new Notice(userId, hints)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode change notice for user " + userId, e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    try {
+      Notice notice = objectMapper.readValue(message.getBody(), Notice.class);
+      changeStreamHub.deliver(notice.userId(), notice.hints());
+    } catch (IOException e) {
+      log.warn("Dropped malformed change notice on {}", CHANNEL, e);
+    }
+  }
+
+  record Notice(UUID userId, List<ChangeHint> hints) {
+  }
+}
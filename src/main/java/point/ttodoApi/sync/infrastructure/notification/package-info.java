@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.infrastructure.notification package
+ */
+@NullMarked
+package point.ttodoApi.sync.infrastructure.notification;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.infrastructure package
+ */
+@NullMarked
+package point.ttodoApi.sync.infrastructure;
+
+import org.jspecify.annotations.NullMarked;
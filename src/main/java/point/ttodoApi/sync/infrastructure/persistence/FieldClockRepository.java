@@ -0,0 +1,66 @@
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * sync_field_clocks - 필드별 마지막으로 반영된 HLC (V2.12)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FieldClockRepository {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 레코드 ID → (필드 → packed HLC)
+   */
+  public Map<String, Map<String, Long>> findAll(String tableName, Collection<String> recordIds) {
+    Map<String, Map<String, Long>> clocks = new HashMap<>();
+    if (recordIds.isEmpty()) return clocks;
+    jdbcTemplate.query(
+        "SELECT record_id, field, hlc FROM sync_field_clocks WHERE table_name = ? AND record_id = ANY(?::varchar[])",
+        rs -> {
+          clocks.computeIfAbsent(rs.getString("record_id"), key -> new HashMap<>())
+              .put(rs.getString("field"), rs.getLong("hlc"));
+        },
+        tableName, recordIds.toArray(String[]::new));
+    return clocks;
+  }
+
+  /**
+   * 필드 시계 일괄 갱신 (이미 더 큰 값이 있으면 유지)
+   */
+  public void upsertAll(String tableName, List<FieldClock> clocks) {
+    for (int from = 0; from < clocks.size(); from += CHUNK_SIZE) {
+      List<FieldClock> chunk = clocks.subList(from, Math.min(clocks.size(), from + CHUNK_SIZE));
+      String sql = """
+          INSERT INTO sync_field_clocks (table_name, record_id, field, hlc, client_id)
+          VALUES %s
+          ON CONFLICT (table_name, record_id, field) DO UPDATE
+          SET hlc = EXCLUDED.hlc, client_id = EXCLUDED.client_id, updated_at = CURRENT_TIMESTAMP
+          WHERE sync_field_clocks.hlc < EXCLUDED.hlc
+          """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?)")));
+      List<Object> args = new ArrayList<>(chunk.size() * 5);
+      for (FieldClock clock : chunk) {
+        args.addAll(Arrays.asList(tableName, clock.recordId(), clock.field(), clock.hlc(), clock.clientId()));
+      }
+      jdbcTemplate.update(sql, args.toArray());
+    }
+  }
+
+  public void deleteAll(String tableName, Collection<String> recordIds) {
+    if (recordIds.isEmpty()) return;
+    jdbcTemplate.update("DELETE FROM sync_field_clocks WHERE table_name = ? AND record_id = ANY(?::varchar[])",
+        tableName, recordIds.toArray(String[]::new));
+  }
+
+  public record FieldClock(String recordId, String field, long hlc, @Nullable String clientId) {
+  }
+}
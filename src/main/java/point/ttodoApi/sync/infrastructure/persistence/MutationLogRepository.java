@@ -0,0 +1,177 @@
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * todo_definition_mutations / todo_instance_mutations 조회 (TodoMutationCapture가 기록, V2.16)
+ * 커서는 (xact_id, seq) 순서이며, 아직 커밋 여부가 정해지지 않은 트랜잭션(스냅샷 xmin 이후)의 행은 제외해
+ * 늦게 커밋된 변경을 건너뛰지 않음. 두 테이블은 created_at 일별 파티션이며 보존 작업이 파티션 단위로 삭제 (V2.15)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MutationLogRepository {
+
+  public static final String DEFINITION = "definition";
+  public static final String INSTANCE = "instance";
+
+  private static final String PAGE_SQL = """
+      SELECT * FROM (
+        (SELECT 'definition' AS entity_type, definition_id AS entity_id, user_id, mutation_type,
+                mutation_data::text AS data, xact_id::text AS xact_id, seq, created_at
+         FROM todo_definition_mutations
+         WHERE user_id = ?
+           AND (xact_id, seq) > (?::text::xid8, ?)
+           AND xact_id < pg_snapshot_xmin(pg_current_snapshot())
+         ORDER BY xact_id, seq
+         LIMIT ?)
+        UNION ALL
+        (SELECT 'instance', instance_id, user_id, mutation_type,
+                mutation_data::text, xact_id::text, seq, created_at
+         FROM todo_instance_mutations
+         WHERE user_id = ?
+           AND (xact_id, seq) > (?::text::xid8, ?)
+           AND xact_id < pg_snapshot_xmin(pg_current_snapshot())
+         ORDER BY xact_id, seq
+         LIMIT ?)
+      ) m
+      ORDER BY m.xact_id::xid8, m.seq
+      LIMIT ?
+      """;
+
+  /**
+   * 모든 사용자의 변경을 로그 순서로 (릴레이용, (xact_id, seq) 인덱스 사용)
+   */
+  private static final String RELAY_PAGE_SQL = """
+      SELECT * FROM (
+        (SELECT 'definition' AS entity_type, definition_id AS entity_id, user_id, mutation_type,
+                mutation_data::text AS data, xact_id::text AS xact_id, seq, created_at
+         FROM todo_definition_mutations
+         WHERE (xact_id, seq) > (?::text::xid8, ?)
+           AND xact_id < pg_snapshot_xmin(pg_current_snapshot())
+         ORDER BY xact_id, seq
+         LIMIT ?)
+        UNION ALL
+        (SELECT 'instance', instance_id, user_id, mutation_type,
+                mutation_data::text, xact_id::text, seq, created_at
+         FROM todo_instance_mutations
+         WHERE (xact_id, seq) > (?::text::xid8, ?)
+           AND xact_id < pg_snapshot_xmin(pg_current_snapshot())
+         ORDER BY xact_id, seq
+         LIMIT ?)
+      ) m
+      ORDER BY m.xact_id::xid8, m.seq
+      LIMIT ?
+      """;
+
+  private static final RowMapper<MutationLogEntry> ENTRY_MAPPER = (rs, rowNum) -> new MutationLogEntry(
+      rs.getString("entity_type"),
+      rs.getObject("entity_id", UUID.class),
+      rs.getObject("user_id", UUID.class),
+      rs.getString("mutation_type"),
+      rs.getString("data"),
+      Long.parseUnsignedLong(rs.getString("xact_id")),
+      rs.getLong("seq"),
+      rs.getTimestamp("created_at").getTime());
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 커서 이후 변경을 로그 순서대로 최대 limit건 조회
+   */
+  public List<MutationLogEntry> findAfter(UUID userId, long xactId, long seq, int limit) {
+    String xid = Long.toUnsignedString(xactId);
+    return jdbcTemplate.query(PAGE_SQL, ENTRY_MAPPER,
+        userId, xid, seq, limit,
+        userId, xid, seq, limit,
+        limit);
+  }
+
+  /**
+   * 위치 이후 모든 사용자의 변경을 로그 순서대로 최대 limit건 조회 (릴레이용)
+   */
+  public List<MutationLogEntry> findAllAfter(Position after, int limit) {
+    String xid = Long.toUnsignedString(after.xactId());
+    return jdbcTemplate.query(RELAY_PAGE_SQL, ENTRY_MAPPER,
+        xid, after.seq(), limit,
+        xid, after.seq(), limit,
+        limit);
+  }
+
+  /**
+   * 릴레이 위치를 잠그고 조회. 다른 노드가 릴레이 중이면 빈 값 (트랜잭션 안에서 호출)
+   */
+  public Optional<Position> lockRelayOffset(String name) {
+    return jdbcTemplate.query(
+        "SELECT xact_id::text AS xact_id, seq FROM todo_mutation_relay_offsets WHERE name = ? FOR UPDATE SKIP LOCKED",
+        (rs, rowNum) -> new Position(Long.parseUnsignedLong(rs.getString("xact_id")), rs.getLong("seq")),
+        name).stream().findFirst();
+  }
+
+  public void saveRelayOffset(String name, Position position) {
+    jdbcTemplate.update(
+        "UPDATE todo_mutation_relay_offsets SET xact_id = ?::text::xid8, seq = ?, updated_at = CURRENT_TIMESTAMP WHERE name = ?",
+        Long.toUnsignedString(position.xactId()), position.seq(), name);
+  }
+
+  /**
+   * 이 트랜잭션 ID 미만은 모두 커밋/롤백이 확정된 위치 (새 클라이언트의 시작 커서)
+   */
+  public long currentHorizon() {
+    String xmin = jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text", String.class);
+    return Long.parseUnsignedLong(Objects.requireNonNull(xmin));
+  }
+
+  /**
+   * 보존 작업이 삭제한 가장 뒤쪽 위치. 이보다 앞선 커서는 빠진 변경이 있을 수 있음
+   */
+  public Position watermark() {
+    return Objects.requireNonNull(jdbcTemplate.queryForObject(
+        "SELECT xact_id::text AS xact_id, seq FROM todo_mutation_log_watermark",
+        (rs, rowNum) -> new Position(Long.parseUnsignedLong(rs.getString("xact_id")), rs.getLong("seq"))));
+  }
+
+  /**
+   * 두 로그 테이블에 오늘부터 daysAhead일 뒤까지 일별 파티션 생성 (생성한 개수 반환)
+   */
+  public int ensurePartitions(int daysAhead) {
+    Integer created = jdbcTemplate.queryForObject("SELECT ensure_todo_mutation_partitions(?)", Integer.class, daysAhead);
+    return created == null ? 0 : created;
+  }
+
+  /**
+   * before 이전에 끝난 파티션 중, activeSince 이후 갱신된 모든 커서가 이미 지나간 파티션 삭제 (삭제한 개수 반환)
+   *
+   * @param includeRelay 릴레이 위치도 커서로 볼지 (릴레이를 끄면 위치가 멈춰 파티션을 계속 붙잡으므로 false)
+   */
+  public int dropPartitions(LocalDate before, Instant activeSince, boolean includeRelay) {
+    Integer dropped = jdbcTemplate.queryForObject("SELECT drop_todo_mutation_partitions(?, ?, ?)", Integer.class,
+        Date.valueOf(before), Timestamp.from(activeSince), includeRelay);
+    return dropped == null ? 0 : dropped;
+  }
+
+  /**
+   * 로그 위치 (xact_id, seq)
+   */
+  public record Position(long xactId, long seq) {
+  }
+
+  /**
+   * 변경 로그 한 행
+   *
+   * @param userId 소유자
+   * @param data 행 JSON - CREATE/RESTORE는 전체 행, UPDATE/STATUS_CHANGE는 바뀐 컬럼과 id, DELETE는 id만
+   * @param recordedAt 기록 시각 (epoch ms, 변경한 트랜잭션의 시작 시각)
+   */
+  public record MutationLogEntry(String entityType, UUID entityId, UUID userId, String mutationType, String data,
+                                 long xactId, long seq, long recordedAt) {
+  }
+}
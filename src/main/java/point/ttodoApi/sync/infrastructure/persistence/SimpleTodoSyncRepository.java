@@ -0,0 +1,123 @@
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * simple_todo 동기화용 배치 쓰기
+ * 변경 묶음마다 다중 행 VALUES 문 하나로 처리해 왕복 횟수를 변경 수가 아닌 청크 수에 비례하게 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class SimpleTodoSyncRepository {
+
+  /**
+   * 한 문장에 담는 최대 행 수 (바인드 파라미터 한도 65535 이내)
+   */
+  static final int CHUNK_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 삽입할 행 수만큼 ID를 미리 받아 결과를 요청 순서에 맞춰 돌려줌
+   */
+  public List<Integer> allocateIds(int count) {
+    if (count == 0) return List.of();
+    return jdbcTemplate.queryForList(
+        "SELECT nextval(pg_get_serial_sequence('simple_todo', 'id'))::int FROM generate_series(1, ?)",
+        Integer.class, count);
+  }
+
+  public void insertAll(List<NewSimpleTodo> rows) {
+    for (List<NewSimpleTodo> chunk : chunks(rows)) {
+      String sql = "INSERT INTO simple_todo (id, title, description, complete, created_at) VALUES "
+          + placeholders(chunk.size(), "(?, ?, ?, ?, ?)");
+      List<Object> args = new ArrayList<>(chunk.size() * 5);
+      for (NewSimpleTodo row : chunk) {
+        args.addAll(Arrays.asList(row.id(), row.title(), row.description(), row.complete(), row.createdAt()));
+      }
+      jdbcTemplate.update(sql, args.toArray());
+    }
+  }
+
+  /**
+   * 수정/삭제 대상 행을 잠그고 현재 값 조회 (필드별 병합 동안 다른 동기화 요청과 겹치지 않게 함)
+   */
+  public Map<Integer, SimpleTodoRow> lockAll(Collection<Integer> ids) {
+    Map<Integer, SimpleTodoRow> rows = new HashMap<>();
+    for (List<Integer> chunk : chunks(List.copyOf(ids))) {
+      jdbcTemplate.query(
+          "SELECT id, title, description, complete, updated_at FROM simple_todo WHERE id = ANY(?::int[]) FOR UPDATE",
+          rs -> {
+            rows.put(rs.getInt("id"), new SimpleTodoRow(
+                rs.getInt("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getObject("complete", Boolean.class),
+                rs.getObject("updated_at", Long.class)));
+          },
+          (Object) chunk.toArray(Integer[]::new));
+    }
+    return rows;
+  }
+
+  /**
+   * 병합된 행 일괄 수정
+   */
+  public void updateAll(List<SimpleTodoRow> rows) {
+    for (List<SimpleTodoRow> chunk : chunks(rows)) {
+      String sql = """
+          UPDATE simple_todo t
+          SET title = v.title, description = v.description, complete = v.complete, updated_at = v.updated_at
+          FROM (VALUES %s) AS v (id, title, description, complete, updated_at)
+          WHERE t.id = v.id
+          """.formatted(placeholders(chunk.size(), "(?::int, ?::text, ?::text, ?::boolean, ?::bigint)"));
+      List<Object> args = new ArrayList<>(chunk.size() * 5);
+      for (SimpleTodoRow row : chunk) {
+        args.addAll(Arrays.asList(row.id(), row.title(), row.description(), row.complete(), row.updatedAt()));
+      }
+      jdbcTemplate.update(sql, args.toArray());
+    }
+  }
+
+  /**
+   * 일괄 삭제 후 실제로 삭제된 ID 반환
+   */
+  public Set<Integer> deleteAll(Collection<Integer> ids) {
+    Set<Integer> deleted = new HashSet<>();
+    for (List<Integer> chunk : chunks(List.copyOf(ids))) {
+      deleted.addAll(jdbcTemplate.queryForList(
+          "DELETE FROM simple_todo WHERE id = ANY(?::int[]) RETURNING id",
+          Integer.class, (Object) chunk.toArray(Integer[]::new)));
+    }
+    return deleted;
+  }
+
+  private static <T> List<List<T>> chunks(List<T> rows) {
+    List<List<T>> chunks = new ArrayList<>();
+    for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+      chunks.add(rows.subList(from, Math.min(rows.size(), from + CHUNK_SIZE)));
+    }
+    return chunks;
+  }
+
+  private static String placeholders(int rows, String row) {
+    return String.join(", ", Collections.nCopies(rows, row));
+  }
+
+  public record NewSimpleTodo(int id, @Nullable String title, @Nullable String description, boolean complete,
+                              Timestamp createdAt) {
+  }
+
+  /**
+   * @param updatedAt 수정 시각 (epoch ms)
+   */
+  public record SimpleTodoRow(int id, @Nullable String title, @Nullable String description,
+                              @Nullable Boolean complete, @Nullable Long updatedAt) {
+  }
+}
@@ -0,0 +1,41 @@
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * sync_cursors - 클라이언트별로 마지막에 확인한 델타 동기화 커서 (V2.15)
+ * 가장 오래된 활성 커서가 변경 로그 파티션 삭제 기준
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncCursorRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 커서 기록. 위치가 같으면 한 시간에 한 번만 갱신해 폴링마다 행을 새로 쓰지 않음
+   */
+  public void save(UUID userId, String clientId, long xactId, long seq) {
+    jdbcTemplate.update("""
+        INSERT INTO sync_cursors (user_id, client_id, xact_id, seq, updated_at)
+        VALUES (?, ?, ?::text::xid8, ?, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id, client_id) DO UPDATE
+        SET xact_id = EXCLUDED.xact_id, seq = EXCLUDED.seq, updated_at = EXCLUDED.updated_at
+        WHERE (sync_cursors.xact_id, sync_cursors.seq) <> (EXCLUDED.xact_id, EXCLUDED.seq)
+           OR sync_cursors.updated_at < EXCLUDED.updated_at - INTERVAL '1 hour'
+        """, userId, clientId, Long.toUnsignedString(xactId), seq);
+  }
+
+  /**
+   * activeSince 이후로 동기화하지 않은 클라이언트 커서 삭제
+   */
+  public int deleteInactive(Instant activeSince) {
+    return jdbcTemplate.update("DELETE FROM sync_cursors WHERE updated_at < ?", Timestamp.from(activeSince));
+  }
+}
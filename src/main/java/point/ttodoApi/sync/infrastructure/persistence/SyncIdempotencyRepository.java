@@ -0,0 +1,126 @@
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * sync_batches / sync_applied_changes - 동기화 재전송용 멱등 기록 (V2.13)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncIdempotencyRepository {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 배치 키 선점. 처음 보는 키이거나, 만료됐거나, 처리 중 기록이 lease보다 오래됐으면(중단된 시도) true
+   */
+  public boolean claimBatch(String scope, String batchKey, Duration lease, Duration ttl) {
+    Instant now = Instant.now();
+    List<Boolean> claimed = jdbcTemplate.queryForList("""
+        INSERT INTO sync_batches (scope, batch_key, created_at, expires_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (scope, batch_key) DO UPDATE
+        SET request_hash = NULL, response = NULL,
+            created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+        WHERE sync_batches.expires_at < EXCLUDED.created_at
+           OR (sync_batches.response IS NULL AND sync_batches.created_at < ?)
+        RETURNING true
+        """, Boolean.class,
+        scope, batchKey, Timestamp.from(now), Timestamp.from(now.plus(ttl)), Timestamp.from(now.minus(lease)));
+    return !claimed.isEmpty();
+  }
+
+  public Optional<StoredBatch> findBatch(String scope, String batchKey) {
+    return jdbcTemplate.query(
+        "SELECT request_hash, response::text AS response FROM sync_batches WHERE scope = ? AND batch_key = ?",
+        (rs, rowNum) -> new StoredBatch(rs.getString("request_hash"), rs.getString("response")),
+        scope, batchKey).stream().findFirst();
+  }
+
+  public void completeBatch(String scope, String batchKey, String requestHash, String response) {
+    jdbcTemplate.update(
+        "UPDATE sync_batches SET request_hash = ?, response = ?::jsonb WHERE scope = ? AND batch_key = ?",
+        requestHash, response, scope, batchKey);
+  }
+
+  /**
+   * 처리에 실패한 배치의 선점 해제 (재시도가 바로 다시 처리하도록)
+   */
+  public void releaseBatch(String scope, String batchKey) {
+    jdbcTemplate.update("DELETE FROM sync_batches WHERE scope = ? AND batch_key = ? AND response IS NULL",
+        scope, batchKey);
+  }
+
+  /**
+   * 변경 ID → 기록된 결과 JSON (만료된 기록 제외)
+   */
+  public Map<String, String> findChanges(String scope, Collection<String> changeIds) {
+    Map<String, String> results = new HashMap<>();
+    if (changeIds.isEmpty()) return results;
+    jdbcTemplate.query("""
+        SELECT change_id, result::text AS result FROM sync_applied_changes
+        WHERE scope = ? AND change_id = ANY(?::varchar[]) AND expires_at > CURRENT_TIMESTAMP
+        """,
+        rs -> {
+          results.put(rs.getString("change_id"), rs.getString("result"));
+        },
+        scope, changeIds.toArray(String[]::new));
+    return results;
+  }
+
+  public void saveChanges(String scope, List<AppliedChange> changes, Duration ttl) {
+    Timestamp expiresAt = Timestamp.from(Instant.now().plus(ttl));
+    for (int from = 0; from < changes.size(); from += CHUNK_SIZE) {
+      List<AppliedChange> chunk = changes.subList(from, Math.min(changes.size(), from + CHUNK_SIZE));
+      String sql = """
+          INSERT INTO sync_applied_changes (scope, change_id, result, expires_at)
+          VALUES %s
+          ON CONFLICT (scope, change_id) DO UPDATE
+          SET result = EXCLUDED.result, created_at = CURRENT_TIMESTAMP, expires_at = EXCLUDED.expires_at
+          WHERE sync_applied_changes.expires_at < CURRENT_TIMESTAMP
+          """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?::jsonb, ?)")));
+      List<Object> args = new ArrayList<>(chunk.size() * 4);
+      for (AppliedChange change : chunk) {
+        args.addAll(Arrays.asList(scope, change.changeId(), change.result(), expiresAt));
+      }
+      jdbcTemplate.update(sql, args.toArray());
+    }
+  }
+
+  /**
+   * 만료된 기록을 최대 limit건씩 삭제하고 삭제한 행 수 반환
+   */
+  public int purgeExpiredBatches(int limit) {
+    return jdbcTemplate.update("""
+        DELETE FROM sync_batches WHERE ctid = ANY(ARRAY(
+          SELECT ctid FROM sync_batches WHERE expires_at < CURRENT_TIMESTAMP LIMIT ?))
+        """, limit);
+  }
+
+  public int purgeExpiredChanges(int limit) {
+    return jdbcTemplate.update("""
+        DELETE FROM sync_applied_changes WHERE ctid = ANY(ARRAY(
+          SELECT ctid FROM sync_applied_changes WHERE expires_at < CURRENT_TIMESTAMP LIMIT ?))
+        """, limit);
+  }
+
+  /**
+   * @param requestHash 처리한 본문의 SHA-256 (본문을 읽으면서 계산하므로 처리 중이면 null)
+   * @param response    기록된 응답 JSON (첫 시도가 아직 처리 중이면 null)
+   */
+  public record StoredBatch(@Nullable String requestHash, @Nullable String response) {
+  }
+
+  public record AppliedChange(String changeId, String result) {
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.sync.infrastructure.persistence package
+ */
+@NullMarked
+package point.ttodoApi.sync.infrastructure.persistence;
+
+import org.jspecify.annotations.NullMarked;
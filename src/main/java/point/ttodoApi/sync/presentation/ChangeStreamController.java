@@ -0,0 +1,37 @@
+package point.ttodoApi.sync.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import point.ttodoApi.sync.application.ChangeStreamHub;
+
+import java.util.UUID;
+
+@Slf4j
+@Tag(name = "동기화", description = "클라이언트 동기화 API")
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class ChangeStreamController {
+
+  private final ChangeStreamHub changeStreamHub;
+
+  @Operation(summary = "변경 알림 스트림 (SSE)",
+      description = "커밋된 카테고리/투두 정의/인스턴스 변경을 changes 이벤트로 알립니다 (entityType, id, operation, version). "
+          + "version은 변경 시각(epoch ms)으로 같은 엔티티의 알림 순서 비교용입니다. "
+          + "알림에는 본문이 없으므로 받은 뒤 /sync/changes로 변경분을 조회합니다. "
+          + "resync 이벤트를 받았거나 재연결한 경우에도 /sync/changes로 보정합니다.")
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasRole('USER')")
+  public SseEmitter stream(@AuthenticationPrincipal UUID userId) {
+    log.debug("Change stream opened for user {} ({} connections on this node)", userId,
+        changeStreamHub.connectionCount());
+    return changeStreamHub.subscribe(userId);
+  }
+}
@@ -0,0 +1,43 @@
+package point.ttodoApi.sync.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import point.ttodoApi.sync.application.DeltaSyncService;
+import point.ttodoApi.sync.application.result.DeltaSyncResult;
+import point.ttodoApi.sync.presentation.dto.response.DeltaSyncResponse;
+
+import java.util.UUID;
+
+@Slf4j
+@Tag(name = "동기화", description = "클라이언트 동기화 API")
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class DeltaSyncController {
+
+  private final DeltaSyncService deltaSyncService;
+
+  @Operation(summary = "변경분 조회",
+      description = "커서 이후의 투두 정의/인스턴스 변경을 로그 순서대로 반환합니다. "
+          + "커서 없이 호출하거나 커서가 로그 보존 기간보다 오래되면 현재 위치의 커서만 반환하며(snapshotRequired), "
+          + "hasMore가 true면 반환된 커서로 이어서 요청합니다.")
+  @GetMapping("/changes")
+  @PreAuthorize("hasRole('USER')")
+  public DeltaSyncResponse getChanges(
+      @AuthenticationPrincipal UUID userId,
+      @Parameter(description = "클라이언트(기기) ID - 커서를 기기별로 기록해 로그 보존 기준으로 사용") @RequestParam(required = false) @Nullable String clientId,
+      @Parameter(description = "이전 응답의 커서") @RequestParam(required = false) @Nullable String cursor,
+      @Parameter(description = "최대 변경 수 (기본 500, 최대 1000)") @RequestParam(required = false) @Nullable Integer limit
+  ) {
+    DeltaSyncResult result = deltaSyncService.changesSince(userId, clientId, cursor, limit);
+    log.debug("Delta sync for user {}: {} changes, hasMore={}", userId, result.changes().size(), result.hasMore());
+    return DeltaSyncResponse.from(result);
+  }
+}
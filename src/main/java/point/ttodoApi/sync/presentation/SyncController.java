@@ -2,16 +2,24 @@ package point.ttodoApi.sync.presentation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
 import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+import point.ttodoApi.sync.application.SyncLimitExceededException;
 import point.ttodoApi.sync.application.SyncService;
 
-import jakarta.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -21,16 +29,48 @@ import java.util.Map;
 public class SyncController {
 
     private final SyncService syncService;
+    private final SyncUploadParser syncUploadParser;
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 본문(SyncRequest 형식)은 바인딩하지 않고 스트리밍으로 청크 단위 처리
+     * clientId는 changes 뒤에 와도 되지만, 그 경우 changes를 버퍼에 담아 두므로 앞에 보내야 메모리가 청크 크기로 제한됨
+     */
     @PostMapping("/simple-todo")
     public ResponseEntity<SyncResponse> syncSimpleTodos(
-            @Valid @RequestBody SyncRequest request) {
-        log.info("Sync request received with {} changes", request.getChanges().size());
-        
-        SyncResponse response = syncService.processSync(request);
-        
-        return ResponseEntity.ok(response);
+            @AuthenticationPrincipal @Nullable UUID userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) @Nullable String idempotencyKey,
+            HttpServletRequest request) throws IOException {
+        try (SyncUpload upload = syncUploadParser.open(request)) {
+            SyncResponse response = syncService.processSync(userId, upload, idempotencyKey);
+            log.info("Sync request processed with {} results", response.getResults().size());
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * 한도 초과 - 나눠 보낼 크기(maxChanges)와 이미 반영된 앞쪽 변경 수, 재시도 시각(Retry-After)을 안내
+     */
+    @ExceptionHandler(SyncLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleSyncLimitExceeded(
+            SyncLimitExceededException ex, HttpServletRequest request) {
+        log.warn("Sync upload rejected: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(ex.getHttpStatus(), ex.getMessage());
+        problemDetail.setTitle(ex.getErrorCode().getMessage());
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        problemDetail.setProperty("errorCode", ex.getErrorCodeValue());
+        problemDetail.setProperty("timestamp", Instant.now());
+        if (ex.getMaxChanges() != null) {
+            problemDetail.setProperty("maxChanges", ex.getMaxChanges());
+            problemDetail.setProperty("processedChanges", ex.getProcessedChanges());
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getHttpStatus());
+        if (ex.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()));
+        }
+        return response.body(problemDetail);
     }
     
     @GetMapping("/simple-todos")
@@ -0,0 +1,159 @@
+package point.ttodoApi.sync.presentation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import point.ttodoApi.sync.application.SyncChangeSource;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.io.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 스트리밍으로 읽는 동기화 요청 본문
+ * 최상위 필드는 순서대로 읽되 changes 배열은 요청한 만큼만 원소 단위로 바인딩.
+ * clientId가 changes 뒤에 오면 clientId를 읽을 때까지 changes를 토큰 버퍼에 담아 두므로
+ * 메모리 사용을 청크 크기로 제한하려면 클라이언트가 clientId를 먼저 보내야 함.
+ * 본문 바이트는 읽는 동안 SHA-256에 누적되어 다 읽은 뒤 해시를 얻음
+ */
+public class SyncUpload implements SyncChangeSource, Closeable {
+
+  private static final String CLIENT_ID = "clientId";
+  private static final String CHANGES = "changes";
+
+  private final HttpInputMessage inputMessage;
+  private final DigestInputStream body;
+  private final JsonParser parser;
+  private final ObjectReader changeReader;
+
+  private @Nullable String clientId;
+  private @Nullable TokenBuffer bufferedChanges;
+  private JsonParser changeParser;
+  private boolean started;
+  private boolean inChanges;
+
+  SyncUpload(ObjectMapper objectMapper, HttpInputMessage inputMessage) throws IOException {
+    this.inputMessage = inputMessage;
+    this.body = new DigestInputStream(inputMessage.getBody(), sha256());
+    this.parser = objectMapper.createParser(body);
+    this.changeParser = parser;
+    this.changeReader = objectMapper.readerFor(SyncRequest.SyncChange.class);
+  }
+
+  @Override
+  public @Nullable String clientId() {
+    start();
+    return clientId;
+  }
+
+  @Override
+  public List<SyncRequest.SyncChange> next(int size) {
+    start();
+    List<SyncRequest.SyncChange> changes = new ArrayList<>(Math.min(size, 1024));
+    try {
+      while (inChanges && changes.size() < size) {
+        JsonToken token = changeParser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+          inChanges = false;
+          if (changeParser == parser) readFields();
+        } else if (token == JsonToken.START_OBJECT) {
+          changes.add(changeReader.readValue(changeParser));
+        } else {
+          throw new IllegalArgumentException("changes must be an array of objects");
+        }
+      }
+    } catch (IOException e) {
+      throw unreadable(e);
+    }
+    return changes;
+  }
+
+  @Override
+  public String digest() {
+    try {
+      while (parser.nextToken() != null) {
+        parser.skipChildren();
+      }
+      body.transferTo(OutputStream.nullOutputStream());
+    } catch (IOException e) {
+      throw unreadable(e);
+    }
+    return HexFormat.of().formatHex(body.getMessageDigest().digest());
+  }
+
+  @Override
+  public void close() throws IOException {
+    changeParser.close();
+    parser.close();
+  }
+
+  /**
+   * changes 앞까지의 최상위 필드를 읽음
+   */
+  private void start() {
+    if (started) return;
+    started = true;
+    try {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Sync request must be an object");
+      }
+      readFields();
+      if (!inChanges && bufferedChanges != null) {
+        // clientId가 changes 뒤에 있었음 - 본문을 다 읽었으므로 버퍼에서 읽음
+        changeParser = bufferedChanges.asParser();
+        changeParser.nextToken();
+        inChanges = true;
+      }
+    } catch (IOException e) {
+      throw unreadable(e);
+    }
+    if (clientId == null) {
+      throw new IllegalArgumentException("clientId is required");
+    }
+  }
+
+  /**
+   * 다음 changes 배열 또는 객체 끝까지 최상위 필드를 읽음 (알 수 없는 필드는 건너뜀)
+   * clientId를 아직 읽지 못했으면 changes 배열을 버퍼에 복사하고 계속 읽음
+   */
+  private void readFields() throws IOException {
+    for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      if (CHANGES.equals(field) && value == JsonToken.START_ARRAY) {
+        if (clientId != null) {
+          inChanges = true;
+          return;
+        }
+        bufferedChanges = TokenBuffer.forBuffering(parser, parser.getCodec());
+        bufferedChanges.copyCurrentStructure(parser);
+        continue;
+      }
+      if (CLIENT_ID.equals(field)) {
+        clientId = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private HttpMessageNotReadableException unreadable(IOException e) {
+    return new HttpMessageNotReadableException("Malformed sync request: " + e.getMessage(), e, inputMessage);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
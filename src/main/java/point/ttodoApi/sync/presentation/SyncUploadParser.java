@@ -0,0 +1,38 @@
+package point.ttodoApi.sync.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 동기화 요청 본문을 Content-Type에 맞는 Jackson 포맷(JSON/CBOR/Smile)의 스트리밍 파서로 엶
+ * 등록된 메시지 컨버터의 ObjectMapper를 그대로 써서 @RequestBody 바인딩과 같은 설정으로 읽음
+ */
+@Component
+public class SyncUploadParser {
+
+  private final List<AbstractJackson2HttpMessageConverter> converters;
+
+  public SyncUploadParser(List<AbstractJackson2HttpMessageConverter> converters) {
+    this.converters = converters;
+  }
+
+  public SyncUpload open(HttpServletRequest request) throws IOException {
+    MediaType contentType = request.getContentType() != null
+        ? MediaType.parseMediaType(request.getContentType())
+        : MediaType.APPLICATION_JSON;
+    ObjectMapper objectMapper = converters.stream()
+        .filter(converter -> converter.canRead(SyncRequest.class, contentType))
+        .findFirst()
+        .map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+        .orElseThrow(() -> new IllegalArgumentException("Unsupported sync content type: " + contentType));
+    return new SyncUpload(objectMapper, new ServletServerHttpRequest(request));
+  }
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class SyncRequest {
@@ -20,6 +21,8 @@ public class SyncRequest {
     
     @Data
     public static class SyncChange {
+        private String changeId;  // 변경 멱등 키 - 재전송 시 같은 값 (이미 반영된 변경은 기록된 결과만 반환)
+        
         @NotNull
         private String operation; // "insert", "update", "delete"
         
@@ -34,11 +37,14 @@ public class SyncRequest {
     
     @Data
     public static class SyncRecord {
-        private String id;  // Changed to String for UUID
+        private String id;  // Changed to String for UUID (클라이언트 생성 시 임시 ID)
         private String title;
         private String description;
         private Boolean complete;
         private String createdAt;
         private Long updatedAt;  // Added for Last-Write-Wins
+        private String hlc;  // 클라이언트 HLC ("물리시각-카운터"), 없으면 updatedAt 사용
+        private List<String> changedFields;  // 변경한 필드 (없으면 전체 필드)
+        private Map<String, Object> data;  // 카테고리/투두 테이블 필드 값 (API 필드명, 참조는 서버 ID 또는 같은 요청의 임시 ID)
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package point.ttodoApi.sync.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import point.ttodoApi.sync.application.result.DeltaSyncResult;
+import point.ttodoApi.sync.application.result.EntityChange;
+
+import java.util.List;
+
+@Schema(description = "델타 동기화 응답")
+public record DeltaSyncResponse(
+    @Schema(description = "다음 요청에 넘길 커서")
+    String cursor,
+    @Schema(description = "남은 변경 존재 여부 (true면 바로 다음 페이지 요청)", example = "false")
+    boolean hasMore,
+    @Schema(description = "전체 목록을 먼저 받아야 하는지 여부 (커서 없이 요청했거나 커서가 로그 보존 기간보다 오래된 경우)", example = "false")
+    boolean snapshotRequired,
+    @Schema(description = "엔티티별 최신 변경 (UPSERT는 행 스냅샷, PATCH는 바뀐 컬럼, DELETE는 삭제 표시)")
+    List<EntityChange> changes
+) {
+
+  public static DeltaSyncResponse from(DeltaSyncResult result) {
+    return new DeltaSyncResponse(result.cursor(), result.hasMore(), result.snapshotRequired(), result.changes());
+  }
+}
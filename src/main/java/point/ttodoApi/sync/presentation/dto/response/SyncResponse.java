@@ -1,33 +1,52 @@
 package point.ttodoApi.sync.presentation.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.util.List;
+import java.util.UUID;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SyncResponse {
     private boolean success;
     private Long serverTimestamp;
+    private String hlc;  // 서버 HLC - 클라이언트가 자기 시계에 병합
+    private boolean replayed;  // 같은 Idempotency-Key로 이미 처리된 요청에 기록된 응답을 돌려준 경우
     private List<SyncResult> results;
     private List<ConflictRecord> conflicts;
     
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class SyncResult {
+        private String tableName;
         private String localId;
-        private Integer serverId;
+        private Integer serverId;  // simple_todo 서버 ID
+        private UUID serverUuid;  // 카테고리/투두 테이블 서버 ID (임시 ID로 생성한 경우 매핑)
         private String operation;
         private boolean success;
         private String error;
+        private String hlc;  // 반영된 변경의 HLC
     }
     
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ConflictRecord {
-        private Integer id;
+        private String tableName;
+        private Integer id;  // simple_todo 서버 ID
+        private UUID recordId;  // 카테고리/투두 테이블 서버 ID
+        private String field;  // 충돌한 필드 (필드 단위 해결)
         private Object serverVersion;
         private Object clientVersion;
         private String resolution; // "server_wins", "client_wins", "merged"
+        private String serverHlc;
+        private String clientHlc;
     }
 }
\ No newline at end of file
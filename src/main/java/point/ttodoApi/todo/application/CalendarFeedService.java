@@ -0,0 +1,334 @@
+package point.ttodoApi.todo.application;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.profile.domain.Profile;
+import point.ttodoApi.profile.infrastructure.persistence.ProfileRepository;
+import point.ttodoApi.shared.exception.ResourceNotFoundException;
+import point.ttodoApi.todo.domain.CalendarFeedToken;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.TodoInstanceArchive;
+import point.ttodoApi.todo.domain.recurrence.RRuleFormatter;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.calendar.IcsTimeZone;
+import point.ttodoApi.todo.infrastructure.calendar.IcsWriter;
+import point.ttodoApi.todo.infrastructure.persistence.CalendarFeedTokenRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.*;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 캘린더 구독(ICS) 피드 서비스
+ * 반복 투두는 발생일을 전개하지 않고 RRULE 마스터 1건 + 예외 회차만 출력
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+  private static final String PRODUCT_ID = "-//ttodo//ttodo-api//KO";
+  private static final String CALENDAR_NAME = "ttodo";
+  private static final String UID_SUFFIX = "@ttodo";
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final CalendarFeedTokenRepository tokenRepository;
+  private final TodoDefinitionRepository definitionRepository;
+  private final TodoInstanceRepository instanceRepository;
+  private final TodoInstanceArchiveRepository archiveRepository;
+  private final UserRepository userRepository;
+  private final ProfileRepository profileRepository;
+  private final EntityManager entityManager;
+
+  /**
+   * 출력 컴포넌트 (VEVENT: 일정 앱, VTODO: 할 일 앱)
+   */
+  public enum Component {
+    VEVENT, VTODO
+  }
+
+  /**
+   * 피드 토큰 발급 (이미 있으면 기존 토큰 반환)
+   */
+  @Transactional
+  public String issueToken(UUID userId) {
+    return tokenRepository.findById(userId)
+        .map(CalendarFeedToken::getToken)
+        .orElseGet(() -> rotateToken(userId));
+  }
+
+  /**
+   * 피드 토큰 재발급 (기존 구독 URL 무효화)
+   */
+  @Transactional
+  public String rotateToken(UUID userId) {
+    if (!userRepository.existsById(userId)) {
+      throw new ResourceNotFoundException("User not found: " + userId);
+    }
+
+    String token = newToken();
+    tokenRepository.findById(userId).ifPresentOrElse(
+        existing -> existing.rotate(token),
+        () -> tokenRepository.save(CalendarFeedToken.builder()
+            .userId(userId)
+            .token(token)
+            .createdAt(Instant.now())
+            .build())
+    );
+    log.info("Calendar feed token issued for user: {}", userId);
+    return token;
+  }
+
+  /**
+   * 토큰으로 피드 소유자 조회
+   */
+  @Transactional(readOnly = true)
+  public UUID resolveOwner(String token) {
+    return tokenRepository.findByToken(token)
+        .map(CalendarFeedToken::getUserId)
+        .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"));
+  }
+
+  /**
+   * 피드 버전 (ETag) - 출력에 영향을 주는 입력(정의/인스턴스/카테고리 건수와 최종 수정시각, 시간대)의 SHA-256
+   */
+  @Transactional(readOnly = true)
+  public String feedVersion(UUID userId, Component component) {
+    Map<String, Object> definitions = definitionRepository.getFeedVersion(userId);
+    Map<String, Object> instances = instanceRepository.getFeedVersion(userId);
+    Map<String, Object> categories = definitionRepository.getFeedCategoryVersion(userId);
+    String source = String.join("\n",
+        component.name(),
+        String.valueOf(timeZone(userId)),
+        definitions.get("count") + ":" + definitions.get("lastModified"),
+        instances.get("count") + ":" + instances.get("lastModified"),
+        categories.get("count") + ":" + categories.get("lastModified"));
+    return "\"" + HexFormat.of().formatHex(sha256().digest(source.getBytes(StandardCharsets.UTF_8))) + "\"";
+  }
+
+  /**
+   * ICS 피드 출력 (행 단위 스트리밍, 출력한 엔티티는 즉시 detach)
+   */
+  @Transactional(readOnly = true)
+  public void writeFeed(UUID userId, Component component, OutputStream outputStream) {
+    ZoneId zone = timeZone(userId);
+    String tzid = zone != null ? zone.getId() : null;
+
+    // 반복 예외 회차는 희소하므로 정의별로 미리 묶어 둠 (보관 테이블로 옮겨진 회차도 포함)
+    Map<UUID, List<Occurrence>> exceptions = Stream.concat(
+            instanceRepository.findRecurringExceptionsForFeed(userId).stream().map(Occurrence::of),
+            archiveRepository.findRecurringExceptionsForFeed(userId).stream().map(Occurrence::of))
+        .collect(Collectors.groupingBy(Occurrence::definitionId));
+
+    IcsWriter writer = new IcsWriter(outputStream);
+    try {
+      writer.beginCalendar(PRODUCT_ID, CALENDAR_NAME);
+      if (zone != null) {
+        IcsTimeZone.write(writer, zone);
+      }
+
+      try (Stream<TodoDefinition> definitions = definitionRepository.streamRecurringForFeed(userId)) {
+        Iterator<TodoDefinition> it = definitions.iterator();
+        while (it.hasNext()) {
+          TodoDefinition definition = it.next();
+          writeSeries(writer, component, definition, exceptions.getOrDefault(definition.getId(), List.of()), tzid);
+          entityManager.detach(definition);
+        }
+      }
+
+      try (Stream<TodoInstance> instances = instanceRepository.streamSingleForFeed(userId)) {
+        Iterator<TodoInstance> it = instances.iterator();
+        while (it.hasNext()) {
+          TodoInstance instance = it.next();
+          writeSingle(writer, component, instance, tzid);
+          entityManager.detach(instance);
+        }
+      }
+
+      writer.endCalendar();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 반복 시리즈 출력 (마스터 + 제목/완료 변경 회차)
+   */
+  private void writeSeries(IcsWriter writer, Component component, TodoDefinition definition,
+                           List<Occurrence> exceptions, String tzid) throws IOException {
+    RecurrenceRule rule = usableRule(definition);
+    LocalDate start = definition.getBaseDate() != null ? definition.getBaseDate()
+        : rule != null && rule.getAnchorDate() != null ? rule.getAnchorDate()
+        : LocalDate.ofInstant(definition.getCreatedAt(), ZoneOffset.UTC);
+    LocalTime time = definition.getBaseTime();
+
+    writer.begin(component.name());
+    writer.raw("UID", definition.getId() + UID_SUFFIX);
+    writer.utc("DTSTAMP", definition.getUpdatedAt());
+    writeStart(writer, "DTSTART", start, time, tzid);
+    writer.text("SUMMARY", definition.getTitle());
+    writer.text("DESCRIPTION", definition.getDescription());
+    writeCategory(writer, definition.getCategory());
+    if (rule != null) {
+      writer.raw("RRULE", RRuleFormatter.format(rule, time == null));
+      Set<LocalDate> exDates = new TreeSet<>();
+      if (rule.getExDates() != null) exDates.addAll(rule.getExDates());
+      exceptions.stream().filter(Occurrence::deleted).map(Occurrence::occurrenceDate).forEach(exDates::add);
+      if (!exDates.isEmpty() && time == null) {
+        writer.raw("EXDATE;VALUE=DATE", RRuleFormatter.formatDates(exDates));
+      } else {
+        for (LocalDate exDate : exDates) {
+          writeStart(writer, "EXDATE", exDate, time, tzid);
+        }
+      }
+      if (rule.getRDates() != null && !rule.getRDates().isEmpty() && time == null) {
+        writer.raw("RDATE;VALUE=DATE", RRuleFormatter.formatDates(rule.getRDates()));
+      }
+    }
+    writer.end(component.name());
+
+    for (Occurrence occurrence : exceptions) {
+      if (occurrence.deleted()) continue;
+      boolean completedTodo = component == Component.VTODO && occurrence.completed();
+      boolean moved = !occurrence.occurrenceDate().equals(occurrence.dueDate());
+      if (occurrence.title() == null && !completedTodo && !moved) continue;
+
+      // RECURRENCE-ID는 규칙이 만든 원래 발생일, DTSTART는 옮겨 간 날짜
+      writer.begin(component.name());
+      writer.raw("UID", definition.getId() + UID_SUFFIX);
+      writer.utc("DTSTAMP", occurrence.updatedAt());
+      writeStart(writer, "RECURRENCE-ID", occurrence.occurrenceDate(), time, tzid);
+      writeStart(writer, "DTSTART", occurrence.dueDate(), occurrence.dueTime() != null ? occurrence.dueTime() : time, tzid);
+      writer.text("SUMMARY", occurrence.title() != null ? occurrence.title() : definition.getTitle());
+      writeStatus(writer, component, occurrence.completed(), occurrence.completedAt());
+      writer.end(component.name());
+    }
+  }
+
+  /**
+   * 1회성 투두 출력
+   */
+  private void writeSingle(IcsWriter writer, Component component, TodoInstance instance, String tzid) throws IOException {
+    writer.begin(component.name());
+    writer.raw("UID", instance.getId() + UID_SUFFIX);
+    writer.utc("DTSTAMP", instance.getUpdatedAt());
+    writeStart(writer, "DTSTART", instance.getDueDate(), instance.getDueTime(), tzid);
+    writer.text("SUMMARY", instance.getEffectiveTitle());
+    writer.text("DESCRIPTION", instance.getEffectiveDescription());
+    writeCategory(writer, instance.getEffectiveCategory());
+    writeStatus(writer, component, instance.isCompleted(), instance.getCompletedAt());
+    writer.end(component.name());
+  }
+
+  private void writeStart(IcsWriter writer, String name, LocalDate date, LocalTime time, String tzid) throws IOException {
+    if (time == null) {
+      writer.date(name, date);
+    } else {
+      // TZID는 캘린더 시작부에 출력한 VTIMEZONE을 참조
+      writer.dateTime(name, date.atTime(time), tzid);
+    }
+  }
+
+  private void writeCategory(IcsWriter writer, Category category) throws IOException {
+    if (category != null) {
+      writer.text("CATEGORIES", category.getName());
+    }
+  }
+
+  private void writeStatus(IcsWriter writer, Component component, boolean completed,
+                           LocalDateTime completedAt) throws IOException {
+    if (component != Component.VTODO) return;
+    if (completed) {
+      writer.raw("STATUS", "COMPLETED");
+      if (completedAt != null) {
+        writer.utc("COMPLETED", completedAt.atZone(ZoneId.systemDefault()).toInstant());
+      }
+    } else {
+      writer.raw("STATUS", "NEEDS-ACTION");
+    }
+  }
+
+  /**
+   * 피드 시간대 (프로필이 없거나 해석할 수 없는 시간대면 null - floating time으로 출력)
+   */
+  private ZoneId timeZone(UUID userId) {
+    String timeZone = profileRepository.findByOwnerId(userId)
+        .map(Profile::getTimeZone)
+        .orElse(null);
+    if (timeZone == null) return null;
+    try {
+      return ZoneId.of(timeZone);
+    } catch (DateTimeException e) {
+      log.warn("Ignoring unknown time zone {} for calendar feed of user {}", timeZone, userId);
+      return null;
+    }
+  }
+
+  private RecurrenceRule usableRule(TodoDefinition definition) {
+    RecurrenceRule rule = definition.getRecurrenceRule();
+    if (rule == null || rule.getFrequency() == null) {
+      // 규칙이 불완전한 정의는 단일 일정으로라도 노출
+      log.warn("Skipping RRULE for definition {}: frequency missing", definition.getId());
+      return null;
+    }
+    return rule;
+  }
+
+  /**
+   * 반복 예외 회차 (현재 테이블과 보관 테이블의 행을 같은 모양으로 다룸)
+   */
+  private record Occurrence(
+      UUID definitionId,
+      LocalDate occurrenceDate,
+      LocalDate dueDate,
+      LocalTime dueTime,
+      String title,
+      boolean completed,
+      LocalDateTime completedAt,
+      Instant updatedAt,
+      boolean deleted
+  ) {
+    static Occurrence of(TodoInstance instance) {
+      return new Occurrence(instance.getDefinition().getId(), instance.getOccurrenceDate(), instance.getDueDate(),
+          instance.getDueTime(), instance.getTitle(), instance.isCompleted(), instance.getCompletedAt(),
+          instance.getUpdatedAt(), instance.isDeleted());
+    }
+
+    static Occurrence of(TodoInstanceArchive archived) {
+      return new Occurrence(archived.getDefinitionId(), archived.getOccurrenceDate(), archived.getDueDate(),
+          archived.getDueTime(), archived.getTitle(), Boolean.TRUE.equals(archived.getCompleted()),
+          archived.getCompletedAt(), archived.getUpdatedAt(), archived.isDeleted());
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String newToken() {
+    byte[] bytes = new byte[32];
+    RANDOM.nextBytes(bytes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
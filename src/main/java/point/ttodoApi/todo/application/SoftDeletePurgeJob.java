@@ -0,0 +1,101 @@
+package point.ttodoApi.todo.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 보존 기간이 지난 소프트 삭제 행 영구 삭제 작업
+ * 짧은 배치 + 배치 사이 대기로 잠금 시간과 WAL 증가를 제한하고,
+ * 테이블별 삭제 행 수(todo.purge.rows)와 배치 시간(todo.purge.batch)을 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeletePurgeJob {
+
+  private final SoftDeletePurgeService purgeService;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${app.todo.purge.retention:P90D}")
+  private Duration retention;
+
+  @Value("${app.todo.purge.batch-size:500}")
+  private int batchSize;
+
+  @Value("${app.todo.purge.batch-pause:PT0.1S}")
+  private Duration batchPause;
+
+  @Value("${app.todo.purge.max-batches:200}")
+  private int maxBatches;
+
+  @Scheduled(cron = "${app.todo.purge.cron:0 30 4 * * *}")
+  public void run() {
+    LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+
+    // 인스턴스를 먼저 지워 정의 삭제 시 CASCADE 범위를 작게 유지
+    boolean completed = purge("todo_instances_archive", deletedBefore, purgeService::purgeArchivedInstances)
+        && purge("todo_instances", deletedBefore, purgeService::purgeInstances)
+        && purge("todo_definitions", deletedBefore, purgeService::purgeDefinitions)
+        && purge("category_collaborators", deletedBefore, purgeService::purgeCollaborators);
+
+    if (!completed) {
+      log.info("Soft-delete purge interrupted");
+    }
+  }
+
+  /**
+   * 한 테이블을 키셋 배치로 삭제 (중단되면 false)
+   */
+  private <K> boolean purge(String table, LocalDateTime deletedBefore, BatchPurge<K> batchPurge) {
+    Timer batchTimer = meterRegistry.timer("todo.purge.batch", "table", table);
+    K after = null;
+    int purged = 0;
+    int batches = 0;
+
+    while (batches < maxBatches) {
+      long start = System.nanoTime();
+      List<K> ids = batchPurge.purge(deletedBefore, after, batchSize);
+      batchTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      meterRegistry.counter("todo.purge.rows", "table", table).increment(ids.size());
+
+      purged += ids.size();
+      batches++;
+      if (ids.size() < batchSize) break;
+      after = ids.getLast();
+
+      if (!pause()) return false;
+    }
+
+    if (purged > 0) {
+      log.info("Purged {} soft-deleted rows from {} in {} batches", purged, table, batches);
+    }
+    return true;
+  }
+
+  private boolean pause() {
+    if (batchPause.isZero()) return true;
+    try {
+      Thread.sleep(batchPause);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  @FunctionalInterface
+  private interface BatchPurge<K> {
+    List<K> purge(LocalDateTime deletedBefore, K afterId, int batchSize);
+  }
+}
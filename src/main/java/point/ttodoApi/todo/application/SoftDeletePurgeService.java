@@ -0,0 +1,46 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.category.infrastructure.persistence.CategoryCollaboratorRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 소프트 삭제 행 영구 삭제
+ * 배치마다 별도 트랜잭션 (삭제한 ID를 정렬해 반환하므로 마지막 값이 다음 키셋 커서)
+ */
+@Service
+@RequiredArgsConstructor
+public class SoftDeletePurgeService {
+
+  private final TodoDefinitionRepository definitionRepository;
+  private final TodoInstanceRepository instanceRepository;
+  private final TodoInstanceArchiveRepository archiveRepository;
+  private final CategoryCollaboratorRepository collaboratorRepository;
+
+  @Transactional
+  public List<UUID> purgeArchivedInstances(LocalDateTime deletedBefore, UUID afterId, int batchSize) {
+    return archiveRepository.purgeDeletedBatch(deletedBefore, afterId, batchSize);
+  }
+
+  @Transactional
+  public List<UUID> purgeInstances(LocalDateTime deletedBefore, UUID afterId, int batchSize) {
+    return instanceRepository.purgeDeletedBatch(deletedBefore, afterId, batchSize);
+  }
+
+  @Transactional
+  public List<UUID> purgeDefinitions(LocalDateTime deletedBefore, UUID afterId, int batchSize) {
+    return definitionRepository.purgeDeletedBatch(deletedBefore, afterId, batchSize);
+  }
+
+  @Transactional
+  public List<Long> purgeCollaborators(LocalDateTime deletedBefore, Long afterId, int batchSize) {
+    return collaboratorRepository.purgeDeletedBatch(deletedBefore, afterId != null ? afterId : 0L, batchSize);
+  }
+}
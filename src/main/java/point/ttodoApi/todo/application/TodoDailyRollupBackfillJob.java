@@ -0,0 +1,53 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDailyRollupRepository;
+
+import java.util.*;
+
+/**
+ * 일간 완료 집계 백필 작업
+ * 사용자 단위로 재계산하며 사용자마다 별도 트랜잭션으로 처리
+ */
+@Slf4j
+@Component
+@Order(10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.rollup", name = "backfill-on-startup", havingValue = "true")
+public class TodoDailyRollupBackfillJob implements ApplicationRunner {
+
+  private final TodoDailyRollupRepository rollupRepository;
+  private final TodoDailyRollupService rollupService;
+
+  @Value("${app.todo.rollup.backfill-batch-size:500}")
+  private int batchSize;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    log.info("Starting todo daily rollup backfill (batch size: {})", batchSize);
+
+    UUID after = null;
+    int users = 0;
+    int days = 0;
+    List<UUID> userIds;
+    do {
+      userIds = rollupRepository.findUserIdsAfter(after, batchSize);
+      for (UUID userId : userIds) {
+        days += rollupService.rebuild(userId);
+        users++;
+      }
+      if (!userIds.isEmpty()) {
+        after = userIds.getLast();
+      }
+    } while (userIds.size() == batchSize);
+
+    log.info("Todo daily rollup backfill completed: {} users, {} days", users, days);
+  }
+}
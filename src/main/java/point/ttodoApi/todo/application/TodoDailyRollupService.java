@@ -0,0 +1,167 @@
+package point.ttodoApi.todo.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDailyRollupRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 일간 완료 집계 서비스
+ * 인스턴스 생성/완료/완료취소/삭제 시 호출자 트랜잭션 안에서 증분 반영.
+ * 집계는 파생 데이터이므로 음수로 내려갈 어긋남이 있어도 원본 쓰기를 실패시키지 않고,
+ * 어긋남을 기록(todo.rollup.drift)한 뒤 커밋 후 별도 트랜잭션에서 원본 인스턴스로 다시 계산
+ */
+@Slf4j
+@Service
+public class TodoDailyRollupService {
+
+  private final TodoDailyRollupRepository rollupRepository;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate repairTransaction;
+
+  public TodoDailyRollupService(TodoDailyRollupRepository rollupRepository, MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager) {
+    this.rollupRepository = rollupRepository;
+    this.meterRegistry = meterRegistry;
+    this.repairTransaction = new TransactionTemplate(transactionManager);
+    this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 날짜 범위 완료 집계 조회
+   */
+  @Transactional(readOnly = true)
+  public List<Map<String, Object>> getCompletionStats(UUID userId, LocalDate startDate, LocalDate endDate) {
+    return rollupRepository.findCompletionStats(userId, startDate, endDate);
+  }
+
+  /**
+   * 인스턴스 추가 (생성/복구)
+   */
+  @Transactional
+  public void recordAdded(TodoInstance instance) {
+    if (instance.isCompleted()) {
+      applyDelta(instance.getOwner().getId(), instance.getDueDate(), 1, 0);
+    } else {
+      applyDelta(instance.getOwner().getId(), instance.getDueDate(), 0, 1);
+    }
+  }
+
+  /**
+   * 인스턴스 제거 (소프트 삭제)
+   */
+  @Transactional
+  public void recordRemoved(TodoInstance instance) {
+    if (instance.isCompleted()) {
+      applyDelta(instance.getOwner().getId(), instance.getDueDate(), -1, 0);
+    } else {
+      applyDelta(instance.getOwner().getId(), instance.getDueDate(), 0, -1);
+    }
+  }
+
+  /**
+   * 완료 처리
+   */
+  @Transactional
+  public void recordCompleted(TodoInstance instance) {
+    applyDelta(instance.getOwner().getId(), instance.getDueDate(), 1, -1);
+  }
+
+  /**
+   * 완료 취소
+   */
+  @Transactional
+  public void recordUncompleted(TodoInstance instance) {
+    applyDelta(instance.getOwner().getId(), instance.getDueDate(), -1, 1);
+  }
+
+  /**
+   * 날짜별 증분 직접 반영 (일괄 작업에서 날짜별로 합산한 값)
+   * 차감할 행이 없거나 음수로 내려가면 반영하지 않고 그 날짜를 커밋 후 재계산
+   */
+  @Transactional
+  public void applyDelta(UUID userId, LocalDate date, int completedDelta, int pendingDelta) {
+    if (completedDelta == 0 && pendingDelta == 0) return;
+    int rows = completedDelta >= 0 && pendingDelta >= 0
+        ? rollupRepository.addDelta(userId, date, completedDelta, pendingDelta)
+        : rollupRepository.applyDeltaIfNonNegative(userId, date, completedDelta, pendingDelta);
+    if (rows == 0) {
+      log.warn("Daily rollup drift for user {} on {} (delta {}/{}); rebuilding the day after commit",
+          userId, date, completedDelta, pendingDelta);
+      repairAfterCommit(() -> {
+        rollupRepository.lockDay(userId, date);
+        rollupRepository.rebuildDay(userId, date);
+      });
+    }
+  }
+
+  /**
+   * 마감일 변경
+   */
+  @Transactional
+  public void recordMoved(TodoInstance instance, LocalDate previousDueDate) {
+    if (previousDueDate == null || previousDueDate.equals(instance.getDueDate())) return;
+
+    int completed = instance.isCompleted() ? 1 : 0;
+    int pending = 1 - completed;
+    applyDelta(instance.getOwner().getId(), previousDueDate, -completed, -pending);
+    applyDelta(instance.getOwner().getId(), instance.getDueDate(), completed, pending);
+  }
+
+  /**
+   * 정의 삭제 (살아있는 인스턴스 일괄 차감, 인스턴스 소프트 삭제 전에 호출)
+   */
+  @Transactional
+  public void recordDefinitionRemoved(UUID definitionId) {
+    List<UUID> drifted = rollupRepository.subtractDefinition(definitionId);
+    for (UUID userId : drifted) {
+      log.warn("Daily rollup drift for user {} removing definition {}; rebuilding after commit", userId, definitionId);
+      repairAfterCommit(() -> rebuild(userId));
+    }
+    log.debug("Rollup subtracted for definition: {}", definitionId);
+  }
+
+  /**
+   * 사용자 집계 재계산
+   */
+  @Transactional
+  public int rebuild(UUID userId) {
+    rollupRepository.deleteByUserId(userId);
+    return rollupRepository.rebuildForUser(userId);
+  }
+
+  /**
+   * 어긋남 기록 후 커밋되면 별도 트랜잭션에서 재계산 (롤백되면 원본도 바뀌지 않았으므로 생략)
+   * 재계산 실패는 이미 커밋된 요청을 실패로 만들지 않고 다음 어긋남 감지나 백필에 맡김
+   */
+  private void repairAfterCommit(Runnable repair) {
+    meterRegistry.counter("todo.rollup.drift").increment();
+    Runnable guarded = () -> {
+      try {
+        repairTransaction.executeWithoutResult(status -> repair.run());
+      } catch (RuntimeException e) {
+        log.warn("Failed to rebuild drifted daily rollup", e);
+      }
+    };
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      guarded.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        guarded.run();
+      }
+    });
+  }
+}
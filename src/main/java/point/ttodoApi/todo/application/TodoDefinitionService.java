@@ -1,6 +1,5 @@
 package point.ttodoApi.todo.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -14,11 +13,20 @@ import point.ttodoApi.todo.application.command.CreateTodoDefinitionCommand;
 import point.ttodoApi.todo.application.command.UpdateTodoDefinitionCommand;
 import point.ttodoApi.todo.domain.TodoDefinition;
 import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.EndCondition;
+import point.ttodoApi.todo.domain.recurrence.EndConditionType;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceEngine;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture.InstanceRef;
 import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
 import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
 import point.ttodoApi.user.domain.User;
 import point.ttodoApi.user.infrastructure.persistence.UserRepository;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -33,7 +41,11 @@ public class TodoDefinitionService {
   private final TodoInstanceRepository instanceRepository;
   private final CategoryRepository categoryRepository;
   private final UserRepository userRepository;
-  private final ObjectMapper objectMapper;
+  private final TodoDailyRollupService rollupService;
+  private final TodoScheduleService scheduleService;
+  private final TodoRankService rankService;
+  private final RecurrenceRuleJsonConverter ruleConverter;
+  private final TodoMutationCapture mutationCapture;
 
   /**
    * 투두 정의 생성
@@ -45,11 +57,7 @@ public class TodoDefinitionService {
     User owner = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
 
-    Category category = null;
-    if (command.getCategoryId() != null) {
-      category = categoryRepository.findById(command.getCategoryId())
-          .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + command.getCategoryId()));
-    }
+    Category category = command.getCategoryId() != null ? usableCategory(owner, command.getCategoryId()) : null;
 
     // 정의 생성
     TodoDefinition definition = TodoDefinition.builder()
@@ -58,7 +66,7 @@ public class TodoDefinitionService {
         .priorityId(command.getPriorityId())
         .category(category)
         .tags(command.getTags() != null ? new HashSet<>(command.getTags()) : new HashSet<>())
-        .recurrenceRule(command.getRecurrenceRule())
+        .recurrenceRule(ruleConverter.parse(command.getRecurrenceRule()))
         .baseDate(command.getBaseDate())
         .baseTime(command.getBaseTime())
         .isCollaborative(command.getIsCollaborative() != null ? command.getIsCollaborative() : false)
@@ -70,6 +78,7 @@ public class TodoDefinitionService {
 
     // 인스턴스 생성
     createInstances(definition, command);
+    scheduleService.refresh(definition);
 
     return definition;
   }
@@ -93,9 +102,9 @@ public class TodoDefinitionService {
 
     // 카테고리 업데이트
     if (command.getCategoryId() != null) {
-      Category category = categoryRepository.findById(command.getCategoryId())
-          .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + command.getCategoryId()));
-      definition.setCategory(category);
+      definition.setCategory(usableCategory(owner, command.getCategoryId()));
+    } else if (command.clears("categoryId")) {
+      definition.setCategory(null);
     }
 
     // 필드 업데이트
@@ -104,26 +113,39 @@ public class TodoDefinitionService {
     }
     if (command.getDescription() != null) {
       definition.setDescription(command.getDescription());
+    } else if (command.clears("description")) {
+      definition.setDescription(null);
     }
     if (command.getPriorityId() != null) {
       definition.setPriorityId(command.getPriorityId());
+    } else if (command.clears("priorityId")) {
+      definition.setPriorityId(null);
     }
     if (command.getTags() != null) {
       definition.setTags(new HashSet<>(command.getTags()));
+    } else if (command.clears("tags")) {
+      definition.setTags(new HashSet<>());
     }
     if (command.getRecurrenceRule() != null) {
-      definition.setRecurrenceRule(command.getRecurrenceRule());
+      definition.setRecurrenceRule(ruleConverter.parse(command.getRecurrenceRule()));
     }
     if (command.getBaseDate() != null) {
       definition.setBaseDate(command.getBaseDate());
     }
     if (command.getBaseTime() != null) {
       definition.setBaseTime(command.getBaseTime());
+    } else if (command.clears("baseTime")) {
+      definition.setBaseTime(null);
     }
     if (command.getIsCollaborative() != null) {
       definition.setIsCollaborative(command.getIsCollaborative());
     }
 
+    // 규칙/기준일이 바뀌면 next/last 발생일 재계산
+    if (command.getRecurrenceRule() != null || command.getBaseDate() != null) {
+      scheduleService.refresh(definition);
+    }
+
     definition = definitionRepository.save(definition);
     log.debug("Todo definition updated: {}", definitionId);
 
@@ -152,12 +174,18 @@ public class TodoDefinitionService {
       throw new IllegalStateException("User cannot delete this definition");
     }
 
+    // 집계 차감 (인스턴스 소프트 삭제 전)
+    rollupService.recordDefinitionRemoved(definition.getId());
+
     // 소프트 삭제
     definition.softDelete();
     definitionRepository.save(definition);
 
-    // 관련 인스턴스들도 소프트 삭제
-    instanceRepository.softDeleteByDefinition(definition, LocalDateTime.now());
+    // 관련 인스턴스들도 소프트 삭제 (네이티브 UPDATE라 변경 로그는 직접 기록)
+    List<InstanceRef> deleted = instanceRepository.softDeleteByDefinition(definition.getId(), LocalDateTime.now()).stream()
+        .map(i -> new InstanceRef(i.getId(), i.getDefinitionId(), i.getUserId()))
+        .toList();
+    mutationCapture.instancesChanged(deleted, TodoMutation.DELETE, Map.of());
 
     log.info("Todo definition soft deleted: {}", definitionId);
   }
@@ -261,9 +289,11 @@ public class TodoDefinitionService {
         .owner(definition.getOwner())
         .dueDate(dueDate != null ? dueDate : LocalDate.now())
         .dueTime(dueTime)
+        .rankKey(rankService.nextKey(definition.getOwner().getId()))
         .build();
 
     instanceRepository.save(instance);
+    rollupService.recordAdded(instance);
     log.debug("Single instance created for definition: {}", definition.getId());
   }
 
@@ -271,50 +301,53 @@ public class TodoDefinitionService {
    * 반복 인스턴스 생성
    */
   private void createRecurringInstances(TodoDefinition definition, CreateTodoDefinitionCommand command) {
-    // 반복 규칙 파싱 및 인스턴스 생성 로직
-    // RFC 5545 기반 구현 필요
-    try {
-      Map<String, Object> rule = objectMapper.readValue(definition.getRecurrenceRule(), Map.class);
-      String frequency = (String) rule.get("frequency");
-      Integer interval = (Integer) rule.getOrDefault("interval", 1);
-      Integer count = (Integer) rule.getOrDefault("count", 10); // 기본 10회
-
-      LocalDate startDate = command.getBaseDate() != null ? command.getBaseDate() : LocalDate.now();
-      LocalTime startTime = command.getBaseTime();
-
-      for (int i = 0; i < count; i++) {
-        LocalDate instanceDate = calculateNextDate(startDate, frequency, interval * i);
-
-        TodoInstance instance = TodoInstance.builder()
-            .definition(definition)
-            .sequenceNumber(i + 1)
-            .owner(definition.getOwner())
-            .dueDate(instanceDate)
-            .dueTime(startTime)
-            .build();
-
-        instanceRepository.save(instance);
-      }
-
-      log.debug("Created {} recurring instances for definition: {}", count, definition.getId());
-    } catch (Exception e) {
-      log.error("Failed to parse recurrence rule: {}", definition.getRecurrenceRule(), e);
-      // 실패 시 단일 인스턴스라도 생성
+    // 반복 규칙 기반 인스턴스 생성 (RFC 5545 전개는 RecurrenceEngine 담당 - next/last_due_date와 같은 전개)
+    List<LocalDate> dates = occurrenceDates(definition);
+    if (dates.isEmpty()) {
+      // 규칙을 전개할 수 없으면 단일 인스턴스라도 생성
       createSingleInstance(definition, command.getBaseDate(), command.getBaseTime());
+      return;
     }
+
+    // 저장 실패(DB 오류)는 트랜잭션이 롤백 전용이 되므로 잡지 않고 그대로 전파
+    List<String> rankKeys = rankService.nextKeys(definition.getOwner().getId(), dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      TodoInstance instance = TodoInstance.builder()
+          .definition(definition)
+          .sequenceNumber(i + 1)
+          .owner(definition.getOwner())
+          .dueDate(dates.get(i))
+          .dueTime(command.getBaseTime())
+          .rankKey(rankKeys.get(i))
+          .build();
+
+      instanceRepository.save(instance);
+      rollupService.recordAdded(instance);
+    }
+
+    log.debug("Created {} recurring instances for definition: {}", dates.size(), definition.getId());
   }
 
   /**
-   * 다음 날짜 계산
+   * 생성할 회차 날짜 - 시리즈 기준일부터 COUNT회(없으면 기본 10회), UNTIL 이후는 제외
+   * (규칙을 전개할 수 없으면 빈 목록)
    */
-  private LocalDate calculateNextDate(LocalDate baseDate, String frequency, int offset) {
-    return switch (frequency.toUpperCase()) {
-      case "DAILY" -> baseDate.plusDays(offset);
-      case "WEEKLY" -> baseDate.plusWeeks(offset);
-      case "MONTHLY" -> baseDate.plusMonths(offset);
-      case "YEARLY" -> baseDate.plusYears(offset);
-      default -> baseDate.plusDays(offset);
-    };
+  private List<LocalDate> occurrenceDates(TodoDefinition definition) {
+    RecurrenceRule rule = definition.getRecurrenceRule();
+    EndCondition end = rule.getEndCondition();
+    int count = end != null && end.getType() == EndConditionType.COUNT && end.getCount() != null
+        ? end.getCount() : 10; // 기본 10회
+
+    try {
+      List<LocalDate> dates = RecurrenceEngine.firstOccurrences(rule, definition.getSeriesAnchor(), count);
+      if (dates.isEmpty()) {
+        log.warn("Recurrence rule yields no occurrences; creating a single instance: {}", rule);
+      }
+      return dates;
+    } catch (DateTimeException e) {
+      log.error("Failed to expand recurrence rule: {}", rule, e);
+      return List.of();
+    }
   }
 
   /**
@@ -354,4 +387,16 @@ public class TodoDefinitionService {
 
     return definitionRepository.getStatsByOwner(owner);
   }
-}
\ No newline at end of file
+
+  /**
+   * 사용자가 쓸 수 있는 카테고리 (소유자 또는 수락한 협업자)
+   */
+  private Category usableCategory(User user, UUID categoryId) {
+    Category category = categoryRepository.findById(categoryId)
+        .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryId));
+    if (!category.isCollaborator(user)) {
+      throw new IllegalStateException("User cannot use this category");
+    }
+    return category;
+  }
+}
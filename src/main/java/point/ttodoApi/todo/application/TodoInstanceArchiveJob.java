@@ -0,0 +1,56 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 완료/삭제 인스턴스 보관 작업
+ * todo_instances와 부분 인덱스 크기를 일정하게 유지 (조회는 todo_instances_all 뷰로 보관분 포함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TodoInstanceArchiveJob {
+
+  private final TodoInstanceArchiveService archiveService;
+
+  @Value("${app.todo.archive.completed-after:P365D}")
+  private Duration completedAfter;
+
+  @Value("${app.todo.archive.deleted-after:P30D}")
+  private Duration deletedAfter;
+
+  @Value("${app.todo.archive.batch-size:1000}")
+  private int batchSize;
+
+  @Value("${app.todo.archive.max-batches:100}")
+  private int maxBatches;
+
+  @Scheduled(cron = "${app.todo.archive.cron:0 0 4 * * *}")
+  public void run() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime completedBefore = now.minus(completedAfter);
+    LocalDateTime deletedBefore = now.minus(deletedAfter);
+
+    int archived = 0;
+    int batches = 0;
+    int moved;
+    do {
+      moved = archiveService.archiveBatch(completedBefore, deletedBefore, batchSize);
+      archived += moved;
+      batches++;
+    } while (moved == batchSize && batches < maxBatches);
+
+    if (archived > 0) {
+      log.info("Archived {} todo instances in {} batches", archived, batches);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 인스턴스 보관 처리
+ * 배치마다 별도 트랜잭션으로 이동해 잠금 시간과 WAL 증가를 작게 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoInstanceArchiveService {
+
+  private final TodoInstanceArchiveRepository archiveRepository;
+
+  /**
+   * 한 배치 이동 (이동한 행 수 반환)
+   */
+  @Transactional
+  public int archiveBatch(LocalDateTime completedBefore, LocalDateTime deletedBefore, int batchSize) {
+    // 보관 이동은 삭제가 아니므로 변경 로그에 남기지 않음 (네이티브 이동이라 캡처되지 않음)
+    return archiveRepository.archiveBatch(completedBefore, deletedBefore, batchSize);
+  }
+}
@@ -0,0 +1,317 @@
+package point.ttodoApi.todo.application;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.experience.application.event.TodosCompletedEvent;
+import point.ttodoApi.experience.application.event.TodosUncompletedEvent;
+import point.ttodoApi.shared.exception.ResourceNotFoundException;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.application.result.BulkTodoInstanceResult;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture.InstanceRef;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 여러 인스턴스 일괄 작업
+ * 대상 행을 잠근 채 이전 상태를 읽고, 소유자 조건이 포함된 단일 UPDATE로 반영한 뒤
+ * 실제로 바뀐 행만 결과에 포함하고, 그 행들에 대해서만 일간 집계/다음 발생일은 한 번에 합산해 반영하고 변경 로그에 기록.
+ * 완료/완료 취소 경험치 이벤트도 바뀐 행에 대해서만 같은 트랜잭션에서 발행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoInstanceBulkService {
+
+  public static final int MAX_BULK_SIZE = 500;
+
+  private final TodoInstanceRepository instanceRepository;
+  private final TodoDefinitionRepository definitionRepository;
+  private final UserRepository userRepository;
+  private final CategoryRepository categoryRepository;
+  private final TodoDailyRollupService rollupService;
+  private final TodoScheduleService scheduleService;
+  private final TodoMutationCapture mutationCapture;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 일괄 작업 실행 (없거나 권한이 없거나 이미 해당 상태인 인스턴스는 건너뜀)
+   */
+  @Transactional
+  public BulkTodoInstanceResult execute(UUID userId, BulkTodoInstanceCommand command) {
+    Operation operation = command.getOperation();
+    if (operation == null) {
+      throw new IllegalArgumentException("Bulk operation is required");
+    }
+    List<UUID> ids = command.getInstanceIds() == null ? List.of()
+        : command.getInstanceIds().stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty()) {
+      throw new IllegalArgumentException("Instance ids must not be empty");
+    }
+    if (ids.size() > MAX_BULK_SIZE) {
+      throw new IllegalArgumentException("Too many instance ids: " + ids.size() + " (max " + MAX_BULK_SIZE + ")");
+    }
+
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
+
+    // UPDATE 전에 이전 상태를 값으로 복사 (UPDATE가 영속성 컨텍스트를 비움)
+    List<Target> targets = instanceRepository.findForBulkUpdate(ids, userId).stream()
+        .map(Target::of)
+        .toList();
+
+    List<Target> affected = switch (operation) {
+      case COMPLETE -> complete(userId, targets);
+      case UNCOMPLETE -> uncomplete(userId, targets);
+      case DELETE -> delete(userId, targets);
+      case RESTORE -> restore(userId, targets);
+      case PIN -> pin(userId, targets, command.getPinned() == null || command.getPinned());
+      case MOVE_DATE -> moveDate(userId, targets, command.getDueDate());
+      case RECATEGORIZE -> recategorize(user, targets, command.getCategoryId());
+    };
+
+    List<UUID> affectedIds = affected.stream().map(Target::id).toList();
+    Set<UUID> affectedSet = new HashSet<>(affectedIds);
+    List<UUID> skippedIds = ids.stream().filter(id -> !affectedSet.contains(id)).toList();
+
+    log.info("Bulk {} for user {}: {} affected, {} skipped", operation, userId, affectedIds.size(), skippedIds.size());
+    return new BulkTodoInstanceResult(operation, ids.size(), affectedIds, skippedIds);
+  }
+
+  private List<Target> complete(UUID userId, List<Target> targets) {
+    List<Target> eligible = filter(targets, t -> !t.deleted() && !t.completed());
+    if (eligible.isEmpty()) return eligible;
+
+    LocalDateTime completedAt = LocalDateTime.now();
+    Instant now = Instant.now();
+    eligible = applied(Operation.COMPLETE, eligible,
+        instanceRepository.bulkComplete(idsOf(eligible), userId, completedAt, now));
+    captureChanged(userId, eligible, TodoMutation.STATUS_CHANGE,
+        columns("completed", true, "completed_at", completedAt, "updated_at", now));
+
+    applyRollup(userId, eligible, t -> new int[]{1, -1});
+    forEachRecurring(eligible, scheduleService::recordCompleted);
+    if (!eligible.isEmpty()) {
+      eventPublisher.publishEvent(new TodosCompletedEvent(userId, idsOf(eligible)));
+    }
+    return eligible;
+  }
+
+  private List<Target> uncomplete(UUID userId, List<Target> targets) {
+    List<Target> eligible = filter(targets, t -> !t.deleted() && t.completed());
+    if (eligible.isEmpty()) return eligible;
+
+    Instant now = Instant.now();
+    eligible = applied(Operation.UNCOMPLETE, eligible,
+        instanceRepository.bulkUncomplete(idsOf(eligible), userId, now));
+    captureChanged(userId, eligible, TodoMutation.STATUS_CHANGE,
+        columns("completed", false, "completed_at", null, "updated_at", now));
+
+    applyRollup(userId, eligible, t -> new int[]{-1, 1});
+    forEachRecurring(eligible, scheduleService::recordUncompleted);
+    if (!eligible.isEmpty()) {
+      eventPublisher.publishEvent(new TodosUncompletedEvent(userId, idsOf(eligible)));
+    }
+    return eligible;
+  }
+
+  private List<Target> delete(UUID userId, List<Target> targets) {
+    List<Target> eligible = filter(targets, t -> !t.deleted());
+    if (eligible.isEmpty()) return eligible;
+
+    eligible = applied(Operation.DELETE, eligible,
+        instanceRepository.bulkSoftDelete(idsOf(eligible), userId, LocalDateTime.now(), Instant.now()));
+    captureChanged(userId, eligible, TodoMutation.DELETE, Map.of());
+
+    applyRollup(userId, eligible, t -> t.completed() ? new int[]{-1, 0} : new int[]{0, -1});
+    forEachRecurring(eligible, scheduleService::recordCompleted);  // 삭제된 회차도 닫힌 회차
+    return eligible;
+  }
+
+  private List<Target> restore(UUID userId, List<Target> targets) {
+    List<Target> eligible = filter(targets, Target::deleted);
+    if (eligible.isEmpty()) return eligible;
+
+    eligible = applied(Operation.RESTORE, eligible,
+        instanceRepository.bulkRestore(idsOf(eligible), userId, Instant.now()));
+    // 클라이언트가 삭제된 행을 버렸을 수 있으므로 복구는 전체 행을 기록
+    if (!eligible.isEmpty()) {
+      mutationCapture.rowsChanged(instanceRepository.findAllById(idsOf(eligible)), TodoMutation.RESTORE);
+    }
+
+    applyRollup(userId, eligible, t -> t.completed() ? new int[]{1, 0} : new int[]{0, 1});
+    forEachRecurring(filter(eligible, t -> !t.completed()), scheduleService::recordUncompleted);
+    return eligible;
+  }
+
+  private List<Target> pin(UUID userId, List<Target> targets, boolean pinned) {
+    List<Target> eligible = filter(targets, t -> !t.deleted() && t.pinned() != pinned);
+    if (eligible.isEmpty()) return eligible;
+
+    Instant now = Instant.now();
+    eligible = applied(Operation.PIN, eligible,
+        instanceRepository.bulkSetPinned(idsOf(eligible), userId, pinned, now));
+    captureChanged(userId, eligible, TodoMutation.UPDATE, columns("is_pinned", pinned, "updated_at", now));
+    return eligible;
+  }
+
+  private List<Target> moveDate(UUID userId, List<Target> targets, LocalDate dueDate) {
+    if (dueDate == null) {
+      throw new IllegalArgumentException("Due date is required for MOVE_DATE");
+    }
+    List<Target> eligible = filter(targets, t -> !t.deleted() && !dueDate.equals(t.dueDate()));
+    if (eligible.isEmpty()) return eligible;
+
+    Instant now = Instant.now();
+    eligible = applied(Operation.MOVE_DATE, eligible,
+        instanceRepository.bulkMoveDueDate(idsOf(eligible), userId, dueDate, now));
+    captureChanged(userId, eligible, TodoMutation.UPDATE, columns("due_date", dueDate, "updated_at", now));
+
+    // 이전 날짜에서 빼고 새 날짜에 더함
+    applyRollup(userId, eligible, t -> t.completed() ? new int[]{-1, 0} : new int[]{0, -1});
+    int completed = (int) eligible.stream().filter(Target::completed).count();
+    rollupService.applyDelta(userId, dueDate, completed, eligible.size() - completed);
+    return eligible;
+  }
+
+  private List<Target> recategorize(User user, List<Target> targets, UUID categoryId) {
+    Category category = null;
+    if (categoryId != null) {
+      category = categoryRepository.findById(categoryId)
+          .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryId));
+      if (!category.isCollaborator(user)) {
+        throw new IllegalStateException("User cannot use this category");
+      }
+    }
+    List<Target> eligible = filter(targets, t -> !t.deleted());
+    if (eligible.isEmpty()) return eligible;
+
+    Instant now = Instant.now();
+    UUID newCategoryId = category == null ? null : category.getId();
+    eligible = applied(Operation.RECATEGORIZE, eligible,
+        instanceRepository.bulkSetCategory(idsOf(eligible), user.getId(), newCategoryId, now));
+    captureChanged(user.getId(), eligible, TodoMutation.UPDATE,
+        columns("category_id", newCategoryId, "updated_at", now));
+    return eligible;
+  }
+
+  /**
+   * 날짜별로 합산한 뒤 날짜당 한 번만 집계 반영 ([완료 증분, 미완료 증분])
+   */
+  private void applyRollup(UUID userId, List<Target> targets, Function<Target, int[]> delta) {
+    Map<LocalDate, int[]> byDate = new TreeMap<>();
+    for (Target target : targets) {
+      int[] d = delta.apply(target);
+      int[] sum = byDate.computeIfAbsent(target.dueDate(), k -> new int[2]);
+      sum[0] += d[0];
+      sum[1] += d[1];
+    }
+    byDate.forEach((date, sum) -> rollupService.applyDelta(userId, date, sum[0], sum[1]));
+  }
+
+  /**
+   * 반복 정의별로 회차의 원래 발생일을 모아 다음 발생일 갱신 (UPDATE 후 정의를 다시 읽어 관리 상태로 반영)
+   */
+  private void forEachRecurring(List<Target> targets, ScheduleUpdate update) {
+    Map<UUID, List<LocalDate>> datesByDefinition = new HashMap<>();
+    for (Target target : targets) {
+      if (target.recurring()) {
+        datesByDefinition.computeIfAbsent(target.definitionId(), k -> new ArrayList<>()).add(target.occurrenceDate());
+      }
+    }
+    if (datesByDefinition.isEmpty()) return;
+
+    for (TodoDefinition definition : definitionRepository.findAllById(datesByDefinition.keySet())) {
+      update.apply(definition, datesByDefinition.get(definition.getId()));
+    }
+  }
+
+  /**
+   * 일괄 UPDATE는 엔티티 이벤트가 없으므로 바뀐 컬럼을 직접 변경 로그에 기록
+   */
+  private void captureChanged(UUID userId, List<Target> targets, String type, Map<String, @Nullable Object> columns) {
+    mutationCapture.instancesChanged(
+        targets.stream().map(t -> new InstanceRef(t.id(), t.definitionId(), userId)).toList(), type, columns);
+  }
+
+  private static Map<String, @Nullable Object> columns(@Nullable Object... columnsAndValues) {
+    Map<String, @Nullable Object> columns = new LinkedHashMap<>();
+    for (int i = 0; i < columnsAndValues.length; i += 2) {
+      columns.put((String) columnsAndValues[i], columnsAndValues[i + 1]);
+    }
+    return columns;
+  }
+
+  /**
+   * UPDATE가 실제로 바꾼 행만 남김 (잠금 조회한 엔티티는 이전 상태이므로 영속성 컨텍스트도 비움)
+   */
+  private List<Target> applied(Operation operation, List<Target> eligible, List<UUID> updatedIds) {
+    entityManager.clear();
+    if (updatedIds.size() == eligible.size()) return eligible;
+
+    log.warn("Bulk {} updated {} rows, expected {}", operation, updatedIds.size(), eligible.size());
+    Set<UUID> updated = new HashSet<>(updatedIds);
+    return filter(eligible, t -> updated.contains(t.id()));
+  }
+
+  private static List<Target> filter(List<Target> targets, Predicate<Target> predicate) {
+    return targets.stream().filter(predicate).toList();
+  }
+
+  private static List<UUID> idsOf(List<Target> targets) {
+    return targets.stream().map(Target::id).toList();
+  }
+
+  @FunctionalInterface
+  private interface ScheduleUpdate {
+    void apply(TodoDefinition definition, Collection<LocalDate> occurrenceDates);
+  }
+
+  /**
+   * 잠금 조회 시점의 인스턴스 상태
+   */
+  private record Target(
+      UUID id,
+      UUID definitionId,
+      LocalDate dueDate,
+      LocalDate occurrenceDate,
+      boolean completed,
+      boolean deleted,
+      boolean pinned,
+      boolean recurring
+  ) {
+    static Target of(TodoInstance instance) {
+      return new Target(
+          instance.getId(),
+          instance.getDefinition().getId(),
+          instance.getDueDate(),
+          instance.getOccurrenceDate(),
+          instance.isCompleted(),
+          instance.isDeleted(),
+          Boolean.TRUE.equals(instance.getIsPinned()),
+          instance.getDefinition().isRecurring()
+      );
+    }
+  }
+}
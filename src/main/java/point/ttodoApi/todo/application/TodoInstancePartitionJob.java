@@ -0,0 +1,37 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+
+/**
+ * todo_instances 월별 파티션 사전 생성 작업
+ * 파티션이 없는 달의 행은 기본 파티션에 쌓이므로 미리 만들어 둠 (V2.8 ensure_todo_instance_partitions)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.partition", name = "maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class TodoInstancePartitionJob {
+
+  private final TodoInstanceRepository instanceRepository;
+
+  @Value("${app.todo.partition.months-ahead:12}")
+  private int monthsAhead;
+
+  @Scheduled(cron = "${app.todo.partition.cron:0 30 3 * * *}")
+  public void run() {
+    try {
+      int created = instanceRepository.ensurePartitions(monthsAhead);
+      if (created > 0) {
+        log.info("Created {} todo_instances partitions ({} months ahead)", created, monthsAhead);
+      }
+    } catch (Exception e) {
+      log.warn("Todo instance partition maintenance failed", e);
+    }
+  }
+}
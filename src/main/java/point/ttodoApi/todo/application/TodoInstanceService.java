@@ -2,23 +2,24 @@ package point.ttodoApi.todo.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import point.ttodoApi.category.domain.Category;
 import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
-import point.ttodoApi.experience.application.event.TodoCompletedEvent;
-import point.ttodoApi.experience.application.event.TodoUncompletedEvent;
+import point.ttodoApi.experience.application.event.TodosCompletedEvent;
+import point.ttodoApi.experience.application.event.TodosUncompletedEvent;
 import point.ttodoApi.shared.exception.ResourceNotFoundException;
 import point.ttodoApi.todo.application.command.UpdateTodoInstanceCommand;
+import point.ttodoApi.todo.domain.TodoDefinition;
 import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
 import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
 import point.ttodoApi.user.domain.User;
 import point.ttodoApi.user.infrastructure.persistence.UserRepository;
 
-import org.springframework.context.ApplicationEventPublisher;
-
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -29,8 +30,12 @@ import java.util.*;
 public class TodoInstanceService {
 
   private final TodoInstanceRepository instanceRepository;
+  private final TodoDefinitionRepository definitionRepository;
   private final UserRepository userRepository;
   private final CategoryRepository categoryRepository;
+  private final TodoDailyRollupService rollupService;
+  private final TodoScheduleService scheduleService;
+  private final TodoRankService rankService;
   private final ApplicationEventPublisher eventPublisher;
 
   /**
@@ -95,17 +100,6 @@ public class TodoInstanceService {
     return instanceRepository.findUpcomingInstances(owner, LocalDate.now(), pageable);
   }
 
-  /**
-   * 완료된 인스턴스 조회
-   */
-  @Transactional(readOnly = true)
-  public Page<TodoInstance> getCompletedInstances(UUID userId, Pageable pageable) {
-    User owner = userRepository.findById(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-
-    return instanceRepository.findCompletedInstances(owner, pageable);
-  }
-
   /**
    * 고정된 인스턴스 조회
    */
@@ -135,30 +129,45 @@ public class TodoInstanceService {
     }
 
     // 오버라이드 필드 업데이트
+    // 오버라이드 필드는 비우면 정의 값을 따름
     if (command.getTitle() != null) {
       instance.setTitle(command.getTitle());
+    } else if (command.clears("title")) {
+      instance.setTitle(null);
     }
     if (command.getDescription() != null) {
       instance.setDescription(command.getDescription());
+    } else if (command.clears("description")) {
+      instance.setDescription(null);
     }
     if (command.getPriorityId() != null) {
       instance.setPriorityId(command.getPriorityId());
+    } else if (command.clears("priorityId")) {
+      instance.setPriorityId(null);
     }
     if (command.getCategoryId() != null) {
-      Category category = categoryRepository.findById(command.getCategoryId())
-          .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + command.getCategoryId()));
-      instance.setCategory(category);
+      instance.setCategory(usableCategory(user, command.getCategoryId()));
+    } else if (command.clears("categoryId")) {
+      instance.setCategory(null);
     }
     if (command.getTags() != null) {
       instance.setTags(new HashSet<>(command.getTags()));
+    } else if (command.clears("tags")) {
+      instance.setTags(null);
     }
 
     // 인스턴스 고유 필드 업데이트
     if (command.getDueDate() != null) {
-      instance.setDueDate(command.getDueDate());
+      LocalDate previousDueDate = instance.getDueDate();
+      instance.moveTo(command.getDueDate());
+      if (!instance.isDeleted()) {
+        rollupService.recordMoved(instance, previousDueDate);
+      }
     }
     if (command.getDueTime() != null) {
       instance.setDueTime(command.getDueTime());
+    } else if (command.clears("dueTime")) {
+      instance.setDueTime(null);
     }
     if (command.getIsPinned() != null) {
       instance.setIsPinned(command.getIsPinned());
@@ -192,13 +201,11 @@ public class TodoInstanceService {
 
     instance.markComplete();
     instance = instanceRepository.save(instance);
-
-    // 경험치 이벤트 발행
-    eventPublisher.publishEvent(new TodoCompletedEvent(
-        user.getId(),
-        instance.getId(),
-        instance.getEffectivePriorityId()
-    ));
+    if (!instance.isDeleted()) {
+      rollupService.recordCompleted(instance);
+    }
+    scheduleService.recordCompleted(instance);
+    eventPublisher.publishEvent(new TodosCompletedEvent(userId, List.of(instanceId)));
 
     log.info("Todo instance completed: {}", instanceId);
     return instance;
@@ -223,13 +230,11 @@ public class TodoInstanceService {
 
     instance.markIncomplete();
     instance = instanceRepository.save(instance);
-
-    // 경험치 차감 이벤트 발행
-    eventPublisher.publishEvent(new TodoUncompletedEvent(
-        user.getId(),
-        instance.getId(),
-        instance.getEffectivePriorityId()
-    ));
+    if (!instance.isDeleted()) {
+      rollupService.recordUncompleted(instance);
+    }
+    scheduleService.recordUncompleted(instance);
+    eventPublisher.publishEvent(new TodosUncompletedEvent(userId, List.of(instanceId)));
 
     log.info("Todo instance uncompleted: {}", instanceId);
     return instance;
@@ -251,9 +256,16 @@ public class TodoInstanceService {
     if (!instance.isEditableBy(user)) {
       throw new IllegalStateException("User cannot delete this instance");
     }
+    if (instance.isDeleted()) {
+      // 이미 삭제됨: 집계는 첫 삭제 때 차감했으므로 다시 차감하지 않음
+      log.debug("Todo instance already deleted: {}", instanceId);
+      return;
+    }
 
     instance.softDelete();
     instanceRepository.save(instance);
+    rollupService.recordRemoved(instance);
+    scheduleService.recordDeleted(instance);
 
     log.info("Todo instance soft deleted: {}", instanceId);
   }
@@ -275,8 +287,13 @@ public class TodoInstanceService {
       throw new IllegalStateException("User cannot restore this instance");
     }
 
+    boolean wasDeleted = instance.isDeleted();
     instance.restore();
     instance = instanceRepository.save(instance);
+    if (wasDeleted) {
+      rollupService.recordAdded(instance);
+      scheduleService.recordRestored(instance);
+    }
 
     log.info("Todo instance restored: {}", instanceId);
     return instance;
@@ -301,14 +318,15 @@ public class TodoInstanceService {
   }
 
   /**
-   * 통계 조회
+   * 통계 조회 (일간 집계 기반)
    */
   @Transactional(readOnly = true)
   public List<Map<String, Object>> getCompletionStats(UUID userId, LocalDate startDate, LocalDate endDate) {
-    User owner = userRepository.findById(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
+    if (!userRepository.existsById(userId)) {
+      throw new ResourceNotFoundException("User not found: " + userId);
+    }
 
-    return instanceRepository.getCompletionStatsByDateRange(owner, startDate, endDate);
+    return rollupService.getCompletionStats(userId, startDate, endDate);
   }
 
   /**
@@ -322,6 +340,19 @@ public class TodoInstanceService {
     return instanceRepository.findByCategoryId(owner, categoryId);
   }
 
+  /**
+   * 정의의 특정 회차 인스턴스 조회 (없으면 empty)
+   */
+  @Transactional(readOnly = true)
+  public Optional<TodoInstance> findBySequence(UUID userId, UUID definitionId, int sequenceNumber) {
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
+
+    return definitionRepository.findById(definitionId)
+        .flatMap(definition -> instanceRepository.findByDefinitionAndSequence(definition, sequenceNumber))
+        .filter(instance -> instance.isAccessibleBy(user));
+  }
+
   /**
    * 인스턴스 생성 (수동)
    */
@@ -332,8 +363,52 @@ public class TodoInstanceService {
     User owner = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
 
-    // TODO: Implement instance creation logic
-    throw new UnsupportedOperationException("createInstance not yet implemented");
+    TodoDefinition definition = definitionRepository.findById(command.definitionId())
+        .filter(found -> !found.isDeleted())
+        .orElseThrow(() -> new ResourceNotFoundException("Todo definition not found: " + command.definitionId()));
+
+    if (!definition.isEditableBy(owner)) {
+      throw new IllegalStateException("User cannot add instances to this definition");
+    }
+
+    Category category = command.categoryId() != null ? usableCategory(owner, command.categoryId()) : null;
+
+    TodoInstance instance = TodoInstance.builder()
+        .definition(definition)
+        .sequenceNumber(command.sequenceNumber() != null
+            ? command.sequenceNumber() : instanceRepository.getNextSequenceNumber(definition))
+        .owner(owner)
+        .title(command.title())
+        .description(command.description())
+        .priorityId(command.priorityId())
+        .category(category)
+        .tags(command.tags() != null ? new HashSet<>(command.tags()) : null)
+        .dueDate(command.scheduledDate() != null ? command.scheduledDate()
+            : definition.getBaseDate() != null ? definition.getBaseDate() : LocalDate.now())
+        .dueTime(command.scheduledTime() != null ? command.scheduledTime() : definition.getBaseTime())
+        .isPinned(command.isPinned() != null ? command.isPinned() : false)
+        .rankKey(rankService.nextKey(userId))
+        .build();
+
+    instance = instanceRepository.save(instance);
+    rollupService.recordAdded(instance);
+    scheduleService.recordUncompleted(instance);  // 새 회차는 미완료 - 다음 발생일보다 앞서면 다음 발생일이 됨
+
+    log.debug("Todo instance created: {} (definition {}, sequence {})",
+        instance.getId(), definition.getId(), instance.getSequenceNumber());
+    return instance;
+  }
+
+  /**
+   * 사용자가 쓸 수 있는 카테고리 (소유자 또는 수락한 협업자)
+   */
+  private Category usableCategory(User user, UUID categoryId) {
+    Category category = categoryRepository.findById(categoryId)
+        .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + categoryId));
+    if (!category.isCollaborator(user)) {
+      throw new IllegalStateException("User cannot use this category");
+    }
+    return category;
   }
 
   /**
@@ -0,0 +1,50 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+
+import java.util.*;
+
+/**
+ * 순위 키 재배치 작업
+ * 같은 자리에 반복 삽입되면 키가 길어지므로 주기적으로 사용자 단위로 다시 부여 (사용자마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.rank", name = "rebalance-enabled", havingValue = "true", matchIfMissing = true)
+public class TodoRankRebalanceJob {
+
+  private final TodoInstanceRepository instanceRepository;
+  private final TodoRankService rankService;
+
+  @Value("${app.todo.rank.rebalance-key-length:24}")
+  private int maxKeyLength;
+
+  @Value("${app.todo.rank.rebalance-batch-size:100}")
+  private int batchSize;
+
+  @Scheduled(
+      initialDelayString = "${app.todo.rank.rebalance-interval:PT10M}",
+      fixedDelayString = "${app.todo.rank.rebalance-interval:PT10M}"
+  )
+  public void run() {
+    List<UUID> userIds = instanceRepository.findUserIdsNeedingRankRebalance(maxKeyLength, batchSize);
+    if (userIds.isEmpty()) return;
+
+    int rows = 0;
+    for (UUID userId : userIds) {
+      try {
+        rows += rankService.rebalance(userId);
+      } catch (Exception e) {
+        log.warn("Rank rebalance failed for user: {}", userId, e);
+      }
+    }
+    log.info("Rank rebalance completed: {} users, {} instances", userIds.size(), rows);
+  }
+}
@@ -0,0 +1,130 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.shared.exception.ResourceNotFoundException;
+import point.ttodoApi.todo.domain.RankKey;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture.InstanceRef;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository.ChangedInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.util.*;
+
+/**
+ * 인스턴스 표시 순서(분수 순위 키) 관리
+ * 이동은 이동한 인스턴스 한 행만 갱신하고, 키가 길어지면 사용자 단위로 재배치
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoRankService {
+
+  private final TodoInstanceRepository instanceRepository;
+  private final UserRepository userRepository;
+  private final TodoMutationCapture mutationCapture;
+
+  /**
+   * 맨 뒤에 추가할 키
+   */
+  @Transactional
+  public String nextKey(UUID userId) {
+    return RankKey.between(instanceRepository.findMaxRankKey(userId).orElse(null), null);
+  }
+
+  /**
+   * 맨 뒤에 차례로 추가할 키 여러 개
+   */
+  @Transactional
+  public List<String> nextKeys(UUID userId, int count) {
+    List<String> keys = new ArrayList<>(count);
+    String last = instanceRepository.findMaxRankKey(userId).orElse(null);
+    for (int i = 0; i < count; i++) {
+      last = RankKey.between(last, null);
+      keys.add(last);
+    }
+    return keys;
+  }
+
+  /**
+   * 인스턴스를 beforeId 바로 뒤, afterId 바로 앞으로 이동 (둘 중 하나는 생략 가능)
+   */
+  @Transactional
+  public TodoInstance reorder(UUID userId, UUID instanceId, UUID beforeId, UUID afterId) {
+    if (beforeId == null && afterId == null) {
+      throw new IllegalArgumentException("Either beforeId or afterId is required");
+    }
+    if (instanceId.equals(beforeId) || instanceId.equals(afterId) || (beforeId != null && beforeId.equals(afterId))) {
+      throw new IllegalArgumentException("Instance cannot be positioned relative to itself");
+    }
+
+    User user = userRepository.findById(userId)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
+
+    String key = keyBetween(user, beforeId, afterId);
+    if (key == null) {
+      // 이웃 키가 없거나 같거나 너무 길면 재배치 후 다시 계산
+      rebalance(userId);
+      key = keyBetween(user, beforeId, afterId);
+      if (key == null) {
+        throw new IllegalArgumentException("beforeId must be ordered before afterId");
+      }
+    }
+
+    TodoInstance instance = instanceRepository.findByIdAndOwner(instanceId, user)
+        .orElseThrow(() -> new ResourceNotFoundException("Todo instance not found or access denied"));
+    instance.setRankKey(key);
+    instance = instanceRepository.save(instance);
+
+    log.debug("Todo instance {} moved to rank {}", instanceId, key);
+    return instance;
+  }
+
+  /**
+   * 사용자 순위 키 재배치 (현재 순서 유지)
+   */
+  @Transactional
+  public int rebalance(UUID userId) {
+    int rows = instanceRepository.rebalanceRankKeys(userId);
+    // 네이티브 UPDATE라 바뀐 키는 직접 변경 로그에 기록
+    for (ChangedInstance instance : instanceRepository.findRankKeys(userId)) {
+      Map<String, @Nullable Object> columns = new HashMap<>();
+      columns.put("rank_key", instance.getRankKey());
+      mutationCapture.instancesChanged(
+          List.of(new InstanceRef(instance.getId(), instance.getDefinitionId(), instance.getUserId())),
+          TodoMutation.UPDATE, columns);
+    }
+    log.debug("Rebalanced {} rank keys for user: {}", rows, userId);
+    return rows;
+  }
+
+  /**
+   * 두 이웃 사이 키 (재배치가 필요하면 null)
+   */
+  private String keyBetween(User user, UUID beforeId, UUID afterId) {
+    String lower = beforeId != null ? neighbourKey(user, beforeId) : null;
+    String upper = afterId != null ? neighbourKey(user, afterId) : null;
+    if ((beforeId != null && lower == null) || (afterId != null && upper == null)) {
+      return null;
+    }
+    if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+      return null;
+    }
+
+    String key = RankKey.between(lower, upper);
+    return key.length() <= RankKey.MAX_LENGTH ? key : null;
+  }
+
+  private String neighbourKey(User user, UUID instanceId) {
+    return instanceRepository.findByIdAndOwner(instanceId, user)
+        .orElseThrow(() -> new ResourceNotFoundException("Todo instance not found or access denied: " + instanceId))
+        .getRankKey();
+  }
+}
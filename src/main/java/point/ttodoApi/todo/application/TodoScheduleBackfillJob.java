@@ -0,0 +1,53 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+
+import java.util.*;
+
+/**
+ * 반복 정의 next/last 발생일 백필 작업
+ * RRULE 전개가 필요해 SQL로 계산할 수 없으므로 마이그레이션이 재계산 표시(schedule_stale)한 정의만
+ * 정의마다 별도 트랜잭션으로 처리 (표시된 정의가 없으면 인덱스 조회 한 번으로 끝남)
+ */
+@Slf4j
+@Component
+@Order(11)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.todo.schedule", name = "backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class TodoScheduleBackfillJob implements ApplicationRunner {
+
+  private final TodoDefinitionRepository definitionRepository;
+  private final TodoScheduleService scheduleService;
+
+  @Value("${app.todo.schedule.backfill-batch-size:500}")
+  private int batchSize;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    log.info("Starting todo schedule backfill (batch size: {})", batchSize);
+
+    UUID after = null;
+    int definitions = 0;
+    List<UUID> ids;
+    do {
+      ids = definitionRepository.findStaleScheduleIdsAfter(after, batchSize);
+      for (UUID id : ids) {
+        scheduleService.refreshById(id);
+        definitions++;
+      }
+      if (!ids.isEmpty()) {
+        after = ids.getLast();
+      }
+    } while (ids.size() == batchSize);
+
+    log.info("Todo schedule backfill completed: {} definitions", definitions);
+  }
+}
@@ -0,0 +1,155 @@
+package point.ttodoApi.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceEngine;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 반복 정의의 next_due_date / last_due_date 관리
+ * 규칙 변경, 발생 회차 완료/완료취소/삭제/복구 시 호출자 트랜잭션 안에서 갱신
+ * <p>
+ * next_due_date는 시리즈 기준일부터 센 첫 "열린" 발생일 - 완료되거나 삭제된 회차(원래 발생일 기준, 보관된 회차 포함)만 건너뜀.
+ * 오늘 날짜와 무관하게 정해지므로 날이 바뀌어도 낡지 않고, 지난 미완료 회차는 완료/삭제될 때까지 다음 발생일로 남음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoScheduleService {
+
+  private final TodoDefinitionRepository definitionRepository;
+  private final TodoInstanceRepository instanceRepository;
+  private final TodoInstanceArchiveRepository archiveRepository;
+
+  /**
+   * 규칙 생성/변경 시 전체 재계산 (시리즈 기준일 이후 첫 열린 발생일)
+   */
+  @Transactional
+  public void refresh(TodoDefinition definition) {
+    definition.setScheduleStale(false);
+    RecurrenceRule rule = definition.getRecurrenceRule();
+    if (rule == null) {
+      definition.setNextDueDate(null);
+      definition.setLastDueDate(null);
+      return;
+    }
+
+    LocalDate anchor = definition.getSeriesAnchor();
+    definition.setLastDueDate(RecurrenceEngine.lastOccurrence(rule, anchor).orElse(null));
+    definition.setNextDueDate(nextPending(definition, anchor));
+  }
+
+  /**
+   * 회차 완료 - 현재 다음 발생일이 완료되면 그 다음 열린 발생일로 이동
+   */
+  @Transactional
+  public void recordCompleted(TodoInstance instance) {
+    recordCompleted(instance.getDefinition(), List.of(instance.getOccurrenceDate()));
+  }
+
+  /**
+   * 회차 삭제 - 삭제된 회차도 닫힌 회차이므로 완료와 같이 다음 발생일을 넘김
+   */
+  @Transactional
+  public void recordDeleted(TodoInstance instance) {
+    recordCompleted(instance.getDefinition(), List.of(instance.getOccurrenceDate()));
+  }
+
+  /**
+   * 여러 회차 완료/삭제 (일괄 작업) - 반영 후 호출해야 건너뛸 회차가 조회됨
+   *
+   * @param occurrenceDates 회차의 원래 발생일
+   */
+  @Transactional
+  public void recordCompleted(TodoDefinition definition, Collection<LocalDate> occurrenceDates) {
+    LocalDate next = definition.getNextDueDate();
+    if (!definition.isRecurring() || next == null || !occurrenceDates.contains(next)) {
+      return;
+    }
+    definition.setNextDueDate(nextPending(definition, next.plusDays(1)));
+  }
+
+  /**
+   * 회차 완료 취소 - 삭제되지 않은 회차가 다음 발생일보다 앞서면 다시 다음 발생일이 됨
+   */
+  @Transactional
+  public void recordUncompleted(TodoInstance instance) {
+    if (instance.isDeleted()) return;
+    recordUncompleted(instance.getDefinition(), List.of(instance.getOccurrenceDate()));
+  }
+
+  /**
+   * 회차 복구 - 완료되지 않은 회차면 완료 취소와 같이 반영
+   */
+  @Transactional
+  public void recordRestored(TodoInstance instance) {
+    if (instance.isCompleted()) return;
+    recordUncompleted(instance.getDefinition(), List.of(instance.getOccurrenceDate()));
+  }
+
+  /**
+   * 여러 회차가 다시 열림 (일괄 작업) - 규칙의 발생일인 회차 중 가장 이른 회차 기준
+   * 규칙에 없는 날짜(기준일 이전, 제외일, 임의 날짜로 추가한 회차)는 다음 발생일이 되지 않음
+   *
+   * @param occurrenceDates 회차의 원래 발생일
+   */
+  @Transactional
+  public void recordUncompleted(TodoDefinition definition, Collection<LocalDate> occurrenceDates) {
+    if (!definition.isRecurring()) {
+      return;
+    }
+    LocalDate next = definition.getNextDueDate();
+    occurrenceDates.stream()
+        .filter(date -> next == null || date.isBefore(next))
+        .filter(date -> isOccurrence(definition, date))
+        .min(Comparator.naturalOrder())
+        .ifPresent(definition::setNextDueDate);
+  }
+
+  /**
+   * 단일 정의 재계산 (백필용, 정의마다 별도 트랜잭션)
+   */
+  @Transactional
+  public void refreshById(UUID definitionId) {
+    definitionRepository.findById(definitionId).ifPresent(this::refresh);
+  }
+
+  private boolean isOccurrence(TodoDefinition definition, LocalDate date) {
+    return RecurrenceEngine.nextOccurrence(definition.getRecurrenceRule(), definition.getSeriesAnchor(), date)
+        .filter(date::equals)
+        .isPresent();
+  }
+
+  /**
+   * from 이후 첫 발생일 중 이미 완료/삭제된 회차는 건너뜀
+   */
+  private LocalDate nextPending(TodoDefinition definition, LocalDate from) {
+    RecurrenceRule rule = definition.getRecurrenceRule();
+    LocalDate anchor = definition.getSeriesAnchor();
+    Set<LocalDate> closed = new HashSet<>();
+    if (definition.getId() != null) {
+      closed.addAll(instanceRepository.findClosedOccurrenceDates(definition, from));
+      closed.addAll(archiveRepository.findClosedOccurrenceDates(definition.getId(), from));
+    }
+
+    Optional<LocalDate> candidate = RecurrenceEngine.nextOccurrence(rule, anchor, from);
+    for (int skipped = 0; candidate.isPresent() && closed.contains(candidate.get()); skipped++) {
+      if (skipped > closed.size()) {
+        log.warn("Stopped skipping closed occurrences for definition: {}", definition.getId());
+        break;
+      }
+      candidate = RecurrenceEngine.nextOccurrence(rule, anchor, candidate.get().plusDays(1));
+    }
+    return candidate.orElse(null);
+  }
+}
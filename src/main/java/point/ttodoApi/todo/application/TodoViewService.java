@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import point.ttodoApi.shared.exception.ResourceNotFoundException;
 import point.ttodoApi.todo.domain.TodoView;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
 import point.ttodoApi.todo.infrastructure.persistence.TodoViewRepository;
 import point.ttodoApi.user.domain.User;
 import point.ttodoApi.user.infrastructure.persistence.UserRepository;
@@ -24,7 +25,9 @@ import java.util.*;
 public class TodoViewService {
 
   private final TodoViewRepository viewRepository;
+  private final TodoInstanceRepository instanceRepository;
   private final UserRepository userRepository;
+  private final TodoDailyRollupService rollupService;
 
   /**
    * 사용자의 모든 투두 조회
@@ -179,7 +182,7 @@ public class TodoViewService {
   }
 
   /**
-   * 날짜별 완료율 통계
+   * 날짜별 완료율 통계 (일간 집계 기반)
    */
   @Transactional(readOnly = true)
   public List<Map<String, Object>> getCompletionRateByDate(UUID userId, LocalDate startDate, LocalDate endDate) {
@@ -189,7 +192,7 @@ public class TodoViewService {
       throw new IllegalArgumentException("Start date must be before or equal to end date");
     }
 
-    return viewRepository.getCompletionRateByDate(userId, startDate, endDate);
+    return rollupService.getCompletionStats(userId, startDate, endDate);
   }
 
   /**
@@ -255,6 +258,32 @@ public class TodoViewService {
     return viewRepository.findByDateRange(userId, startOfMonth, endOfMonth);
   }
 
+  /**
+   * 태그로 투두 조회 (ANY: 하나라도 일치, ALL: 모두 포함)
+   */
+  @Transactional(readOnly = true)
+  public List<TodoView> getTodosByTags(UUID userId, Collection<String> tags, TagMatch match) {
+    validateUser(userId);
+
+    String[] normalized = tags.stream()
+        .filter(Objects::nonNull)
+        .map(String::trim)
+        .filter(tag -> !tag.isEmpty())
+        .distinct()
+        .toArray(String[]::new);
+    if (normalized.length == 0) {
+      throw new IllegalArgumentException("At least one tag is required");
+    }
+
+    List<UUID> ids = match == TagMatch.ALL
+        ? instanceRepository.findIdsByAllTags(userId, normalized)
+        : instanceRepository.findIdsByAnyTag(userId, normalized);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return viewRepository.findByUserIdAndIdIn(userId, ids);
+  }
+
   /**
    * 사용자 검증
    */
@@ -289,4 +318,11 @@ public class TodoViewService {
     private Long recurring;
     private Double completionRate;
   }
-}
\ No newline at end of file
+
+  /**
+   * 태그 일치 방식
+   */
+  public enum TagMatch {
+    ANY, ALL
+  }
+}
@@ -0,0 +1,29 @@
+package point.ttodoApi.todo.application.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTodoInstanceCommand {
+
+  private Operation operation;
+  private List<UUID> instanceIds;
+
+  // 작업별 값
+  private LocalDate dueDate;     // MOVE_DATE
+  private UUID categoryId;       // RECATEGORIZE (NULL이면 정의의 카테고리 사용)
+  private Boolean pinned;        // PIN (기본 true)
+
+  public enum Operation {
+    COMPLETE, UNCOMPLETE, DELETE, RESTORE, PIN, MOVE_DATE, RECATEGORIZE
+  }
+}
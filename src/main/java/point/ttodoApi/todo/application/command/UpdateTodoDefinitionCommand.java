@@ -16,6 +16,12 @@ import java.util.UUID;
 @AllArgsConstructor
 public class UpdateTodoDefinitionCommand {
 
+  /**
+   * 비울 수 있는 필드
+   */
+  public static final Set<String> CLEARABLE_FIELDS = Set.of(
+      "description", "priorityId", "categoryId", "tags", "baseTime");
+
   private String title;
   private String description;
   private Integer priorityId;
@@ -26,4 +32,11 @@ public class UpdateTodoDefinitionCommand {
   private LocalTime baseTime;
   private Boolean isCollaborative;
   private Boolean updateFutureInstances;  // 미래 인스턴스도 업데이트할지 여부
+
+  // null 값은 "변경 없음"이라 명시적으로 비울 필드 (CLEARABLE_FIELDS 중에서)
+  private Set<String> clearedFields;
+
+  public boolean clears(String field) {
+    return clearedFields != null && clearedFields.contains(field);
+  }
 }
\ No newline at end of file
@@ -16,6 +16,12 @@ import java.util.UUID;
 @AllArgsConstructor
 public class UpdateTodoInstanceCommand {
 
+  /**
+   * 비울 수 있는 필드 - 오버라이드 필드는 비우면 정의 값을 따름
+   */
+  public static final Set<String> CLEARABLE_FIELDS = Set.of(
+      "title", "description", "priorityId", "categoryId", "tags", "dueTime");
+
   // 오버라이드 가능한 필드
   private String title;
   private String description;
@@ -28,4 +34,11 @@ public class UpdateTodoInstanceCommand {
   private LocalTime dueTime;
   private Boolean isPinned;
   private Integer displayOrder;
+
+  // null 값은 "변경 없음"이라 명시적으로 비울 필드 (CLEARABLE_FIELDS 중에서)
+  private Set<String> clearedFields;
+
+  public boolean clears(String field) {
+    return clearedFields != null && clearedFields.contains(field);
+  }
 }
\ No newline at end of file
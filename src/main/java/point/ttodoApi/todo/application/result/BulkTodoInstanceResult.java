@@ -0,0 +1,17 @@
+package point.ttodoApi.todo.application.result;
+
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 일괄 작업 결과 (skipped: 없거나 권한이 없거나 이미 해당 상태인 인스턴스)
+ */
+public record BulkTodoInstanceResult(
+    BulkTodoInstanceCommand.Operation operation,
+    int requested,
+    List<UUID> affectedIds,
+    List<UUID> skippedIds
+) {
+}
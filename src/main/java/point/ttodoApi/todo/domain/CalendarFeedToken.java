@@ -0,0 +1,43 @@
+package point.ttodoApi.todo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 캘린더 구독(ICS) 피드 토큰
+ * 캘린더 앱은 Authorization 헤더를 보낼 수 없으므로 URL에 포함되는 추측 불가능한 토큰으로 소유자를 식별
+ */
+@Entity
+@Table(name = "calendar_feed_tokens")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder
+@ToString(exclude = "token")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CalendarFeedToken {
+
+  @EqualsAndHashCode.Include
+  @Id
+  @Column(name = "user_id", nullable = false)
+  UUID userId;
+
+  @Column(name = "token", nullable = false, unique = true, length = 64)
+  String token;
+
+  @Column(name = "created_at", nullable = false)
+  Instant createdAt;
+
+  /**
+   * 토큰 재발급 (기존 구독 URL 무효화)
+   */
+  public void rotate(String newToken) {
+    this.token = newToken;
+    this.createdAt = Instant.now();
+  }
+}
@@ -0,0 +1,95 @@
+package point.ttodoApi.todo.domain;
+
+/**
+ * 표시 순서용 분수 순위 키 (base62, 바이트 순서 = 정렬 순서)
+ * 두 키 사이에 항상 새 키를 만들 수 있어 이동 시 한 행만 갱신.
+ * 키는 마지막 문자가 '0'이 아니어야 함 (그래야 앞쪽에 여유가 남음)
+ */
+public final class RankKey {
+
+  /** ASCII 순서로 정렬된 문자 집합 (DB 컬럼은 COLLATE "C") */
+  static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+  /** rank_key 컬럼 길이 */
+  public static final int MAX_LENGTH = 64;
+
+  private RankKey() {
+  }
+
+  /**
+   * lower와 upper 사이의 키 (null은 각각 맨 앞/맨 뒤)
+   */
+  public static String between(String lower, String upper) {
+    String a = lower != null ? lower : "";
+    if (!isValid(a, true) || (upper != null && !isValid(upper, false))) {
+      throw new IllegalArgumentException("Invalid rank key: " + lower + ", " + upper);
+    }
+    if (upper != null && a.compareTo(upper) >= 0) {
+      throw new IllegalArgumentException("Rank key " + lower + " must be before " + upper);
+    }
+    if (upper == null && !a.isEmpty()) {
+      // 맨 뒤에 추가하는 경우가 가장 흔하므로 같은 길이에서 1 증가 (키 길이가 늘지 않음)
+      String next = increment(a);
+      if (next != null) return next;
+    }
+    return midpoint(a, upper);
+  }
+
+  /**
+   * 유효한 키인지 확인 (문자 집합, 길이, 끝자리 '0' 금지)
+   */
+  public static boolean isValid(String key) {
+    return isValid(key, false);
+  }
+
+  private static boolean isValid(String key, boolean allowEmpty) {
+    if (key.isEmpty()) return allowEmpty;
+    if (key.length() > MAX_LENGTH || key.charAt(key.length() - 1) == DIGITS.charAt(0)) return false;
+    for (int i = 0; i < key.length(); i++) {
+      if (DIGITS.indexOf(key.charAt(i)) < 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * base62 수로 보고 1 증가 (끝자리 '0'은 제거, 모두 'z'면 null)
+   */
+  private static String increment(String key) {
+    char[] chars = key.toCharArray();
+    for (int i = chars.length - 1; i >= 0; i--) {
+      int digit = DIGITS.indexOf(chars[i]);
+      if (digit < DIGITS.length() - 1) {
+        chars[i] = DIGITS.charAt(digit + 1);
+        return new String(chars, 0, i + 1);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * a < b 인 두 키의 중간 (b가 null이면 a 뒤)
+   */
+  private static String midpoint(String a, String b) {
+    if (b != null) {
+      // 공통 접두사는 그대로 두고 나머지에서 중간값 계산 (a가 짧으면 '0'으로 채운 것으로 간주)
+      int n = 0;
+      while (n < b.length() && (n < a.length() ? a.charAt(n) : DIGITS.charAt(0)) == b.charAt(n)) {
+        n++;
+      }
+      if (n > 0) {
+        return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+      }
+    }
+
+    int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+    int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+    if (digitB - digitA > 1) {
+      return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+    }
+    // 인접한 자리 - b가 더 길면 b의 첫 자리만으로 충분, 아니면 a를 한 자리 늘림
+    if (b != null && b.length() > 1) {
+      return b.substring(0, 1);
+    }
+    return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+  }
+}
@@ -0,0 +1,51 @@
+package point.ttodoApi.todo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 사용자별 일간 완료 집계 (차트 조회용)
+ * todo_instances를 매번 GROUP BY 하지 않도록 완료/미완료 건수를 증분 관리
+ */
+@Entity
+@Table(name = "todo_daily_rollup")
+@IdClass(TodoDailyRollup.RollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TodoDailyRollup {
+
+  @EqualsAndHashCode.Include
+  @Id
+  @Column(name = "user_id", nullable = false)
+  UUID userId;
+
+  @EqualsAndHashCode.Include
+  @Id
+  @Column(name = "date", nullable = false)
+  LocalDate date;
+
+  @Column(name = "completed", nullable = false)
+  Integer completed;
+
+  @Column(name = "pending", nullable = false)
+  Integer pending;
+
+  /**
+   * 복합 키 (user_id, date)
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class RollupId implements Serializable {
+    private UUID userId;
+    private LocalDate date;
+  }
+}
@@ -3,9 +3,13 @@ package point.ttodoApi.todo.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import point.ttodoApi.category.domain.Category;
 import point.ttodoApi.user.domain.User;
 import point.ttodoApi.shared.domain.BaseEntity;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
 
 import java.time.*;
 import java.util.*;
@@ -40,17 +44,15 @@ public class TodoDefinition extends BaseEntity {
   @JoinColumn(name = "category_id")
   Category category;
 
-  @ElementCollection(fetch = FetchType.LAZY)
-  @CollectionTable(
-    name = "todo_definition_tags",
-    joinColumns = @JoinColumn(name = "definition_id")
-  )
-  @Column(name = "tag")
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "tags", columnDefinition = "text[]")
   @Builder.Default
-  Set<String> tags = new HashSet<>();
+  Set<String> tags = new HashSet<>();  // GIN 인덱스 (&&, @>)
 
+  @Convert(converter = RecurrenceRuleJsonConverter.class)
+  @JdbcTypeCode(SqlTypes.JSON)
   @Column(name = "recurrence_rule", columnDefinition = "jsonb")
-  String recurrenceRule;  // NULL = 1회용 투두
+  RecurrenceRule recurrenceRule;  // NULL = 1회용 투두
 
   @Column(name = "base_date")
   LocalDate baseDate;
@@ -58,6 +60,16 @@ public class TodoDefinition extends BaseEntity {
   @Column(name = "base_time")
   LocalTime baseTime;
 
+  @Column(name = "next_due_date")
+  LocalDate nextDueDate;  // 완료/삭제되지 않은 첫 발생일 (반복 정의만, NULL = 남은 발생 없음)
+
+  @Column(name = "last_due_date")
+  LocalDate lastDueDate;  // 시리즈 마지막 발생일 (NULL = 종료 조건 없음)
+
+  @Column(name = "schedule_stale", nullable = false)
+  @Builder.Default
+  Boolean scheduleStale = false;  // next/last_due_date 재계산 필요 (백필 대상)
+
   @Column(name = "is_collaborative", nullable = false)
   @Builder.Default
   Boolean isCollaborative = false;
@@ -103,6 +115,17 @@ public class TodoDefinition extends BaseEntity {
     return this.recurrenceRule != null;
   }
 
+  /**
+   * 반복 기준일 (규칙의 anchorDate가 없으면 정의의 기준일 사용)
+   */
+  public LocalDate getSeriesAnchor() {
+    if (this.recurrenceRule != null && this.recurrenceRule.getAnchorDate() != null) {
+      return this.recurrenceRule.getAnchorDate();
+    }
+    if (this.baseDate != null) return this.baseDate;
+    return getCreatedAt() != null ? LocalDate.ofInstant(getCreatedAt(), ZoneId.systemDefault()) : LocalDate.now();
+  }
+
   /**
    * 인스턴스 추가
    */
@@ -3,6 +3,8 @@ package point.ttodoApi.todo.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import point.ttodoApi.category.domain.Category;
 import point.ttodoApi.user.domain.User;
 import point.ttodoApi.shared.domain.BaseEntity;
@@ -11,10 +13,19 @@ import java.time.*;
 import java.util.*;
 
 @Entity
+@NamedEntityGraph(
+  name = TodoInstance.LIST_GRAPH,
+  attributeNodes = {
+    @NamedAttributeNode(value = "definition", subgraph = "definition"),
+    @NamedAttributeNode("category")
+  },
+  subgraphs = @NamedSubgraph(name = "definition", attributeNodes = @NamedAttributeNode("category"))
+)
 @Table(
   name = "todo_instances",
   uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"definition_id", "sequence_number"})
+    // due_date 월별 파티션 테이블이라 파티션 키를 포함해야 함 (V2.8)
+    @UniqueConstraint(name = "uq_definition_sequence", columnNames = {"definition_id", "sequence_number", "due_date"})
   }
 )
 @Getter
@@ -27,6 +38,11 @@ import java.util.*;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class TodoInstance extends BaseEntity {
 
+  /**
+   * 목록 조회용 fetch plan (definition, category를 한 번에 조회, 태그는 배열 컬럼으로 함께 조회)
+   */
+  public static final String LIST_GRAPH = "TodoInstance.list";
+
   @EqualsAndHashCode.Include
   @Id
   @GeneratedValue(strategy = GenerationType.UUID)
@@ -58,18 +74,17 @@ public class TodoInstance extends BaseEntity {
   @JoinColumn(name = "category_id")
   Category category;
 
-  @ElementCollection(fetch = FetchType.LAZY)
-  @CollectionTable(
-    name = "todo_instance_tags",
-    joinColumns = @JoinColumn(name = "instance_id")
-  )
-  @Column(name = "tag")
-  Set<String> tags;
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "tags", columnDefinition = "text[]")
+  Set<String> tags;  // NULL이면 definition의 태그 사용
 
   // 인스턴스 고유 필드
   @Column(name = "due_date", nullable = false)
   LocalDate dueDate;
 
+  @Column(name = "original_due_date")
+  LocalDate originalDueDate;  // 처음 이동하기 전 마감일 (NULL이면 이동한 적 없음)
+
   @Column(name = "due_time")
   LocalTime dueTime;
 
@@ -88,6 +103,9 @@ public class TodoInstance extends BaseEntity {
   @Builder.Default
   Integer displayOrder = 0;
 
+  @Column(name = "rank_key", length = RankKey.MAX_LENGTH)
+  String rankKey;  // 분수 순위 키 (표시 순서, NULL은 맨 뒤)
+
   @Column(name = "deleted_at")
   LocalDateTime deletedAt;  // 소프트 삭제
 
@@ -112,6 +130,23 @@ public class TodoInstance extends BaseEntity {
     return this.deletedAt != null;
   }
 
+  /**
+   * 마감일 이동 (처음 이동할 때 원래 발생일을 기록)
+   */
+  public void moveTo(LocalDate dueDate) {
+    if (this.originalDueDate == null && this.dueDate != null && !this.dueDate.equals(dueDate)) {
+      this.originalDueDate = this.dueDate;
+    }
+    this.dueDate = dueDate;
+  }
+
+  /**
+   * 원래 발생일 (이동한 적 없으면 현재 마감일)
+   */
+  public LocalDate getOccurrenceDate() {
+    return this.originalDueDate != null ? this.originalDueDate : this.dueDate;
+  }
+
   /**
    * 완료 처리
    */
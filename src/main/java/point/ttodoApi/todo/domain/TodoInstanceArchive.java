@@ -0,0 +1,105 @@
+package point.ttodoApi.todo.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * 보관된 투두 인스턴스 (읽기 전용)
+ * 오래된 완료/삭제 인스턴스를 todo_instances에서 옮겨 둔 행
+ */
+@Entity
+@Immutable
+@Table(name = "todo_instances_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TodoInstanceArchive {
+
+  @EqualsAndHashCode.Include
+  @Id
+  UUID id;
+
+  @Column(name = "definition_id")
+  UUID definitionId;
+
+  @Column(name = "user_id")
+  UUID userId;
+
+  @Column(name = "sequence_number")
+  Integer sequenceNumber;
+
+  @Column(length = 255)
+  String title;
+
+  @Column(columnDefinition = "TEXT")
+  String description;
+
+  @Column(name = "priority_id")
+  Integer priorityId;
+
+  @Column(name = "category_id")
+  UUID categoryId;
+
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "tags", columnDefinition = "text[]")
+  Set<String> tags;
+
+  @Column(name = "due_date")
+  LocalDate dueDate;
+
+  @Column(name = "original_due_date")
+  LocalDate originalDueDate;
+
+  @Column(name = "due_time")
+  LocalTime dueTime;
+
+  @Column(name = "completed")
+  Boolean completed;
+
+  @Column(name = "completed_at")
+  LocalDateTime completedAt;
+
+  @Column(name = "is_pinned")
+  Boolean isPinned;
+
+  @Column(name = "display_order")
+  Integer displayOrder;
+
+  @Column(name = "rank_key")
+  String rankKey;
+
+  @Column(name = "created_at")
+  Instant createdAt;
+
+  @Column(name = "updated_at")
+  Instant updatedAt;
+
+  @Column(name = "deleted_at")
+  LocalDateTime deletedAt;
+
+  @Column(name = "archived_at")
+  LocalDateTime archivedAt;
+
+  /**
+   * 원래 발생일 (이동한 적 없으면 마감일)
+   */
+  public LocalDate getOccurrenceDate() {
+    return this.originalDueDate != null ? this.originalDueDate : this.dueDate;
+  }
+
+  /**
+   * 삭제된 채로 보관되었는지 확인
+   */
+  public boolean isDeleted() {
+    return this.deletedAt != null;
+  }
+}
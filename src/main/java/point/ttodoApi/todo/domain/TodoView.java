@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.Subselect;
 import org.hibernate.annotations.Synchronize;
+import org.hibernate.type.SqlTypes;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
 
 import java.time.*;
 import java.util.*;
@@ -13,6 +17,7 @@ import java.util.*;
 /**
  * 투두 통합 뷰 (읽기 전용)
  * definition과 instance를 조인하여 효과적인 값을 제공
+ * 보관된 인스턴스(todo_instances_archive)도 포함 (todo_instances_all 뷰)
  */
 @Entity
 @Immutable  // 읽기 전용
@@ -26,23 +31,25 @@ import java.util.*;
     COALESCE(i.description, d.description) as description,
     COALESCE(i.priority_id, d.priority_id) as priority_id,
     COALESCE(i.category_id, d.category_id) as category_id,
+    COALESCE(i.tags, d.tags) as tags,
     i.due_date as due_date,
     i.due_time as due_time,
     i.completed as completed,
     i.completed_at as completed_at,
     i.is_pinned as is_pinned,
     i.display_order as display_order,
+    i.rank_key as rank_key,
     d.recurrence_rule as recurrence_rule,
     CASE WHEN d.recurrence_rule IS NOT NULL THEN true ELSE false END as is_recurring,
     d.is_collaborative as is_collaborative,
     i.created_at as created_at,
     i.updated_at as updated_at
-  FROM todo_instances i
+  FROM todo_instances_all i
   INNER JOIN todo_definitions d ON i.definition_id = d.id
   WHERE i.deleted_at IS NULL
     AND d.deleted_at IS NULL
 """)
-@Synchronize({"todo_instances", "todo_definitions"})
+@Synchronize({"todo_instances", "todo_instances_archive", "todo_definitions"})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
@@ -75,6 +82,10 @@ public class TodoView {
   @Column(name = "category_id")
   UUID categoryId;
 
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(name = "tags", columnDefinition = "text[]")
+  Set<String> tags;
+
   @Column(name = "due_date")
   LocalDate dueDate;
 
@@ -93,8 +104,13 @@ public class TodoView {
   @Column(name = "display_order")
   Integer displayOrder;
 
+  @Column(name = "rank_key")
+  String rankKey;
+
+  @Convert(converter = RecurrenceRuleJsonConverter.class)
+  @JdbcTypeCode(SqlTypes.JSON)
   @Column(name = "recurrence_rule", columnDefinition = "jsonb")
-  String recurrenceRule;
+  RecurrenceRule recurrenceRule;
 
   @Column(name = "is_recurring")
   Boolean isRecurring;
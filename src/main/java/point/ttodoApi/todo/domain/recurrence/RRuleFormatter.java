@@ -0,0 +1,109 @@
+package point.ttodoApi.todo.domain.recurrence;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * RecurrenceRule → RFC 5545 RRULE 값 변환
+ * 발생일을 전개하지 않고 규칙 그대로 캘린더 클라이언트에 전달하기 위해 사용
+ */
+public final class RRuleFormatter {
+
+  private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private RRuleFormatter() {
+  }
+
+  /**
+   * RRULE 값 생성 (예: FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE)
+   *
+   * @param rule     반복 규칙
+   * @param dateOnly DTSTART가 DATE 값이면 true (UNTIL 값 타입을 맞추기 위함)
+   */
+  public static String format(RecurrenceRule rule, boolean dateOnly) {
+    if (rule == null || rule.getFrequency() == null) {
+      throw new IllegalArgumentException("Recurrence rule frequency is required");
+    }
+
+    StringJoiner parts = new StringJoiner(";");
+    parts.add("FREQ=" + rule.getFrequency().name());
+    if (rule.getInterval() != null && rule.getInterval() > 1) {
+      parts.add("INTERVAL=" + rule.getInterval());
+    }
+
+    boolean positional = notEmpty(rule.getBySetPos()) && notEmpty(rule.getByWeekDays())
+        && (rule.getFrequency() == Frequency.MONTHLY || rule.getFrequency() == Frequency.YEARLY);
+    if (positional) {
+      // 엔진은 요일별 n번째를 고르므로 BYSETPOS가 아닌 접두 BYDAY(1MO,-1FR)로 표현
+      List<String> days = new ArrayList<>();
+      for (Integer pos : sorted(rule.getBySetPos())) {
+        for (WeekDay day : sortedDays(rule.getByWeekDays())) {
+          days.add(pos + day.name());
+        }
+      }
+      parts.add("BYDAY=" + String.join(",", days));
+    } else if (notEmpty(rule.getByWeekDays())) {
+      parts.add("BYDAY=" + sortedDays(rule.getByWeekDays()).stream().map(Enum::name).collect(Collectors.joining(",")));
+    }
+
+    addList(parts, "BYMONTH", rule.getByMonth());
+    addList(parts, "BYMONTHDAY", rule.getByMonthDay());
+    addList(parts, "BYYEARDAY", rule.getByYearDay());
+    addList(parts, "BYWEEKNO", rule.getByWeekNo());
+    addList(parts, "BYHOUR", rule.getByHour());
+    addList(parts, "BYMINUTE", rule.getByMinute());
+    addList(parts, "BYSECOND", rule.getBySecond());
+
+    if (rule.getWeekStart() != null && rule.getWeekStart() != WeekDay.MO) {
+      parts.add("WKST=" + rule.getWeekStart().name());
+    }
+
+    EndCondition end = rule.getEndCondition();
+    if (end != null && end.getType() != null) {
+      switch (end.getType()) {
+        case COUNT -> {
+          if (end.getCount() != null) parts.add("COUNT=" + end.getCount());
+        }
+        case UNTIL -> {
+          if (end.getUntil() != null) {
+            parts.add("UNTIL=" + formatUntil(end.getUntil(), dateOnly));
+          }
+        }
+        case NEVER -> {
+        }
+      }
+    }
+    return parts.toString();
+  }
+
+  /**
+   * EXDATE/RDATE용 날짜 목록 (정렬, 콤마 구분)
+   */
+  public static String formatDates(Collection<LocalDate> dates) {
+    return dates.stream().sorted().map(DATE::format).collect(Collectors.joining(","));
+  }
+
+  private static String formatUntil(LocalDate until, boolean dateOnly) {
+    return dateOnly ? DATE.format(until) : DATE.format(until) + "T235959";
+  }
+
+  private static void addList(StringJoiner parts, String name, Set<Integer> values) {
+    if (notEmpty(values)) {
+      parts.add(name + "=" + sorted(values).stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+  }
+
+  private static List<Integer> sorted(Set<Integer> values) {
+    return values.stream().sorted().toList();
+  }
+
+  private static List<WeekDay> sortedDays(Set<WeekDay> days) {
+    return days.stream().sorted().toList();
+  }
+
+  private static boolean notEmpty(Set<?> values) {
+    return values != null && !values.isEmpty();
+  }
+}
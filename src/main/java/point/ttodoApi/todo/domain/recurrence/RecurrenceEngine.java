@@ -9,14 +9,108 @@ public final class RecurrenceEngine {
   private RecurrenceEngine() {
   }
 
+  /** 다음 발생일 탐색 시 한 번에 전개하는 구간 */
+  static final int LOOKAHEAD_WINDOW_DAYS = 366;
+  /** 발생일 탐색 상한 (희소한 규칙의 무한 탐색 방지) */
+  static final int MAX_LOOKAHEAD_YEARS = 10;
+
   public static List<LocalDate> generateBetween(RecurrenceRule rule, LocalDate windowStart, LocalDate windowEnd) {
-    if (rule == null || rule.getFrequency() == null || rule.getInterval() == null || rule.getInterval() < 1) {
+    return rule == null ? List.of() : generate(rule, rule.getAnchorDate(), windowStart, windowEnd);
+  }
+
+  /**
+   * from 이후(포함) 첫 발생일
+   *
+   * @param anchor 시리즈 기준일 (규칙에 anchorDate가 없을 때 정의의 기준일 사용)
+   */
+  public static Optional<LocalDate> nextOccurrence(RecurrenceRule rule, LocalDate anchor, LocalDate from) {
+    if (rule == null || anchor == null || from == null) {
+      return Optional.empty();
+    }
+    LocalDate start = from.isBefore(anchor) ? anchor : from;
+
+    if (endType(rule) == EndConditionType.COUNT) {
+      // COUNT는 anchor부터 세어야 하므로 전체 구간을 한 번에 전개
+      return generate(rule, anchor, anchor, anchor.plusYears(MAX_LOOKAHEAD_YEARS)).stream()
+              .filter(d -> !d.isBefore(start))
+              .findFirst();
+    }
+
+    LocalDate until = endType(rule) == EndConditionType.UNTIL ? rule.getEndCondition().getUntil() : null;
+    LocalDate horizon = start.plusYears(MAX_LOOKAHEAD_YEARS);
+    for (LocalDate windowStart = start; !windowStart.isAfter(horizon); windowStart = windowStart.plusDays(LOOKAHEAD_WINDOW_DAYS)) {
+      if (until != null && windowStart.isAfter(until)) {
+        break;
+      }
+      List<LocalDate> dates = generate(rule, anchor, windowStart, windowStart.plusDays(LOOKAHEAD_WINDOW_DAYS - 1L));
+      if (!dates.isEmpty()) {
+        return Optional.of(dates.get(0));
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 시리즈 마지막 발생일 (종료 조건이 없으면 empty)
+   */
+  public static Optional<LocalDate> lastOccurrence(RecurrenceRule rule, LocalDate anchor) {
+    if (rule == null || anchor == null) {
+      return Optional.empty();
+    }
+    LocalDate end = switch (endType(rule)) {
+      case UNTIL -> rule.getEndCondition().getUntil();
+      case COUNT -> anchor.plusYears(MAX_LOOKAHEAD_YEARS);
+      case NEVER -> null;
+    };
+    if (end == null) {
+      return Optional.empty();
+    }
+    List<LocalDate> dates = generate(rule, anchor, anchor, end);
+    return dates.isEmpty() ? Optional.empty() : Optional.of(dates.get(dates.size() - 1));
+  }
+
+  /**
+   * 시리즈 기준일부터 처음 limit개 발생일 (시리즈가 더 짧으면 그만큼만)
+   * 첫 날짜는 nextOccurrence(rule, anchor, anchor)와 같고, COUNT/UNTIL/BY* 규칙도 같은 전개를 따름
+   */
+  public static List<LocalDate> firstOccurrences(RecurrenceRule rule, LocalDate anchor, int limit) {
+    if (rule == null || anchor == null || limit <= 0) {
+      return List.of();
+    }
+    LocalDate horizon = anchor.plusYears(MAX_LOOKAHEAD_YEARS);
+
+    if (endType(rule) == EndConditionType.COUNT) {
+      return generate(rule, anchor, anchor, horizon).stream()
+              .filter(d -> !d.isBefore(anchor))
+              .limit(limit)
+              .toList();
+    }
+
+    LocalDate until = endType(rule) == EndConditionType.UNTIL ? rule.getEndCondition().getUntil() : null;
+    List<LocalDate> dates = new ArrayList<>(limit);
+    for (LocalDate windowStart = anchor; dates.size() < limit && !windowStart.isAfter(horizon); windowStart = windowStart.plusDays(LOOKAHEAD_WINDOW_DAYS)) {
+      if (until != null && windowStart.isAfter(until)) {
+        break;
+      }
+      generate(rule, anchor, windowStart, windowStart.plusDays(LOOKAHEAD_WINDOW_DAYS - 1L)).stream()
+              .limit(limit - dates.size())
+              .forEach(dates::add);
+    }
+    return dates;
+  }
+
+  private static EndConditionType endType(RecurrenceRule rule) {
+    EndCondition end = rule.getEndCondition();
+    return end != null && end.getType() != null ? end.getType() : EndConditionType.NEVER;
+  }
+
+  private static List<LocalDate> generate(RecurrenceRule rule, LocalDate anchor, LocalDate windowStart, LocalDate windowEnd) {
+    if (rule.getFrequency() == null || rule.getInterval() == null || rule.getInterval() < 1) {
       return List.of();
     }
     if (windowStart == null || windowEnd == null || windowEnd.isBefore(windowStart)) {
       return List.of();
     }
-    LocalDate anchor = rule.getAnchorDate();
     if (anchor == null) {
       // anchor가 없으면 생성 불가
       return List.of();
@@ -1,9 +1,11 @@
 package point.ttodoApi.todo.domain.recurrence;
 
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +13,7 @@ import point.ttodoApi.todo.domain.validation.ValidByRules;
 
 @Getter
 @Setter
+@EqualsAndHashCode
 @NoArgsConstructor
 @AllArgsConstructor
 @ValidByRules
@@ -32,5 +35,20 @@ public class RecurrenceRule {
   private Set<LocalDate> rDates;   // 추가 날짜
   private String timezone;         // 사용자의 프로필 TZ와 일치 권장
   private LocalDate anchorDate;    // 시리즈 기준일
+
+  /**
+   * 깊은 복사 (컬렉션까지 새로 만들어 원본과 상태를 공유하지 않음)
+   */
+  public RecurrenceRule copy() {
+    return new RecurrenceRule(frequency, interval, copyOf(byWeekDays), copyOf(byMonthDay), copyOf(bySetPos),
+        copyOf(byMonth), copyOf(byHour), copyOf(byMinute), copyOf(bySecond), copyOf(byWeekNo), copyOf(byYearDay),
+        weekStart, endCondition == null ? null
+        : new EndCondition(endCondition.getType(), endCondition.getUntil(), endCondition.getCount()),
+        copyOf(exDates), copyOf(rDates), timezone, anchorDate);
+  }
+
+  private static <T> Set<T> copyOf(Set<T> values) {
+    return values == null ? null : new LinkedHashSet<>(values);
+  }
 }
 
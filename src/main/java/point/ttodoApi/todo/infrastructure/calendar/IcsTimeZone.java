@@ -0,0 +1,124 @@
+package point.ttodoApi.todo.infrastructure.calendar;
+
+import java.io.IOException;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.List;
+
+/**
+ * RFC 5545 VTIMEZONE 출력 (java.time 시간대 규칙에서 생성)
+ * 과거 전환은 회차별로, 현재 적용 중인 일광 절약 규칙은 RRULE로 출력
+ */
+public final class IcsTimeZone {
+
+  /** 출력하는 과거 전환의 시작 시점 */
+  static final LocalDateTime SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+  /** RRULE로 표현할 수 없는 규칙은 이 기간만큼 전환을 펼쳐 출력 */
+  static final int EXPANDED_YEARS = 30;
+
+  private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+  private IcsTimeZone() {
+  }
+
+  /**
+   * VTIMEZONE 컴포넌트 출력
+   */
+  public static void write(IcsWriter writer, ZoneId zone) throws IOException {
+    ZoneRules rules = zone.getRules();
+    Instant since = SINCE.toInstant(ZoneOffset.UTC);
+
+    writer.begin("VTIMEZONE");
+    writer.raw("TZID", zone.getId());
+
+    // 시작 시점의 오프셋 (전환이 없는 시간대는 이것만 출력)
+    ZoneOffset offset = rules.getOffset(since);
+    observance(writer, rules.isDaylightSavings(since), SINCE, offset, offset, null);
+
+    int lastYear = SINCE.getYear();
+    for (ZoneOffsetTransition transition : rules.getTransitions()) {
+      if (transition.getInstant().isBefore(since)) continue;
+      transition(writer, rules, transition);
+      lastYear = transition.getDateTimeBefore().getYear();
+    }
+
+    List<ZoneOffsetTransitionRule> transitionRules = rules.getTransitionRules();
+    int firstRuleYear = lastYear + 1;
+    for (ZoneOffsetTransitionRule rule : transitionRules) {
+      ZoneOffsetTransition first = rule.createTransition(firstRuleYear);
+      String rrule = rrule(rule, first.getDateTimeBefore());
+      if (rrule != null) {
+        observance(writer, rules.isDaylightSavings(first.getInstant()), first.getDateTimeBefore(),
+            first.getOffsetBefore(), first.getOffsetAfter(), rrule);
+      } else {
+        for (int year = firstRuleYear; year < firstRuleYear + EXPANDED_YEARS; year++) {
+          transition(writer, rules, rule.createTransition(year));
+        }
+      }
+    }
+
+    writer.end("VTIMEZONE");
+  }
+
+  private static void transition(IcsWriter writer, ZoneRules rules, ZoneOffsetTransition transition) throws IOException {
+    observance(writer, rules.isDaylightSavings(transition.getInstant()), transition.getDateTimeBefore(),
+        transition.getOffsetBefore(), transition.getOffsetAfter(), null);
+  }
+
+  private static void observance(IcsWriter writer, boolean daylight, LocalDateTime start,
+                                 ZoneOffset from, ZoneOffset to, String rrule) throws IOException {
+    String component = daylight ? "DAYLIGHT" : "STANDARD";
+    writer.begin(component);
+    writer.raw("DTSTART", LOCAL_DATE_TIME.format(start));
+    writer.raw("TZOFFSETFROM", offset(from));
+    writer.raw("TZOFFSETTO", offset(to));
+    if (rrule != null) {
+      writer.raw("RRULE", rrule);
+    }
+    writer.end(component);
+  }
+
+  /**
+   * 전환 규칙을 RRULE로 변환 (첫 전환이 규칙의 달/요일과 어긋나면 null)
+   * 예: 3월 8일 이후 첫 일요일 -> BYMONTH=3;BYDAY=2SU, 10월 25일 이후 첫 일요일(마지막 일요일) -> BYMONTH=10;BYDAY=-1SU
+   */
+  static String rrule(ZoneOffsetTransitionRule rule, LocalDateTime start) {
+    DayOfWeek dayOfWeek = rule.getDayOfWeek();
+    int dayOfMonth = rule.getDayOfMonthIndicator();
+    if (dayOfWeek == null || rule.isMidnightEndOfDay()
+        || start.getMonth() != rule.getMonth() || start.getDayOfWeek() != dayOfWeek) {
+      return null;
+    }
+
+    String day = dayOfWeek.name().substring(0, 2);
+    String byDay;
+    if (dayOfMonth > 0 && (dayOfMonth - 1) % 7 == 0) {
+      byDay = ((dayOfMonth - 1) / 7 + 1) + day;
+    } else if (dayOfMonth == -1 || lastWeekOfMonth(rule.getMonth(), dayOfMonth)) {
+      byDay = "-1" + day;
+    } else if (dayOfMonth > 0 && dayOfMonth <= 22) {
+      byDay = day + ";BYMONTHDAY=" + dayOfMonth + "," + (dayOfMonth + 1) + "," + (dayOfMonth + 2) + ","
+          + (dayOfMonth + 3) + "," + (dayOfMonth + 4) + "," + (dayOfMonth + 5) + "," + (dayOfMonth + 6);
+    } else {
+      return null;
+    }
+    return "FREQ=YEARLY;BYMONTH=" + rule.getMonth().getValue() + ";BYDAY=" + byDay;
+  }
+
+  /**
+   * "N일 이후 첫 요일"이 그 달의 마지막 요일인지 (java.time은 lastSun을 25일 이후 첫 일요일로 표현)
+   */
+  private static boolean lastWeekOfMonth(Month month, int dayOfMonth) {
+    return month != Month.FEBRUARY && dayOfMonth + 6 == month.maxLength();
+  }
+
+  static String offset(ZoneOffset offset) {
+    int total = offset.getTotalSeconds();
+    int abs = Math.abs(total);
+    String value = String.format("%s%02d%02d", total < 0 ? "-" : "+", abs / 3600, abs / 60 % 60);
+    return abs % 60 == 0 ? value : value + String.format("%02d", abs % 60);
+  }
+}
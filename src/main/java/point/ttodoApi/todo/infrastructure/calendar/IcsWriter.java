@@ -0,0 +1,141 @@
+package point.ttodoApi.todo.infrastructure.calendar;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 5545 iCalendar 스트리밍 출력기
+ * 컴포넌트 단위로 즉시 출력하므로 전체 피드를 메모리에 올리지 않음
+ */
+public class IcsWriter implements Flushable {
+
+  private static final String CRLF = "\r\n";
+  private static final int MAX_LINE_OCTETS = 75;
+  private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+  private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+  private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+      .withZone(ZoneOffset.UTC);
+
+  private final Writer out;
+
+  public IcsWriter(OutputStream outputStream) {
+    this.out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+  }
+
+  /**
+   * VCALENDAR 시작
+   */
+  public void beginCalendar(String productId, String calendarName) throws IOException {
+    begin("VCALENDAR");
+    raw("VERSION", "2.0");
+    text("PRODID", productId);
+    raw("CALSCALE", "GREGORIAN");
+    raw("METHOD", "PUBLISH");
+    text("X-WR-CALNAME", calendarName);
+  }
+
+  /**
+   * VCALENDAR 종료
+   */
+  public void endCalendar() throws IOException {
+    end("VCALENDAR");
+    out.flush();
+  }
+
+  public void begin(String component) throws IOException {
+    line("BEGIN:" + component);
+  }
+
+  public void end(String component) throws IOException {
+    line("END:" + component);
+  }
+
+  /**
+   * 이스케이프 없이 값 출력 (RRULE, STATUS 등 구조화된 값)
+   */
+  public void raw(String name, String value) throws IOException {
+    line(name + ":" + value);
+  }
+
+  /**
+   * TEXT 값 출력 (역슬래시, 세미콜론, 콤마, 개행 이스케이프)
+   */
+  public void text(String name, String value) throws IOException {
+    if (value == null || value.isEmpty()) return;
+    line(name + ":" + escape(value));
+  }
+
+  /**
+   * DATE 값 출력 (종일 일정)
+   */
+  public void date(String name, LocalDate value) throws IOException {
+    line(name + ";VALUE=DATE:" + DATE.format(value));
+  }
+
+  /**
+   * DATE-TIME 값 출력 (TZID가 없으면 floating time)
+   */
+  public void dateTime(String name, LocalDateTime value, String tzid) throws IOException {
+    String params = tzid != null ? ";TZID=" + tzid : "";
+    line(name + params + ":" + LOCAL_DATE_TIME.format(value));
+  }
+
+  /**
+   * UTC DATE-TIME 값 출력 (DTSTAMP, COMPLETED)
+   */
+  public void utc(String name, Instant value) throws IOException {
+    line(name + ":" + UTC_DATE_TIME.format(value));
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  static String escape(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 8);
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> sb.append("\\\\");
+        case ';' -> sb.append("\\;");
+        case ',' -> sb.append("\\,");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> {
+        }
+        default -> sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 75 옥텟 단위 줄 접기 (UTF-8 멀티바이트 문자는 분리하지 않음)
+   */
+  private void line(String content) throws IOException {
+    int octets = 0;
+    int i = 0;
+    while (i < content.length()) {
+      int cp = content.codePointAt(i);
+      int size = utf8Length(cp);
+      if (octets + size > MAX_LINE_OCTETS) {
+        out.write(CRLF);
+        out.write(' ');
+        octets = 1;
+      }
+      out.write(content, i, Character.charCount(cp));
+      octets += size;
+      i += Character.charCount(cp);
+    }
+    out.write(CRLF);
+  }
+
+  private static int utf8Length(int codePoint) {
+    if (codePoint < 0x80) return 1;
+    if (codePoint < 0x800) return 2;
+    if (codePoint < 0x10000) return 3;
+    return 4;
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.todo.infrastructure.calendar package
+ */
+@NullMarked
+package point.ttodoApi.todo.infrastructure.calendar;
+
+import org.jspecify.annotations.NullMarked;
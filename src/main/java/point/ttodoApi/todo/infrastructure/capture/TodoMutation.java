@@ -0,0 +1,31 @@
+package point.ttodoApi.todo.infrastructure.capture;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * 변경 로그(todo_definition_mutations / todo_instance_mutations) 한 행
+ *
+ * @param instanceId   인스턴스 변경이면 인스턴스 ID, 정의 변경이면 null
+ * @param definitionId 정의 ID
+ * @param userId       소유자
+ * @param type         CREATE | UPDATE | DELETE | RESTORE | STATUS_CHANGE
+ * @param data         행 JSON - CREATE/RESTORE는 전체 행, UPDATE/STATUS_CHANGE는 바뀐 컬럼과 id, DELETE는 id만
+ */
+public record TodoMutation(@Nullable UUID instanceId, UUID definitionId, UUID userId, String type, String data) {
+
+  public static final String CREATE = "CREATE";
+  public static final String UPDATE = "UPDATE";
+  public static final String DELETE = "DELETE";
+  public static final String RESTORE = "RESTORE";
+  public static final String STATUS_CHANGE = "STATUS_CHANGE";
+
+  public static TodoMutation definition(UUID definitionId, UUID userId, String type, String data) {
+    return new TodoMutation(null, definitionId, userId, type, data);
+  }
+
+  public static TodoMutation instance(UUID instanceId, UUID definitionId, UUID userId, String type, String data) {
+    return new TodoMutation(instanceId, definitionId, userId, type, data);
+  }
+}
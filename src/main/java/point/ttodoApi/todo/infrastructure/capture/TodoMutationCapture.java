@@ -0,0 +1,318 @@
+package point.ttodoApi.todo.infrastructure.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.user.domain.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투두 정의/인스턴스 변경을 애플리케이션에서 변경 로그로 기록 (트랜잭셔널 아웃박스, V2.16)
+ * 엔티티 쓰기(TodoMutationCaptureListener)와 JPQL/네이티브 일괄 쓰기(서비스가 직접 호출)를 세션별로 모았다가
+ * 트랜잭션 커밋 직전, 마지막 flush 뒤에 테이블마다 다중 행 INSERT로 한 번에 기록해 쓰기와 로그가 함께 커밋/롤백됨.
+ * 수정은 바뀐 컬럼만, 생성/복구는 전체 행, 삭제는 id만 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoMutationCapture {
+
+  private static final int CHUNK_SIZE = 500;
+  private static final String DELETED_AT = "deleted_at";
+  private static final String COMPLETED = "completed";
+
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final Map<SessionImplementor, Buffer> buffers = new ConcurrentHashMap<>();
+  private final Map<String, List<Column>> columnsByEntity = new ConcurrentHashMap<>();
+
+  /**
+   * 일괄 쓰기로 바뀐 인스턴스 (컬럼명 → 새 값, id는 자동 포함)
+   */
+  public void instancesChanged(Collection<InstanceRef> instances, String type, Map<String, @Nullable Object> columns) {
+    if (instances.isEmpty()) return;
+    Buffer buffer = currentBuffer();
+    for (InstanceRef instance : instances) {
+      ObjectNode data = objectMapper.createObjectNode().put("id", instance.id().toString());
+      columns.forEach((column, value) -> data.set(column, objectMapper.valueToTree(value)));
+      buffer.add(TodoMutation.instance(instance.id(), instance.definitionId(), instance.userId(), type, data.toString()));
+    }
+  }
+
+  /**
+   * 일괄 쓰기 후 다시 읽은 엔티티의 전체 행 기록 (복구처럼 클라이언트에 전체 행이 필요한 경우)
+   */
+  public void rowsChanged(Collection<?> entities, String type) {
+    if (entities.isEmpty()) return;
+    SessionImplementor session = currentSession();
+    Buffer buffer = buffer(session);
+    for (Object entity : entities) {
+      EntityPersister persister = session.getEntityPersister(null, entity);
+      Object id = persister.getIdentifier(entity, session);
+      TodoMutation mutation = mutation(entity, type, row(persister, id, persister.getValues(entity), null, session));
+      if (mutation != null) buffer.add(mutation);
+    }
+  }
+
+  void inserted(PostInsertEvent event) {
+    ObjectNode data = row(event.getPersister(), event.getId(), event.getState(), null, event.getSession());
+    add(event.getSession(), mutation(event.getEntity(), TodoMutation.CREATE, data));
+  }
+
+  void updated(PostUpdateEvent event) {
+    EntityPersister persister = event.getPersister();
+    Object[] oldState = event.getOldState();
+    Object[] state = event.getState();
+    if (oldState == null) {
+      // 분리 상태에서 갱신돼 이전 값을 모르면 전체 행
+      add(event.getSession(), mutation(event.getEntity(), TodoMutation.UPDATE,
+          row(persister, event.getId(), state, null, event.getSession())));
+      return;
+    }
+
+    String type = updateType(persister, oldState, state);
+    ObjectNode data = switch (type) {
+      case TodoMutation.RESTORE -> row(persister, event.getId(), state, null, event.getSession());
+      case TodoMutation.DELETE -> idOnly(event.getId());
+      default -> row(persister, event.getId(), state, dirty(event), event.getSession());
+    };
+    add(event.getSession(), mutation(event.getEntity(), type, data));
+  }
+
+  void deleted(PostDeleteEvent event) {
+    Object[] state = event.getDeletedState();
+    Column deletedAt = column(event.getPersister(), DELETED_AT);
+    // 이미 소프트 삭제된 행의 영구 삭제: 클라이언트는 소프트 삭제 때 DELETE를 받음
+    if (state != null && deletedAt != null && state[deletedAt.position()] != null) return;
+    add(event.getSession(), mutation(event.getEntity(), TodoMutation.DELETE, idOnly(event.getId())));
+  }
+
+  private String updateType(EntityPersister persister, Object[] oldState, Object[] state) {
+    Column deletedAt = column(persister, DELETED_AT);
+    if (deletedAt != null) {
+      boolean wasDeleted = oldState[deletedAt.position()] != null;
+      boolean deleted = state[deletedAt.position()] != null;
+      if (wasDeleted && !deleted) return TodoMutation.RESTORE;
+      if (!wasDeleted && deleted) return TodoMutation.DELETE;
+    }
+    Column completed = column(persister, COMPLETED);
+    if (completed != null && !Objects.equals(oldState[completed.position()], state[completed.position()])) {
+      return TodoMutation.STATUS_CHANGE;
+    }
+    return TodoMutation.UPDATE;
+  }
+
+  /**
+   * 바뀐 속성 위치 (Hibernate가 더티 체크 결과를 주지 않으면 이전/새 상태 비교)
+   */
+  private static Set<Integer> dirty(PostUpdateEvent event) {
+    Set<Integer> positions = new HashSet<>();
+    int[] dirtyProperties = event.getDirtyProperties();
+    if (dirtyProperties != null) {
+      for (int position : dirtyProperties) positions.add(position);
+      return positions;
+    }
+    Object[] oldState = Objects.requireNonNull(event.getOldState());
+    for (int i = 0; i < event.getState().length; i++) {
+      if (!Objects.equals(oldState[i], event.getState()[i])) positions.add(i);
+    }
+    return positions;
+  }
+
+  /**
+   * 상태 배열을 컬럼명 기준 JSON으로 (positions가 있으면 그 속성만, id는 항상 포함)
+   */
+  private ObjectNode row(EntityPersister persister, Object id, Object[] state, @Nullable Set<Integer> positions,
+                         SharedSessionContractImplementor session) {
+    ObjectNode row = idOnly(id);
+    for (Column column : columns(persister)) {
+      if (positions != null && !positions.contains(column.position())) continue;
+      Object value = state[column.position()];
+      if (value != null && column.association()) {
+        value = identifier(value, session);
+      }
+      row.set(column.name(), value == null ? NullNode.getInstance() : objectMapper.valueToTree(value));
+    }
+    return row;
+  }
+
+  private @Nullable Column column(EntityPersister persister, String name) {
+    for (Column column : columns(persister)) {
+      if (column.name().equals(name)) return column;
+    }
+    return null;
+  }
+
+  private ObjectNode idOnly(Object id) {
+    return objectMapper.createObjectNode().put("id", id.toString());
+  }
+
+  /**
+   * 엔티티별 (상태 배열 위치, 컬럼명) - 컬렉션 속성은 행에 없으므로 제외
+   */
+  private List<Column> columns(EntityPersister persister) {
+    return columnsByEntity.computeIfAbsent(persister.getEntityName(), name -> {
+      Type[] types = persister.getPropertyTypes();
+      List<Column> columns = new ArrayList<>();
+      for (int i = 0; i < persister.getNumberOfAttributeMappings(); i++) {
+        AttributeMapping attribute = persister.getAttributeMapping(i);
+        int position = attribute.getStateArrayPosition();
+        Type type = types[position];
+        if (type.isCollectionType()) continue;
+        String[] column = new String[1];
+        attribute.forEachSelectable((index, selectable) -> {
+          if (index == 0) column[0] = selectable.getSelectionExpression();
+        });
+        if (column[0] != null) {
+          columns.add(new Column(position, column[0], type.isEntityType()));
+        }
+      }
+      return List.copyOf(columns);
+    });
+  }
+
+  private static Object identifier(Object entity, SharedSessionContractImplementor session) {
+    if (entity instanceof HibernateProxy proxy) {
+      return proxy.getHibernateLazyInitializer().getInternalIdentifier();
+    }
+    return session.getEntityPersister(null, entity).getIdentifier(entity, session);
+  }
+
+  private @Nullable TodoMutation mutation(Object entity, String type, ObjectNode data) {
+    if (entity instanceof TodoDefinition definition) {
+      UUID userId = owner(definition.getOwner());
+      if (definition.getId() == null || userId == null) return null;
+      return TodoMutation.definition(definition.getId(), userId, type, data.toString());
+    }
+    if (entity instanceof TodoInstance instance) {
+      UUID userId = owner(instance.getOwner());
+      if (instance.getId() == null || userId == null) return null;
+      return TodoMutation.instance(instance.getId(), instance.getDefinition().getId(), userId, type, data.toString());
+    }
+    return null;
+  }
+
+  private static @Nullable UUID owner(@Nullable User owner) {
+    return owner == null ? null : owner.getId();
+  }
+
+  private void add(SessionImplementor session, @Nullable TodoMutation mutation) {
+    if (mutation != null) buffer(session).add(mutation);
+  }
+
+  private Buffer currentBuffer() {
+    return buffer(currentSession());
+  }
+
+  private SessionImplementor currentSession() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Todo mutations must be captured inside a transaction");
+    }
+    return entityManager.unwrap(SessionImplementor.class);
+  }
+
+  /**
+   * 세션(트랜잭션)마다 버퍼 하나. 커밋 직전에 기록하고, 커밋/롤백 후 제거
+   */
+  private Buffer buffer(SessionImplementor session) {
+    return buffers.computeIfAbsent(session, key -> {
+      Buffer buffer = new Buffer();
+      key.getActionQueue().registerProcess(buffer);
+      key.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+        Buffer done = buffers.remove(key);
+        if (success && done != null && done.written > 0) {
+          eventPublisher.publishEvent(new TodoMutationsCommittedEvent(done.written));
+        }
+      });
+      return buffer;
+    });
+  }
+
+  private static void insert(Connection connection, List<TodoMutation> mutations) throws SQLException {
+    List<TodoMutation> definitions = mutations.stream().filter(m -> m.instanceId() == null).toList();
+    List<TodoMutation> instances = mutations.stream().filter(m -> m.instanceId() != null).toList();
+    for (int from = 0; from < definitions.size(); from += CHUNK_SIZE) {
+      List<TodoMutation> chunk = definitions.subList(from, Math.min(definitions.size(), from + CHUNK_SIZE));
+      String sql = "INSERT INTO todo_definition_mutations (definition_id, user_id, mutation_type, mutation_data) VALUES "
+          + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?::jsonb)"));
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        int index = 1;
+        for (TodoMutation mutation : chunk) {
+          statement.setObject(index++, mutation.definitionId());
+          statement.setObject(index++, mutation.userId());
+          statement.setString(index++, mutation.type());
+          statement.setString(index++, mutation.data());
+        }
+        statement.executeUpdate();
+      }
+    }
+    for (int from = 0; from < instances.size(); from += CHUNK_SIZE) {
+      List<TodoMutation> chunk = instances.subList(from, Math.min(instances.size(), from + CHUNK_SIZE));
+      String sql = "INSERT INTO todo_instance_mutations (instance_id, definition_id, user_id, mutation_type, mutation_data) VALUES "
+          + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?::jsonb)"));
+      try (PreparedStatement statement = connection.prepareStatement(sql)) {
+        int index = 1;
+        for (TodoMutation mutation : chunk) {
+          statement.setObject(index++, mutation.instanceId());
+          statement.setObject(index++, mutation.definitionId());
+          statement.setObject(index++, mutation.userId());
+          statement.setString(index++, mutation.type());
+          statement.setString(index++, mutation.data());
+        }
+        statement.executeUpdate();
+      }
+    }
+  }
+
+  /**
+   * 일괄 쓰기 대상 인스턴스
+   */
+  public record InstanceRef(UUID id, UUID definitionId, UUID userId) {
+  }
+
+  private record Column(int position, String name, boolean association) {
+  }
+
+  private static final class Buffer implements BeforeTransactionCompletionProcess {
+
+    private final List<TodoMutation> mutations = new ArrayList<>();
+    private int written;
+
+    void add(TodoMutation mutation) {
+      mutations.add(mutation);
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+      if (mutations.isEmpty()) return;
+      session.doWork(connection -> insert(connection, mutations));
+      written += mutations.size();
+      mutations.clear();
+    }
+  }
+}
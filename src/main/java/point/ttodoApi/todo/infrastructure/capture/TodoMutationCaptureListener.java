@@ -0,0 +1,43 @@
+package point.ttodoApi.todo.infrastructure.capture;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+
+/**
+ * 투두 정의/인스턴스 엔티티 쓰기를 TodoMutationCapture로 전달하는 Hibernate 리스너
+ * EntityManagerFactory 생성 시점에 등록되므로 캡처 빈은 처음 쓸 때 조회
+ */
+@RequiredArgsConstructor
+public class TodoMutationCaptureListener
+    implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+  private final ObjectProvider<TodoMutationCapture> capture;
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    if (captured(event.getEntity())) capture.getObject().inserted(event);
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    if (captured(event.getEntity())) capture.getObject().updated(event);
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    if (captured(event.getEntity())) capture.getObject().deleted(event);
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private static boolean captured(Object entity) {
+    return entity instanceof TodoDefinition || entity instanceof TodoInstance;
+  }
+}
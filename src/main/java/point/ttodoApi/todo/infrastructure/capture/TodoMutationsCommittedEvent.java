@@ -0,0 +1,9 @@
+package point.ttodoApi.todo.infrastructure.capture;
+
+/**
+ * 변경 로그 행을 쓴 트랜잭션이 커밋됨 (릴레이를 폴링 주기보다 먼저 깨우는 신호)
+ *
+ * @param count 커밋된 행 수
+ */
+public record TodoMutationsCommittedEvent(int count) {
+}
@@ -0,0 +1,7 @@
+/**
+ * point.ttodoApi.todo.infrastructure.capture package
+ */
+@NullMarked
+package point.ttodoApi.todo.infrastructure.capture;
+
+import org.jspecify.annotations.NullMarked;
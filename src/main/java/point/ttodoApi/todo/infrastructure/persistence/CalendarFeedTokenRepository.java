@@ -0,0 +1,16 @@
+package point.ttodoApi.todo.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import point.ttodoApi.todo.domain.CalendarFeedToken;
+
+import java.util.*;
+
+/**
+ * 캘린더 피드 토큰 Repository
+ */
+@Repository
+public interface CalendarFeedTokenRepository extends JpaRepository<CalendarFeedToken, UUID> {
+
+  Optional<CalendarFeedToken> findByToken(String token);
+}
@@ -0,0 +1,181 @@
+package point.ttodoApi.todo.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import point.ttodoApi.todo.domain.TodoDailyRollup;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 일간 완료 집계 Repository
+ */
+@Repository
+public interface TodoDailyRollupRepository extends JpaRepository<TodoDailyRollup, TodoDailyRollup.RollupId> {
+
+  /**
+   * 날짜 범위 집계 조회 (차트용, 최대 366행/년)
+   */
+  @Query("""
+    SELECT
+      r.date as date,
+      r.completed as completed,
+      r.pending as pending
+    FROM TodoDailyRollup r
+    WHERE r.userId = :userId
+      AND r.date BETWEEN :startDate AND :endDate
+      AND (r.completed > 0 OR r.pending > 0)
+    ORDER BY r.date ASC
+    """)
+  List<Map<String, Object>> findCompletionStats(
+      @Param("userId") UUID userId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate
+  );
+
+  /**
+   * 증가분 반영 (행이 없으면 생성, 두 증분 모두 0 이상일 때만 사용)
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO todo_daily_rollup (user_id, date, completed, pending)
+    VALUES (:userId, :date, :completedDelta, :pendingDelta)
+    ON CONFLICT (user_id, date) DO UPDATE
+    SET completed = todo_daily_rollup.completed + :completedDelta,
+        pending = todo_daily_rollup.pending + :pendingDelta
+    """, nativeQuery = true)
+  int addDelta(
+      @Param("userId") UUID userId,
+      @Param("date") LocalDate date,
+      @Param("completedDelta") int completedDelta,
+      @Param("pendingDelta") int pendingDelta
+  );
+
+  /**
+   * 감소분이 있는 증분 반영. 행이 없거나 음수로 내려가면 바꾸지 않고 0 반환 (집계 어긋남)
+   * CHECK (>= 0) 위반으로 원본 쓰기까지 롤백되지 않게 조건부로 갱신
+   */
+  @Modifying
+  @Query(value = """
+    UPDATE todo_daily_rollup
+    SET completed = completed + :completedDelta,
+        pending = pending + :pendingDelta
+    WHERE user_id = :userId
+      AND date = :date
+      AND completed + :completedDelta >= 0
+      AND pending + :pendingDelta >= 0
+    """, nativeQuery = true)
+  int applyDeltaIfNonNegative(
+      @Param("userId") UUID userId,
+      @Param("date") LocalDate date,
+      @Param("completedDelta") int completedDelta,
+      @Param("pendingDelta") int pendingDelta
+  );
+
+  /**
+   * 정의 삭제 시 해당 정의의 살아있는 인스턴스만큼 차감
+   * 음수로 내려갈 날짜는 건너뛰고, 그런 날짜가 있는 사용자 ID 반환 (집계 어긋남)
+   */
+  @Query(value = """
+    WITH s AS (
+      SELECT
+        i.user_id,
+        i.due_date,
+        COUNT(*) FILTER (WHERE i.completed) AS completed,
+        COUNT(*) FILTER (WHERE NOT i.completed) AS pending
+      FROM todo_instances_all i
+      WHERE i.definition_id = :definitionId
+        AND i.deleted_at IS NULL
+      GROUP BY i.user_id, i.due_date
+    ), updated AS (
+      UPDATE todo_daily_rollup r
+      SET completed = r.completed - s.completed,
+          pending = r.pending - s.pending
+      FROM s
+      WHERE r.user_id = s.user_id
+        AND r.date = s.due_date
+        AND r.completed >= s.completed
+        AND r.pending >= s.pending
+      RETURNING r.user_id, r.date
+    )
+    SELECT DISTINCT s.user_id
+    FROM s
+    WHERE NOT EXISTS (SELECT 1 FROM updated u WHERE u.user_id = s.user_id AND u.date = s.due_date)
+    """, nativeQuery = true)
+  List<UUID> subtractDefinition(@Param("definitionId") UUID definitionId);
+
+  /**
+   * 하루 집계 행 잠금 (재계산 전에 진행 중인 증분 반영이 끝나기를 기다림)
+   */
+  @Query(value = """
+    SELECT count(*) FROM (
+      SELECT 1 FROM todo_daily_rollup WHERE user_id = :userId AND date = :date FOR UPDATE
+    ) locked
+    """, nativeQuery = true)
+  long lockDay(@Param("userId") UUID userId, @Param("date") LocalDate date);
+
+  /**
+   * 하루 집계 재계산 (원본 인스턴스 기준, 보관분 포함)
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO todo_daily_rollup (user_id, date, completed, pending)
+    SELECT
+      CAST(:userId AS uuid),
+      CAST(:date AS date),
+      COUNT(*) FILTER (WHERE i.completed),
+      COUNT(*) FILTER (WHERE NOT i.completed)
+    FROM todo_instances_all i
+    INNER JOIN todo_definitions d ON d.id = i.definition_id
+    WHERE i.user_id = :userId
+      AND i.due_date = :date
+      AND i.deleted_at IS NULL
+      AND d.deleted_at IS NULL
+    ON CONFLICT (user_id, date) DO UPDATE
+    SET completed = EXCLUDED.completed,
+        pending = EXCLUDED.pending
+    """, nativeQuery = true)
+  int rebuildDay(@Param("userId") UUID userId, @Param("date") LocalDate date);
+
+  /**
+   * 사용자 집계 전체 삭제 (재계산 전)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM todo_daily_rollup WHERE user_id = :userId", nativeQuery = true)
+  int deleteByUserId(@Param("userId") UUID userId);
+
+  /**
+   * 사용자 집계 재계산 (원본 인스턴스 기준, 보관분 포함)
+   */
+  @Modifying
+  @Query(value = """
+    INSERT INTO todo_daily_rollup (user_id, date, completed, pending)
+    SELECT
+      i.user_id,
+      i.due_date,
+      COUNT(*) FILTER (WHERE i.completed),
+      COUNT(*) FILTER (WHERE NOT i.completed)
+    FROM todo_instances_all i
+    INNER JOIN todo_definitions d ON d.id = i.definition_id
+    WHERE i.user_id = :userId
+      AND i.deleted_at IS NULL
+      AND d.deleted_at IS NULL
+    GROUP BY i.user_id, i.due_date
+    """, nativeQuery = true)
+  int rebuildForUser(@Param("userId") UUID userId);
+
+  /**
+   * 백필 대상 사용자 ID (키셋 페이지네이션, 첫 페이지는 afterUserId = null)
+   */
+  @Query(value = """
+    SELECT DISTINCT i.user_id
+    FROM todo_instances_all i
+    WHERE (CAST(:afterUserId AS uuid) IS NULL OR i.user_id > CAST(:afterUserId AS uuid))
+    ORDER BY i.user_id
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<UUID> findUserIdsAfter(@Param("afterUserId") UUID afterUserId, @Param("limit") int limit);
+}
@@ -1,11 +1,14 @@
 package point.ttodoApi.todo.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import point.ttodoApi.todo.domain.TodoDefinition;
@@ -13,6 +16,7 @@ import point.ttodoApi.user.domain.User;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
 public interface TodoDefinitionRepository extends
@@ -23,9 +27,8 @@ public interface TodoDefinitionRepository extends
    * 사용자의 활성 정의 목록 조회 (소프트 삭제 제외)
    */
   @Query("""
-    SELECT DISTINCT d FROM TodoDefinition d
+    SELECT d FROM TodoDefinition d
     LEFT JOIN FETCH d.category
-    LEFT JOIN FETCH d.tags
     WHERE d.owner = :owner
       AND d.deletedAt IS NULL
     ORDER BY d.createdAt DESC
@@ -129,19 +132,6 @@ public interface TodoDefinitionRepository extends
     """)
   int softDeleteByOwner(@Param("owner") User owner, @Param("deletedAt") LocalDateTime deletedAt);
 
-  /**
-   * 태그로 정의 검색
-   */
-  @Query("""
-    SELECT DISTINCT d FROM TodoDefinition d
-    LEFT JOIN d.tags t
-    WHERE d.owner = :owner
-      AND t IN :tags
-      AND d.deletedAt IS NULL
-    ORDER BY d.createdAt DESC
-    """)
-  List<TodoDefinition> findByTags(@Param("owner") User owner, @Param("tags") Set<String> tags);
-
   /**
    * 제목으로 검색
    */
@@ -188,4 +178,108 @@ public interface TodoDefinitionRepository extends
       AND d.deletedAt IS NULL
     """)
   Map<String, Long> getStatsByOwner(@Param("owner") User owner);
-}
\ No newline at end of file
+
+  /**
+   * 캘린더 피드용 반복 정의 스트리밍 조회 (fetch size 단위로 커서 조회)
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("""
+    SELECT d FROM TodoDefinition d
+    LEFT JOIN FETCH d.category
+    WHERE d.owner.id = :ownerId
+      AND d.recurrenceRule IS NOT NULL
+      AND d.deletedAt IS NULL
+    ORDER BY d.id
+    """)
+  Stream<TodoDefinition> streamRecurringForFeed(@Param("ownerId") UUID ownerId);
+
+  /**
+   * 캘린더 피드 버전 (ETag 계산용 건수/최종 수정시각)
+   */
+  @Query("""
+    SELECT
+      COUNT(d) as count,
+      MAX(d.updatedAt) as lastModified
+    FROM TodoDefinition d
+    WHERE d.owner.id = :ownerId
+    """)
+  Map<String, Object> getFeedVersion(@Param("ownerId") UUID ownerId);
+
+  /**
+   * 캘린더 피드에 이름이 나가는 카테고리 버전 (ETag 계산용, 공유 카테고리 이름 변경도 반영)
+   */
+  @Query("""
+    SELECT
+      COUNT(c) as count,
+      MAX(c.updatedAt) as lastModified
+    FROM Category c
+    WHERE c.id IN (SELECT d.category.id FROM TodoDefinition d WHERE d.owner.id = :ownerId)
+       OR c.id IN (SELECT i.category.id FROM TodoInstance i WHERE i.owner.id = :ownerId)
+    """)
+  Map<String, Object> getFeedCategoryVersion(@Param("ownerId") UUID ownerId);
+
+  /**
+   * 다가오는 반복 일정 조회 (owner + next_due_date 인덱스 범위 스캔)
+   */
+  @Query("""
+    SELECT d FROM TodoDefinition d
+    WHERE d.owner.id = :ownerId
+      AND d.nextDueDate <= :until
+      AND d.deletedAt IS NULL
+    ORDER BY d.nextDueDate ASC
+    """)
+  List<TodoDefinition> findUpcomingSeries(@Param("ownerId") UUID ownerId, @Param("until") LocalDate until);
+
+  /**
+   * 종료된 반복 시리즈 조회 (owner + last_due_date 인덱스 범위 스캔)
+   */
+  @Query("""
+    SELECT d FROM TodoDefinition d
+    WHERE d.owner.id = :ownerId
+      AND d.lastDueDate < :today
+      AND d.deletedAt IS NULL
+    ORDER BY d.lastDueDate DESC
+    """)
+  List<TodoDefinition> findEndedSeries(@Param("ownerId") UUID ownerId, @Param("today") LocalDate today);
+
+  /**
+   * 일정 캐시 백필 대상 ID (재계산 표시된 정의, 키셋 페이징)
+   */
+  @Query(value = """
+    SELECT d.id FROM todo_definitions d
+    WHERE d.schedule_stale
+      AND (CAST(:afterId AS uuid) IS NULL OR d.id > CAST(:afterId AS uuid))
+    ORDER BY d.id
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<UUID> findStaleScheduleIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  /**
+   * 보존 기간이 지난 소프트 삭제 정의 영구 삭제 (키셋 배치, 잠긴 행은 건너뜀)
+   * 남은 인스턴스/보관 인스턴스/변경 이력은 FK CASCADE로 함께 삭제
+   */
+  @Query(value = """
+    WITH batch AS (
+      SELECT d.id FROM todo_definitions d
+      WHERE d.deleted_at < :deletedBefore
+        AND (CAST(:afterId AS uuid) IS NULL OR d.id > CAST(:afterId AS uuid))
+      ORDER BY d.id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+    ), purged AS (
+      DELETE FROM todo_definitions t
+      USING batch b
+      WHERE t.id = b.id
+      RETURNING t.id
+    )
+    SELECT id FROM purged ORDER BY id
+    """, nativeQuery = true)
+  List<UUID> purgeDeletedBatch(
+      @Param("deletedBefore") LocalDateTime deletedBefore,
+      @Param("afterId") UUID afterId,
+      @Param("limit") int limit
+  );
+}
@@ -0,0 +1,112 @@
+package point.ttodoApi.todo.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import point.ttodoApi.todo.domain.TodoInstanceArchive;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Repository
+public interface TodoInstanceArchiveRepository extends JpaRepository<TodoInstanceArchive, UUID> {
+
+  /**
+   * 보관 대상 한 배치를 todo_instances에서 삭제하며 보관 테이블로 이동 (다른 트랜잭션이 잠근 행은 건너뜀)
+   */
+  @Modifying
+  @Query(value = """
+    WITH batch AS (
+      SELECT id, due_date FROM todo_instances
+      WHERE (completed = TRUE AND deleted_at IS NULL AND completed_at < :completedBefore)
+         OR deleted_at < :deletedBefore
+      LIMIT :batchSize
+      FOR UPDATE SKIP LOCKED
+    ), moved AS (
+      DELETE FROM todo_instances i
+      USING batch b
+      WHERE i.id = b.id AND i.due_date = b.due_date
+      RETURNING i.*
+    )
+    INSERT INTO todo_instances_archive (
+      id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+      due_date, original_due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+      created_at, updated_at, deleted_at
+    )
+    SELECT
+      id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+      due_date, original_due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+      created_at, updated_at, deleted_at
+    FROM moved
+    """, nativeQuery = true)
+  int archiveBatch(
+      @Param("completedBefore") LocalDateTime completedBefore,
+      @Param("deletedBefore") LocalDateTime deletedBefore,
+      @Param("batchSize") int batchSize
+  );
+
+  /**
+   * 보관된 완료/삭제 회차의 원래 발생일 (다음 발생일 계산 시 건너뛰기용)
+   */
+  @Query("""
+    SELECT COALESCE(a.originalDueDate, a.dueDate) FROM TodoInstanceArchive a
+    WHERE a.definitionId = :definitionId
+      AND (a.completed = true OR a.deletedAt IS NOT NULL)
+      AND COALESCE(a.originalDueDate, a.dueDate) >= :from
+    """)
+  Set<LocalDate> findClosedOccurrenceDates(
+      @Param("definitionId") UUID definitionId,
+      @Param("from") LocalDate from
+  );
+
+  /**
+   * 캘린더 피드용 보관된 반복 예외 회차 (삭제는 EXDATE, 완료/제목 변경/이동은 회차 재정의)
+   */
+  @Query("""
+    SELECT a FROM TodoInstanceArchive a
+    WHERE a.userId = :ownerId
+      AND (a.deletedAt IS NOT NULL OR a.completed = true OR a.title IS NOT NULL OR a.originalDueDate IS NOT NULL)
+      AND a.definitionId IN (
+        SELECT d.id FROM TodoDefinition d
+        WHERE d.owner.id = :ownerId
+          AND d.recurrenceRule IS NOT NULL
+          AND d.deletedAt IS NULL
+      )
+    """)
+  List<TodoInstanceArchive> findRecurringExceptionsForFeed(@Param("ownerId") UUID ownerId);
+
+  /**
+   * 보존 기간이 지난 보관된 삭제 인스턴스 영구 삭제 (키셋 배치, 잠긴 행은 건너뜀)
+   * 살아있는 반복 정의의 삭제 회차는 회차 제외(EXDATE) 표시이므로 남겨 둠
+   */
+  @Query(value = """
+    WITH batch AS (
+      SELECT i.id, i.due_date FROM todo_instances_archive i
+      WHERE i.deleted_at < :deletedBefore
+        AND (CAST(:afterId AS uuid) IS NULL OR i.id > CAST(:afterId AS uuid))
+        AND NOT EXISTS (
+          SELECT 1 FROM todo_definitions d
+          WHERE d.id = i.definition_id
+            AND d.recurrence_rule IS NOT NULL
+            AND d.deleted_at IS NULL
+        )
+      ORDER BY i.id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+    ), purged AS (
+      DELETE FROM todo_instances_archive t
+      USING batch b
+      WHERE t.id = b.id AND t.due_date = b.due_date
+      RETURNING t.id
+    )
+    SELECT id FROM purged ORDER BY id
+    """, nativeQuery = true)
+  List<UUID> purgeDeletedBatch(
+      @Param("deletedBefore") LocalDateTime deletedBefore,
+      @Param("afterId") UUID afterId,
+      @Param("limit") int limit
+  );
+}
@@ -1,20 +1,30 @@
 package point.ttodoApi.todo.infrastructure.persistence;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import point.ttodoApi.todo.domain.TodoDefinition;
 import point.ttodoApi.todo.domain.TodoInstance;
 import point.ttodoApi.user.domain.User;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
 public interface TodoInstanceRepository extends
@@ -24,10 +34,10 @@ public interface TodoInstanceRepository extends
   /**
    * 날짜 범위로 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
-    SELECT DISTINCT i FROM TodoInstance i
-    LEFT JOIN FETCH i.definition d
-    LEFT JOIN FETCH i.category
+    SELECT i FROM TodoInstance i
+    INNER JOIN i.definition d
     WHERE i.owner = :owner
       AND i.dueDate BETWEEN :startDate AND :endDate
       AND i.deletedAt IS NULL
@@ -43,15 +53,15 @@ public interface TodoInstanceRepository extends
   /**
    * 오늘의 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
-    SELECT DISTINCT i FROM TodoInstance i
-    LEFT JOIN FETCH i.definition d
-    LEFT JOIN FETCH i.category
+    SELECT i FROM TodoInstance i
+    INNER JOIN i.definition d
     WHERE i.owner = :owner
       AND i.dueDate = :today
       AND i.deletedAt IS NULL
       AND d.deletedAt IS NULL
-    ORDER BY i.completed ASC, i.isPinned DESC, i.displayOrder ASC, i.dueTime ASC
+    ORDER BY i.completed ASC, i.isPinned DESC, i.rankKey ASC NULLS LAST, i.dueTime ASC
     """)
   List<TodoInstance> findTodayInstances(
       @Param("owner") User owner,
@@ -61,6 +71,7 @@ public interface TodoInstanceRepository extends
   /**
    * 지난 미완료 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
     SELECT i FROM TodoInstance i
     INNER JOIN i.definition d
@@ -79,6 +90,7 @@ public interface TodoInstanceRepository extends
   /**
    * 예정된 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
     SELECT i FROM TodoInstance i
     INNER JOIN i.definition d
@@ -105,26 +117,10 @@ public interface TodoInstanceRepository extends
     """)
   List<TodoInstance> findByDefinition(@Param("definition") TodoDefinition definition);
 
-  /**
-   * 완료된 인스턴스 조회
-   */
-  @Query("""
-    SELECT i FROM TodoInstance i
-    INNER JOIN i.definition d
-    WHERE i.owner = :owner
-      AND i.completed = true
-      AND i.deletedAt IS NULL
-      AND d.deletedAt IS NULL
-    ORDER BY i.completedAt DESC
-    """)
-  Page<TodoInstance> findCompletedInstances(
-      @Param("owner") User owner,
-      Pageable pageable
-  );
-
   /**
    * 고정된 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
     SELECT i FROM TodoInstance i
     INNER JOIN i.definition d
@@ -132,7 +128,7 @@ public interface TodoInstanceRepository extends
       AND i.isPinned = true
       AND i.deletedAt IS NULL
       AND d.deletedAt IS NULL
-    ORDER BY i.displayOrder ASC, i.dueDate ASC
+    ORDER BY i.rankKey ASC NULLS LAST, i.dueDate ASC
     """)
   List<TodoInstance> findPinnedInstances(@Param("owner") User owner);
 
@@ -175,23 +171,188 @@ public interface TodoInstanceRepository extends
   int softDelete(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
 
   /**
-   * 정의별 모든 인스턴스 소프트 삭제
+   * 정의별 모든 인스턴스 소프트 삭제 (변경 로그 기록용으로 삭제한 인스턴스 반환)
    */
-  @Modifying
+  @Query(value = """
+    WITH deleted AS (
+      UPDATE todo_instances
+      SET deleted_at = :deletedAt
+      WHERE definition_id = :definitionId
+        AND deleted_at IS NULL
+      RETURNING id, definition_id, user_id, rank_key
+    )
+    SELECT id, definition_id AS definitionId, user_id AS userId, rank_key AS rankKey FROM deleted
+    """, nativeQuery = true)
+  List<ChangedInstance> softDeleteByDefinition(
+      @Param("definitionId") UUID definitionId,
+      @Param("deletedAt") LocalDateTime deletedAt
+  );
+
+  /**
+   * 일괄 작업 대상 조회 (소유자 것만, 행 잠금 - 집계 증분 계산용 이전 상태)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @EntityGraph(attributePaths = "definition")
   @Query("""
-    UPDATE TodoInstance i
-    SET i.deletedAt = :deletedAt
-    WHERE i.definition = :definition
-      AND i.deletedAt IS NULL
+    SELECT i FROM TodoInstance i
+    WHERE i.id IN :ids
+      AND i.owner.id = :ownerId
     """)
-  int softDeleteByDefinition(
-      @Param("definition") TodoDefinition definition,
-      @Param("deletedAt") LocalDateTime deletedAt
+  List<TodoInstance> findForBulkUpdate(@Param("ids") Collection<UUID> ids, @Param("ownerId") UUID ownerId);
+
+  /**
+   * 일괄 완료 처리 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET completed = true, completed_at = :completedAt, updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND completed = false
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkComplete(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("completedAt") LocalDateTime completedAt,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 완료 취소 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET completed = false, completed_at = NULL, updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND completed = true
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkUncomplete(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 소프트 삭제 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET deleted_at = :deletedAt, updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkSoftDelete(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("deletedAt") LocalDateTime deletedAt,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 복구 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET deleted_at = NULL, updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND deleted_at IS NOT NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkRestore(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 고정/고정 해제 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET is_pinned = :pinned, updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND is_pinned <> :pinned
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkSetPinned(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("pinned") boolean pinned,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 마감일 이동 (실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET due_date = :dueDate, original_due_date = COALESCE(original_due_date, due_date), updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND due_date <> :dueDate
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkMoveDueDate(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("dueDate") LocalDate dueDate,
+      @Param("updatedAt") Instant updatedAt
+  );
+
+  /**
+   * 일괄 카테고리 변경 (categoryId가 NULL이면 정의의 카테고리를 따름, 실제로 바뀐 인스턴스 ID 반환)
+   */
+  @Query(value = """
+    WITH updated AS (
+      UPDATE todo_instances
+      SET category_id = CAST(:categoryId AS uuid), updated_at = :updatedAt
+      WHERE id IN (:ids)
+        AND user_id = :ownerId
+        AND deleted_at IS NULL
+      RETURNING id
+    )
+    SELECT id FROM updated
+    """, nativeQuery = true)
+  List<UUID> bulkSetCategory(
+      @Param("ids") Collection<UUID> ids,
+      @Param("ownerId") UUID ownerId,
+      @Param("categoryId") @Nullable UUID categoryId,
+      @Param("updatedAt") Instant updatedAt
   );
 
   /**
    * 카테고리별 인스턴스 조회
    */
+  @EntityGraph(TodoInstance.LIST_GRAPH)
   @Query("""
     SELECT i FROM TodoInstance i
     INNER JOIN i.definition d
@@ -207,60 +368,260 @@ public interface TodoInstanceRepository extends
   );
 
   /**
-   * 통계 조회 - 날짜별 완료 수
+   * ID로 조회 - 키 테이블(todo_instance_keys)의 마감일로 파티션 하나만 탐색
+   */
+  @Override
+  @Query(value = """
+    SELECT i.* FROM todo_instances i
+    WHERE i.id = :id
+      AND i.due_date = (SELECT k.due_date FROM todo_instance_keys k WHERE k.id = :id)
+    """, nativeQuery = true)
+  Optional<TodoInstance> findById(@Param("id") UUID id);
+
+  /**
+   * ID와 owner로 조회 (권한 확인용, 키 테이블의 마감일로 파티션 하나만 탐색)
+   */
+  @Query(value = """
+    SELECT i.* FROM todo_instances i
+    WHERE i.id = :id
+      AND i.due_date = (SELECT k.due_date FROM todo_instance_keys k WHERE k.id = :id)
+      AND i.user_id = :#{#owner.id}
+      AND i.deleted_at IS NULL
+    """, nativeQuery = true)
+  Optional<TodoInstance> findByIdAndOwner(@Param("id") UUID id, @Param("owner") User owner);
+
+  /**
+   * 다음 시퀀스 번호 조회 - 보관된 회차까지 포함한 키 테이블(todo_instances + 보관 테이블) 기준이라 재사용하지 않음
+   */
+  @Query(value = """
+    SELECT COALESCE(MAX(k.sequence_number), 0) + 1
+    FROM todo_instance_keys k
+    WHERE k.definition_id = :#{#definition.id}
+    """, nativeQuery = true)
+  Integer getNextSequenceNumber(@Param("definition") TodoDefinition definition);
+
+  /**
+   * 특정 시퀀스의 인스턴스 조회
    */
   @Query("""
-    SELECT
-      i.dueDate as date,
-      COUNT(CASE WHEN i.completed = true THEN 1 END) as completed,
-      COUNT(CASE WHEN i.completed = false THEN 1 END) as pending
-    FROM TodoInstance i
-    INNER JOIN i.definition d
-    WHERE i.owner = :owner
-      AND i.dueDate BETWEEN :startDate AND :endDate
+    SELECT i FROM TodoInstance i
+    WHERE i.definition = :definition
+      AND i.sequenceNumber = :sequenceNumber
       AND i.deletedAt IS NULL
-      AND d.deletedAt IS NULL
-    GROUP BY i.dueDate
-    ORDER BY i.dueDate ASC
     """)
-  List<Map<String, Object>> getCompletionStatsByDateRange(
-      @Param("owner") User owner,
-      @Param("startDate") LocalDate startDate,
-      @Param("endDate") LocalDate endDate
+  Optional<TodoInstance> findByDefinitionAndSequence(
+      @Param("definition") TodoDefinition definition,
+      @Param("sequenceNumber") Integer sequenceNumber
   );
 
   /**
-   * ID와 owner로 조회 (권한 확인용)
+   * 캘린더 피드용 1회성 인스턴스 스트리밍 조회
    */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
   @Query("""
     SELECT i FROM TodoInstance i
-    WHERE i.id = :id
-      AND i.owner = :owner
+    INNER JOIN FETCH i.definition d
+    LEFT JOIN FETCH i.category
+    LEFT JOIN FETCH d.category
+    WHERE i.owner.id = :ownerId
+      AND d.recurrenceRule IS NULL
       AND i.deletedAt IS NULL
+      AND d.deletedAt IS NULL
+    ORDER BY i.id
     """)
-  Optional<TodoInstance> findByIdAndOwner(@Param("id") UUID id, @Param("owner") User owner);
+  Stream<TodoInstance> streamSingleForFeed(@Param("ownerId") UUID ownerId);
+
+  /**
+   * 캘린더 피드용 반복 인스턴스 예외 조회 (삭제/완료/제목 변경/이동된 회차만)
+   */
+  @Query("""
+    SELECT i FROM TodoInstance i
+    INNER JOIN i.definition d
+    WHERE i.owner.id = :ownerId
+      AND d.recurrenceRule IS NOT NULL
+      AND d.deletedAt IS NULL
+      AND (i.deletedAt IS NOT NULL OR i.completed = true OR i.title IS NOT NULL OR i.originalDueDate IS NOT NULL)
+    """)
+  List<TodoInstance> findRecurringExceptionsForFeed(@Param("ownerId") UUID ownerId);
 
   /**
-   * 다음 시퀀스 번호 조회
+   * 캘린더 피드 버전 (ETag 계산용 건수/최종 수정시각)
    */
   @Query("""
-    SELECT COALESCE(MAX(i.sequenceNumber), 0) + 1
+    SELECT
+      COUNT(i) as count,
+      MAX(i.updatedAt) as lastModified
     FROM TodoInstance i
-    WHERE i.definition = :definition
+    WHERE i.owner.id = :ownerId
     """)
-  Integer getNextSequenceNumber(@Param("definition") TodoDefinition definition);
+  Map<String, Object> getFeedVersion(@Param("ownerId") UUID ownerId);
 
   /**
-   * 특정 시퀀스의 인스턴스 조회
+   * 태그 필터 (하나라도 일치) - 인스턴스 태그가 NULL이면 정의 태그로 판단
+   * 조건마다 한 테이블의 tags만 보도록 나눠 각각 GIN 인덱스(idx_todo_inst_tags, idx_todo_def_tags)를 사용
+   * 두 갈래는 i.tags NULL 여부로 겹치지 않으므로 UNION ALL
+   */
+  @Query(value = """
+    SELECT i.id FROM todo_instances i
+    INNER JOIN todo_definitions d ON d.id = i.definition_id
+    WHERE i.tags && CAST(:tags AS text[])
+      AND i.user_id = :userId
+      AND i.deleted_at IS NULL
+      AND d.deleted_at IS NULL
+    UNION ALL
+    SELECT i.id FROM todo_definitions d
+    INNER JOIN todo_instances i ON i.definition_id = d.id
+    WHERE d.tags && CAST(:tags AS text[])
+      AND d.user_id = :userId
+      AND d.deleted_at IS NULL
+      AND i.tags IS NULL
+      AND i.user_id = :userId
+      AND i.deleted_at IS NULL
+    """, nativeQuery = true)
+  List<UUID> findIdsByAnyTag(@Param("userId") UUID userId, @Param("tags") String[] tags);
+
+  /**
+   * 태그 필터 (모두 포함) - 인스턴스 태그가 NULL이면 정의 태그로 판단
+   * 조건마다 한 테이블의 tags만 보도록 나눠 각각 GIN 인덱스(idx_todo_inst_tags, idx_todo_def_tags)를 사용
+   * 두 갈래는 i.tags NULL 여부로 겹치지 않으므로 UNION ALL
+   */
+  @Query(value = """
+    SELECT i.id FROM todo_instances i
+    INNER JOIN todo_definitions d ON d.id = i.definition_id
+    WHERE i.tags @> CAST(:tags AS text[])
+      AND i.user_id = :userId
+      AND i.deleted_at IS NULL
+      AND d.deleted_at IS NULL
+    UNION ALL
+    SELECT i.id FROM todo_definitions d
+    INNER JOIN todo_instances i ON i.definition_id = d.id
+    WHERE d.tags @> CAST(:tags AS text[])
+      AND d.user_id = :userId
+      AND d.deleted_at IS NULL
+      AND i.tags IS NULL
+      AND i.user_id = :userId
+      AND i.deleted_at IS NULL
+    """, nativeQuery = true)
+  List<UUID> findIdsByAllTags(@Param("userId") UUID userId, @Param("tags") String[] tags);
+
+  /**
+   * 정의의 완료/삭제된 회차의 원래 발생일 조회 (다음 발생일 계산 시 건너뛰기용)
    */
   @Query("""
-    SELECT i FROM TodoInstance i
+    SELECT COALESCE(i.originalDueDate, i.dueDate) FROM TodoInstance i
     WHERE i.definition = :definition
-      AND i.sequenceNumber = :sequenceNumber
-      AND i.deletedAt IS NULL
+      AND (i.completed = true OR i.deletedAt IS NOT NULL)
+      AND COALESCE(i.originalDueDate, i.dueDate) >= :from
     """)
-  Optional<TodoInstance> findByDefinitionAndSequence(
+  Set<LocalDate> findClosedOccurrenceDates(
       @Param("definition") TodoDefinition definition,
-      @Param("sequenceNumber") Integer sequenceNumber
+      @Param("from") LocalDate from
   );
-}
\ No newline at end of file
+
+  /**
+   * 사용자의 마지막 순위 키 (새 인스턴스는 이 뒤에 추가)
+   */
+  @Query(value = """
+    SELECT max(rank_key) FROM todo_instances
+    WHERE user_id = :userId
+    """, nativeQuery = true)
+  Optional<String> findMaxRankKey(@Param("userId") UUID userId);
+
+  /**
+   * 사용자의 순위 키 재배치 - 활성 인스턴스만 현재 순서를 유지한 채 8자리 고정 간격 키로 다시 부여
+   * 삭제된 행은 건드리지 않음 (복원 시 기존 키 유지)
+   */
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    WITH ordered AS (
+      SELECT id,
+             row_number() OVER (
+               ORDER BY rank_key NULLS LAST, display_order, due_date, due_time NULLS LAST, created_at, id
+             ) AS rn
+      FROM todo_instances
+      WHERE user_id = :userId AND deleted_at IS NULL
+    )
+    UPDATE todo_instances t
+    SET rank_key = lpad(to_hex(o.rn * 16 + 8), 8, '0')
+    FROM ordered o
+    WHERE t.id = o.id
+    """, nativeQuery = true)
+  int rebalanceRankKeys(@Param("userId") UUID userId);
+
+  /**
+   * 순위 키 재배치가 필요한 사용자 (키가 길어졌거나 키가 없는 인스턴스 보유)
+   */
+  @Query(value = """
+    SELECT user_id FROM todo_instances
+    WHERE deleted_at IS NULL
+      AND (rank_key IS NULL OR length(rank_key) > :maxLength)
+    GROUP BY user_id
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<UUID> findUserIdsNeedingRankRebalance(@Param("maxLength") int maxLength, @Param("limit") int limit);
+
+  /**
+   * 사용자의 활성 인스턴스 순위 키 (재배치 후 변경 로그 기록용)
+   */
+  @Query(value = """
+    SELECT id, definition_id AS definitionId, user_id AS userId, rank_key AS rankKey
+    FROM todo_instances
+    WHERE user_id = :userId AND deleted_at IS NULL
+    """, nativeQuery = true)
+  List<ChangedInstance> findRankKeys(@Param("userId") UUID userId);
+
+  /**
+   * 이번 달부터 monthsAhead개월 뒤까지 월별 파티션 생성 (생성한 개수 반환)
+   */
+  @Transactional
+  @Query(value = "SELECT ensure_todo_instance_partitions(:monthsAhead)", nativeQuery = true)
+  int ensurePartitions(@Param("monthsAhead") int monthsAhead);
+
+  /**
+   * 보존 기간이 지난 소프트 삭제 인스턴스 영구 삭제 (키셋 배치, 잠긴 행은 건너뜀)
+   * 살아있는 반복 정의의 삭제 회차는 회차 제외(EXDATE) 표시이므로 남겨 둠
+   */
+  @Query(value = """
+    WITH batch AS (
+      SELECT i.id, i.due_date FROM todo_instances i
+      WHERE i.deleted_at < :deletedBefore
+        AND (CAST(:afterId AS uuid) IS NULL OR i.id > CAST(:afterId AS uuid))
+        AND NOT EXISTS (
+          SELECT 1 FROM todo_definitions d
+          WHERE d.id = i.definition_id
+            AND d.recurrence_rule IS NOT NULL
+            AND d.deleted_at IS NULL
+        )
+      ORDER BY i.id
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+    ), purged AS (
+      DELETE FROM todo_instances t
+      USING batch b
+      WHERE t.id = b.id AND t.due_date = b.due_date
+      RETURNING t.id
+    )
+    SELECT id FROM purged ORDER BY id
+    """, nativeQuery = true)
+  List<UUID> purgeDeletedBatch(
+      @Param("deletedBefore") LocalDateTime deletedBefore,
+      @Param("afterId") UUID afterId,
+      @Param("limit") int limit
+  );
+
+  /**
+   * 네이티브 일괄 쓰기로 바뀐 인스턴스
+   */
+  interface ChangedInstance {
+    UUID getId();
+
+    UUID getDefinitionId();
+
+    UUID getUserId();
+
+    @Nullable String getRankKey();
+  }
+}
@@ -37,7 +37,7 @@ public interface TodoViewRepository extends
     SELECT v FROM TodoView v
     WHERE v.userId = :userId
       AND v.dueDate = :today
-    ORDER BY v.completed ASC, v.isPinned DESC, v.displayOrder ASC, v.dueTime ASC
+    ORDER BY v.completed ASC, v.isPinned DESC, v.rankKey ASC NULLS LAST, v.dueTime ASC
     """)
   List<TodoView> findTodayTodos(
       @Param("userId") UUID userId,
@@ -119,7 +119,7 @@ public interface TodoViewRepository extends
     SELECT v FROM TodoView v
     WHERE v.userId = :userId
       AND v.isPinned = true
-    ORDER BY v.displayOrder ASC, v.dueDate ASC
+    ORDER BY v.rankKey ASC NULLS LAST, v.dueDate ASC
     """)
   List<TodoView> findPinnedTodos(@Param("userId") UUID userId);
 
@@ -207,26 +207,6 @@ public interface TodoViewRepository extends
       @Param("today") LocalDate today
   );
 
-  /**
-   * 날짜별 완료율 통계
-   */
-  @Query("""
-    SELECT
-      v.dueDate as date,
-      COUNT(CASE WHEN v.completed = true THEN 1 END) as completed,
-      COUNT(CASE WHEN v.completed != true THEN 1 END) as pending
-    FROM TodoView v
-    WHERE v.userId = :userId
-      AND v.dueDate BETWEEN :startDate AND :endDate
-    GROUP BY v.dueDate
-    ORDER BY v.dueDate ASC
-    """)
-  List<Map<String, Object>> getCompletionRateByDate(
-      @Param("userId") UUID userId,
-      @Param("startDate") LocalDate startDate,
-      @Param("endDate") LocalDate endDate
-  );
-
   /**
    * 카테고리별 통계
    */
@@ -255,4 +235,15 @@ public interface TodoViewRepository extends
     ORDER BY v.priorityId DESC NULLS LAST
     """)
   List<Map<String, Object>> getStatsByPriority(@Param("userId") UUID userId);
-}
\ No newline at end of file
+
+  /**
+   * ID 목록으로 투두 조회 (태그 필터 결과 로딩용)
+   */
+  @Query("""
+    SELECT v FROM TodoView v
+    WHERE v.userId = :userId
+      AND v.id IN :ids
+    ORDER BY v.dueDate ASC, v.dueTime ASC
+    """)
+  List<TodoView> findByUserIdAndIdIn(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+}
@@ -1,15 +1,26 @@
 package point.ttodoApi.todo.infrastructure.persistence.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.persistence.*;
+import org.springframework.stereotype.Component;
 import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
 
+/**
+ * RecurrenceRule ↔ JSONB 변환기
+ * RecurrenceRule은 가변 객체이므로 로드마다 새로 파싱해 엔티티끼리 상태를 공유하지 않음.
+ * Hibernate는 로드 시점 스냅샷과 값(equals)으로 비교하므로 규칙을 제자리에서 고쳐도 수정으로 반영됨
+ */
+@Component
 @Converter(autoApply = false)
 public class RecurrenceRuleJsonConverter implements AttributeConverter<RecurrenceRule, String> {
   private static final ObjectMapper mapper = new ObjectMapper()
-          .registerModule(new JavaTimeModule());
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
   @Override
   public String convertToDatabaseColumn(RecurrenceRule attribute) {
@@ -23,12 +34,22 @@ public class RecurrenceRuleJsonConverter implements AttributeConverter<Recurrenc
 
   @Override
   public RecurrenceRule convertToEntityAttribute(String dbData) {
-    if (dbData == null || dbData.isBlank()) return null;
     try {
-      return mapper.readValue(dbData, RecurrenceRule.class);
-    } catch (Exception e) {
+      return parse(dbData);
+    } catch (IllegalArgumentException e) {
       throw new IllegalStateException("Failed to deserialize RecurrenceRule from JSON", e);
     }
   }
-}
 
+  /**
+   * JSON → RecurrenceRule (호출마다 새 인스턴스, 잘못된 JSON이면 IllegalArgumentException)
+   */
+  public RecurrenceRule parse(String json) {
+    if (json == null || json.isBlank()) return null;
+    try {
+      return mapper.readValue(json, RecurrenceRule.class);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Invalid recurrence rule JSON: " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package point.ttodoApi.todo.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import point.ttodoApi.todo.application.CalendarFeedService;
+import point.ttodoApi.todo.presentation.dto.response.CalendarFeedTokenResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Tag(name = "캘린더 구독", description = "iCalendar(ICS) 구독 피드 API")
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+  private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+  private final CalendarFeedService feedService;
+
+  @Operation(summary = "구독 토큰 조회", description = "캘린더 구독 URL을 조회합니다. 없으면 새로 발급합니다.")
+  @GetMapping("/feed-token")
+  @PreAuthorize("hasRole('USER')")
+  public CalendarFeedTokenResponse getFeedToken(@AuthenticationPrincipal UUID userId) {
+    return toResponse(feedService.issueToken(userId));
+  }
+
+  @Operation(summary = "구독 토큰 재발급", description = "구독 URL을 새로 발급합니다. 기존 URL은 즉시 무효화됩니다.")
+  @PostMapping("/feed-token")
+  @PreAuthorize("hasRole('USER')")
+  public CalendarFeedTokenResponse rotateFeedToken(@AuthenticationPrincipal UUID userId) {
+    return toResponse(feedService.rotateToken(userId));
+  }
+
+  @Operation(summary = "ICS 피드", description = "토큰 소유자의 투두를 iCalendar 형식으로 스트리밍합니다. ETag가 같으면 304를 반환합니다.")
+  @GetMapping("/feed/{token}.ics")
+  public ResponseEntity<StreamingResponseBody> getFeed(
+      @PathVariable String token,
+      @RequestParam(defaultValue = "VEVENT") CalendarFeedService.Component component,
+      WebRequest webRequest
+  ) {
+    UUID userId = feedService.resolveOwner(token);
+    String etag = feedService.feedVersion(userId, component);
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    log.debug("Streaming calendar feed for user: {}", userId);
+    StreamingResponseBody body = outputStream -> feedService.writeFeed(userId, component, outputStream);
+    return ResponseEntity.ok()
+        .contentType(TEXT_CALENDAR)
+        .eTag(etag)
+        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate())
+        .body(body);
+  }
+
+  private CalendarFeedTokenResponse toResponse(String token) {
+    String feedUrl = ServletUriComponentsBuilder.fromCurrentContextPath()
+        .path("/calendar/feed/{token}.ics")
+        .buildAndExpand(token)
+        .toUriString();
+    return new CalendarFeedTokenResponse(token, feedUrl);
+  }
+}
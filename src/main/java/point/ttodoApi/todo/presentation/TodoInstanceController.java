@@ -14,14 +14,20 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import point.ttodoApi.todo.application.TodoInstanceBulkService;
 import point.ttodoApi.todo.application.TodoInstanceService;
+import point.ttodoApi.todo.application.TodoRankService;
 import point.ttodoApi.todo.application.command.CreateTodoInstanceCommand;
 import point.ttodoApi.todo.application.command.UpdateTodoInstanceCommand;
 import point.ttodoApi.todo.application.command.UpdateTodoStatusCommand;
+import point.ttodoApi.todo.application.result.BulkTodoInstanceResult;
 import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.presentation.dto.request.BulkTodoInstanceRequest;
 import point.ttodoApi.todo.presentation.dto.request.CreateTodoInstanceRequest;
+import point.ttodoApi.todo.presentation.dto.request.ReorderTodoInstanceRequest;
 import point.ttodoApi.todo.presentation.dto.request.UpdateTodoInstanceRequest;
 import point.ttodoApi.todo.presentation.dto.request.UpdateTodoStatusRequest;
+import point.ttodoApi.todo.presentation.dto.response.BulkTodoInstanceResponse;
 import point.ttodoApi.todo.presentation.dto.response.TodoInstanceResponse;
 import point.ttodoApi.todo.presentation.mapper.TodoPresentationMapper;
 
@@ -39,6 +45,8 @@ import java.util.UUID;
 public class TodoInstanceController {
 
   private final TodoInstanceService instanceService;
+  private final TodoInstanceBulkService bulkService;
+  private final TodoRankService rankService;
   private final TodoPresentationMapper mapper;
 
   @Operation(summary = "투두 인스턴스 생성", description = "새로운 투두 인스턴스를 생성합니다.")
@@ -161,6 +169,20 @@ public class TodoInstanceController {
     return mapper.toInstanceResponse(instance);
   }
 
+  @Operation(summary = "투두 순서 변경", description = "투두 인스턴스를 beforeId 바로 뒤, afterId 바로 앞으로 이동합니다. 맨 앞/맨 뒤로 옮길 때는 한쪽만 지정합니다.")
+  @PatchMapping("/{instanceId}/position")
+  @PreAuthorize("hasRole('USER')")
+  public TodoInstanceResponse reorderInstance(
+      @AuthenticationPrincipal UUID userId,
+      @PathVariable UUID instanceId,
+      @Valid @ModelAttribute ReorderTodoInstanceRequest request
+  ) {
+    log.info("Reordering todo instance: {} between {} and {} for user: {}",
+        instanceId, request.getBeforeId(), request.getAfterId(), userId);
+    TodoInstance instance = rankService.reorder(userId, instanceId, request.getBeforeId(), request.getAfterId());
+    return mapper.toInstanceResponse(instance);
+  }
+
   @Operation(summary = "투두 인스턴스 삭제", description = "투두 인스턴스를 소프트 삭제합니다.")
   @DeleteMapping("/{instanceId}")
   @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -185,6 +207,18 @@ public class TodoInstanceController {
     return mapper.toInstanceResponse(instance);
   }
 
+  @Operation(summary = "투두 인스턴스 일괄 작업", description = "여러 투두 인스턴스를 한 번에 완료/완료취소/삭제/복구/고정/날짜이동/카테고리변경합니다. 처리할 수 없는 인스턴스는 건너뜁니다.")
+  @PostMapping("/bulk")
+  @PreAuthorize("hasRole('USER')")
+  public BulkTodoInstanceResponse bulkUpdate(
+      @AuthenticationPrincipal UUID userId,
+      @Valid @ModelAttribute BulkTodoInstanceRequest request
+  ) {
+    log.info("Bulk {} on {} todo instances for user: {}", request.getOperation(), request.getInstanceIds().size(), userId);
+    BulkTodoInstanceResult result = bulkService.execute(userId, mapper.toBulkCommand(request));
+    return mapper.toBulkResponse(result);
+  }
+
   @Operation(summary = "투두 인스턴스 조회", description = "특정 투두 인스턴스를 조회합니다.")
   @GetMapping("/{instanceId}")
   @PreAuthorize("hasRole('USER')")
@@ -162,6 +162,21 @@ public class TodoViewController {
         .toList();
   }
 
+  @Operation(summary = "태그별 투두", description = "태그로 투두를 조회합니다. match=ANY는 하나라도 일치, ALL은 모든 태그를 포함합니다.")
+  @GetMapping("/by-tags")
+  @PreAuthorize("hasRole('USER')")
+  public List<TodoViewResponse> getTodosByTags(
+      @AuthenticationPrincipal UUID userId,
+      @RequestParam List<String> tags,
+      @RequestParam(defaultValue = "ANY") TodoViewService.TagMatch match
+  ) {
+    log.debug("Getting todos with tags: {} ({}) for user: {}", tags, match, userId);
+    List<TodoView> todos = viewService.getTodosByTags(userId, tags, match);
+    return todos.stream()
+        .map(mapper::toViewResponse)
+        .toList();
+  }
+
   @Operation(summary = "우선순위별 투두", description = "특정 우선순위의 투두를 조회합니다.")
   @GetMapping("/by-priority/{priorityId}")
   @PreAuthorize("hasRole('USER')")
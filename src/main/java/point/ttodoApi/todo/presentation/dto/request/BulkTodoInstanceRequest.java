@@ -0,0 +1,44 @@
+package point.ttodoApi.todo.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import point.ttodoApi.todo.application.TodoInstanceBulkService;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "투두 인스턴스 일괄 작업 요청")
+public class BulkTodoInstanceRequest {
+
+  @NotEmpty(message = "대상 인스턴스 ID는 필수입니다")
+  @Size(max = TodoInstanceBulkService.MAX_BULK_SIZE, message = "한 번에 최대 500개까지 처리할 수 있습니다")
+  @Schema(description = "대상 인스턴스 ID 목록", required = true)
+  private List<UUID> instanceIds;
+
+  @NotNull(message = "작업 종류는 필수입니다")
+  @Schema(description = "작업 종류", example = "COMPLETE", required = true)
+  private BulkTodoInstanceCommand.Operation operation;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+  @Schema(description = "이동할 마감일 (MOVE_DATE)", example = "2026-01-15")
+  private LocalDate dueDate;
+
+  @Schema(description = "변경할 카테고리 ID (RECATEGORIZE, 비우면 정의의 카테고리 사용)")
+  private UUID categoryId;
+
+  @Schema(description = "고정 여부 (PIN, 기본 true)", example = "true")
+  private Boolean pinned;
+}
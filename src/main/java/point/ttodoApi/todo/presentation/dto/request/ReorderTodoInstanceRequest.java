@@ -0,0 +1,23 @@
+package point.ttodoApi.todo.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "투두 순서 변경 요청 (둘 중 하나 이상 필수)")
+public class ReorderTodoInstanceRequest {
+
+  @Schema(description = "이동 후 바로 앞에 올 인스턴스 ID (맨 앞으로 옮기면 생략)")
+  private UUID beforeId;
+
+  @Schema(description = "이동 후 바로 뒤에 올 인스턴스 ID (맨 뒤로 옮기면 생략)")
+  private UUID afterId;
+}
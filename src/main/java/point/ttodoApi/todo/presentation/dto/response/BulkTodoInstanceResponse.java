@@ -0,0 +1,20 @@
+package point.ttodoApi.todo.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "투두 인스턴스 일괄 작업 응답")
+public record BulkTodoInstanceResponse(
+    @Schema(description = "작업 종류", example = "COMPLETE")
+    BulkTodoInstanceCommand.Operation operation,
+    @Schema(description = "요청한 인스턴스 수 (중복 제외)", example = "3")
+    int requested,
+    @Schema(description = "변경된 인스턴스 ID 목록")
+    List<UUID> affectedIds,
+    @Schema(description = "건너뛴 인스턴스 ID 목록 (없음/권한 없음/이미 해당 상태)")
+    List<UUID> skippedIds
+) {
+}
@@ -0,0 +1,12 @@
+package point.ttodoApi.todo.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "캘린더 구독 피드 토큰 응답")
+public record CalendarFeedTokenResponse(
+    @Schema(description = "피드 토큰")
+    String token,
+    @Schema(description = "구독 URL (캘린더 앱에 등록)", example = "https://api.ttodo.dev/calendar/feed/abc.ics")
+    String feedUrl
+) {
+}
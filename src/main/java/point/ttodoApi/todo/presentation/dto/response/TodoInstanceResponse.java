@@ -61,6 +61,9 @@ public class TodoInstanceResponse {
   @Schema(description = "표시 순서", example = "0")
   private Integer displayOrder;
 
+  @Schema(description = "순위 키 (사전순 정렬 시 표시 순서)", example = "00000018")
+  private String rankKey;
+
   @Schema(description = "생성일시")
   private LocalDateTime createdAt;
 
@@ -6,9 +6,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import point.ttodoApi.shared.config.MapStructConfig;
 import point.ttodoApi.todo.application.command.*;
+import point.ttodoApi.todo.application.result.BulkTodoInstanceResult;
 import point.ttodoApi.todo.domain.TodoDefinition;
 import point.ttodoApi.todo.domain.TodoInstance;
 import point.ttodoApi.todo.domain.TodoView;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
 import point.ttodoApi.todo.presentation.dto.request.*;
 import point.ttodoApi.todo.presentation.dto.response.*;
 
@@ -25,6 +27,9 @@ public abstract class TodoPresentationMapper {
   @org.springframework.beans.factory.annotation.Autowired
   private RecurrenceRuleMapper recurrenceRuleMapper;
 
+  @org.springframework.beans.factory.annotation.Autowired
+  private RecurrenceRuleJsonConverter ruleConverter;
+
   // Old Todo mapping methods removed for new architecture
 
   // JSON 문자열을 RecurrenceRule로 파싱
@@ -40,6 +45,11 @@ public abstract class TodoPresentationMapper {
     }
   }
 
+  // RecurrenceRule을 JSON 문자열로 변환 (응답용)
+  protected String formatRecurrenceRule(point.ttodoApi.todo.domain.recurrence.RecurrenceRule rule) {
+    return ruleConverter.convertToDatabaseColumn(rule);
+  }
+
   // Instant to LocalDateTime 변환
   protected java.time.LocalDateTime map(java.time.Instant instant) {
     if (instant == null) return null;
@@ -62,6 +72,8 @@ public abstract class TodoPresentationMapper {
   public abstract CreateTodoInstanceCommand toCreateCommand(CreateTodoInstanceRequest request);
   public abstract UpdateTodoInstanceCommand toUpdateCommand(UpdateTodoInstanceRequest request);
   public abstract UpdateTodoStatusCommand toStatusCommand(UpdateTodoStatusRequest request);
+  public abstract BulkTodoInstanceCommand toBulkCommand(BulkTodoInstanceRequest request);
+  public abstract BulkTodoInstanceResponse toBulkResponse(BulkTodoInstanceResult result);
 
   @Mapping(target = "definitionTitle", source = "definition.title")
   @Mapping(target = "definitionDescription", source = "definition.description")
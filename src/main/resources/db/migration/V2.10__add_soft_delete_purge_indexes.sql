@@ -0,0 +1,15 @@
+-- V2.10: Indexes for the soft-delete purge job
+-- SoftDeletePurgeJob walks soft-deleted rows in id order (keyset batches, FOR UPDATE SKIP LOCKED).
+-- Partial indexes on id keep each batch an index range scan over deleted rows only.
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_purge
+    ON todo_definitions (id)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_inst_purge
+    ON todo_instances (id)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_inst_archive_purge
+    ON todo_instances_archive (id)
+    WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,115 @@
+-- V2.11: Populate the mutation log and make it readable as a delta-sync feed
+-- V2.1 created the mutation tables but left the triggers disabled (and the trigger functions
+-- referenced columns that no longer exist). This enables row triggers that record one mutation
+-- per insert / update / soft delete / hard delete, with the full row snapshot as mutation_data.
+--
+-- Delta-sync cursor = (xact_id, seq):
+--   seq      shared sequence across both tables, assigned at insert time
+--   xact_id  writing transaction id; readers only serve rows whose transaction is older than
+--            their snapshot xmin, so every row below the cursor is committed and a transaction
+--            that commits late can never be skipped.
+
+CREATE SEQUENCE IF NOT EXISTS todo_mutation_seq;
+
+ALTER TABLE todo_definition_mutations
+    ADD COLUMN IF NOT EXISTS seq BIGINT NOT NULL DEFAULT nextval('todo_mutation_seq'),
+    ADD COLUMN IF NOT EXISTS xact_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+ALTER TABLE todo_instance_mutations
+    ADD COLUMN IF NOT EXISTS seq BIGINT NOT NULL DEFAULT nextval('todo_mutation_seq'),
+    ADD COLUMN IF NOT EXISTS xact_id xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+-- A log must outlive the rows it describes: purging a definition cascades to its instances,
+-- whose DELETE tombstones would otherwise violate this FK (and the cascade would drop history)
+ALTER TABLE todo_instance_mutations DROP CONSTRAINT IF EXISTS fk_todo_inst_mut_definition;
+
+-- Delta reads: one user's mutations in cursor order
+CREATE INDEX IF NOT EXISTS idx_todo_def_mut_user_cursor ON todo_definition_mutations (user_id, xact_id, seq);
+CREATE INDEX IF NOT EXISTS idx_todo_inst_mut_user_cursor ON todo_instance_mutations (user_id, xact_id, seq);
+
+-- Bulk maintenance that must not reach clients (e.g. moving rows to the archive) runs
+-- SELECT set_config('app.mutation_log', 'off', true) inside its transaction.
+CREATE OR REPLACE FUNCTION todo_mutation_log_enabled()
+RETURNS BOOLEAN AS $$
+BEGIN
+    RETURN COALESCE(current_setting('app.mutation_log', true), '') <> 'off';
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION log_todo_definition_mutation()
+RETURNS TRIGGER AS $$
+DECLARE
+    kind VARCHAR(20);
+BEGIN
+    IF NOT todo_mutation_log_enabled() THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        -- Purging an already soft-deleted row: clients saw the DELETE when it was soft-deleted
+        IF OLD.deleted_at IS NULL THEN
+            INSERT INTO todo_definition_mutations(definition_id, user_id, mutation_type, mutation_data)
+            VALUES (OLD.id, OLD.user_id, 'DELETE', jsonb_build_object('id', OLD.id));
+        END IF;
+        RETURN NULL;
+    END IF;
+
+    kind := CASE
+        WHEN TG_OP = 'INSERT' THEN 'CREATE'
+        WHEN OLD.deleted_at IS NOT NULL AND NEW.deleted_at IS NULL THEN 'RESTORE'
+        WHEN OLD.deleted_at IS NULL AND NEW.deleted_at IS NOT NULL THEN 'DELETE'
+        ELSE 'UPDATE'
+    END;
+    INSERT INTO todo_definition_mutations(definition_id, user_id, mutation_type, mutation_data)
+    VALUES (NEW.id, NEW.user_id, kind, to_jsonb(NEW));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION log_todo_instance_mutation()
+RETURNS TRIGGER AS $$
+DECLARE
+    kind VARCHAR(20);
+BEGIN
+    IF NOT todo_mutation_log_enabled() THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        IF OLD.deleted_at IS NULL THEN
+            INSERT INTO todo_instance_mutations(instance_id, definition_id, user_id, mutation_type, mutation_data)
+            VALUES (OLD.id, OLD.definition_id, OLD.user_id, 'DELETE', jsonb_build_object('id', OLD.id));
+        END IF;
+        RETURN NULL;
+    END IF;
+
+    kind := CASE
+        WHEN TG_OP = 'INSERT' THEN 'CREATE'
+        WHEN OLD.deleted_at IS NOT NULL AND NEW.deleted_at IS NULL THEN 'RESTORE'
+        WHEN OLD.deleted_at IS NULL AND NEW.deleted_at IS NOT NULL THEN 'DELETE'
+        WHEN OLD.completed IS DISTINCT FROM NEW.completed THEN 'STATUS_CHANGE'
+        ELSE 'UPDATE'
+    END;
+    INSERT INTO todo_instance_mutations(instance_id, definition_id, user_id, mutation_type, mutation_data)
+    VALUES (NEW.id, NEW.definition_id, NEW.user_id, kind, to_jsonb(NEW));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS log_todo_definition_mutations_trigger ON todo_definitions;
+CREATE TRIGGER log_todo_definition_mutations_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON todo_definitions
+    FOR EACH ROW
+    EXECUTE FUNCTION log_todo_definition_mutation();
+
+-- Declared on the partitioned parent, so it applies to every (future) partition
+DROP TRIGGER IF EXISTS log_todo_instance_mutations_trigger ON todo_instances;
+CREATE TRIGGER log_todo_instance_mutations_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON todo_instances
+    FOR EACH ROW
+    EXECUTE FUNCTION log_todo_instance_mutation();
+
+COMMENT ON COLUMN todo_definition_mutations.seq IS 'Log order within a transaction (shared todo_mutation_seq)';
+COMMENT ON COLUMN todo_definition_mutations.xact_id IS 'Writing transaction; delta sync serves rows older than the reader snapshot xmin';
+COMMENT ON COLUMN todo_instance_mutations.seq IS 'Log order within a transaction (shared todo_mutation_seq)';
+COMMENT ON COLUMN todo_instance_mutations.xact_id IS 'Writing transaction; delta sync serves rows older than the reader snapshot xmin';
@@ -0,0 +1,18 @@
+-- V2.12: Per-field hybrid logical clock (HLC) timestamps for offline sync.
+-- Each synced field keeps the HLC of its last accepted write. An incoming change overwrites a field only
+-- when its HLC is newer, so concurrent edits to different fields of the same record both survive.
+-- Generic over tables (table_name, record_id) and kept separate from the synced tables themselves.
+
+CREATE TABLE IF NOT EXISTS sync_field_clocks (
+    table_name VARCHAR(64) NOT NULL,
+    record_id VARCHAR(64) NOT NULL,
+    field VARCHAR(64) NOT NULL,
+    hlc BIGINT NOT NULL,
+    client_id VARCHAR(255),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (table_name, record_id, field)
+);
+
+COMMENT ON TABLE sync_field_clocks IS 'Last accepted HLC timestamp per synced field';
+COMMENT ON COLUMN sync_field_clocks.hlc IS 'Packed HLC: physical epoch millis << 16 | logical counter';
+COMMENT ON COLUMN sync_field_clocks.client_id IS 'Client that wrote the current value';
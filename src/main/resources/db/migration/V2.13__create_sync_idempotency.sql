@@ -0,0 +1,33 @@
+-- V2.13: Idempotency records for offline sync retries.
+-- A client that times out re-sends the same batch. sync_batches stores the recorded response per
+-- Idempotency-Key so the retry is answered without touching the data tables, and sync_applied_changes
+-- stores the result per change id (written in the same transaction as the change itself) so a change
+-- re-sent in a different batch is not applied twice. Both expire after the configured TTL.
+
+CREATE TABLE IF NOT EXISTS sync_batches (
+    scope VARCHAR(300) NOT NULL,
+    batch_key VARCHAR(255) NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    response JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (scope, batch_key)
+);
+
+CREATE TABLE IF NOT EXISTS sync_applied_changes (
+    scope VARCHAR(300) NOT NULL,
+    change_id VARCHAR(255) NOT NULL,
+    result JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (scope, change_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_batches_expires_at ON sync_batches (expires_at);
+CREATE INDEX IF NOT EXISTS idx_sync_applied_changes_expires_at ON sync_applied_changes (expires_at);
+
+COMMENT ON TABLE sync_batches IS 'Recorded sync responses per client Idempotency-Key';
+COMMENT ON COLUMN sync_batches.scope IS 'Key namespace: user id (or -) and client id';
+COMMENT ON COLUMN sync_batches.request_hash IS 'SHA-256 of the request body; a reused key with a different body is rejected';
+COMMENT ON COLUMN sync_batches.response IS 'NULL while the first attempt is still in flight';
+COMMENT ON TABLE sync_applied_changes IS 'Result of each applied sync change by client change id';
@@ -0,0 +1,6 @@
+-- V2.14: Sync uploads are parsed as a stream, so the body hash is only known once the batch has been
+-- processed. The claim row is inserted without it and the hash is stored together with the response.
+
+ALTER TABLE sync_batches ALTER COLUMN request_hash DROP NOT NULL;
+
+COMMENT ON COLUMN sync_batches.request_hash IS 'SHA-256 of the request body (set on completion); a reused key with a different body is rejected';
@@ -0,0 +1,306 @@
+-- V2.15: Daily partitions, column-level diffs and cursor-based retention for the mutation log
+-- With V2.11 every definition/instance write appends a full to_jsonb(NEW) row, so the log grows with
+-- write volume forever. Three changes keep it proportional to the live delta-sync window:
+--
+--   1. Both mutation tables are range-partitioned by day of created_at. Retention drops whole
+--      partitions instead of deleting rows (no vacuum debt, no index bloat).
+--   2. UPDATE / STATUS_CHANGE store only the columns that changed (plus id). CREATE and RESTORE keep
+--      the full row; soft and hard DELETE store only the id. DeltaSyncService merges diffs per entity.
+--   3. sync_cursors records the last cursor each client acknowledged. drop_todo_mutation_partitions
+--      drops partitions whose every row is at or below the oldest active cursor, and raises
+--      todo_mutation_log_watermark to the highest dropped position; a client whose cursor is below
+--      the watermark is told to take a fresh snapshot.
+--
+-- Partitioned tables require the partition key in every unique constraint:
+--   primary key (id) -> (id, created_at)
+-- ids are random UUIDs, so per-id uniqueness is unchanged in practice.
+--
+-- Indexes that only cost writes are not recreated: (user_id) is a prefix of the cursor index,
+-- (created_at) is covered by partition pruning, and sync_status / client_id are never set by the
+-- triggers (the partial PENDING index covered every row).
+
+-- Partition helpers --------------------------------------------------------------------------------
+
+-- Creates the partition of p_parent for the day p_day (no-op if it exists).
+-- Rows already sitting in the parent's default partition for that day are moved into it.
+CREATE OR REPLACE FUNCTION ensure_todo_mutation_partition(p_parent TEXT, p_day DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    start_at TIMESTAMP := p_day::TIMESTAMP;
+    end_at TIMESTAMP := (p_day + 1)::TIMESTAMP;
+    partition_name TEXT := format('%s_p%s', p_parent, to_char(p_day, 'YYYY_MM_DD'));
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE)',
+        partition_name, p_parent);
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I CHECK (created_at >= %L AND created_at < %L)',
+        partition_name, partition_name || '_range', start_at, end_at);
+
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM %I WHERE created_at >= %L AND created_at < %L RETURNING *)
+         INSERT INTO %I SELECT * FROM moved',
+        p_parent || '_default', start_at, end_at, partition_name);
+
+    -- The CHECK constraint lets ATTACH skip scanning the new partition
+    EXECUTE format(
+        'ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        p_parent, partition_name, start_at, end_at);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, partition_name || '_range');
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures both mutation tables have partitions from today through p_days_ahead days ahead.
+-- Called by MutationLogRetentionJob; returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_todo_mutation_partitions(p_days_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    created INTEGER := 0;
+    parent TEXT;
+    day_offset INTEGER;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['todo_definition_mutations', 'todo_instance_mutations'] LOOP
+        FOR day_offset IN 0..p_days_ahead LOOP
+            IF ensure_todo_mutation_partition(parent, CURRENT_DATE + day_offset) THEN
+                created := created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- todo_definition_mutations ------------------------------------------------------------------------
+
+ALTER TABLE todo_definition_mutations RENAME TO todo_definition_mutations_unpartitioned;
+
+CREATE TABLE todo_definition_mutations (
+    LIKE todo_definition_mutations_unpartitioned
+        INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMMENTS
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE todo_definition_mutations_default PARTITION OF todo_definition_mutations DEFAULT;
+
+-- todo_instance_mutations --------------------------------------------------------------------------
+
+ALTER TABLE todo_instance_mutations RENAME TO todo_instance_mutations_unpartitioned;
+
+CREATE TABLE todo_instance_mutations (
+    LIKE todo_instance_mutations_unpartitioned
+        INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMMENTS
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE todo_instance_mutations_default PARTITION OF todo_instance_mutations DEFAULT;
+
+-- One partition per day that already has data, plus the coming week
+DO $$
+DECLARE
+    data_day DATE;
+BEGIN
+    FOR data_day IN SELECT DISTINCT created_at::DATE FROM todo_definition_mutations_unpartitioned LOOP
+        PERFORM ensure_todo_mutation_partition('todo_definition_mutations', data_day);
+    END LOOP;
+    FOR data_day IN SELECT DISTINCT created_at::DATE FROM todo_instance_mutations_unpartitioned LOOP
+        PERFORM ensure_todo_mutation_partition('todo_instance_mutations', data_day);
+    END LOOP;
+    PERFORM ensure_todo_mutation_partitions(7);
+END $$;
+
+INSERT INTO todo_definition_mutations SELECT * FROM todo_definition_mutations_unpartitioned;
+INSERT INTO todo_instance_mutations SELECT * FROM todo_instance_mutations_unpartitioned;
+
+DROP TABLE todo_definition_mutations_unpartitioned;
+DROP TABLE todo_instance_mutations_unpartitioned;
+
+-- Constraints and indexes are declared on the parent and cascade to every (future) partition
+ALTER TABLE todo_definition_mutations ADD CONSTRAINT todo_definition_mutations_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE todo_definition_mutations ADD CONSTRAINT fk_todo_def_mut_user FOREIGN KEY (user_id)
+    REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE todo_instance_mutations ADD CONSTRAINT todo_instance_mutations_pkey PRIMARY KEY (id, created_at);
+ALTER TABLE todo_instance_mutations ADD CONSTRAINT fk_todo_inst_mut_user FOREIGN KEY (user_id)
+    REFERENCES users(id) ON DELETE CASCADE;
+
+-- Delta reads: one user's mutations in cursor order
+CREATE INDEX idx_todo_def_mut_user_cursor ON todo_definition_mutations (user_id, xact_id, seq);
+CREATE INDEX idx_todo_inst_mut_user_cursor ON todo_instance_mutations (user_id, xact_id, seq);
+-- Retention: highest cursor position in a partition (one backward index probe)
+CREATE INDEX idx_todo_def_mut_cursor ON todo_definition_mutations (xact_id, seq);
+CREATE INDEX idx_todo_inst_mut_cursor ON todo_instance_mutations (xact_id, seq);
+-- History of a single entity
+CREATE INDEX idx_todo_def_mut_definition ON todo_definition_mutations (definition_id);
+CREATE INDEX idx_todo_inst_mut_instance ON todo_instance_mutations (instance_id);
+CREATE INDEX idx_todo_inst_mut_definition ON todo_instance_mutations (definition_id);
+
+-- Column-level diffs -------------------------------------------------------------------------------
+
+-- Columns of p_new whose value differs from p_old, always including id
+CREATE OR REPLACE FUNCTION todo_mutation_diff(p_old JSONB, p_new JSONB)
+RETURNS JSONB AS $$
+    SELECT jsonb_build_object('id', p_new -> 'id') || COALESCE(jsonb_object_agg(n.key, n.value), '{}'::JSONB)
+    FROM jsonb_each(p_new) n
+    WHERE p_old -> n.key IS DISTINCT FROM n.value
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION log_todo_definition_mutation()
+RETURNS TRIGGER AS $$
+DECLARE
+    kind VARCHAR(20);
+BEGIN
+    IF NOT todo_mutation_log_enabled() THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        -- Purging an already soft-deleted row: clients saw the DELETE when it was soft-deleted
+        IF OLD.deleted_at IS NULL THEN
+            INSERT INTO todo_definition_mutations(definition_id, user_id, mutation_type, mutation_data)
+            VALUES (OLD.id, OLD.user_id, 'DELETE', jsonb_build_object('id', OLD.id));
+        END IF;
+        RETURN NULL;
+    END IF;
+
+    kind := CASE
+        WHEN TG_OP = 'INSERT' THEN 'CREATE'
+        WHEN OLD.deleted_at IS NOT NULL AND NEW.deleted_at IS NULL THEN 'RESTORE'
+        WHEN OLD.deleted_at IS NULL AND NEW.deleted_at IS NOT NULL THEN 'DELETE'
+        ELSE 'UPDATE'
+    END;
+    INSERT INTO todo_definition_mutations(definition_id, user_id, mutation_type, mutation_data)
+    VALUES (NEW.id, NEW.user_id, kind, CASE kind
+        WHEN 'UPDATE' THEN todo_mutation_diff(to_jsonb(OLD), to_jsonb(NEW))
+        WHEN 'DELETE' THEN jsonb_build_object('id', NEW.id)
+        ELSE to_jsonb(NEW)
+    END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION log_todo_instance_mutation()
+RETURNS TRIGGER AS $$
+DECLARE
+    kind VARCHAR(20);
+BEGIN
+    IF NOT todo_mutation_log_enabled() THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        IF OLD.deleted_at IS NULL THEN
+            INSERT INTO todo_instance_mutations(instance_id, definition_id, user_id, mutation_type, mutation_data)
+            VALUES (OLD.id, OLD.definition_id, OLD.user_id, 'DELETE', jsonb_build_object('id', OLD.id));
+        END IF;
+        RETURN NULL;
+    END IF;
+
+    kind := CASE
+        WHEN TG_OP = 'INSERT' THEN 'CREATE'
+        WHEN OLD.deleted_at IS NOT NULL AND NEW.deleted_at IS NULL THEN 'RESTORE'
+        WHEN OLD.deleted_at IS NULL AND NEW.deleted_at IS NOT NULL THEN 'DELETE'
+        WHEN OLD.completed IS DISTINCT FROM NEW.completed THEN 'STATUS_CHANGE'
+        ELSE 'UPDATE'
+    END;
+    INSERT INTO todo_instance_mutations(instance_id, definition_id, user_id, mutation_type, mutation_data)
+    VALUES (NEW.id, NEW.definition_id, NEW.user_id, kind, CASE kind
+        WHEN 'UPDATE' THEN todo_mutation_diff(to_jsonb(OLD), to_jsonb(NEW))
+        WHEN 'STATUS_CHANGE' THEN todo_mutation_diff(to_jsonb(OLD), to_jsonb(NEW))
+        WHEN 'DELETE' THEN jsonb_build_object('id', NEW.id)
+        ELSE to_jsonb(NEW)
+    END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Cursor tracking and retention --------------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS sync_cursors (
+    user_id UUID NOT NULL,
+    client_id VARCHAR(255) NOT NULL,
+    xact_id xid8 NOT NULL,
+    seq BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, client_id),
+    CONSTRAINT fk_sync_cursors_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_cursors_updated_at ON sync_cursors (updated_at);
+
+-- Single row: every log row at or below this position may have been dropped
+CREATE TABLE IF NOT EXISTS todo_mutation_log_watermark (
+    id BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (id),
+    xact_id xid8 NOT NULL DEFAULT '0',
+    seq BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO todo_mutation_log_watermark DEFAULT VALUES ON CONFLICT DO NOTHING;
+
+-- Drops daily partitions that ended on or before p_before and whose rows are all at or below the
+-- oldest cursor acknowledged since p_active_since (any position when no client is active).
+-- The SHARE lock on sync_cursors makes delta reads (which upsert their cursor before reading the
+-- watermark and the log) either finish first, so their cursor counts, or wait and then see the
+-- raised watermark. Returns the number of partitions dropped.
+CREATE OR REPLACE FUNCTION drop_todo_mutation_partitions(p_before DATE, p_active_since TIMESTAMP)
+RETURNS INTEGER AS $$
+DECLARE
+    dropped INTEGER := 0;
+    oldest_xact_id xid8;
+    oldest_seq BIGINT;
+    top_xact_id xid8;
+    top_seq BIGINT;
+    part RECORD;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    LOCK TABLE sync_cursors IN SHARE MODE;
+
+    SELECT xact_id, seq INTO oldest_xact_id, oldest_seq
+    FROM sync_cursors
+    WHERE updated_at >= p_active_since
+    ORDER BY xact_id, seq
+    LIMIT 1;
+
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent IN ('todo_definition_mutations'::regclass, 'todo_instance_mutations'::regclass)
+          AND c.relname ~ '_p\d{4}_\d{2}_\d{2}$'
+          AND to_date(right(c.relname, 10), 'YYYY_MM_DD') + 1 <= p_before
+        ORDER BY right(c.relname, 10)
+    LOOP
+        top_xact_id := NULL;
+        top_seq := NULL;
+        EXECUTE format('SELECT xact_id, seq FROM %I ORDER BY xact_id DESC, seq DESC LIMIT 1', part.relname)
+            INTO top_xact_id, top_seq;
+
+        IF top_xact_id IS NOT NULL AND oldest_xact_id IS NOT NULL
+           AND (top_xact_id, top_seq) > (oldest_xact_id, oldest_seq) THEN
+            CONTINUE;  -- an active client has not read this partition yet
+        END IF;
+
+        IF top_xact_id IS NOT NULL THEN
+            UPDATE todo_mutation_log_watermark
+            SET xact_id = top_xact_id, seq = top_seq, updated_at = CURRENT_TIMESTAMP
+            WHERE (xact_id, seq) < (top_xact_id, top_seq);
+        END IF;
+        EXECUTE format('DROP TABLE %I', part.relname);
+        dropped := dropped + 1;
+    END LOOP;
+
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE todo_definition_mutations IS 'Definition mutation log for delta sync, range-partitioned by day of created_at';
+COMMENT ON TABLE todo_instance_mutations IS 'Instance mutation log for delta sync, range-partitioned by day of created_at';
+COMMENT ON TABLE todo_definition_mutations_default IS 'Rows whose day has no partition yet; drained by ensure_todo_mutation_partition';
+COMMENT ON TABLE todo_instance_mutations_default IS 'Rows whose day has no partition yet; drained by ensure_todo_mutation_partition';
+COMMENT ON COLUMN todo_definition_mutations.mutation_data IS 'Full row for CREATE/RESTORE, changed columns plus id for UPDATE, id only for DELETE';
+COMMENT ON COLUMN todo_instance_mutations.mutation_data IS 'Full row for CREATE/RESTORE, changed columns plus id for UPDATE/STATUS_CHANGE, id only for DELETE';
+COMMENT ON TABLE sync_cursors IS 'Last delta-sync cursor acknowledged per client; pins mutation log partitions';
+COMMENT ON TABLE todo_mutation_log_watermark IS 'Highest mutation log position dropped by retention; older cursors must re-snapshot';
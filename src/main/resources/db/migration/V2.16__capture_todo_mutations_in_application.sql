@@ -0,0 +1,92 @@
+-- V2.16: Capture todo mutations in the application instead of row triggers
+-- The V2.11 row triggers ran a plpgsql function (to_jsonb, diff, insert) for every row of every
+-- write. The application now appends the same compact records itself, batched into one multi-row
+-- INSERT per table just before the writing transaction commits (TodoMutationCapture), so the
+-- mutation log tables act as a transactional outbox:
+--
+--   delta sync   /sync/changes reads committed rows directly, as before
+--   relay        MutationRelay tails the log in (xact_id, seq) order and publishes SSE change hints
+--                and completion experience; its position lives in todo_mutation_relay_offsets
+--
+-- Writes that bypass the application (the archive move, purging already soft-deleted rows, raw
+-- SQL maintenance) are no longer logged; the archive job already suppressed logging, and purged
+-- rows were announced when they were soft-deleted.
+
+DROP TRIGGER IF EXISTS log_todo_definition_mutations_trigger ON todo_definitions;
+DROP TRIGGER IF EXISTS log_todo_instance_mutations_trigger ON todo_instances;
+
+DROP FUNCTION IF EXISTS log_todo_definition_mutation();
+DROP FUNCTION IF EXISTS log_todo_instance_mutation();
+DROP FUNCTION IF EXISTS todo_mutation_diff(JSONB, JSONB);
+DROP FUNCTION IF EXISTS todo_mutation_log_enabled();
+
+-- One row per relay; starts at the current position so history is not replayed
+CREATE TABLE IF NOT EXISTS todo_mutation_relay_offsets (
+    name VARCHAR(50) PRIMARY KEY,
+    xact_id xid8 NOT NULL,
+    seq BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO todo_mutation_relay_offsets (name, xact_id, seq)
+VALUES ('relay', pg_snapshot_xmin(pg_current_snapshot()), 0)
+ON CONFLICT (name) DO NOTHING;
+
+-- Same as V2.15, but relay offsets pin partitions like active client cursors do
+CREATE OR REPLACE FUNCTION drop_todo_mutation_partitions(p_before DATE, p_active_since TIMESTAMP)
+RETURNS INTEGER AS $$
+DECLARE
+    dropped INTEGER := 0;
+    oldest_xact_id xid8;
+    oldest_seq BIGINT;
+    top_xact_id xid8;
+    top_seq BIGINT;
+    part RECORD;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    LOCK TABLE sync_cursors IN SHARE MODE;
+
+    SELECT c.xact_id, c.seq INTO oldest_xact_id, oldest_seq
+    FROM (
+        SELECT xact_id, seq FROM sync_cursors WHERE updated_at >= p_active_since
+        UNION ALL
+        SELECT xact_id, seq FROM todo_mutation_relay_offsets
+    ) c
+    ORDER BY c.xact_id, c.seq
+    LIMIT 1;
+
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent IN ('todo_definition_mutations'::regclass, 'todo_instance_mutations'::regclass)
+          AND c.relname ~ '_p\d{4}_\d{2}_\d{2}$'
+          AND to_date(right(c.relname, 10), 'YYYY_MM_DD') + 1 <= p_before
+        ORDER BY right(c.relname, 10)
+    LOOP
+        top_xact_id := NULL;
+        top_seq := NULL;
+        EXECUTE format('SELECT xact_id, seq FROM %I ORDER BY xact_id DESC, seq DESC LIMIT 1', part.relname)
+            INTO top_xact_id, top_seq;
+
+        IF top_xact_id IS NOT NULL AND oldest_xact_id IS NOT NULL
+           AND (top_xact_id, top_seq) > (oldest_xact_id, oldest_seq) THEN
+            CONTINUE;  -- an active client or the relay has not read this partition yet
+        END IF;
+
+        IF top_xact_id IS NOT NULL THEN
+            UPDATE todo_mutation_log_watermark
+            SET xact_id = top_xact_id, seq = top_seq, updated_at = CURRENT_TIMESTAMP
+            WHERE (xact_id, seq) < (top_xact_id, top_seq);
+        END IF;
+        EXECUTE format('DROP TABLE %I', part.relname);
+        dropped := dropped + 1;
+    END LOOP;
+
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE todo_mutation_relay_offsets IS 'Last mutation log position published by each relay (MutationRelay)';
+COMMENT ON COLUMN todo_definition_mutations.mutation_data IS 'Written by the application: full row for CREATE/RESTORE, changed columns plus id for UPDATE, id only for DELETE';
+COMMENT ON COLUMN todo_instance_mutations.mutation_data IS 'Written by the application: full row for CREATE/RESTORE, changed columns plus id for UPDATE/STATUS_CHANGE, id only for DELETE';
@@ -0,0 +1,178 @@
+-- V2.17: Global instance keys for the partitioned todo_instances
+-- V2.8 had to widen both unique constraints with the partition key:
+--   primary key            (id, due_date)
+--   uq_definition_sequence (definition_id, sequence_number, due_date)
+-- so neither id nor a definition's sequence number was unique any more. todo_instance_keys is a
+-- small unpartitioned table with one row per instance (hot or archived) that carries the real
+-- constraints. Statement-level triggers with transition tables keep it in step with one set-based
+-- statement per write, not one call per row.
+--
+-- The same table maps id -> due_date, so lookups by id alone can prune to a single partition
+-- (TodoInstanceRepository.findById / findByIdAndOwner).
+--
+-- ensure_todo_instance_partition is also reworked: the common case (nothing parked in the
+-- default partition for the month) no longer moves rows, and the rare move gives up after a short
+-- lock_timeout instead of holding live writes behind it.
+
+CREATE TABLE IF NOT EXISTS todo_instance_keys (
+    id UUID PRIMARY KEY,
+    definition_id UUID NOT NULL,
+    sequence_number INTEGER NOT NULL,
+    due_date DATE NOT NULL,
+
+    CONSTRAINT fk_todo_inst_key_definition FOREIGN KEY (definition_id)
+        REFERENCES todo_definitions(id) ON DELETE CASCADE
+);
+
+-- Hot rows are unique already; archived rows that collide (a sequence number reused after its
+-- row was archived) are left without a key and reported
+INSERT INTO todo_instance_keys (id, definition_id, sequence_number, due_date)
+SELECT id, definition_id, sequence_number, due_date FROM todo_instances;
+
+DO $$
+DECLARE
+    skipped INTEGER;
+BEGIN
+    INSERT INTO todo_instance_keys (id, definition_id, sequence_number, due_date)
+    SELECT DISTINCT ON (a.definition_id, a.sequence_number) a.id, a.definition_id, a.sequence_number, a.due_date
+    FROM todo_instances_archive a
+    WHERE NOT EXISTS (SELECT 1 FROM todo_instance_keys k WHERE k.id = a.id)
+      AND NOT EXISTS (
+          SELECT 1 FROM todo_instance_keys k
+          WHERE k.definition_id = a.definition_id AND k.sequence_number = a.sequence_number
+      )
+    ORDER BY a.definition_id, a.sequence_number, a.archived_at;
+
+    SELECT count(*) INTO skipped
+    FROM todo_instances_archive a
+    WHERE NOT EXISTS (SELECT 1 FROM todo_instance_keys k WHERE k.id = a.id);
+    IF skipped > 0 THEN
+        RAISE NOTICE 'todo_instance_keys: % archived instances collide with an existing key and were not registered', skipped;
+    END IF;
+END $$;
+
+ALTER TABLE todo_instance_keys ADD CONSTRAINT uq_todo_inst_key_definition_sequence
+    UNIQUE (definition_id, sequence_number);
+
+CREATE OR REPLACE FUNCTION todo_instance_keys_insert()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO todo_instance_keys (id, definition_id, sequence_number, due_date)
+    SELECT id, definition_id, sequence_number, due_date FROM new_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION todo_instance_keys_update()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE todo_instance_keys k
+    SET definition_id = n.definition_id, sequence_number = n.sequence_number, due_date = n.due_date
+    FROM new_rows n
+    JOIN old_rows o ON o.id = n.id
+    WHERE k.id = n.id
+      AND (n.definition_id, n.sequence_number, n.due_date)
+          IS DISTINCT FROM (o.definition_id, o.sequence_number, o.due_date);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows moved to the archive keep their key, so archived ids and sequence numbers stay reserved.
+-- AFTER triggers fire once the whole statement (including the archive job's INSERT) has run.
+CREATE OR REPLACE FUNCTION todo_instance_keys_delete()
+RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM todo_instance_keys k
+    USING old_rows o
+    WHERE k.id = o.id
+      AND NOT EXISTS (SELECT 1 FROM todo_instances_archive a WHERE a.id = o.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION todo_instance_keys_purge()
+RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM todo_instance_keys k
+    USING old_rows o
+    WHERE k.id = o.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER todo_instance_keys_insert_trigger
+    AFTER INSERT ON todo_instances
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION todo_instance_keys_insert();
+
+CREATE TRIGGER todo_instance_keys_update_trigger
+    AFTER UPDATE ON todo_instances
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION todo_instance_keys_update();
+
+CREATE TRIGGER todo_instance_keys_delete_trigger
+    AFTER DELETE ON todo_instances
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION todo_instance_keys_delete();
+
+CREATE TRIGGER todo_instance_keys_purge_trigger
+    AFTER DELETE ON todo_instances_archive
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION todo_instance_keys_purge();
+
+-- Same contract as V2.8 (creates the month's partition, returns FALSE if it exists).
+-- Fast path: nothing for the month sits in the default partition, so the partition is created in
+-- place; the default-partition check is a short scan of a table the job keeps nearly empty.
+-- Slow path: rows have to be moved, which locks the default partition until commit. Both paths
+-- run under a short lock_timeout, so a busy table makes the job fail and retry on its next run
+-- rather than queue live writes behind it.
+CREATE OR REPLACE FUNCTION ensure_todo_instance_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    start_date DATE := date_trunc('month', p_month)::DATE;
+    end_date DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('todo_instances_p%s', to_char(p_month, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    PERFORM set_config('lock_timeout', '2s', true);
+
+    IF NOT EXISTS (
+        SELECT 1 FROM todo_instances_default WHERE due_date >= start_date AND due_date < end_date
+    ) THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF todo_instances FOR VALUES FROM (%L) TO (%L)',
+            partition_name, start_date, end_date);
+        RETURN TRUE;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE todo_instances INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE)',
+        partition_name);
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I CHECK (due_date >= %L AND due_date < %L)',
+        partition_name, partition_name || '_range', start_date, end_date);
+
+    -- Moving between partitions of the same table is not a delete for the key triggers: the rows
+    -- go out through the default partition directly, so the parent's statement triggers never fire
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM todo_instances_default WHERE due_date >= %L AND due_date < %L RETURNING *)
+         INSERT INTO %I SELECT * FROM moved',
+        start_date, end_date, partition_name);
+
+    EXECUTE format(
+        'ALTER TABLE todo_instances ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, partition_name || '_range');
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE todo_instance_keys IS 'One row per todo instance (hot or archived): enforces unique id and (definition_id, sequence_number) across partitions and maps id to due_date for partition pruning';
@@ -0,0 +1,12 @@
+-- V2.18: Original occurrence date for moved instances
+-- A recurring occurrence moved to another day is still the same occurrence of its series, and the
+-- calendar feed has to name it by the date the rule generated (RECURRENCE-ID), not by where it
+-- sits now. original_due_date is set on the first move and kept on later ones; NULL means the
+-- instance was never moved (original = due_date).
+--
+-- Rows moved before this migration keep NULL: their original date was never recorded.
+
+ALTER TABLE todo_instances ADD COLUMN IF NOT EXISTS original_due_date DATE;
+ALTER TABLE todo_instances_archive ADD COLUMN IF NOT EXISTS original_due_date DATE;
+
+COMMENT ON COLUMN todo_instances.original_due_date IS 'Due date before the first move (NULL if never moved); RECURRENCE-ID of the occurrence in the calendar feed';
@@ -0,0 +1,23 @@
+-- V2.19: Recompute next/last due dates of existing recurring definitions
+-- next_due_date is now the earliest occurrence of the series (counted from its anchor) that has
+-- not been completed or deleted, independent of the day it was computed. Values written by V2.6
+-- were counted from the computation day, and rows created before V2.6 were never filled because
+-- the backfill was opt-in.
+--
+-- Expanding RRULEs cannot be done in SQL, so rows are only flagged here. TodoScheduleBackfillJob
+-- (app.todo.schedule.backfill-on-startup, on by default) recomputes the flagged rows at startup in
+-- keyset batches and clears the flag; once none are left the job is a single index probe.
+
+ALTER TABLE todo_definitions ADD COLUMN IF NOT EXISTS schedule_stale BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE todo_definitions
+SET schedule_stale = TRUE
+WHERE recurrence_rule IS NOT NULL
+  AND deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_schedule_stale
+    ON todo_definitions (id)
+    WHERE schedule_stale;
+
+COMMENT ON COLUMN todo_definitions.next_due_date IS 'Earliest occurrence (from the series anchor) not yet completed or deleted; NULL when no occurrences remain';
+COMMENT ON COLUMN todo_definitions.schedule_stale IS 'next/last_due_date need recomputing; cleared by TodoScheduleBackfillJob';
@@ -0,0 +1,63 @@
+-- V2.20: Let mutation log retention ignore the relay offset while the relay is disabled
+-- V2.16 made every row of todo_mutation_relay_offsets pin partitions like an active client cursor.
+-- With app.sync.relay.enabled=false nothing advances the offset, so retention silently stopped
+-- dropping partitions and the log grew without bound. The retention job now says whether the
+-- relay is running; when it is not, only active client cursors pin partitions. Changes dropped
+-- while the relay is off are not replayed when it is turned back on (it resumes from the oldest
+-- remaining row), which matches what a disabled relay promises: no hints and no experience.
+
+DROP FUNCTION IF EXISTS drop_todo_mutation_partitions(DATE, TIMESTAMP);
+
+CREATE OR REPLACE FUNCTION drop_todo_mutation_partitions(p_before DATE, p_active_since TIMESTAMP, p_include_relay BOOLEAN)
+RETURNS INTEGER AS $$
+DECLARE
+    dropped INTEGER := 0;
+    oldest_xact_id xid8;
+    oldest_seq BIGINT;
+    top_xact_id xid8;
+    top_seq BIGINT;
+    part RECORD;
+BEGIN
+    PERFORM set_config('lock_timeout', '5s', true);
+    LOCK TABLE sync_cursors IN SHARE MODE;
+
+    SELECT c.xact_id, c.seq INTO oldest_xact_id, oldest_seq
+    FROM (
+        SELECT xact_id, seq FROM sync_cursors WHERE updated_at >= p_active_since
+        UNION ALL
+        SELECT xact_id, seq FROM todo_mutation_relay_offsets WHERE p_include_relay
+    ) c
+    ORDER BY c.xact_id, c.seq
+    LIMIT 1;
+
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent IN ('todo_definition_mutations'::regclass, 'todo_instance_mutations'::regclass)
+          AND c.relname ~ '_p\d{4}_\d{2}_\d{2}$'
+          AND to_date(right(c.relname, 10), 'YYYY_MM_DD') + 1 <= p_before
+        ORDER BY right(c.relname, 10)
+    LOOP
+        top_xact_id := NULL;
+        top_seq := NULL;
+        EXECUTE format('SELECT xact_id, seq FROM %I ORDER BY xact_id DESC, seq DESC LIMIT 1', part.relname)
+            INTO top_xact_id, top_seq;
+
+        IF top_xact_id IS NOT NULL AND oldest_xact_id IS NOT NULL
+           AND (top_xact_id, top_seq) > (oldest_xact_id, oldest_seq) THEN
+            CONTINUE;  -- an active client or the running relay has not read this partition yet
+        END IF;
+
+        IF top_xact_id IS NOT NULL THEN
+            UPDATE todo_mutation_log_watermark
+            SET xact_id = top_xact_id, seq = top_seq, updated_at = CURRENT_TIMESTAMP
+            WHERE (xact_id, seq) < (top_xact_id, top_seq);
+        END IF;
+        EXECUTE format('DROP TABLE %I', part.relname);
+        dropped := dropped + 1;
+    END LOOP;
+
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
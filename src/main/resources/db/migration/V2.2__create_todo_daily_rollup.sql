@@ -0,0 +1,31 @@
+-- V2.2: Create daily completion rollup for completion-rate charts
+-- Charts read at most one row per day instead of grouping todo_instances on every request
+
+CREATE TABLE IF NOT EXISTS todo_daily_rollup (
+    user_id UUID NOT NULL,
+    date DATE NOT NULL,
+    completed INTEGER NOT NULL DEFAULT 0 CHECK (completed >= 0),
+    pending INTEGER NOT NULL DEFAULT 0 CHECK (pending >= 0),
+
+    CONSTRAINT pk_todo_daily_rollup PRIMARY KEY (user_id, date)
+);
+
+-- Initial backfill from existing instances
+INSERT INTO todo_daily_rollup (user_id, date, completed, pending)
+SELECT
+    i.user_id,
+    i.due_date,
+    COUNT(*) FILTER (WHERE i.completed),
+    COUNT(*) FILTER (WHERE NOT i.completed)
+FROM todo_instances i
+INNER JOIN todo_definitions d ON d.id = i.definition_id
+WHERE i.deleted_at IS NULL
+  AND d.deleted_at IS NULL
+GROUP BY i.user_id, i.due_date
+ON CONFLICT (user_id, date) DO UPDATE
+SET completed = EXCLUDED.completed,
+    pending = EXCLUDED.pending;
+
+COMMENT ON TABLE todo_daily_rollup IS 'Per-user daily completed/pending counts maintained on complete, uncomplete, create and delete';
+COMMENT ON COLUMN todo_daily_rollup.completed IS 'Number of live completed instances due on this date';
+COMMENT ON COLUMN todo_daily_rollup.pending IS 'Number of live pending instances due on this date';
@@ -0,0 +1,14 @@
+-- V2.3: Create calendar feed tokens for ICS subscription URLs
+-- Calendar clients cannot send bearer tokens, so the feed URL carries an opaque per-user token
+
+CREATE TABLE IF NOT EXISTS calendar_feed_tokens (
+    user_id UUID NOT NULL,
+    token VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_calendar_feed_tokens PRIMARY KEY (user_id),
+    CONSTRAINT uk_calendar_feed_tokens_token UNIQUE (token)
+);
+
+COMMENT ON TABLE calendar_feed_tokens IS 'One active ICS subscription token per user; rotating replaces the row value';
+COMMENT ON COLUMN calendar_feed_tokens.token IS 'URL-safe random token (32 bytes, base64url) resolving the feed owner';
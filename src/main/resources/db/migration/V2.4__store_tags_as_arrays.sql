@@ -0,0 +1,49 @@
+-- V2.4: Store tags as TEXT[] on the todo tables and index them with GIN
+-- Tags were mapped through join tables (todo_definition_tags, todo_instance_tags), costing a query per row
+-- and preventing index-backed any/all filtering with the && and @> operators
+
+ALTER TABLE todo_definitions ADD COLUMN IF NOT EXISTS tags TEXT[];
+ALTER TABLE todo_instances ADD COLUMN IF NOT EXISTS tags TEXT[];
+
+-- Move existing join table rows into the array columns
+DO $$
+BEGIN
+    IF to_regclass('todo_definition_tags') IS NOT NULL THEN
+        UPDATE todo_definitions d
+        SET tags = t.tags
+        FROM (
+            SELECT definition_id, array_agg(DISTINCT tag ORDER BY tag) AS tags
+            FROM todo_definition_tags
+            WHERE tag IS NOT NULL
+            GROUP BY definition_id
+        ) t
+        WHERE t.definition_id = d.id
+          AND d.tags IS NULL;
+
+        DROP TABLE todo_definition_tags;
+    END IF;
+
+    IF to_regclass('todo_instance_tags') IS NOT NULL THEN
+        UPDATE todo_instances i
+        SET tags = t.tags
+        FROM (
+            SELECT instance_id, array_agg(DISTINCT tag ORDER BY tag) AS tags
+            FROM todo_instance_tags
+            WHERE tag IS NOT NULL
+            GROUP BY instance_id
+        ) t
+        WHERE t.instance_id = i.id
+          AND i.tags IS NULL;
+
+        DROP TABLE todo_instance_tags;
+    END IF;
+END $$;
+
+-- Definitions always carry a tag set; instances keep NULL to inherit from their definition
+UPDATE todo_definitions SET tags = '{}' WHERE tags IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_tags ON todo_definitions USING GIN (tags) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_todo_inst_tags ON todo_instances USING GIN (tags) WHERE deleted_at IS NULL;
+
+COMMENT ON COLUMN todo_definitions.tags IS 'Tag set; filtered with && (any) and @> (all) through idx_todo_def_tags';
+COMMENT ON COLUMN todo_instances.tags IS 'Tag override; NULL inherits the definition tags';
@@ -0,0 +1,13 @@
+-- V2.5: Index recurrence rule fields now that the rule is stored as typed JSONB
+-- The application writes RecurrenceRule through a single converter, so keys are stable (frequency, endCondition, ...)
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_rule_frequency
+    ON todo_definitions ((recurrence_rule ->> 'frequency'))
+    WHERE deleted_at IS NULL AND recurrence_rule IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_rule_end_type
+    ON todo_definitions ((recurrence_rule -> 'endCondition' ->> 'type'))
+    WHERE deleted_at IS NULL AND recurrence_rule IS NOT NULL;
+
+COMMENT ON INDEX idx_todo_def_rule_frequency IS 'Filters recurring definitions by RRULE frequency without decoding JSON';
+COMMENT ON INDEX idx_todo_def_rule_end_type IS 'Finds open-ended (NEVER) series for materialization jobs';
@@ -0,0 +1,17 @@
+-- V2.6: Precomputed next/last occurrence dates on todo_definitions
+-- Maintained by the application (RecurrenceEngine) on rule changes and occurrence completion,
+-- so agenda and "series has ended" queries no longer expand rules or scan instances
+
+ALTER TABLE todo_definitions ADD COLUMN IF NOT EXISTS next_due_date DATE;
+ALTER TABLE todo_definitions ADD COLUMN IF NOT EXISTS last_due_date DATE;
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_user_next_due
+    ON todo_definitions (user_id, next_due_date)
+    WHERE deleted_at IS NULL AND next_due_date IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_def_user_last_due
+    ON todo_definitions (user_id, last_due_date)
+    WHERE deleted_at IS NULL AND last_due_date IS NOT NULL;
+
+COMMENT ON COLUMN todo_definitions.next_due_date IS 'Earliest occurrence not yet completed; NULL when no occurrences remain. Existing rows are filled by app.todo.schedule.backfill-on-startup';
+COMMENT ON COLUMN todo_definitions.last_due_date IS 'Final occurrence for UNTIL/COUNT series; NULL for open-ended series';
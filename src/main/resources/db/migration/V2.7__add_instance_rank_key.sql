@@ -0,0 +1,26 @@
+-- V2.7: Fractional rank key for instance display order
+-- Moving an item writes a single row with a key between its new neighbours (RankKey).
+-- Keys are base62 strings compared byte-wise, so the column uses the "C" collation.
+-- Initial keys (and rebalanced keys) are 8 hex digits spaced 16 apart and ending in '8'.
+
+ALTER TABLE todo_instances ADD COLUMN IF NOT EXISTS rank_key VARCHAR(64) COLLATE "C";
+
+WITH ordered AS (
+    SELECT id,
+           row_number() OVER (
+               PARTITION BY user_id
+               ORDER BY display_order, due_date, due_time NULLS LAST, created_at, id
+           ) AS rn
+    FROM todo_instances
+)
+UPDATE todo_instances t
+SET rank_key = lpad(to_hex(o.rn * 16 + 8), 8, '0')
+FROM ordered o
+WHERE t.id = o.id
+  AND t.rank_key IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_todo_inst_user_rank
+    ON todo_instances (user_id, rank_key)
+    WHERE deleted_at IS NULL;
+
+COMMENT ON COLUMN todo_instances.rank_key IS 'Fractional display-order key (base62, byte order); rewritten per user by the rank rebalance job when keys grow long. display_order is kept only for legacy clients';
@@ -0,0 +1,173 @@
+-- V2.8: Monthly range partitioning of todo_instances by due_date
+-- Nearly every instance query filters on a due_date range or on a single day, so the planner
+-- prunes to one or a few monthly partitions. Old months become cold partitions that vacuum
+-- and archiving can handle on their own.
+--
+-- Partitioned tables require the partition key in every unique constraint:
+--   primary key          (id)                               -> (id, due_date)
+--   uq_definition_sequence (definition_id, sequence_number) -> (definition_id, sequence_number, due_date)
+-- ids are random UUIDs, so per-id uniqueness is unchanged in practice.
+
+-- The view depends on the table and is recreated at the end
+DROP VIEW IF EXISTS todo_view;
+
+ALTER TABLE todo_instances RENAME TO todo_instances_unpartitioned;
+
+CREATE TABLE todo_instances (
+    LIKE todo_instances_unpartitioned
+        INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMMENTS
+) PARTITION BY RANGE (due_date);
+
+-- Catch-all for months that have no partition yet; ensure_todo_instance_partition moves rows out of it
+CREATE TABLE todo_instances_default PARTITION OF todo_instances DEFAULT;
+
+-- Creates the partition for the month containing p_month (no-op if it exists).
+-- Rows already sitting in the default partition for that month are moved into the new partition.
+CREATE OR REPLACE FUNCTION ensure_todo_instance_partition(p_month DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    start_date DATE := date_trunc('month', p_month)::DATE;
+    end_date DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := format('todo_instances_p%s', to_char(p_month, 'YYYY_MM'));
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I (LIKE todo_instances INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE)',
+        partition_name);
+    EXECUTE format(
+        'ALTER TABLE %I ADD CONSTRAINT %I CHECK (due_date >= %L AND due_date < %L)',
+        partition_name, partition_name || '_range', start_date, end_date);
+
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM todo_instances_default WHERE due_date >= %L AND due_date < %L RETURNING *)
+         INSERT INTO %I SELECT * FROM moved',
+        start_date, end_date, partition_name);
+
+    -- The CHECK constraint lets ATTACH skip scanning the new partition
+    EXECUTE format(
+        'ALTER TABLE todo_instances ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name, start_date, end_date);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, partition_name || '_range');
+
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Ensures partitions exist from the current month through p_months_ahead months ahead.
+-- Called by TodoInstancePartitionJob; returns the number of partitions created.
+CREATE OR REPLACE FUNCTION ensure_todo_instance_partitions(p_months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    created INTEGER := 0;
+    month_offset INTEGER;
+BEGIN
+    FOR month_offset IN 0..p_months_ahead LOOP
+        IF ensure_todo_instance_partition((CURRENT_DATE + make_interval(months => month_offset))::DATE) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month that already has data, plus the coming year
+DO $$
+DECLARE
+    data_month DATE;
+BEGIN
+    FOR data_month IN
+        SELECT DISTINCT date_trunc('month', due_date)::DATE FROM todo_instances_unpartitioned
+    LOOP
+        PERFORM ensure_todo_instance_partition(data_month);
+    END LOOP;
+    PERFORM ensure_todo_instance_partitions(12);
+END $$;
+
+INSERT INTO todo_instances SELECT * FROM todo_instances_unpartitioned;
+
+DROP TABLE todo_instances_unpartitioned;
+
+-- Constraints and indexes are declared on the parent and cascade to every (future) partition
+ALTER TABLE todo_instances ADD CONSTRAINT todo_instances_pkey PRIMARY KEY (id, due_date);
+ALTER TABLE todo_instances ADD CONSTRAINT uq_definition_sequence
+    UNIQUE (definition_id, sequence_number, due_date);
+ALTER TABLE todo_instances ADD CONSTRAINT fk_todo_inst_definition FOREIGN KEY (definition_id)
+    REFERENCES todo_definitions(id) ON DELETE CASCADE;
+ALTER TABLE todo_instances ADD CONSTRAINT fk_todo_inst_user FOREIGN KEY (user_id)
+    REFERENCES users(id) ON DELETE CASCADE;
+ALTER TABLE todo_instances ADD CONSTRAINT fk_todo_inst_category FOREIGN KEY (category_id)
+    REFERENCES category(id) ON DELETE SET NULL;
+
+-- Lookups by id alone probe the primary key of each partition (id is its leading column)
+CREATE INDEX idx_todo_inst_definition ON todo_instances (definition_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_user ON todo_instances (user_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_completed ON todo_instances (completed) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_due_date ON todo_instances (due_date, due_time) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_pinned ON todo_instances (is_pinned) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_category ON todo_instances (category_id) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_deleted_at ON todo_instances (deleted_at);
+CREATE INDEX idx_todo_inst_tags ON todo_instances USING GIN (tags) WHERE deleted_at IS NULL;
+CREATE INDEX idx_todo_inst_user_rank ON todo_instances (user_id, rank_key) WHERE deleted_at IS NULL;
+
+CREATE TRIGGER update_todo_instances_updated_at
+    BEFORE UPDATE ON todo_instances
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+CREATE VIEW todo_view AS
+SELECT
+    -- Instance fields
+    i.id,
+    i.definition_id,
+    i.user_id,
+    i.sequence_number,
+    i.due_date,
+    i.due_time,
+    i.completed,
+    i.completed_at,
+    i.is_pinned,
+    i.display_order,
+    i.rank_key,
+    i.created_at,
+    i.updated_at,
+
+    -- Merged fields (instance overrides definition)
+    COALESCE(i.title, d.title) AS title,
+    COALESCE(i.description, d.description) AS description,
+    COALESCE(i.priority_id, d.priority_id) AS priority_id,
+    COALESCE(i.category_id, d.category_id) AS category_id,
+    COALESCE(i.tags, d.tags) AS tags,
+
+    -- Definition fields
+    d.owner_id,
+    d.recurrence_rule,
+    d.is_recurring,
+    d.base_date,
+    d.base_time,
+    d.is_collaborative,
+    d.is_active,
+
+    -- Joined fields
+    u.nickname AS owner_nickname,
+    c.name AS category_name,
+
+    -- Computed fields
+    CASE
+        WHEN i.id IS NOT NULL THEN TRUE
+        ELSE FALSE
+    END AS has_instance
+FROM
+    todo_instances i
+    INNER JOIN todo_definitions d ON i.definition_id = d.id
+    INNER JOIN users u ON d.owner_id = u.id
+    LEFT JOIN category c ON COALESCE(i.category_id, d.category_id) = c.id
+WHERE
+    i.deleted_at IS NULL
+    AND d.deleted_at IS NULL;
+
+COMMENT ON TABLE todo_instances IS 'Todo instances (actual executions), range-partitioned by month of due_date';
+COMMENT ON TABLE todo_instances_default IS 'Rows whose month has no partition yet; drained by ensure_todo_instance_partition';
+COMMENT ON VIEW todo_view IS 'Unified read-only view combining definitions and instances; filter on due_date to prune partitions';
@@ -0,0 +1,60 @@
+-- V2.9: Cold archive tier for todo_instances
+-- TodoInstanceArchiveJob moves completed instances older than app.todo.archive.completed-after
+-- and soft-deleted instances older than app.todo.archive.deleted-after out of the hot table
+-- in batches. Rows are never updated after archiving, so the table is packed (fillfactor 100)
+-- and carries only the indexes the history read path needs.
+
+CREATE TABLE IF NOT EXISTS todo_instances_archive (
+    id UUID PRIMARY KEY,
+    definition_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    sequence_number INTEGER NOT NULL,
+    title VARCHAR(255),
+    description TEXT,
+    priority_id INTEGER,
+    category_id UUID,
+    tags TEXT[],
+    due_date DATE NOT NULL,
+    due_time TIME,
+    completed BOOLEAN NOT NULL,
+    completed_at TIMESTAMP,
+    is_pinned BOOLEAN NOT NULL,
+    display_order INTEGER NOT NULL,
+    rank_key VARCHAR(64) COLLATE "C",
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    deleted_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_todo_inst_archive_definition FOREIGN KEY (definition_id)
+        REFERENCES todo_definitions(id) ON DELETE CASCADE,
+    CONSTRAINT fk_todo_inst_archive_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+) WITH (fillfactor = 100);
+
+CREATE INDEX IF NOT EXISTS idx_todo_inst_archive_user_due
+    ON todo_instances_archive (user_id, due_date);
+CREATE INDEX IF NOT EXISTS idx_todo_inst_archive_definition
+    ON todo_instances_archive (definition_id);
+
+-- Lets the archive job find old completed rows without scanning every partition
+CREATE INDEX IF NOT EXISTS idx_todo_inst_completed_at
+    ON todo_instances (completed_at)
+    WHERE completed = TRUE AND deleted_at IS NULL;
+
+-- Read path: hot and archived rows together. Filters on due_date / user_id are pushed into
+-- both branches, so partition pruning on todo_instances still applies.
+CREATE OR REPLACE VIEW todo_instances_all AS
+SELECT id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+       due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+       created_at, updated_at, deleted_at, FALSE AS archived
+FROM todo_instances
+UNION ALL
+SELECT id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+       due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+       created_at, updated_at, deleted_at, TRUE AS archived
+FROM todo_instances_archive;
+
+COMMENT ON TABLE todo_instances_archive IS 'Archived (old completed or soft-deleted) todo instances; append-only, read through todo_instances_all';
+COMMENT ON COLUMN todo_instances_archive.archived_at IS 'When the row was moved out of todo_instances';
+COMMENT ON VIEW todo_instances_all IS 'Hot todo_instances plus todo_instances_archive for history, statistics and export queries';
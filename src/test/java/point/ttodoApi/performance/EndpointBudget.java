@@ -0,0 +1,25 @@
+package point.ttodoApi.performance;
+
+import java.time.Duration;
+
+/**
+ * 엔드포인트별 성능 예산
+ *
+ * @param name       표시 이름 (메서드 + 경로)
+ * @param uri        요청 URI (쿼리 문자열 포함)
+ * @param statements 요청 1회당 최대 SQL 실행 수
+ * @param rows       요청 1회당 최대 조회 행 수
+ * @param p95        지연 시간 95 백분위 목표 (보고용, 실행 환경에 따라 흔들리므로 실패 조건 아님)
+ */
+public record EndpointBudget(String name, String uri, long statements, long rows, Duration p95) {
+
+    public static EndpointBudget get(String uri, long statements, long rows, long p95Millis) {
+        String path = uri.contains("?") ? uri.substring(0, uri.indexOf('?')) : uri;
+        return new EndpointBudget("GET " + path, uri, statements, rows, Duration.ofMillis(p95Millis));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,61 @@
+package point.ttodoApi.performance;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 엔드포인트 측정 결과와 예산 비교
+ *
+ * @param statements 반복 중 최대 SQL 실행 수
+ * @param rows       반복 중 최대 조회 행 수
+ * @param p95        지연 시간 95 백분위
+ * @param queries    SQL 수가 가장 많았던 요청의 SQL 목록 (N+1 진단용)
+ */
+public record EndpointMeasurement(long statements, long rows, Duration p95, List<String> queries) {
+
+    private static final int MAX_LISTED_QUERIES = 15;
+
+    public static Duration percentile(List<Duration> samples, double percentile) {
+        List<Duration> sorted = samples.stream().sorted().toList();
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    /**
+     * 예산을 넘은 항목을 표 형태로 반환 (넘지 않았으면 빈 문자열)
+     * SQL 수/행 수만 비교하고 p95는 report()로 보고만 함
+     */
+    public String diff(EndpointBudget budget) {
+        StringBuilder rows = new StringBuilder();
+        appendIfOver(rows, "statements", budget.statements(), statements);
+        appendIfOver(rows, "rows", budget.rows(), this.rows);
+        if (rows.isEmpty()) return "";
+
+        StringBuilder out = new StringBuilder(budget.name()).append('\n')
+            .append(String.format("    %-12s %10s %10s %10s%n", "metric", "budget", "actual", "over"))
+            .append(rows);
+        if (statements > budget.statements()) {
+            out.append("    queries:\n");
+            queries.stream().limit(MAX_LISTED_QUERIES).forEach(q -> out.append("      ").append(q).append('\n'));
+            if (queries.size() > MAX_LISTED_QUERIES) {
+                out.append("      ... ").append(queries.size() - MAX_LISTED_QUERIES).append(" more\n");
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 한 줄 요약 (p95가 목표를 넘으면 표시만 함)
+     */
+    public String report(EndpointBudget budget) {
+        return String.format("  %-40s statements %3d/%-3d rows %5d/%-5d p95 %5dms (target %dms)%s",
+            budget.name(), statements, budget.statements(), rows, budget.rows(),
+            p95.toMillis(), budget.p95().toMillis(), p95.compareTo(budget.p95()) > 0 ? " over target" : "");
+    }
+
+    private static void appendIfOver(StringBuilder out, String metric, long budget, long actual) {
+        if (actual > budget) {
+            out.append(String.format("  - %-12s %10d %10d %+10d%n", metric, budget, actual, actual - budget));
+        }
+    }
+}
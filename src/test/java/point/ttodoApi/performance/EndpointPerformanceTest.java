@@ -0,0 +1,266 @@
+package point.ttodoApi.performance;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.category.domain.CategoryCollaborator;
+import point.ttodoApi.category.infrastructure.persistence.CategoryCollaboratorRepository;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.challenge.domain.Challenge;
+import point.ttodoApi.challenge.domain.ChallengeParticipation;
+import point.ttodoApi.challenge.domain.PeriodType;
+import point.ttodoApi.challenge.infrastructure.ChallengeParticipationRepository;
+import point.ttodoApi.challenge.infrastructure.ChallengeRepository;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.domain.RankKey;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 엔드포인트 성능 회귀 테스트
+ * 마이그레이션을 적용하고 시드 데이터를 넣은 PostgreSQL에 대해 MockMvc로 각 엔드포인트를 호출하고
+ * SQL 실행 수, 조회 행 수가 예산 안에 있는지 확인. p95 지연 시간은 실행 환경에 따라 흔들리므로 보고만 함.
+ * 예산은 아래 시드 규모 기준이며, N+1이면 SQL 수가 시드 행 수만큼 늘어나 바로 실패함
+ */
+@DisplayName("엔드포인트 성능 예산 회귀 테스트")
+@Tag("performance")
+@AutoConfigureMockMvc
+@Import(SqlRecordingDataSourceConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointPerformanceTest extends MigratedDatabaseTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-7000-8000-00000000beef");
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    // 시드 규모
+    private static final int CATEGORIES = 5;
+    private static final int RECURRING_DEFINITIONS = 20;
+    private static final int SINGLE_DEFINITIONS = 40;
+    private static final int HISTORY_DAYS = 14;
+    private static final int FUTURE_DAYS = 7;
+    private static final int COLLABORATORS = 10;
+    private static final int CHALLENGES = 15;
+
+    /**
+     * {today}, {weekAgo}, {weekLater}, {userId}는 요청 시 치환
+     */
+    private static final List<EndpointBudget> BUDGETS = List.of(
+        EndpointBudget.get("/todo-instances/by-date?date={today}", 4, 60, 150),
+        EndpointBudget.get("/todo-instances/by-date-range?startDate={weekAgo}&endDate={weekLater}", 4, 400, 250),
+        EndpointBudget.get("/todo-definitions?size=20", 5, 60, 150),
+        EndpointBudget.get("/todo-definitions/recurring", 4, 60, 150),
+        EndpointBudget.get("/todos/today", 4, 60, 150),
+        EndpointBudget.get("/categories", 5, 30, 150),
+        EndpointBudget.get("/challenges?size=20", 6, 150, 200)
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlRecorder sqlRecorder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryCollaboratorRepository collaboratorRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeParticipationRepository participationRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.save(User.builder()
+                .id(USER_ID)
+                .email("perf@example.com")
+                .password("password")
+                .build());
+            List<User> others = new ArrayList<>();
+            for (int i = 0; i < COLLABORATORS; i++) {
+                others.add(userRepository.save(User.builder()
+                    .email("perf-" + i + "@example.com")
+                    .password("password")
+                    .build()));
+            }
+
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < CATEGORIES; i++) {
+                Category category = categoryRepository.save(Category.builder()
+                    .name("category " + i)
+                    .owner(owner)
+                    .build());
+                categories.add(category);
+                CategoryCollaborator collaborator = new CategoryCollaborator(category, others.get(i % others.size()));
+                collaborator.accept();
+                collaboratorRepository.save(collaborator);
+            }
+
+            String rankKey = null;
+            for (int i = 0; i < RECURRING_DEFINITIONS; i++) {
+                RecurrenceRule rule = new RecurrenceRule();
+                rule.setFrequency(Frequency.DAILY);
+                rule.setInterval(1);
+                rule.setAnchorDate(today.minusDays(HISTORY_DAYS));
+                TodoDefinition definition = definitionRepository.save(TodoDefinition.builder()
+                    .title("recurring " + i)
+                    .priorityId(i % 3)
+                    .category(categories.get(i % CATEGORIES))
+                    .tags(new HashSet<>(Set.of("tag" + i % 4, "common")))
+                    .recurrenceRule(rule)
+                    .baseDate(rule.getAnchorDate())
+                    .owner(owner)
+                    .build());
+                int sequence = 1;
+                for (LocalDate date = rule.getAnchorDate(); !date.isAfter(today.plusDays(FUTURE_DAYS)); date = date.plusDays(1)) {
+                    rankKey = RankKey.between(rankKey, null);
+                    TodoInstance instance = TodoInstance.builder()
+                        .definition(definition)
+                        .owner(owner)
+                        .sequenceNumber(sequence++)
+                        .dueDate(date)
+                        .rankKey(rankKey)
+                        .build();
+                    if (date.isBefore(today) && sequence % 3 != 0) instance.markComplete();
+                    instanceRepository.save(instance);
+                }
+            }
+            for (int i = 0; i < SINGLE_DEFINITIONS; i++) {
+                LocalDate date = today.plusDays(i % (FUTURE_DAYS * 2 + 1) - FUTURE_DAYS);
+                TodoDefinition definition = definitionRepository.save(TodoDefinition.builder()
+                    .title("single " + i)
+                    .priorityId(i % 3)
+                    .category(i % 2 == 0 ? categories.get(i % CATEGORIES) : null)
+                    .tags(new HashSet<>(Set.of("tag" + i % 4)))
+                    .baseDate(date)
+                    .owner(owner)
+                    .build());
+                rankKey = RankKey.between(rankKey, null);
+                instanceRepository.save(TodoInstance.builder()
+                    .definition(definition)
+                    .owner(owner)
+                    .dueDate(date)
+                    .isPinned(i % 10 == 0)
+                    .rankKey(rankKey)
+                    .build());
+            }
+
+            for (int i = 0; i < CHALLENGES; i++) {
+                Challenge challenge = challengeRepository.save(Challenge.builder()
+                    .title("challenge " + i)
+                    .startDate(today.minusDays(i))
+                    .endDate(today.plusDays(30))
+                    .periodType(PeriodType.DAILY)
+                    .creatorId(owner.getId())
+                    .build());
+                for (User participant : others.subList(0, 1 + i % others.size())) {
+                    participationRepository.save(ChallengeParticipation.builder()
+                        .user(participant)
+                        .challenge(challenge)
+                        .joinedAt(LocalDateTime.now())
+                        .build());
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("모든 엔드포인트가 SQL 수/행 수 예산 안에서 응답 (p95는 보고만)")
+    void endpoints_StayWithinBudgets() throws Exception {
+        List<String> violations = new ArrayList<>();
+        StringBuilder report = new StringBuilder("Endpoint performance report\n");
+        for (EndpointBudget budget : BUDGETS) {
+            EndpointMeasurement measurement = measure(budget);
+            report.append(measurement.report(budget)).append('\n');
+            String diff = measurement.diff(budget);
+            if (!diff.isEmpty()) violations.add(diff);
+        }
+        System.out.println(report);
+
+        if (!violations.isEmpty()) {
+            fail("Endpoint performance budget exceeded (" + violations.size() + "/" + BUDGETS.size() + ")\n\n"
+                + String.join("\n", violations));
+        }
+    }
+
+    private EndpointMeasurement measure(EndpointBudget budget) throws Exception {
+        String uri = budget.uri()
+            .replace("{today}", today.toString())
+            .replace("{weekAgo}", today.minusDays(7).toString())
+            .replace("{weekLater}", today.plusDays(7).toString())
+            .replace("{userId}", USER_ID.toString());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            perform(uri);
+        }
+
+        long maxStatements = 0;
+        long maxRows = 0;
+        List<String> worstQueries = List.of();
+        List<Duration> latencies = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sqlRecorder.reset();
+            long start = System.nanoTime();
+            perform(uri);
+            latencies.add(Duration.ofNanos(System.nanoTime() - start));
+
+            if (sqlRecorder.statements() > maxStatements) {
+                maxStatements = sqlRecorder.statements();
+                worstQueries = sqlRecorder.queries();
+            }
+            maxRows = Math.max(maxRows, sqlRecorder.rows());
+        }
+        return new EndpointMeasurement(maxStatements, maxRows, EndpointMeasurement.percentile(latencies, 0.95), worstQueries);
+    }
+
+    private void perform(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).with(authentication(new UsernamePasswordAuthenticationToken(
+                USER_ID, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))))))
+            .andReturn();
+        assertThat(result.getResponse().getStatus())
+            .as("GET %s", uri)
+            .isBetween(200, 299);
+    }
+}
@@ -0,0 +1,67 @@
+package point.ttodoApi.performance;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * datasource-proxy 리스너 - 실행한 SQL 수와 ResultSet에서 읽은 행 수를 기록
+ * SQL 수는 DB 왕복 기준 (JDBC 배치는 1회)
+ */
+public class SqlRecorder implements QueryExecutionListener, MethodExecutionListener {
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+    public void reset() {
+        statements.set(0);
+        rows.set(0);
+        queries.clear();
+    }
+
+    public long statements() {
+        return statements.get();
+    }
+
+    public long rows() {
+        return rows.get();
+    }
+
+    public List<String> queries() {
+        synchronized (queries) {
+            return List.copyOf(queries);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        statements.incrementAndGet();
+        for (QueryInfo queryInfo : queryInfoList) {
+            queries.add(queryInfo.getQuery());
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+            && "next".equals(executionContext.getMethod().getName())
+            && Boolean.TRUE.equals(executionContext.getResult())) {
+            rows.incrementAndGet();
+        }
+    }
+}
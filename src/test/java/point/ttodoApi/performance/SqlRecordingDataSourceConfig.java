@@ -0,0 +1,39 @@
+package point.ttodoApi.performance;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 datasource-proxy로 감싸 SqlRecorder에 기록
+ * (요청 계측용 프록시와 겹쳐 감싸도 무방)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlRecordingDataSourceConfig {
+
+    @Bean
+    public static SqlRecorder sqlRecorder() {
+        return new SqlRecorder();
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlRecordingDataSourcePostProcessor(SqlRecorder sqlRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name("perf-" + beanName)
+                        .listener(sqlRecorder)
+                        .methodListener(sqlRecorder)
+                        .proxyResultSet()
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
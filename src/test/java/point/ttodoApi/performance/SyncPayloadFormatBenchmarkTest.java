@@ -0,0 +1,180 @@
+package point.ttodoApi.performance;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.*;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기화 페이로드 포맷 벤치마크
+ * 변경 1,000건 배치를 JSON/CBOR/Smile(+gzip)로 인코딩해 크기, 스트리밍 토큰 순회 시간,
+ * SyncRequest 역직렬화 시간, SyncResponse 직렬화 시간을 비교해 출력.
+ * 시간은 환경마다 달라 검증하지 않고, 크기와 왕복 결과만 검증함
+ */
+@DisplayName("동기화 페이로드 포맷 벤치마크")
+@Tag("performance")
+class SyncPayloadFormatBenchmarkTest {
+
+    private static final int CHANGES = 1_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    private static final Map<String, ObjectMapper> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("json", JsonMapper.builder().build());
+        FORMATS.put("cbor", CBORMapper.builder().build());
+        FORMATS.put("smile", SmileMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("변경 1,000건 - 바이너리 포맷이 JSON보다 작고 같은 요청으로 디코딩됨")
+    void compareFormats() throws IOException {
+        SyncRequest request = request(CHANGES);
+        SyncResponse response = response(CHANGES);
+
+        StringBuilder report = new StringBuilder(String.format(
+            "%n%-6s %10s %10s %12s %12s %12s%n", "format", "bytes", "gzip", "tokens(us)", "decode(us)", "encode(us)"));
+        Map<String, Integer> sizes = new HashMap<>();
+
+        for (Map.Entry<String, ObjectMapper> format : FORMATS.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            byte[] payload = mapper.writeValueAsBytes(request);
+            sizes.put(format.getKey(), payload.length);
+
+            assertThat(mapper.readValue(payload, SyncRequest.class)).isEqualTo(request);
+
+            long tokens = medianMicros(() -> countTokens(mapper, payload));
+            long decode = medianMicros(() -> mapper.readValue(payload, SyncRequest.class));
+            long encode = medianMicros(() -> mapper.writeValueAsBytes(response));
+
+            report.append(String.format("%-6s %10d %10d %12d %12d %12d%n",
+                format.getKey(), payload.length, gzip(payload).length, tokens, decode, encode));
+        }
+        System.out.println(report);
+
+        assertThat(sizes.get("cbor")).isLessThan(sizes.get("json"));
+        assertThat(sizes.get("smile")).isLessThan(sizes.get("json"));
+    }
+
+    /**
+     * 데이터 바인딩 없이 스트리밍 파서로 토큰만 순회 (포맷 자체의 디코딩 비용)
+     */
+    private static int countTokens(ObjectMapper mapper, byte[] payload) throws IOException {
+        int count = 0;
+        try (JsonParser parser = mapper.createParser(payload)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token.isScalarValue()) parser.getText();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long medianMicros(IoAction action) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            action.run();
+        }
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * simple_todo 수정과 투두 정의 생성을 섞은 배치
+     */
+    private static SyncRequest request(int size) {
+        long now = 1_760_000_000_000L;
+        List<SyncRequest.SyncChange> changes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SyncRequest.SyncRecord record = new SyncRequest.SyncRecord();
+            SyncRequest.SyncChange change = new SyncRequest.SyncChange();
+            if (i % 2 == 0) {
+                change.setTableName("simple_todo");
+                change.setOperation("update");
+                record.setId(String.valueOf(i + 1));
+                record.setTitle("장보기 목록 " + i);
+                record.setDescription("우유, 계란, 빵 - 퇴근길에 들르기 #" + i);
+                record.setComplete(i % 3 == 0);
+                record.setChangedFields(List.of("title", "complete"));
+            } else {
+                change.setTableName("todo_definitions");
+                change.setOperation("insert");
+                record.setId(UUID.nameUUIDFromBytes(("tmp-" + i).getBytes()).toString());
+                Map<String, Object> data = new LinkedHashMap<>();
+                data.put("title", "주간 회고 작성 " + i);
+                data.put("description", "이번 주 한 일과 다음 주 계획 정리");
+                data.put("priorityId", i % 3);
+                data.put("categoryId", "0199f3a2-5c1e-7b3d-8a4f-" + String.format("%012d", i % 10));
+                data.put("tags", List.of("work", "weekly"));
+                data.put("baseDate", "2025-10-" + String.format("%02d", i % 28 + 1));
+                record.setData(data);
+            }
+            record.setUpdatedAt(now + i);
+            record.setHlc((now + i) + "-" + (i % 4));
+            change.setRecord(record);
+            change.setTimestamp(now + i);
+            changes.add(change);
+        }
+
+        SyncRequest request = new SyncRequest();
+        request.setClientId("ios-7f3c2a");
+        request.setLastSyncTimestamp(now - 60_000);
+        request.setChanges(changes);
+        return request;
+    }
+
+    private static SyncResponse response(int size) {
+        long now = 1_760_000_000_000L;
+        List<SyncResponse.SyncResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(SyncResponse.SyncResult.builder()
+                .tableName(i % 2 == 0 ? "simple_todo" : "todo_definitions")
+                .localId(String.valueOf(i + 1))
+                .serverId(i % 2 == 0 ? i + 1 : null)
+                .serverUuid(i % 2 == 0 ? null : UUID.nameUUIDFromBytes(("srv-" + i).getBytes()))
+                .operation(i % 2 == 0 ? "update" : "insert")
+                .success(true)
+                .hlc((now + i) + "-0")
+                .build());
+        }
+        return SyncResponse.builder()
+            .success(true)
+            .serverTimestamp(now)
+            .hlc(now + "-1")
+            .results(results)
+            .conflicts(List.of())
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,125 @@
+package point.ttodoApi.shared.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.PostgreSQLContainer;
+import point.ttodoApi.shared.config.properties.RequestTimingProperties;
+import point.ttodoApi.shared.logging.RequestTimingFilter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 커넥션 대기 계측 통합 테스트
+ * 지연 커넥션 프록시 아래의 실제 Hikari 풀이 고갈됐을 때 그 대기가 요청의 커넥션 대기로 잡히는지 확인
+ */
+@Tag("integration")
+@DisplayName("요청별 커넥션 대기 계측 통합 테스트")
+class RequestTimingConnectionWaitIntegrationTest {
+
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+    private static final long HOLD_MILLIS = 300;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource pool;
+
+    @BeforeAll
+    static void startContainer() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void stopContainer() {
+        postgres.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(postgres.getJdbcUrl());
+        pool.setUsername(postgres.getUsername());
+        pool.setPassword(postgres.getPassword());
+        pool.setMaximumPoolSize(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("풀 고갈 - 지연 프록시를 거쳐도 풀 대기 시간이 요청의 커넥션 대기와 hikaricp 메트릭에 잡힘")
+    void connectionWait_RecordsPoolWait_WhenPoolExhausted() throws Exception {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(pool);
+        RequestTimingConfig.timeConnectionWaits(dataSource,
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+
+        Connection held = pool.getConnection();
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(HOLD_MILLIS);
+                held.close();
+            } catch (InterruptedException | SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        request(dataSource);
+
+        assertThat(meterRegistry.get("http.server.requests.db.connection.wait").timer().totalTime(TimeUnit.MILLISECONDS))
+            .isGreaterThanOrEqualTo(HOLD_MILLIS / 2.0);
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").timer().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여유 있는 풀 - 커넥션 대기는 풀 대기만큼만 (지연 프록시 생성은 포함하지 않음)")
+    void connectionWait_StaysSmall_WhenPoolHasIdleConnection() throws Exception {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(pool);
+        RequestTimingConfig.timeConnectionWaits(dataSource,
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+        pool.getConnection().close();
+
+        request(dataSource);
+
+        assertThat(meterRegistry.get("http.server.requests.db.connection.wait").timer().totalTime(TimeUnit.MILLISECONDS))
+            .isLessThan(HOLD_MILLIS / 2.0);
+    }
+
+    /**
+     * 계측 필터를 거친 요청 안에서 커넥션을 빌려 쿼리 실행
+     */
+    private void request(DataSource dataSource) throws Exception {
+        RequestTimingFilter filter = new RequestTimingFilter(
+            new RequestTimingProperties(true, false, Duration.ofSeconds(10), 50), meterRegistry);
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos/today"), new MockHttpServletResponse(),
+            new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse res) throws ServletException {
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement()) {
+                        statement.execute("SELECT 1");
+                    } catch (SQLException e) {
+                        throw new ServletException(e);
+                    }
+                }
+            }));
+    }
+}
@@ -0,0 +1,108 @@
+package point.ttodoApi.shared.config.datasource;
+
+import org.junit.jupiter.api.*;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource 라우팅 테스트")
+@Tag("unit")
+class ReplicaRoutingDataSourceTest {
+
+    private PrimaryStickinessTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InMemoryPrimaryStickinessTracker(Duration.ofSeconds(30));
+        routing = new ReplicaRoutingDataSource(2, tracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary로 라우팅")
+    void determineCurrentLookupKey_ReturnsPrimary_WhenReadWrite() {
+        beginTransaction(false);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본을 순환")
+    void determineCurrentLookupKey_ReturnsReplicas_WhenReadOnly() {
+        beginTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 사용자의 읽기는 primary 고정")
+    void determineCurrentLookupKey_ReturnsPrimary_WhenUserWroteRecently() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user-1", "", "ROLE_USER"));
+
+        beginTransaction(false);
+        routing.determineCurrentLookupKey();
+        assertThat(tracker.isSticky("user-1")).isFalse();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 고정하지 않음")
+    void determineCurrentLookupKey_ReturnsReplica_WhenWriteRolledBack() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user-1", "", "ROLE_USER"));
+
+        beginTransaction(false);
+        routing.determineCurrentLookupKey();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        beginTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+    }
+
+    @Test
+    @DisplayName("복제본이 없으면 readOnly도 primary")
+    void determineCurrentLookupKey_ReturnsPrimary_WhenNoReplicas() {
+        ReplicaRoutingDataSource primaryOnly = new ReplicaRoutingDataSource(0, tracker);
+        beginTransaction(true);
+
+        assertThat(primaryOnly.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    /**
+     * 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 동기화 실행
+     */
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,190 @@
+package point.ttodoApi.shared.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import point.ttodoApi.shared.config.auth.RedisConfig;
+import point.ttodoApi.shared.config.properties.DataSourceRoutingProperties;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 통합 테스트
+ * primary와 replica를 복제 없이 별도 PostgreSQL로 띄워 "복제 지연이 무한한" 복제본을 만들고,
+ * 두 노드(라우팅 DataSource 두 개)가 Redis로 쓰기 고정 상태를 공유하는지 확인
+ */
+@Tag("integration")
+@DisplayName("읽기 복제본 라우팅 통합 테스트")
+class ReplicaRoutingIntegrationTest {
+
+    private static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:17-alpine");
+    private static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:17-alpine");
+    private static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory redisConnectionFactory;
+    private static Node nodeA;
+    private static Node nodeB;
+
+    @BeforeAll
+    static void startContainers() {
+        primary.start();
+        replica.start();
+        redis.start();
+        for (PostgreSQLContainer<?> database : List.of(primary, replica)) {
+            try (HikariDataSource dataSource = plain(database)) {
+                JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                jdbc.execute("CREATE TABLE node (name TEXT NOT NULL)");
+                jdbc.execute("CREATE TABLE notes (owner TEXT NOT NULL, body TEXT NOT NULL)");
+                jdbc.update("INSERT INTO node (name) VALUES (?)", database == primary ? "primary" : "replica");
+            }
+        }
+
+        redisConnectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        redisConnectionFactory.afterPropertiesSet();
+        redisConnectionFactory.start();
+        RedisTemplate<String, String> redisTemplate = new RedisConfig().redisTemplate(redisConnectionFactory);
+
+        nodeA = new Node(redisTemplate);
+        nodeB = new Node(redisTemplate);
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        nodeA.close();
+        nodeB.close();
+        redisConnectionFactory.destroy();
+        redis.stop();
+        replica.stop();
+        primary.stop();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션은 primary")
+    void routes_ReadOnlyToReplica_AndReadWriteToPrimary() {
+        login(UUID.randomUUID().toString());
+
+        assertThat(nodeA.readOnly(jdbc -> jdbc.queryForObject("SELECT name FROM node", String.class))).isEqualTo("replica");
+        assertThat(nodeA.readWrite(jdbc -> jdbc.queryForObject("SELECT name FROM node", String.class))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 사용자의 읽기는 primary에서 자신의 쓰기를 읽고, 다른 사용자는 복제본")
+    void routes_ReadsToPrimary_AfterOwnWriteCommitted() {
+        String writer = UUID.randomUUID().toString();
+        login(writer);
+        nodeA.readWrite(jdbc -> jdbc.update("INSERT INTO notes (owner, body) VALUES (?, 'hello')", writer));
+
+        assertThat(nodeA.readOnly(jdbc -> notes(jdbc, writer))).isEqualTo(1);
+
+        login(UUID.randomUUID().toString());
+        assertThat(nodeA.readOnly(jdbc -> jdbc.queryForObject("SELECT name FROM node", String.class))).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 쓴 사용자의 읽기도 primary (Redis로 공유)")
+    void routes_ReadsToPrimary_WhenWriteCommittedOnAnotherNode() {
+        String writer = UUID.randomUUID().toString();
+        login(writer);
+        nodeA.readWrite(jdbc -> jdbc.update("INSERT INTO notes (owner, body) VALUES (?, 'hello')", writer));
+
+        assertThat(nodeB.readOnly(jdbc -> notes(jdbc, writer))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 고정하지 않아 복제본에서 읽음")
+    void routes_ReadsToReplica_WhenWriteRolledBack() {
+        String writer = UUID.randomUUID().toString();
+        login(writer);
+        nodeA.transactionTemplate.executeWithoutResult(status -> {
+            new JdbcTemplate(nodeA.dataSource).update("INSERT INTO notes (owner, body) VALUES (?, 'lost')", writer);
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeA.readOnly(jdbc -> jdbc.queryForObject("SELECT name FROM node", String.class))).isEqualTo("replica");
+    }
+
+    private static int notes(JdbcTemplate jdbc, String owner) {
+        return Objects.requireNonNull(
+            jdbc.queryForObject("SELECT count(*) FROM notes WHERE owner = ?", Integer.class, owner));
+    }
+
+    private static void login(String principal) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(principal, "", "ROLE_USER"));
+    }
+
+    private static HikariDataSource plain(PostgreSQLContainer<?> database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(database.getJdbcUrl());
+        dataSource.setUsername(database.getUsername());
+        dataSource.setPassword(database.getPassword());
+        dataSource.setMaximumPoolSize(1);
+        return dataSource;
+    }
+
+    private static DataSourceRoutingProperties.Target target(PostgreSQLContainer<?> database) {
+        return new DataSourceRoutingProperties.Target(database.getJdbcUrl(), database.getUsername(), database.getPassword(), 2);
+    }
+
+    /**
+     * 운영 설정(DataSourceRoutingConfig)으로 만든 애플리케이션 노드 하나
+     */
+    private static final class Node {
+
+        private final DataSource dataSource;
+        private final TransactionTemplate transactionTemplate;
+        private final TransactionTemplate readOnlyTemplate;
+
+        Node(RedisTemplate<String, String> redisTemplate) {
+            DataSourceRoutingProperties properties = new DataSourceRoutingProperties(
+                true, Duration.ofSeconds(30), target(primary), List.of(target(replica)));
+            DataSourceRoutingConfig config = new DataSourceRoutingConfig(properties, new SimpleMeterRegistry());
+            dataSource = config.dataSource(config.redisPrimaryStickinessTracker(redisTemplate));
+
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            transactionTemplate = new TransactionTemplate(transactionManager);
+            readOnlyTemplate = new TransactionTemplate(transactionManager);
+            readOnlyTemplate.setReadOnly(true);
+        }
+
+        <T> T readOnly(Query<T> query) {
+            return readOnlyTemplate.execute(status -> query.run(new JdbcTemplate(dataSource)));
+        }
+
+        <T> T readWrite(Query<T> query) {
+            return transactionTemplate.execute(status -> query.run(new JdbcTemplate(dataSource)));
+        }
+
+        void close() {
+            ReplicaRoutingDataSource routing =
+                (ReplicaRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+            Objects.requireNonNull(routing).getResolvedDataSources().values()
+                .forEach(target -> ((HikariDataSource) target).close());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Query<T> {
+        T run(JdbcTemplate jdbc);
+    }
+}
@@ -0,0 +1,110 @@
+package point.ttodoApi.shared.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import point.ttodoApi.shared.config.properties.RequestTimingProperties;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestTimingFilter 단위 테스트")
+class RequestTimingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("헤더 활성화 - SQL 수와 구간별 시간이 Server-Timing에 포함되고 본문은 그대로 전달")
+    void doFilter_AddsServerTimingHeader_WhenEnabled() throws Exception {
+        RequestTimingFilter filter = new RequestTimingFilter(properties(true), meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos/today"), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                RequestTimings timings = RequestTimings.current();
+                timings.statementStarted();
+                timings.statementFinished(List.of("select 1"));
+                timings.statementStarted();
+                timings.statementFinished(List.of("select 2"));
+                res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING))
+            .startsWith("total;dur=")
+            .contains("db;dur=", "desc=\"2 statements\"", "db-wait;dur=", "json;dur=", "filters;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(meterRegistry.get("http.server.requests.db.statements").summary().totalAmount()).isEqualTo(2);
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더 비활성화 - 헤더 없이 메트릭만 기록")
+    void doFilter_RecordsMetricsWithoutHeader_WhenDisabled() throws Exception {
+        RequestTimingFilter filter = new RequestTimingFilter(properties(false), meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/categories"), response, new MockFilterChain());
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING)).isNull();
+        assertThat(meterRegistry.get("http.server.requests.db").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SSE 요청 - 본문을 버퍼링하지 않으므로 헤더 없음")
+    void doFilter_SkipsHeader_ForEventStream() throws Exception {
+        RequestTimingFilter filter = new RequestTimingFilter(properties(true), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/sync/events");
+        request.addHeader("Accept", "text/event-stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getHeader(RequestTimingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 응답 - 첫 디스패치 뒤에 쓴 본문을 비동기 디스패치에서 내보냄")
+    void doFilter_CopiesAsyncBody_OnAsyncDispatch() throws Exception {
+        RequestTimingFilter filter = new RequestTimingFilter(properties(true), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/calendar/feed.ics");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> asyncResponse = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                req.startAsync(req, res);
+                asyncResponse.set(res);
+            }
+        }));
+        assertThat(response.getContentAsString()).isEmpty();
+
+        // 비동기 스레드가 첫 디스패치에서 받은 응답에 본문을 쓰고 다시 디스패치
+        asyncResponse.get().getOutputStream().write("BEGIN:VCALENDAR".getBytes(StandardCharsets.UTF_8));
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, asyncResponse.get(), new MockFilterChain());
+
+        assertThat(response.getContentAsString()).isEqualTo("BEGIN:VCALENDAR");
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    private static RequestTimingProperties properties(boolean serverTimingHeader) {
+        return new RequestTimingProperties(true, serverTimingHeader, Duration.ofSeconds(1), 50);
+    }
+}
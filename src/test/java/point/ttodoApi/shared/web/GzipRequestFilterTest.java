@@ -0,0 +1,81 @@
+package point.ttodoApi.shared.web;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GzipRequestFilter 단위 테스트")
+class GzipRequestFilterTest {
+
+    private static final String BODY = "{\"clientId\":\"c1\",\"changes\":[]}";
+
+    @Test
+    @DisplayName("gzip 본문 - 풀어서 전달하고 Content-Encoding/Content-Length는 숨김")
+    void doFilter_InflatesGzipBody() throws Exception {
+        MockHttpServletRequest request = gzipRequest(BODY);
+        AtomicReference<String> seen = new AtomicReference<>();
+        AtomicReference<String> encoding = new AtomicReference<>();
+
+        new GzipRequestFilter(1024).doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                seen.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                encoding.set(req.getHeader("Content-Encoding"));
+                assertThat(req.getContentLength()).isEqualTo(-1);
+            }
+        }));
+
+        assertThat(seen.get()).isEqualTo(BODY);
+        assertThat(encoding.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("압축하지 않은 본문 - 그대로 전달")
+    void doFilter_PassesPlainBodyThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/sync");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+
+        new GzipRequestFilter(1024).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    @DisplayName("해제한 크기가 한도 초과 - 읽는 도중 예외")
+    void doFilter_RejectsBodyOverLimit() throws Exception {
+        MockHttpServletRequest request = gzipRequest("x".repeat(10_000));
+
+        new GzipRequestFilter(1024).doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                assertThatThrownBy(() -> req.getInputStream().readAllBytes())
+                    .isInstanceOf(GzipRequestFilter.InflatedSizeExceededException.class);
+            }
+        }));
+    }
+
+    private static MockHttpServletRequest gzipRequest(String body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/sync");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContent(compressed.toByteArray());
+        return request;
+    }
+}
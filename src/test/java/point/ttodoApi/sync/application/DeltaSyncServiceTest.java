@@ -0,0 +1,117 @@
+package point.ttodoApi.sync.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import point.ttodoApi.sync.application.result.DeltaSyncResult;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.MutationLogEntry;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.Position;
+import point.ttodoApi.sync.infrastructure.persistence.SyncCursorRepository;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeltaSyncService 델타 압축/워터마크 테스트")
+@ExtendWith(MockitoExtension.class)
+class DeltaSyncServiceTest {
+
+    private static final String CLIENT = "client-1";
+
+    @Mock
+    private MutationLogRepository mutationLogRepository;
+
+    @Mock
+    private SyncCursorRepository syncCursorRepository;
+
+    private DeltaSyncService deltaSyncService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID instanceId = UUID.randomUUID();
+    private final SyncCursor cursor = new SyncCursor(100, 0);
+
+    private long seq;
+
+    @BeforeEach
+    void setUp() {
+        deltaSyncService = new DeltaSyncService(mutationLogRepository, syncCursorRepository, new ObjectMapper());
+        when(mutationLogRepository.currentHorizon()).thenReturn(200L);
+    }
+
+    @Test
+    @DisplayName("생성 뒤 수정 - 하나의 UPSERT로 합치고 바뀐 컬럼만 덮어씀")
+    void changesSince_MergesPatchIntoUpsert() {
+        givenLog(
+            entry("CREATE", "{\"id\":\"" + instanceId + "\",\"title\":\"a\",\"completed\":false}"),
+            entry("UPDATE", "{\"id\":\"" + instanceId + "\",\"title\":\"b\"}"));
+
+        EntityChange change = single();
+
+        assertThat(change.operation()).isEqualTo(EntityChange.UPSERT);
+        assertThat(change.data().get("title").asText()).isEqualTo("b");
+        assertThat(change.data().get("completed").asBoolean()).isFalse();
+        assertThat(change.version()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 뒤 수정 - 삭제로 남고 data 없음")
+    void changesSince_KeepsDelete_WhenUpdatedAfterDelete() {
+        givenLog(
+            entry("DELETE", "{\"id\":\"" + instanceId + "\"}"),
+            entry("STATUS_CHANGE", "{\"id\":\"" + instanceId + "\",\"completed\":true}"));
+
+        EntityChange change = single();
+
+        assertThat(change.operation()).isEqualTo(EntityChange.DELETE);
+        assertThat(change.data()).isNull();
+    }
+
+    @Test
+    @DisplayName("앞선 전체 행 없는 수정 - 바뀐 컬럼만 담은 PATCH")
+    void changesSince_ReturnsPatch_WhenNoEarlierRow() {
+        givenLog(entry("UPDATE", "{\"id\":\"" + instanceId + "\",\"title\":\"b\"}"));
+
+        EntityChange change = single();
+
+        assertThat(change.operation()).isEqualTo(EntityChange.PATCH);
+        assertThat(change.data().size()).isEqualTo(2);
+        assertThat(change.data().get("title").asText()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("워터마크보다 뒤처진 커서 - 로그를 읽지 않고 전체 재동기화 요구")
+    void changesSince_RequiresSnapshot_WhenCursorBehindWatermark() {
+        when(mutationLogRepository.watermark()).thenReturn(new Position(150, 0));
+
+        DeltaSyncResult result = deltaSyncService.changesSince(userId, CLIENT, cursor.encode(), null);
+
+        assertThat(result.snapshotRequired()).isTrue();
+        assertThat(result.changes()).isEmpty();
+        assertThat(SyncCursor.decode(result.cursor())).isEqualTo(new SyncCursor(200, 0));
+        verify(mutationLogRepository, never()).findAfter(any(), anyLong(), anyLong(), anyInt());
+        verify(syncCursorRepository).save(userId, CLIENT, 200L, 0L);
+    }
+
+    private void givenLog(MutationLogEntry... entries) {
+        when(mutationLogRepository.watermark()).thenReturn(new Position(50, 0));
+        when(mutationLogRepository.findAfter(eq(userId), eq(100L), eq(0L), anyInt())).thenReturn(List.of(entries));
+    }
+
+    private EntityChange single() {
+        DeltaSyncResult result = deltaSyncService.changesSince(userId, CLIENT, cursor.encode(), null);
+        assertThat(result.snapshotRequired()).isFalse();
+        assertThat(result.changes()).hasSize(1);
+        return result.changes().get(0);
+    }
+
+    private MutationLogEntry entry(String mutationType, String data) {
+        seq++;
+        return new MutationLogEntry("instance", instanceId, userId, mutationType, data, 120, seq, 1_700_000_000_000L);
+    }
+}
@@ -0,0 +1,161 @@
+package point.ttodoApi.sync.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import point.ttodoApi.sync.application.EntityChangeApplier.Outcome;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler.Snapshot;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository.FieldClock;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EntityChangeApplier 필드 단위 충돌 해결 테스트")
+@ExtendWith(MockitoExtension.class)
+class EntityChangeApplierTest {
+
+    private static final String TABLE = "todo_instances";
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private FieldClockRepository fieldClockRepository;
+
+    @Mock
+    private SyncIdempotencyService syncIdempotencyService;
+
+    @Mock
+    private EntitySyncHandler handler;
+
+    private EntityChangeApplier applier;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        applier = new EntityChangeApplier(entityManager, fieldClockRepository, new ObjectMapper(), syncIdempotencyService);
+        lenient().when(handler.tableName()).thenReturn(TABLE);
+        lenient().when(handler.fields()).thenReturn(Set.of("title", "description"));
+    }
+
+    @Test
+    @DisplayName("마지막 동기화 쓰기 뒤 REST로 수정된 행 - 필드 HLC가 더 이르더라도 updated_at보다 이른 변경은 짐")
+    void update_ServerWins_WhenRowChangedOutsideSync() {
+        givenRow(3_000L, Map.of("title", clock(1_000L), EntityChangeApplier.ROW_CLOCK, clock(1_500L)));
+
+        Outcome outcome = applier.update(batch(2_000L), 0, handler, userId, id, data("title", "offline"), List.of("title"));
+
+        assertThat(outcome.result().isSuccess()).isFalse();
+        assertThat(outcome.conflicts()).singleElement()
+            .satisfies(conflict -> assertThat(conflict.getServerHlc()).isEqualTo(new HybridTimestamp(3_000L, 0).toString()));
+        verify(handler, never()).update(any(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("마지막 동기화 쓰기 뒤 바뀌지 않은 행 - 필드 HLC로만 비교하고 쓴 뒤 행 기준 시각을 기록")
+    void update_UsesFieldClocks_WhenRowUnchangedSinceSyncWrite() {
+        givenRow(3_000L, Map.of("title", clock(1_000L), "description", clock(2_500L),
+            EntityChangeApplier.ROW_CLOCK, clock(3_000L)));
+
+        Outcome outcome = applier.update(batch(2_000L), 0, handler, userId, id, data("title", "offline"), List.of("title"));
+
+        assertThat(outcome.result().isSuccess()).isTrue();
+        verify(handler).update(userId, id, Map.of("title", "offline"));
+        verify(entityManager).flush();
+        assertThat(writtenClocks()).containsEntry("title", clock(2_000L))
+            .containsEntry(EntityChangeApplier.ROW_CLOCK, clock(3_000L))
+            .doesNotContainKey("description");
+    }
+
+    @Test
+    @DisplayName("이긴 null 값 - 비울 수 있는 필드면 비우는 것으로 전달")
+    void update_PassesNull_WhenClearableFieldWins() {
+        givenRow(1_000L, Map.of());
+        when(handler.clearableFields()).thenReturn(Set.of("description"));
+
+        applier.update(batch(2_000L), 0, handler, userId, id, data("description", null), List.of("description"));
+
+        Map<String, Object> cleared = new HashMap<>();
+        cleared.put("description", null);
+        verify(handler).update(userId, id, cleared);
+    }
+
+    @Test
+    @DisplayName("이긴 null 값 - 비울 수 없는 필드면 변경을 거부하고 시계도 기록하지 않음")
+    void update_Throws_WhenRequiredFieldWouldBeCleared() {
+        givenRow(1_000L, Map.of());
+        when(handler.clearableFields()).thenReturn(Set.of("description"));
+
+        assertThatThrownBy(() -> applier.update(batch(2_000L), 0, handler, userId, id, data("title", null), List.of("title")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("title");
+        verify(handler, never()).update(any(), any(), anyMap());
+        verify(fieldClockRepository, never()).upsertAll(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("삭제 - REST 수정이 삭제보다 늦으면 삭제하지 않음")
+    void delete_ServerWins_WhenRowChangedOutsideSyncAfterDelete() {
+        givenRow(3_000L, Map.of("title", clock(1_000L), EntityChangeApplier.ROW_CLOCK, clock(1_500L)));
+
+        Outcome outcome = applier.delete(batch(2_000L), 0, handler, userId, id);
+
+        assertThat(outcome.result().isSuccess()).isFalse();
+        verify(handler, never()).delete(any(), any());
+    }
+
+    private void givenRow(long updatedAt, Map<String, Long> clocks) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("title", "server");
+        values.put("description", "server description");
+        when(handler.load(userId, id)).thenReturn(new Snapshot(values, Instant.ofEpochMilli(updatedAt)));
+        when(fieldClockRepository.findAll(TABLE, List.of(id.toString())))
+            .thenReturn(Map.of(id.toString(), new HashMap<>(clocks)));
+    }
+
+    private Map<String, Long> writtenClocks() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FieldClock>> writes = ArgumentCaptor.forClass(List.class);
+        verify(fieldClockRepository).upsertAll(eq(TABLE), writes.capture());
+        Map<String, Long> clocks = new HashMap<>();
+        writes.getValue().forEach(write -> clocks.put(write.field(), write.hlc()));
+        return clocks;
+    }
+
+    private SyncBatch batch(long stamp) {
+        SyncRequest.SyncRecord record = new SyncRequest.SyncRecord();
+        record.setId(id.toString());
+        SyncRequest.SyncChange change = new SyncRequest.SyncChange();
+        change.setOperation("update");
+        change.setTableName(TABLE);
+        change.setRecord(record);
+        SyncBatch batch = new SyncBatch(userId, "client", List.of(change), new HashMap<>());
+        batch.stamps[0] = new HybridTimestamp(stamp, 0);
+        return batch;
+    }
+
+    private static Map<String, Object> data(String field, Object value) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(field, value);
+        return data;
+    }
+
+    private static long clock(long physical) {
+        return new HybridTimestamp(physical, 0).pack();
+    }
+}
@@ -0,0 +1,123 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import point.ttodoApi.sync.application.EntityChangeApplier.Outcome;
+import point.ttodoApi.sync.application.entity.EntitySyncHandler;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EntitySyncService 임시 ID 단위 트랜잭션 테스트")
+@ExtendWith(MockitoExtension.class)
+class EntitySyncServiceTest {
+
+    @Mock
+    private EntityChangeApplier applier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EntitySyncHandler definitionHandler;
+    private EntitySyncHandler instanceHandler;
+    private EntitySyncService entitySyncService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        definitionHandler = handler("todo_definitions", 1, Map.of());
+        instanceHandler = handler("todo_instances", 2, Map.of("definitionId", "todo_definitions"));
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        entitySyncService = new EntitySyncService(List.of(definitionHandler, instanceHandler), applier, transactionManager);
+    }
+
+    @Test
+    @DisplayName("임시 ID로 이어진 변경 - 자식이 실패하면 부모 생성까지 한 트랜잭션으로 롤백하고 매핑도 되돌림")
+    void apply_RollsBackParent_WhenDependentChangeFails() {
+        SyncBatch batch = batch(
+            insert("todo_definitions", "temp-def", Map.of("title", "운동")),
+            insert("todo_instances", "temp-inst", Map.of("definitionId", "temp-def")));
+        when(applier.insert(any(), eq(0), any(), any(), anyMap())).thenReturn(created(batch, 0));
+        when(applier.insert(any(), eq(1), any(), any(), anyMap()))
+            .thenThrow(new IllegalStateException("User cannot use this category"));
+
+        entitySyncService.apply(batch, List.of(0, 1));
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).commit(status.capture());
+        assertThat(status.getValue().isRollbackOnly()).isTrue();
+        assertThat(batch.results).extracting(SyncResponse.SyncResult::isSuccess).containsExactly(false, false);
+        assertThat(batch.results[0].getError()).isEqualTo("Rolled back with dependent change: temp-inst");
+        assertThat(batch.results[1].getError()).isEqualTo("User cannot use this category");
+        assertThat(batch.tempIds.getOrDefault("todo_definitions", Map.of())).doesNotContainKey("temp-def");
+    }
+
+    @Test
+    @DisplayName("서로 관계없는 변경 - 변경마다 트랜잭션이 따로라 하나가 실패해도 나머지는 커밋")
+    void apply_CommitsIndependentChanges_WhenOneFails() {
+        SyncBatch batch = batch(
+            insert("todo_definitions", "temp-a", Map.of("title", "a")),
+            insert("todo_definitions", "temp-b", Map.of("title", "b")));
+        when(applier.insert(any(), eq(0), any(), any(), anyMap())).thenThrow(new IllegalArgumentException("title is required"));
+        when(applier.insert(any(), eq(1), any(), any(), anyMap())).thenReturn(created(batch, 1));
+
+        entitySyncService.apply(batch, List.of(0, 1));
+
+        verify(transactionManager, times(2)).getTransaction(any());
+        assertThat(batch.results).extracting(SyncResponse.SyncResult::isSuccess).containsExactly(false, true);
+        assertThat(batch.tempIds.get("todo_definitions")).containsOnlyKeys("temp-b");
+    }
+
+    private Outcome created(SyncBatch batch, int index) {
+        return new Outcome(SyncResponse.SyncResult.builder()
+            .tableName(batch.change(index).getTableName())
+            .localId(batch.record(index).getId())
+            .serverUuid(UUID.randomUUID())
+            .operation("insert")
+            .success(true)
+            .build(), List.of());
+    }
+
+    private SyncBatch batch(SyncRequest.SyncChange... changes) {
+        SyncBatch batch = new SyncBatch(userId, "client", List.of(changes), new HashMap<>());
+        IntStream.range(0, changes.length).forEach(i -> batch.stamps[i] = new HybridTimestamp(1_000L + i, 0));
+        return batch;
+    }
+
+    private static SyncRequest.SyncChange insert(String tableName, String id, Map<String, Object> data) {
+        SyncRequest.SyncRecord record = new SyncRequest.SyncRecord();
+        record.setId(id);
+        record.setData(data);
+        SyncRequest.SyncChange change = new SyncRequest.SyncChange();
+        change.setOperation("insert");
+        change.setTableName(tableName);
+        change.setRecord(record);
+        return change;
+    }
+
+    private static EntitySyncHandler handler(String tableName, int order, Map<String, String> references) {
+        EntitySyncHandler handler = mock(EntitySyncHandler.class, withSettings().strictness(Strictness.LENIENT));
+        when(handler.tableName()).thenReturn(tableName);
+        when(handler.order()).thenReturn(order);
+        when(handler.fields()).thenReturn(Set.of("title"));
+        when(handler.createOnlyFields()).thenReturn(Set.of("definitionId"));
+        when(handler.references()).thenReturn(references);
+        return handler;
+    }
+}
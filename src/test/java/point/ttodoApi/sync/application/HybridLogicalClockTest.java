@@ -0,0 +1,57 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+
+import java.time.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HybridLogicalClock HLC 테스트")
+class HybridLogicalClockTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final HybridLogicalClock clock =
+            new HybridLogicalClock(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("같은 물리 시각 - 논리 카운터 증가")
+    void now_Increments_Logical_WhenWallClockStalls() {
+        HybridTimestamp first = clock.now();
+        HybridTimestamp second = clock.now();
+
+        assertEquals(new HybridTimestamp(NOW.toEpochMilli(), 0), first);
+        assertEquals(new HybridTimestamp(NOW.toEpochMilli(), 1), second);
+    }
+
+    @Test
+    @DisplayName("앞선 클라이언트 타임스탬프 수신 - 이후 발급 값이 더 큼")
+    void receive_Advances_PastRemote() {
+        HybridTimestamp remote = new HybridTimestamp(NOW.toEpochMilli() + 5_000, 3);
+
+        clock.receive(remote);
+
+        assertTrue(clock.now().isAfter(remote));
+    }
+
+    @Test
+    @DisplayName("허용 오차를 넘게 앞선 타임스탬프 - 거부")
+    void receive_Throws_WhenDriftTooLarge() {
+        HybridTimestamp remote = new HybridTimestamp(NOW.toEpochMilli() + 120_000, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> clock.receive(remote));
+    }
+
+    @Test
+    @DisplayName("pack/parse - 순서와 값 보존")
+    void pack_Preserves_OrderAndValue() {
+        HybridTimestamp a = new HybridTimestamp(NOW.toEpochMilli(), 65_535);
+        HybridTimestamp b = new HybridTimestamp(NOW.toEpochMilli() + 1, 0);
+
+        assertTrue(a.pack() < b.pack());
+        assertEquals(a, HybridTimestamp.unpack(a.pack()));
+        assertEquals(b, HybridTimestamp.parse(b.toString()));
+    }
+}
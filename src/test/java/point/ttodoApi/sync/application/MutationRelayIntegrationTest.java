@@ -0,0 +1,225 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.experience.application.ExperienceService;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.application.TodoInstanceBulkService;
+import point.ttodoApi.todo.application.TodoInstanceService;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 변경 로그 릴레이(MutationRelay) 통합 테스트
+ * 완료 경험치는 쓰기 트랜잭션에서 반영되어 릴레이가 멈춰 있어도 그대로이고, 릴레이는 알림만 보내며 위치는 DB에 남아 재시작 후 이어감.
+ * 다른 테스트 컨텍스트의 릴레이도 같은 위치 행을 공유하므로, 릴레이 결과는 어느 릴레이가 처리했는지와 무관하게 확인
+ */
+@DisplayName("변경 로그 릴레이(MutationRelay) 통합 테스트")
+@AutoConfigureMockMvc
+class MutationRelayIntegrationTest extends MigratedDatabaseTest {
+
+    private static final Duration RELAY_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    @Autowired
+    private TodoInstanceService instanceService;
+
+    @Autowired
+    private TodoInstanceBulkService bulkService;
+
+    @Autowired
+    private ExperienceService experienceService;
+
+    @Autowired
+    private MutationRelay relay;
+
+    @Autowired
+    private MutationLogRepository mutationLogRepository;
+
+    private User owner;
+    private TodoDefinition definition;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(User.builder()
+                .email("relay-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build());
+            definition = definitionRepository.save(TodoDefinition.builder()
+                .title("daily")
+                .owner(owner)
+                .build());
+        });
+    }
+
+    @Test
+    @DisplayName("릴레이 정지 중 완료 - 경험치는 완료와 함께 커밋되고 이후 릴레이해도 늘지 않음")
+    void completeInstance_AwardsExperienceOnCommit_WhileRelayStopped() {
+        UUID id = save(instance());
+
+        relay.stop();
+        try {
+            instanceService.completeInstance(owner.getId(), id);
+
+            assertThat(experienceService.getExperience(owner.getId())).isEqualTo(10);
+        } finally {
+            relay.start();
+        }
+        awaitRelayed(relay);
+        assertThat(experienceService.getExperience(owner.getId())).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("REST 일괄 완료 - 완료한 인스턴스 수만큼 요청 트랜잭션에서 한 번만 반영")
+    void bulkComplete_AwardsExperienceOnce_WhenCompletedThroughRest() throws Exception {
+        UUID first = save(instance());
+        UUID second = save(instance());
+
+        mockMvc.perform(post("/todo-instances/bulk")
+                .param("operation", Operation.COMPLETE.name())
+                .param("instanceIds", first.toString(), second.toString())
+                .with(user()))
+            .andExpect(status().isOk());
+
+        assertThat(experienceService.getExperience(owner.getId())).isEqualTo(20);
+        awaitRelayed(relay);
+        assertThat(experienceService.getExperience(owner.getId())).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("완료 롤백 - 경험치도 함께 롤백")
+    void complete_LeavesExperience_WhenRolledBack() {
+        UUID id = save(instance());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            complete(id);
+            status.setRollbackOnly();
+        });
+
+        assertThat(experienceService.getExperience(owner.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("재시작 - 새 릴레이는 저장된 위치부터 이어가 이미 보낸 변경을 다시 알리지 않음")
+    void relay_ResumesFromStoredOffset_AfterRestart() {
+        UUID first = save(instance());
+        UUID second = save(instance());
+        complete(first);
+        awaitRelayed(relay);
+
+        relay.stop();
+        try {
+            complete(second);
+
+            List<UUID> hinted = new CopyOnWriteArrayList<>();
+            MutationRelay restarted = new MutationRelay(mutationLogRepository, transactionTemplate,
+                (userId, hints) -> {
+                    if (userId.equals(owner.getId())) hints.forEach(hint -> hinted.add(hint.id()));
+                }, 500, Duration.ofSeconds(1));
+            awaitRelayed(restarted);
+
+            // 다른 컨텍스트의 릴레이가 먼저 보냈을 수 있으므로 두 번째 변경은 "보냈다면"만 확인
+            assertThat(hinted).doesNotContain(first).isSubsetOf(second);
+            assertThat(restarted.relayBatch()).isZero();
+        } finally {
+            relay.start();
+        }
+    }
+
+    private void complete(UUID id) {
+        bulkService.execute(owner.getId(), BulkTodoInstanceCommand.builder()
+            .operation(Operation.COMPLETE)
+            .instanceIds(List.of(id))
+            .build());
+    }
+
+    /**
+     * 위치 뒤에 커밋된 로그가 없을 때까지 릴레이 (다른 컨텍스트의 릴레이가 먼저 처리해도 됨)
+     */
+    private void awaitRelayed(MutationRelay mutationRelay) {
+        long deadline = System.nanoTime() + RELAY_TIMEOUT.toNanos();
+        while (pending() > 0) {
+            assertThat(System.nanoTime()).as("relay did not catch up").isLessThan(deadline);
+            if (mutationRelay.relayBatch() == 0) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private int pending() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject("""
+            SELECT (SELECT count(*) FROM todo_definition_mutations m
+                    WHERE (m.xact_id, m.seq) > (o.xact_id, o.seq))
+                 + (SELECT count(*) FROM todo_instance_mutations m
+                    WHERE (m.xact_id, m.seq) > (o.xact_id, o.seq))
+            FROM todo_mutation_relay_offsets o
+            WHERE o.name = ?
+            """, Integer.class, MutationRelay.NAME));
+    }
+
+    private TodoInstance instance() {
+        return TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(++sequence)
+            .dueDate(LocalDate.now())
+            .build();
+    }
+
+    private UUID save(TodoInstance instance) {
+        return transactionTemplate.execute(status -> instanceRepository.save(instance).getId());
+    }
+
+    private RequestPostProcessor user() {
+        return authentication(new UsernamePasswordAuthenticationToken(
+            owner.getId(), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,66 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.sync.application.result.ChangeHint;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.MutationLogEntry;
+import point.ttodoApi.sync.infrastructure.persistence.MutationLogRepository.Position;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 변경 로그 릴레이 알림 대상 테스트
+ * 투두 알림은 행 소유자(user_id)에게만 감 - 공유 카테고리의 투두라도 협업자에게는 보내지 않음
+ */
+@DisplayName("MutationRelay 알림 대상 테스트")
+@ExtendWith(MockitoExtension.class)
+class MutationRelayTest {
+
+    @Mock
+    private MutationLogRepository mutationLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ChangeBroadcaster changeBroadcaster;
+
+    private final UUID owner = UUID.randomUUID();
+    private final UUID collaborator = UUID.randomUUID();
+
+    @Test
+    @DisplayName("공유 카테고리 투두 - 각 변경은 그 행의 소유자에게만 알림")
+    void relayBatch_HintsRowOwnerOnly() {
+        UUID ownersDefinition = UUID.randomUUID();
+        UUID collaboratorsInstance = UUID.randomUUID();
+        Position offset = new Position(1, 0);
+        when(mutationLogRepository.lockRelayOffset(MutationRelay.NAME)).thenReturn(Optional.of(offset));
+        when(mutationLogRepository.findAllAfter(offset, 500)).thenReturn(List.of(
+            new MutationLogEntry(MutationLogRepository.DEFINITION, ownersDefinition, owner, TodoMutation.UPDATE,
+                "{}", 2, 1, 1000),
+            new MutationLogEntry(MutationLogRepository.INSTANCE, collaboratorsInstance, collaborator, TodoMutation.DELETE,
+                "{}", 2, 2, 1000)));
+        MutationRelay relay = new MutationRelay(mutationLogRepository, new TransactionTemplate(transactionManager),
+            changeBroadcaster, 500, Duration.ofSeconds(1));
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        verify(changeBroadcaster).broadcast(owner, List.of(
+            new ChangeHint(MutationLogRepository.DEFINITION, ownersDefinition, EntityChange.UPSERT, 1000)));
+        verify(changeBroadcaster).broadcast(collaborator, List.of(
+            new ChangeHint(MutationLogRepository.INSTANCE, collaboratorsInstance, EntityChange.DELETE, 1000)));
+        verifyNoMoreInteractions(changeBroadcaster);
+        verify(mutationLogRepository).saveRelayOffset(MutationRelay.NAME, new Position(2, 2));
+    }
+}
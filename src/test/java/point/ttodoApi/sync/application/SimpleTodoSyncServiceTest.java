@@ -0,0 +1,96 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.infrastructure.persistence.FieldClockRepository;
+import point.ttodoApi.sync.infrastructure.persistence.SimpleTodoSyncRepository;
+import point.ttodoApi.sync.infrastructure.persistence.SimpleTodoSyncRepository.SimpleTodoRow;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SimpleTodoSyncService 배치 반영 테스트")
+@ExtendWith(MockitoExtension.class)
+class SimpleTodoSyncServiceTest {
+
+    @Mock
+    private SimpleTodoSyncRepository simpleTodoSyncRepository;
+
+    @Mock
+    private FieldClockRepository fieldClockRepository;
+
+    @Mock
+    private SyncIdempotencyService syncIdempotencyService;
+
+    @InjectMocks
+    private SimpleTodoSyncService simpleTodoSyncService;
+
+    @BeforeEach
+    void setUp() {
+        when(simpleTodoSyncRepository.lockAll(anyCollection()))
+            .thenReturn(new HashMap<>(Map.of(7, new SimpleTodoRow(7, "old", null, false, 500L))));
+    }
+
+    @Test
+    @DisplayName("삭제 뒤 같은 ID 수정 - 요청 순서대로 삭제 후 없는 행으로 보고 새로 삽입")
+    void apply_DeletesBeforeUpdate_WhenDeleteComesFirst() {
+        when(simpleTodoSyncRepository.deleteAll(anyCollection())).thenReturn(Set.of(7));
+        when(simpleTodoSyncRepository.allocateIds(1)).thenReturn(List.of(8));
+        SyncBatch batch = batch(change("delete", "7", null), change("update", "7", "new"));
+
+        simpleTodoSyncService.apply(batch, List.of(0, 1));
+
+        InOrder order = inOrder(simpleTodoSyncRepository);
+        order.verify(simpleTodoSyncRepository).deleteAll(Set.of(7));
+        order.verify(simpleTodoSyncRepository).insertAll(anyList());
+        assertThat(batch.results).extracting(SyncResponse.SyncResult::getOperation, SyncResponse.SyncResult::isSuccess)
+            .containsExactly(tuple("delete", true), tuple("insert", true));
+        assertThat(batch.results[1].getServerId()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("수정 뒤 같은 ID 삭제 - 수정을 먼저 반영하고 지운 행의 필드 시계는 기록하지 않음")
+    void apply_UpdatesBeforeDelete_WhenUpdateComesFirst() {
+        when(simpleTodoSyncRepository.deleteAll(anyCollection())).thenReturn(Set.of(7));
+        SyncBatch batch = batch(change("update", "7", "new"), change("delete", "7", null));
+
+        simpleTodoSyncService.apply(batch, List.of(0, 1));
+
+        InOrder order = inOrder(simpleTodoSyncRepository, fieldClockRepository);
+        order.verify(simpleTodoSyncRepository).updateAll(argThat(rows -> rows.size() == 1 && "new".equals(rows.get(0).title())));
+        order.verify(simpleTodoSyncRepository).deleteAll(Set.of(7));
+        order.verify(fieldClockRepository).upsertAll(SimpleTodoSyncService.TABLE, List.of());
+        verify(simpleTodoSyncRepository, times(1)).lockAll(anyCollection());
+        assertThat(batch.results).allMatch(SyncResponse.SyncResult::isSuccess);
+    }
+
+    private static SyncBatch batch(SyncRequest.SyncChange... changes) {
+        SyncBatch batch = new SyncBatch(UUID.randomUUID(), "client", List.of(changes), new HashMap<>());
+        IntStream.range(0, changes.length).forEach(i -> batch.stamps[i] = new HybridTimestamp(1_000L + i, 0));
+        return batch;
+    }
+
+    private static SyncRequest.SyncChange change(String operation, String id, String title) {
+        SyncRequest.SyncRecord record = new SyncRequest.SyncRecord();
+        record.setId(id);
+        record.setTitle(title);
+        record.setChangedFields(title != null ? List.of("title") : null);
+        SyncRequest.SyncChange change = new SyncRequest.SyncChange();
+        change.setOperation(operation);
+        change.setTableName(SimpleTodoSyncService.TABLE);
+        change.setRecord(record);
+        return change;
+    }
+}
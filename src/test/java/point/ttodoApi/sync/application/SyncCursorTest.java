@@ -0,0 +1,47 @@
+package point.ttodoApi.sync.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyncCursor 델타 동기화 커서 테스트")
+class SyncCursorTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩 - 같은 위치")
+    void decode_Returns_SameCursor_AfterEncode() {
+        SyncCursor cursor = new SyncCursor(123_456_789L, 42L);
+
+        assertEquals(cursor, SyncCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 - IllegalArgumentException")
+    void decode_Throws_WhenTokenIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> SyncCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> SyncCursor.decode("%%%"));
+    }
+
+    @Test
+    @DisplayName("max - 트랜잭션 ID, 순번 순으로 뒤쪽 위치")
+    void max_Returns_LaterCursor() {
+        SyncCursor a = new SyncCursor(10, 5);
+        SyncCursor b = new SyncCursor(11, 0);
+
+        assertEquals(b, a.max(b));
+        assertEquals(b, b.max(a));
+        assertEquals(new SyncCursor(10, 6), a.max(new SyncCursor(10, 6)));
+    }
+
+    @Test
+    @DisplayName("isBefore - 같은 위치는 앞쪽이 아님")
+    void isBefore_Compares_XactIdThenSeq() {
+        SyncCursor cursor = new SyncCursor(10, 5);
+
+        assertTrue(cursor.isBefore(new SyncCursor(10, 6)));
+        assertTrue(cursor.isBefore(new SyncCursor(11, 0)));
+        assertFalse(cursor.isBefore(new SyncCursor(10, 5)));
+        assertFalse(cursor.isBefore(new SyncCursor(9, 100)));
+    }
+}
@@ -0,0 +1,86 @@
+package point.ttodoApi.sync.application;
+
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import point.ttodoApi.sync.domain.HybridTimestamp;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+import point.ttodoApi.sync.presentation.dto.response.SyncResponse;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SyncService 업로드 처리 테스트")
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    @Mock
+    private SimpleTodoSyncService simpleTodoSyncService;
+
+    @Mock
+    private EntitySyncService entitySyncService;
+
+    @Mock
+    private HybridLogicalClock hybridLogicalClock;
+
+    @Mock
+    private SyncIdempotencyService syncIdempotencyService;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private SyncChangeSource source;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(simpleTodoSyncService, entitySyncService, hybridLogicalClock,
+            syncIdempotencyService, validator, 500, 10_000, 16, Duration.ofSeconds(5));
+        when(hybridLogicalClock.now()).thenReturn(new HybridTimestamp(1_000L, 0));
+    }
+
+    @Test
+    @DisplayName("simple_todo 배치 DB 오류 - 롤백되므로 앞서 성공으로 채운 결과와 충돌까지 모두 실패로 보고")
+    void processSync_FailsWholeSimpleTodoBatch_WhenBatchRollsBack() {
+        givenChanges(change("update", "1"), change("update", "2"));
+        doAnswer(invocation -> {
+            SyncBatch batch = invocation.getArgument(0);
+            batch.results[0] = SyncResponse.SyncResult.builder().success(true).build();
+            batch.conflicts.add(SyncResponse.ConflictRecord.builder().id(2).build());
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        }).when(simpleTodoSyncService).apply(any(), anyList());
+
+        SyncResponse response = syncService.processSync(UUID.randomUUID(), source, null);
+
+        assertThat(response.getResults()).hasSize(2)
+            .allSatisfy(result -> {
+                assertThat(result.isSuccess()).isFalse();
+                assertThat(result.getError()).isEqualTo("Batch rolled back");
+            });
+        assertThat(response.getConflicts()).isEmpty();
+    }
+
+    private void givenChanges(SyncRequest.SyncChange... changes) {
+        when(source.next(anyInt())).thenReturn(List.of(changes), List.of());
+    }
+
+    private static SyncRequest.SyncChange change(String operation, String id) {
+        SyncRequest.SyncRecord record = new SyncRequest.SyncRecord();
+        record.setId(id);
+        record.setTitle("title");
+        SyncRequest.SyncChange change = new SyncRequest.SyncChange();
+        change.setOperation(operation);
+        change.setTableName(SimpleTodoSyncService.TABLE);
+        change.setRecord(record);
+        return change;
+    }
+}
@@ -0,0 +1,117 @@
+package point.ttodoApi.sync.application.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import point.ttodoApi.todo.application.TodoInstanceService;
+import point.ttodoApi.todo.application.command.CreateTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.UpdateTodoInstanceCommand;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.user.domain.User;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TodoInstanceSyncHandler 인스턴스 동기화 테스트")
+@ExtendWith(MockitoExtension.class)
+class TodoInstanceSyncHandlerTest {
+
+    @Mock
+    private TodoInstanceService instanceService;
+
+    private TodoInstanceSyncHandler handler;
+
+    private final User owner = User.builder()
+        .id(UUID.randomUUID())
+        .email("owner@example.com")
+        .password("password")
+        .build();
+
+    private TodoInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TodoInstanceSyncHandler(instanceService, new SyncFieldReader(new ObjectMapper().findAndRegisterModules()));
+        TodoDefinition definition = TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("운동")
+            .owner(owner)
+            .build();
+        instance = TodoInstance.builder()
+            .id(UUID.randomUUID())
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(3)
+            .dueDate(LocalDate.of(2025, 1, 3))
+            .build();
+    }
+
+    @Test
+    @DisplayName("서버가 만든 같은 회차가 있으면 - 새로 만들지 않고 그 행에 반영, 생성 요청의 null은 비우지 않음")
+    void create_UpdatesExistingOccurrence_WhenSequenceExists() {
+        when(instanceService.findBySequence(owner.getId(), instance.getDefinition().getId(), 3))
+            .thenReturn(Optional.of(instance));
+        Map<String, Object> data = data("definitionId", instance.getDefinition().getId().toString());
+        data.put("sequenceNumber", 3);
+        data.put("title", "하체 운동");
+        data.put("description", null);
+
+        UUID id = handler.create(owner.getId(), data);
+
+        assertThat(id).isEqualTo(instance.getId());
+        UpdateTodoInstanceCommand command = updated();
+        assertThat(command.getTitle()).isEqualTo("하체 운동");
+        assertThat(command.clears("description")).isFalse();
+        verify(instanceService, never()).createInstance(any(), any());
+    }
+
+    @Test
+    @DisplayName("새 인스턴스 - 완료로 보낸 인스턴스는 생성 후 완료 경로로 처리")
+    void create_CompletesNewInstance_WhenCompleted() {
+        when(instanceService.createInstance(eq(owner.getId()), any())).thenReturn(instance);
+        Map<String, Object> data = data("definitionId", instance.getDefinition().getId().toString());
+        data.put("dueDate", "2025-01-03");
+        data.put("completed", true);
+
+        handler.create(owner.getId(), data);
+
+        ArgumentCaptor<CreateTodoInstanceCommand> command = ArgumentCaptor.forClass(CreateTodoInstanceCommand.class);
+        verify(instanceService).createInstance(eq(owner.getId()), command.capture());
+        assertThat(command.getValue().scheduledDate()).isEqualTo(LocalDate.of(2025, 1, 3));
+        verify(instanceService).completeInstance(owner.getId(), instance.getId());
+    }
+
+    @Test
+    @DisplayName("수정 - null 값 필드는 비울 필드로 전달")
+    void update_PassesClearedFields_WhenValueIsNull() {
+        Map<String, Object> changes = data("dueTime", null);
+        changes.put("title", "하체 운동");
+
+        handler.update(owner.getId(), instance.getId(), changes);
+
+        UpdateTodoInstanceCommand command = updated();
+        assertThat(command.getTitle()).isEqualTo("하체 운동");
+        assertThat(command.clears("dueTime")).isTrue();
+        assertThat(command.clears("title")).isFalse();
+    }
+
+    private UpdateTodoInstanceCommand updated() {
+        ArgumentCaptor<UpdateTodoInstanceCommand> command = ArgumentCaptor.forClass(UpdateTodoInstanceCommand.class);
+        verify(instanceService).updateInstance(eq(owner.getId()), eq(instance.getId()), command.capture());
+        return command.getValue();
+    }
+
+    private static Map<String, Object> data(String field, Object value) {
+        Map<String, Object> data = new HashMap<>();
+        data.put(field, value);
+        return data;
+    }
+}
@@ -0,0 +1,109 @@
+package point.ttodoApi.sync.infrastructure.notification;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.sync.application.ChangeBroadcaster;
+import point.ttodoApi.sync.application.result.ChangeHint;
+import point.ttodoApi.sync.application.result.EntityChange;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 카테고리 변경 알림 수신자 통합 테스트
+ * 공유 카테고리의 변경은 소유자와 수락한 협업자에게 가고, 수락하지 않은 초대자에게는 가지 않음
+ */
+@DisplayName("카테고리 변경 알림 수신자 통합 테스트")
+class ChangeHintCollectorIntegrationTest extends MigratedDatabaseTest {
+
+    @MockitoSpyBean
+    private ChangeBroadcaster broadcaster;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User owner;
+    private User collaborator;
+    private User invitee;
+    private UUID categoryId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = user();
+            collaborator = user();
+            invitee = user();
+            Category category = categoryRepository.save(Category.builder()
+                .name("shared")
+                .owner(owner)
+                .build());
+            category.addCollaborator(collaborator).accept();
+            category.addCollaborator(invitee);
+            categoryId = category.getId();
+        });
+        clearInvocations(broadcaster);
+    }
+
+    @Test
+    @DisplayName("공유 카테고리 수정 - 소유자와 수락한 협업자에게 알림, 대기 중인 초대자는 제외")
+    void update_NotifiesOwnerAndAcceptedCollaborators() {
+        transactionTemplate.executeWithoutResult(status ->
+            categoryRepository.findById(categoryId).orElseThrow().setName("renamed"));
+
+        verify(broadcaster).broadcast(eq(owner.getId()), argThat(hints -> contains(hints, EntityChange.UPSERT)));
+        verify(broadcaster).broadcast(eq(collaborator.getId()), argThat(hints -> contains(hints, EntityChange.UPSERT)));
+        verify(broadcaster, never()).broadcast(eq(invitee.getId()), anyList());
+    }
+
+    @Test
+    @DisplayName("공유 카테고리 삭제 - 협업자 행도 함께 지워져도 협업자에게 삭제 알림")
+    void delete_NotifiesAcceptedCollaborators_AfterCollaboratorRowsRemoved() {
+        transactionTemplate.executeWithoutResult(status ->
+            categoryRepository.delete(categoryRepository.findById(categoryId).orElseThrow()));
+
+        verify(broadcaster).broadcast(eq(owner.getId()), argThat(hints -> contains(hints, EntityChange.DELETE)));
+        verify(broadcaster).broadcast(eq(collaborator.getId()), argThat(hints -> contains(hints, EntityChange.DELETE)));
+        verify(broadcaster, never()).broadcast(eq(invitee.getId()), anyList());
+    }
+
+    @Test
+    @DisplayName("롤백 - 누구에게도 알리지 않음")
+    void update_NotifiesNobody_WhenRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryRepository.findById(categoryId).orElseThrow().setName("lost");
+            categoryRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        verify(broadcaster, never()).broadcast(eq(owner.getId()), anyList());
+        verify(broadcaster, never()).broadcast(eq(collaborator.getId()), anyList());
+    }
+
+    private boolean contains(List<ChangeHint> hints, String operation) {
+        return hints.stream().anyMatch(hint -> hint.entityType().equals(ChangeHint.CATEGORY)
+            && hint.id().equals(categoryId)
+            && hint.operation().equals(operation));
+    }
+
+    private User user() {
+        return userRepository.save(User.builder()
+            .email("hint-" + UUID.randomUUID() + "@example.com")
+            .password("password")
+            .build());
+    }
+}
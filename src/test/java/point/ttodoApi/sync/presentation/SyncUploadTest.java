@@ -0,0 +1,106 @@
+package point.ttodoApi.sync.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import point.ttodoApi.sync.presentation.dto.request.SyncRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SyncUpload 스트리밍 파서 단위 테스트")
+class SyncUploadTest {
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("changes를 요청한 크기의 청크로 나눠 읽고, 배열 뒤 필드는 건너뜀")
+    void next_ReadsChangesInChunks() throws Exception {
+        SyncUpload upload = open(json, body(5));
+
+        assertThat(upload.clientId()).isEqualTo("client-1");
+        assertThat(upload.next(2)).extracting(change -> change.getRecord().getId()).containsExactly("0", "1");
+        assertThat(upload.next(2)).extracting(change -> change.getRecord().getId()).containsExactly("2", "3");
+        assertThat(upload.next(2)).extracting(change -> change.getRecord().getId()).containsExactly("4");
+        assertThat(upload.next(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("digest - 중간까지만 읽었어도 본문 전체의 SHA-256")
+    void digest_HashesWholeBody() throws Exception {
+        String body = body(3);
+        SyncUpload upload = open(json, body);
+        upload.clientId();
+
+        String expected = HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+        assertThat(upload.digest()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("clientId가 changes 뒤에 있어도 - changes를 버퍼에 담아 두고 clientId부터 돌려줌")
+    void clientId_IsRead_WhenAfterChanges() throws Exception {
+        String body = "{\"changes\":[" + change(0) + "," + change(1) + "],\"clientId\":\"client-1\"}";
+        SyncUpload upload = open(json, body);
+
+        assertThat(upload.clientId()).isEqualTo("client-1");
+        assertThat(upload.next(1)).extracting(change -> change.getRecord().getId()).containsExactly("0");
+        assertThat(upload.next(10)).extracting(change -> change.getRecord().getId()).containsExactly("1");
+        assertThat(upload.next(10)).isEmpty();
+        assertThat(upload.digest()).isEqualTo(HexFormat.of().formatHex(
+            MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @DisplayName("clientId가 없으면 거부")
+    void clientId_IsRequired() throws Exception {
+        SyncUpload upload = open(json, "{\"changes\":[]}");
+
+        assertThatThrownBy(upload::clientId)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("clientId");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 본문 - HttpMessageNotReadableException")
+    void next_RejectsMalformedBody() throws Exception {
+        SyncUpload upload = open(json, "{\"clientId\":\"client-1\",\"changes\":[{\"operation\":");
+
+        assertThatThrownBy(() -> upload.next(10)).isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    @DisplayName("CBOR 본문도 같은 방식으로 읽음")
+    void next_ReadsCbor() throws Exception {
+        ObjectMapper cbor = CBORMapper.builder().build();
+        SyncRequest request = json.readValue(body(2), SyncRequest.class);
+        SyncUpload upload = new SyncUpload(cbor, new MockHttpInputMessage(cbor.writeValueAsBytes(request)));
+
+        assertThat(upload.clientId()).isEqualTo("client-1");
+        assertThat(upload.next(10)).containsExactlyElementsOf(request.getChanges());
+    }
+
+    private static SyncUpload open(ObjectMapper mapper, String body) throws Exception {
+        return new SyncUpload(mapper, new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String body(int changes) {
+        StringJoiner items = new StringJoiner(",");
+        for (int i = 0; i < changes; i++) {
+            items.add(change(i));
+        }
+        return "{\"clientId\":\"client-1\",\"lastSyncTimestamp\":0,\"changes\":[" + items + "],\"trailing\":{\"a\":[1]}}";
+    }
+
+    private static String change(int i) {
+        return "{\"operation\":\"insert\",\"tableName\":\"simple_todo\",\"record\":{\"id\":\"" + i
+            + "\",\"title\":\"t" + i + "\",\"data\":{\"nested\":[1,2]}}}";
+    }
+}
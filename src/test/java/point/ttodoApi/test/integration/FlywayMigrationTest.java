@@ -0,0 +1,69 @@
+package point.ttodoApi.test.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Flyway 마이그레이션(V2.x) 통합 테스트")
+class FlywayMigrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("빈 데이터베이스 - 모든 마이그레이션이 순서대로 적용됨")
+    void migrate_AppliesAllMigrations_OnEmptyDatabase() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isFailed()).isFalse());
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+            .contains("2.0", "2.8", "2.9", "2.15", "2.16", "2.17");
+    }
+
+    @Test
+    @DisplayName("파티션 테이블 - 인스턴스는 월별, 변경 로그는 일별 파티션")
+    void migrate_CreatesPartitionedTables() {
+        List<String> partitioned = jdbcTemplate.queryForList("""
+            SELECT c.relname FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid
+            """, String.class);
+
+        assertThat(partitioned).contains("todo_instances", "todo_definition_mutations", "todo_instance_mutations");
+        assertThat(jdbcTemplate.queryForObject("SELECT ensure_todo_instance_partitions(1)", Integer.class)).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT ensure_todo_mutation_partitions(1)", Integer.class)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("V2.16 - 변경 로그 트리거 제거, 릴레이 위치 행 생성")
+    void migrate_ReplacesMutationTriggersWithRelayOffset() {
+        Integer triggers = jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM pg_trigger
+            WHERE tgname IN ('log_todo_definition_mutations_trigger', 'log_todo_instance_mutations_trigger')
+            """, Integer.class);
+        Integer offsets = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM todo_mutation_relay_offsets WHERE name = 'relay'", Integer.class);
+
+        assertThat(triggers).isZero();
+        assertThat(offsets).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보존 함수 - 읽지 않은 파티션이 없으면 지난 파티션 삭제")
+    void dropTodoMutationPartitions_RunsAgainstMigratedSchema() {
+        Integer dropped = jdbcTemplate.queryForObject("SELECT drop_todo_mutation_partitions(?, ?)", Integer.class,
+            LocalDate.now().minusDays(30), Timestamp.valueOf(LocalDate.now().atStartOfDay()));
+
+        assertThat(dropped).isNotNull().isNotNegative();
+    }
+}
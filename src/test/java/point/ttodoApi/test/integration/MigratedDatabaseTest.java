@@ -0,0 +1,36 @@
+package point.ttodoApi.test.integration;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Flyway 마이그레이션(V2.x)을 적용한 PostgreSQL 통합 테스트 기반
+ * 운영과 같이 마이그레이션 뒤 Hibernate(ddl-auto=update)가 엔티티 테이블을 맞추고,
+ * V2 이전부터 있던 테이블은 테스트 전용 콜백(db/migration/beforeMigrate.sql)이 대신 만듦.
+ * 컨테이너는 하위 테스트 전체가 공유하며, 추가 설정은 하위 클래스에서 @TestPropertySource로 지정
+ */
+@Tag("integration")
+@SpringBootTest(properties = {
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=update",
+    "spring.jpa.properties.jakarta.persistence.validation.mode=none",
+    "app.todo.rank.rebalance-enabled=false",
+    "app.todo.partition.maintenance-enabled=false",
+    "app.todo.archive.enabled=false",
+    "app.todo.purge.enabled=false",
+    "app.todo.schedule.backfill-on-startup=false",
+    "app.sync.log.partition-enabled=false",
+    "app.sync.log.retention-enabled=false",
+    "app.sync.idempotency.purge-enabled=false"
+})
+public abstract class MigratedDatabaseTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    static {
+        postgres.start();
+    }
+}
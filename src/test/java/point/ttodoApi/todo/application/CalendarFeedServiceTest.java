@@ -0,0 +1,249 @@
+package point.ttodoApi.todo.application;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import point.ttodoApi.profile.domain.Profile;
+import point.ttodoApi.profile.infrastructure.persistence.ProfileRepository;
+import point.ttodoApi.todo.application.CalendarFeedService.Component;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.TodoInstanceArchive;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.CalendarFeedTokenRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CalendarFeedService ICS 피드 테스트")
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedServiceTest {
+
+    @Mock
+    private CalendarFeedTokenRepository tokenRepository;
+
+    @Mock
+    private TodoDefinitionRepository definitionRepository;
+
+    @Mock
+    private TodoInstanceRepository instanceRepository;
+
+    @Mock
+    private TodoInstanceArchiveRepository archiveRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private CalendarFeedService feedService;
+
+    private final LocalDate start = LocalDate.of(2025, 1, 1);
+
+    private final User owner = User.builder()
+        .id(UUID.randomUUID())
+        .email("owner@example.com")
+        .password("password")
+        .build();
+
+    private TodoDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        definition = TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("운동")
+            .owner(owner)
+            .recurrenceRule(rule)
+            .baseDate(start)
+            .build();
+        ReflectionTestUtils.setField(definition, "updatedAt", Instant.parse("2025-01-01T00:00:00Z"));
+
+        // 피드 출력 테스트와 ETag 테스트가 함께 쓰는 기본값 (테스트마다 덮어씀)
+        lenient().when(profileRepository.findByOwnerId(owner.getId())).thenReturn(Optional.empty());
+        lenient().when(instanceRepository.findRecurringExceptionsForFeed(owner.getId())).thenReturn(List.of());
+        lenient().when(definitionRepository.streamRecurringForFeed(owner.getId())).thenReturn(Stream.of(definition));
+        lenient().when(instanceRepository.streamSingleForFeed(owner.getId())).thenReturn(Stream.empty());
+    }
+
+    @Test
+    @DisplayName("보관된 완료 회차 - VTODO에서 완료 상태로 회차 재정의")
+    void writeFeed_KeepsCompletedStatus_WhenOccurrenceArchived() {
+        givenArchived(archived(start.plusDays(4), null, true, false));
+
+        String ics = feed(Component.VTODO);
+
+        assertThat(ics).contains("RECURRENCE-ID;VALUE=DATE:20250105", "STATUS:COMPLETED");
+    }
+
+    @Test
+    @DisplayName("보관된 제목 변경 회차 - 바뀐 제목으로 회차 재정의")
+    void writeFeed_KeepsTitleOverride_WhenOccurrenceArchived() {
+        givenArchived(archived(start.plusDays(2), "하체 운동", true, false));
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).contains("RECURRENCE-ID;VALUE=DATE:20250103", "SUMMARY:하체 운동");
+    }
+
+    @Test
+    @DisplayName("보관된 삭제 회차 - EXDATE로 제외")
+    void writeFeed_ExcludesDate_WhenDeletedOccurrenceArchived() {
+        givenArchived(archived(start.plusDays(1), null, false, true));
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).contains("EXDATE;VALUE=DATE:20250102").doesNotContain("RECURRENCE-ID");
+    }
+
+    @Test
+    @DisplayName("이동한 회차 - RECURRENCE-ID는 원래 발생일, DTSTART는 옮긴 날짜")
+    void writeFeed_UsesOriginalDate_WhenOccurrenceMoved() {
+        TodoInstance moved = TodoInstance.builder()
+            .id(UUID.randomUUID())
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(3)
+            .dueDate(start.plusDays(2))
+            .build();
+        moved.moveTo(start.plusDays(5));
+        moved.moveTo(start.plusDays(6));
+        ReflectionTestUtils.setField(moved, "updatedAt", Instant.parse("2025-01-02T00:00:00Z"));
+        when(instanceRepository.findRecurringExceptionsForFeed(owner.getId())).thenReturn(List.of(moved));
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).contains("RECURRENCE-ID;VALUE=DATE:20250103", "DTSTART;VALUE=DATE:20250107")
+            .doesNotContain("RECURRENCE-ID;VALUE=DATE:20250106", "RECURRENCE-ID;VALUE=DATE:20250107");
+    }
+
+    @Test
+    @DisplayName("보관된 이동 후 삭제 회차 - 원래 발생일을 EXDATE로 제외")
+    void writeFeed_ExcludesOriginalDate_WhenMovedOccurrenceDeleted() {
+        TodoInstanceArchive archived = archived(start.plusDays(3), null, false, true);
+        when(archived.getOccurrenceDate()).thenReturn(start.plusDays(1));
+        givenArchived(archived);
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).contains("EXDATE;VALUE=DATE:20250102").doesNotContain("20250104");
+    }
+
+    @Test
+    @DisplayName("시간대 - 일광 절약 규칙을 담은 VTIMEZONE을 출력하고 시각은 TZID로 참조")
+    void writeFeed_WritesTimeZone_WhenProfileHasTimeZone() {
+        givenTimeZone("America/New_York");
+        definition.setBaseTime(LocalTime.of(7, 30));
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).contains(
+            "BEGIN:VTIMEZONE\r\nTZID:America/New_York",
+            "RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=2SU",
+            "RRULE:FREQ=YEARLY;BYMONTH=11;BYDAY=1SU",
+            "TZOFFSETFROM:-0500\r\nTZOFFSETTO:-0400",
+            "DTSTART;TZID=America/New_York:20250101T073000");
+        assertThat(ics.indexOf("END:VTIMEZONE")).isLessThan(ics.indexOf("BEGIN:VEVENT"));
+    }
+
+    @Test
+    @DisplayName("시간대 - 지금은 일광 절약이 없는 시간대는 과거 전환만 출력하고 현재 오프셋으로 끝남")
+    void writeFeed_EndsWithCurrentOffset_WhenTimeZoneHasNoDaylightSaving() {
+        givenTimeZone("Asia/Seoul");
+
+        String ics = feed(Component.VEVENT);
+        String timeZone = ics.substring(ics.indexOf("BEGIN:VTIMEZONE"), ics.indexOf("END:VTIMEZONE"));
+
+        assertThat(timeZone).contains("TZID:Asia/Seoul").endsWith("TZOFFSETTO:+0900\r\nEND:STANDARD\r\n")
+            .doesNotContain("RRULE");
+    }
+
+    @Test
+    @DisplayName("시간대 없음 - VTIMEZONE 없이 floating time으로 출력")
+    void writeFeed_OmitsTimeZone_WhenNoProfile() {
+        definition.setBaseTime(LocalTime.of(7, 30));
+
+        String ics = feed(Component.VEVENT);
+
+        assertThat(ics).doesNotContain("VTIMEZONE").contains("DTSTART:20250101T073000");
+    }
+
+    @Test
+    @DisplayName("ETag - 입력이 같으면 같고, 카테고리 이름 변경(수정시각)이나 시간대 변경이면 바뀜")
+    void feedVersion_Changes_WhenCategoryOrTimeZoneChanges() {
+        givenVersions(Instant.parse("2025-01-01T00:00:00Z"));
+        String version = feedService.feedVersion(owner.getId(), Component.VEVENT);
+
+        assertThat(version).matches("\"[0-9a-f]{64}\"")
+            .isEqualTo(feedService.feedVersion(owner.getId(), Component.VEVENT))
+            .isNotEqualTo(feedService.feedVersion(owner.getId(), Component.VTODO));
+
+        givenVersions(Instant.parse("2025-01-02T00:00:00Z"));
+        String renamed = feedService.feedVersion(owner.getId(), Component.VEVENT);
+        assertThat(renamed).isNotEqualTo(version);
+
+        givenTimeZone("Europe/Berlin");
+        assertThat(feedService.feedVersion(owner.getId(), Component.VEVENT)).isNotEqualTo(renamed);
+    }
+
+    private void givenVersions(Instant categoryModified) {
+        when(definitionRepository.getFeedVersion(owner.getId()))
+            .thenReturn(Map.of("count", 1L, "lastModified", Instant.parse("2025-01-01T00:00:00Z")));
+        when(instanceRepository.getFeedVersion(owner.getId()))
+            .thenReturn(Map.of("count", 3L, "lastModified", Instant.parse("2025-01-01T00:00:00Z")));
+        when(definitionRepository.getFeedCategoryVersion(owner.getId()))
+            .thenReturn(Map.of("count", 1L, "lastModified", categoryModified));
+    }
+
+    private void givenTimeZone(String timeZone) {
+        when(profileRepository.findByOwnerId(owner.getId()))
+            .thenReturn(Optional.of(Profile.builder().owner(owner).timeZone(timeZone).build()));
+    }
+
+    private void givenArchived(TodoInstanceArchive... archived) {
+        when(archiveRepository.findRecurringExceptionsForFeed(owner.getId())).thenReturn(List.of(archived));
+    }
+
+    private TodoInstanceArchive archived(LocalDate dueDate, String title, boolean completed, boolean deleted) {
+        TodoInstanceArchive archived = mock(TodoInstanceArchive.class, withSettings().strictness(Strictness.LENIENT));
+        when(archived.getDefinitionId()).thenReturn(definition.getId());
+        when(archived.getDueDate()).thenReturn(dueDate);
+        when(archived.getOccurrenceDate()).thenReturn(dueDate);
+        when(archived.getTitle()).thenReturn(title);
+        when(archived.getCompleted()).thenReturn(completed);
+        when(archived.getCompletedAt()).thenReturn(completed ? dueDate.atTime(9, 0) : null);
+        when(archived.getUpdatedAt()).thenReturn(dueDate.atStartOfDay(ZoneOffset.UTC).toInstant());
+        when(archived.isDeleted()).thenReturn(deleted);
+        return archived;
+    }
+
+    private String feed(Component component) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        feedService.writeFeed(owner.getId(), component, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
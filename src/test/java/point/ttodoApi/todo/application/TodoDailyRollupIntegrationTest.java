@@ -0,0 +1,160 @@
+package point.ttodoApi.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일간 완료 집계 어긋남 통합 테스트
+ * 집계가 원본과 어긋나 음수로 내려가야 하는 경우에도 원본 쓰기는 커밋되고, 그 날짜(사용자) 집계는 커밋 후 원본으로 재계산됨
+ */
+@DisplayName("일간 완료 집계 어긋남 통합 테스트")
+class TodoDailyRollupIntegrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    @Autowired
+    private TodoInstanceService instanceService;
+
+    @Autowired
+    private TodoInstanceBulkService bulkService;
+
+    @Autowired
+    private TodoDefinitionService definitionService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User owner;
+    private TodoDefinition definition;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(User.builder()
+                .email("rollup-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build());
+            definition = definitionRepository.save(TodoDefinition.builder()
+                .title("daily")
+                .owner(owner)
+                .build());
+        });
+    }
+
+    @Test
+    @DisplayName("집계 행 없이 완료 - 완료는 커밋되고 그 날짜 집계를 원본으로 재계산")
+    void completeInstance_Commits_AndRebuildsDay_WhenRollupRowMissing() {
+        UUID id = save(instance(false));
+
+        instanceService.completeInstance(owner.getId(), id);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT completed FROM todo_instances WHERE id = ?", Boolean.class, id))
+            .isTrue();
+        assertThat(rollup(today)).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("음수로 내려갈 일괄 삭제 - 삭제는 커밋되고 0으로 자르지 않고 원본 기준 값으로 재계산")
+    void bulkDelete_Commits_AndRebuildsDay_WhenRollupWouldGoNegative() {
+        UUID first = save(instance(true));
+        UUID second = save(instance(true));
+        save(instance(false));
+        jdbcTemplate.update("INSERT INTO todo_daily_rollup (user_id, date, completed, pending) VALUES (?, ?, 1, 5)",
+            owner.getId(), today);
+
+        bulkService.execute(owner.getId(), BulkTodoInstanceCommand.builder()
+            .operation(Operation.DELETE)
+            .instanceIds(List.of(first, second))
+            .build());
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM todo_instances WHERE id IN (?, ?) AND deleted_at IS NOT NULL", Integer.class, first, second))
+            .isEqualTo(2);
+        assertThat(rollup(today)).containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("집계 행 없이 정의 삭제 - 삭제는 커밋되고 사용자 집계를 원본으로 재계산")
+    void deleteDefinition_Commits_AndRebuildsUser_WhenRollupRowMissing() {
+        save(instance(true));
+        save(instance(false));
+
+        definitionService.deleteDefinition(owner.getId(), definition.getId());
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT deleted_at IS NOT NULL FROM todo_definitions WHERE id = ?", Boolean.class, definition.getId()))
+            .isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM todo_daily_rollup WHERE user_id = ?", Integer.class, owner.getId()))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("어긋남 없음 - 증분만 반영하고 재계산하지 않음")
+    void completeInstance_AppliesDelta_WhenRollupConsistent() {
+        UUID id = save(instance(false));
+        jdbcTemplate.update("INSERT INTO todo_daily_rollup (user_id, date, completed, pending) VALUES (?, ?, 3, 4)",
+            owner.getId(), today);
+
+        instanceService.completeInstance(owner.getId(), id);
+
+        // 원본 기준이면 (1, 0)이지만 어긋나지 않았으므로 증분만 반영
+        assertThat(rollup(today)).containsExactly(4, 3);
+    }
+
+    private List<Integer> rollup(LocalDate date) {
+        return jdbcTemplate.queryForObject(
+            "SELECT completed, pending FROM todo_daily_rollup WHERE user_id = ? AND date = ?",
+            (rs, rowNum) -> List.of(rs.getInt("completed"), rs.getInt("pending")),
+            owner.getId(), date);
+    }
+
+    private TodoInstance instance(boolean completed) {
+        TodoInstance instance = TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(++sequence)
+            .dueDate(today)
+            .build();
+        if (completed) {
+            instance.markComplete();
+        }
+        return instance;
+    }
+
+    /**
+     * 집계를 거치지 않고 저장 (집계와 원본이 어긋난 상태를 만듦)
+     */
+    private UUID save(TodoInstance instance) {
+        return transactionTemplate.execute(status -> instanceRepository.save(instance).getId());
+    }
+}
@@ -0,0 +1,131 @@
+package point.ttodoApi.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.todo.application.command.CreateTodoDefinitionCommand;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.EndCondition;
+import point.ttodoApi.todo.domain.recurrence.EndConditionType;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceEngine;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.domain.recurrence.WeekDay;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.todo.infrastructure.persistence.converter.RecurrenceRuleJsonConverter;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TodoDefinitionService 반복 인스턴스 생성 테스트")
+@ExtendWith(MockitoExtension.class)
+class TodoDefinitionServiceTest {
+
+    private static final String DAILY = "{\"frequency\":\"DAILY\",\"interval\":1}";
+
+    @Mock
+    private TodoDefinitionRepository definitionRepository;
+
+    @Mock
+    private TodoInstanceRepository instanceRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TodoDailyRollupService rollupService;
+
+    @Mock
+    private TodoScheduleService scheduleService;
+
+    @Mock
+    private TodoRankService rankService;
+
+    @Mock
+    private RecurrenceRuleJsonConverter ruleConverter;
+
+    @Mock
+    private TodoMutationCapture mutationCapture;
+
+    @InjectMocks
+    private TodoDefinitionService definitionService;
+
+    private final User owner = User.builder()
+        .id(UUID.randomUUID())
+        .email("owner@example.com")
+        .password("password")
+        .build();
+
+    @Test
+    @DisplayName("반복 인스턴스 저장 실패 - 단일 인스턴스로 대체하지 않고 예외 전파")
+    void createDefinition_ThrowsException_WhenInstanceSaveFails() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        when(ruleConverter.parse(DAILY)).thenReturn(rule);
+        when(definitionRepository.save(any(TodoDefinition.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(rankService.nextKeys(eq(owner.getId()), anyInt()))
+            .thenAnswer(invocation -> Collections.nCopies(invocation.getArgument(1), "80"));
+        when(instanceRepository.save(any(TodoInstance.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        CreateTodoDefinitionCommand command = CreateTodoDefinitionCommand.builder()
+            .title("daily")
+            .recurrenceRule(DAILY)
+            .baseDate(LocalDate.now())
+            .build();
+
+        assertThatThrownBy(() -> definitionService.createDefinition(owner.getId(), command))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        verify(instanceRepository, times(1)).save(any(TodoInstance.class));
+        verifyNoInteractions(rollupService, scheduleService);
+    }
+
+    @Test
+    @DisplayName("반복 인스턴스 생성 - 요일 규칙과 COUNT를 RecurrenceEngine 전개대로 생성")
+    void createDefinition_CreatesInstancesOnRuleDates_WhenRuleHasByWeekDaysAndCount() {
+        String weekly = "{\"frequency\":\"WEEKLY\",\"byWeekDays\":[\"MO\",\"FR\"],\"endCondition\":{\"type\":\"COUNT\",\"count\":4}}";
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setByWeekDays(Set.of(WeekDay.MO, WeekDay.FR));
+        rule.setEndCondition(new EndCondition(EndConditionType.COUNT, null, 4));
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        when(ruleConverter.parse(weekly)).thenReturn(rule);
+        when(definitionRepository.save(any(TodoDefinition.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(rankService.nextKeys(eq(owner.getId()), anyInt()))
+            .thenAnswer(invocation -> Collections.nCopies(invocation.getArgument(1), "80"));
+        when(instanceRepository.save(any(TodoInstance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDate monday = LocalDate.of(2025, 1, 6);
+        definitionService.createDefinition(owner.getId(), CreateTodoDefinitionCommand.builder()
+            .title("weekly")
+            .recurrenceRule(weekly)
+            .baseDate(monday)
+            .build());
+
+        ArgumentCaptor<TodoInstance> saved = ArgumentCaptor.forClass(TodoInstance.class);
+        verify(instanceRepository, times(4)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(TodoInstance::getDueDate).containsExactly(
+            monday, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 17));
+        // 마지막 회차가 정의의 last_due_date 계산과 일치
+        assertThat(RecurrenceEngine.lastOccurrence(rule, monday)).contains(LocalDate.of(2025, 1, 17));
+    }
+}
@@ -0,0 +1,187 @@
+package point.ttodoApi.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.application.result.BulkTodoInstanceResult;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스 일괄 작업 통합 테스트
+ * UPDATE ... RETURNING이 돌려준 ID, 일간 집계 행, 변경 로그 행이 한 트랜잭션에서 서로 맞게 남는지 확인
+ */
+@DisplayName("인스턴스 일괄 작업 통합 테스트")
+class TodoInstanceBulkIntegrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    @Autowired
+    private TodoInstanceBulkService bulkService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User owner;
+    private TodoDefinition definition;
+    private UUID strangersInstance;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = user();
+            definition = definition(owner);
+            User stranger = user();
+            strangersInstance = instanceRepository.save(TodoInstance.builder()
+                .definition(definition(stranger))
+                .owner(stranger)
+                .sequenceNumber(1)
+                .dueDate(today)
+                .build()).getId();
+        });
+    }
+
+    @Test
+    @DisplayName("RETURNING - 실제로 바꾼 행만 돌려줌 (완료된 행, 다른 사용자의 행 제외)")
+    void bulkComplete_ReturnsOnlyChangedIds() {
+        UUID pending = save(today, false);
+        UUID completed = save(today, true);
+
+        List<UUID> changed = transactionTemplate.execute(status -> instanceRepository.bulkComplete(
+            List.of(pending, completed, strangersInstance), owner.getId(), LocalDateTime.now(), Instant.now()));
+
+        assertThat(changed).containsExactly(pending);
+        assertThat(jdbcTemplate.queryForObject("SELECT completed FROM todo_instances WHERE id = ?", Boolean.class,
+            strangersInstance)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 완료 - 바뀐 인스턴스만 보고하고 그만큼 집계와 변경 로그를 남김")
+    void execute_Complete_KeepsReturnedIdsRollupAndLogInStep() {
+        UUID first = save(today, false);
+        UUID second = save(today, false);
+        UUID alreadyCompleted = save(today, true);
+        seedRollup(today, 1, 2);
+
+        BulkTodoInstanceResult result = bulkService.execute(owner.getId(), command(Operation.COMPLETE, null,
+            first, second, alreadyCompleted, strangersInstance));
+
+        assertThat(result.affectedIds()).containsExactlyInAnyOrder(first, second);
+        assertThat(result.skippedIds()).containsExactlyInAnyOrder(alreadyCompleted, strangersInstance);
+        assertThat(rollup(today)).containsExactly(3, 0);
+        assertThat(logged(TodoMutation.STATUS_CHANGE))
+            .containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    @DisplayName("일괄 날짜 이동 - 옮긴 인스턴스만 두 날짜 집계에 반영하고 변경 로그를 남김")
+    void execute_MoveDate_KeepsReturnedIdsRollupAndLogInStep() {
+        LocalDate target = today.plusDays(3);
+        UUID pending = save(today, false);
+        UUID completed = save(today, true);
+        UUID alreadyThere = save(target, false);
+        seedRollup(today, 1, 1);
+        seedRollup(target, 0, 1);
+
+        BulkTodoInstanceResult result = bulkService.execute(owner.getId(), command(Operation.MOVE_DATE, target,
+            pending, completed, alreadyThere, strangersInstance));
+
+        assertThat(result.affectedIds()).containsExactlyInAnyOrder(pending, completed);
+        assertThat(result.skippedIds()).containsExactlyInAnyOrder(alreadyThere, strangersInstance);
+        assertThat(rollup(today)).containsExactly(0, 0);
+        assertThat(rollup(target)).containsExactly(1, 2);
+        assertThat(logged(TodoMutation.UPDATE))
+            .containsExactlyInAnyOrder(pending, completed);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT original_due_date FROM todo_instances WHERE id IN (?, ?)", LocalDate.class, pending, completed))
+            .containsOnly(today);
+    }
+
+    private List<Integer> rollup(LocalDate date) {
+        return jdbcTemplate.queryForObject(
+            "SELECT completed, pending FROM todo_daily_rollup WHERE user_id = ? AND date = ?",
+            (rs, rowNum) -> List.of(rs.getInt("completed"), rs.getInt("pending")),
+            owner.getId(), date);
+    }
+
+    /**
+     * 원본과 맞는 집계 행 (어긋남 재계산 없이 증분만 반영되게 함)
+     */
+    private void seedRollup(LocalDate date, int completed, int pending) {
+        jdbcTemplate.update("INSERT INTO todo_daily_rollup (user_id, date, completed, pending) VALUES (?, ?, ?, ?)",
+            owner.getId(), date, completed, pending);
+    }
+
+    /**
+     * 이 사용자 이름으로 해당 유형 변경 로그가 남은 인스턴스 (사용자는 테스트마다 새로 만듦)
+     */
+    private List<UUID> logged(String mutationType) {
+        return jdbcTemplate.queryForList(
+            "SELECT instance_id FROM todo_instance_mutations WHERE user_id = ? AND mutation_type = ?",
+            UUID.class, owner.getId(), mutationType);
+    }
+
+    private UUID save(LocalDate dueDate, boolean completed) {
+        TodoInstance instance = TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(++sequence)
+            .dueDate(dueDate)
+            .build();
+        if (completed) {
+            instance.markComplete();
+        }
+        return transactionTemplate.execute(status -> instanceRepository.save(instance).getId());
+    }
+
+    private BulkTodoInstanceCommand command(Operation operation, LocalDate dueDate, UUID... instanceIds) {
+        return BulkTodoInstanceCommand.builder()
+            .operation(operation)
+            .instanceIds(List.of(instanceIds))
+            .dueDate(dueDate)
+            .build();
+    }
+
+    private TodoDefinition definition(User user) {
+        return definitionRepository.save(TodoDefinition.builder()
+            .title("bulk")
+            .owner(user)
+            .build());
+    }
+
+    private User user() {
+        return userRepository.save(User.builder()
+            .email("bulk-" + UUID.randomUUID() + "@example.com")
+            .password("password")
+            .build());
+    }
+}
@@ -0,0 +1,206 @@
+package point.ttodoApi.todo.application;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.experience.application.event.TodosCompletedEvent;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.application.result.BulkTodoInstanceResult;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutation;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture;
+import point.ttodoApi.todo.infrastructure.capture.TodoMutationCapture.InstanceRef;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TodoInstanceBulkService 일괄 작업 테스트")
+@ExtendWith(MockitoExtension.class)
+class TodoInstanceBulkServiceTest {
+
+    @Mock
+    private TodoInstanceRepository instanceRepository;
+
+    @Mock
+    private TodoDefinitionRepository definitionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TodoDailyRollupService rollupService;
+
+    @Mock
+    private TodoScheduleService scheduleService;
+
+    @Mock
+    private TodoMutationCapture mutationCapture;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoInstanceBulkService bulkService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private final User owner = User.builder().id(UUID.randomUUID()).build();
+
+    private TodoInstance first;
+    private TodoInstance second;
+
+    @BeforeEach
+    void setUp() {
+        TodoDefinition definition = TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("todo")
+            .owner(owner)
+            .build();
+        first = instance(definition);
+        second = instance(definition);
+
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+    }
+
+    @Test
+    @DisplayName("일괄 완료 - UPDATE가 실제로 바꾼 행만 영향받은 것으로 보고")
+    void execute_ReportsOnlyUpdatedIds_WhenUpdateTouchesFewerRows() {
+        givenLocked(first, second);
+        when(instanceRepository.bulkComplete(anyCollection(), eq(owner.getId()), any(), any()))
+            .thenReturn(List.of(first.getId()));
+
+        BulkTodoInstanceResult result = bulkService.execute(owner.getId(), command(Operation.COMPLETE, first, second));
+
+        assertThat(result.affectedIds()).containsExactly(first.getId());
+        assertThat(result.skippedIds()).containsExactly(second.getId());
+        verify(rollupService).applyDelta(owner.getId(), today, 1, -1);
+        assertThat(capturedRefs(TodoMutation.STATUS_CHANGE)).extracting(InstanceRef::id).containsExactly(first.getId());
+        verify(eventPublisher).publishEvent(new TodosCompletedEvent(owner.getId(), List.of(first.getId())));
+    }
+
+    @Test
+    @DisplayName("일괄 완료 - 이미 완료된 인스턴스는 UPDATE 없이 건너뜀")
+    void execute_SkipsWithoutUpdate_WhenAlreadyCompleted() {
+        first.markComplete();
+        givenLocked(first);
+
+        BulkTodoInstanceResult result = bulkService.execute(owner.getId(), command(Operation.COMPLETE, first));
+
+        assertThat(result.affectedIds()).isEmpty();
+        assertThat(result.skippedIds()).containsExactly(first.getId());
+        verify(instanceRepository, never()).bulkComplete(anyCollection(), any(), any(), any());
+        verifyNoInteractions(rollupService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 완료 여부에 따라 날짜별 집계를 한 번에 차감")
+    void execute_SubtractsRollupPerDate_WhenDeleting() {
+        first.markComplete();
+        givenLocked(first, second);
+        when(instanceRepository.bulkSoftDelete(anyCollection(), eq(owner.getId()), any(), any()))
+            .thenReturn(List.of(first.getId(), second.getId()));
+
+        BulkTodoInstanceResult result = bulkService.execute(owner.getId(), command(Operation.DELETE, first, second));
+
+        assertThat(result.affectedIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        verify(rollupService).applyDelta(owner.getId(), today, -1, -1);
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - 반복 회차는 원래 발생일로 다음 발생일을 넘김")
+    void execute_AdvancesSchedule_WhenRecurringOccurrencesDeleted() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        TodoDefinition recurring = TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("daily")
+            .owner(owner)
+            .recurrenceRule(rule)
+            .build();
+        TodoInstance moved = instance(recurring);
+        moved.moveTo(today.plusDays(2));
+        givenLocked(moved);
+        when(instanceRepository.bulkSoftDelete(anyCollection(), eq(owner.getId()), any(), any()))
+            .thenReturn(List.of(moved.getId()));
+        when(definitionRepository.findAllById(Set.of(recurring.getId()))).thenReturn(List.of(recurring));
+
+        bulkService.execute(owner.getId(), command(Operation.DELETE, moved));
+
+        verify(scheduleService).recordCompleted(recurring, List.of(today));
+    }
+
+    @Test
+    @DisplayName("일괄 카테고리 변경 - 사용할 수 없는 카테고리면 거부")
+    void execute_Throws_WhenCategoryNotShared() {
+        User stranger = User.builder().id(UUID.randomUUID()).build();
+        Category category = Category.builder()
+            .id(UUID.randomUUID())
+            .name("other")
+            .owner(stranger)
+            .build();
+        givenLocked(first);
+        when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+
+        BulkTodoInstanceCommand command = command(Operation.RECATEGORIZE, first);
+        command.setCategoryId(category.getId());
+
+        assertThatThrownBy(() -> bulkService.execute(owner.getId(), command))
+            .isInstanceOf(IllegalStateException.class);
+        verify(instanceRepository, never()).bulkSetCategory(anyCollection(), any(), any(), any());
+    }
+
+    private TodoInstance instance(TodoDefinition definition) {
+        return TodoInstance.builder()
+            .id(UUID.randomUUID())
+            .definition(definition)
+            .owner(owner)
+            .dueDate(today)
+            .build();
+    }
+
+    private void givenLocked(TodoInstance... instances) {
+        when(instanceRepository.findForBulkUpdate(anyCollection(), eq(owner.getId())))
+            .thenReturn(List.of(instances));
+    }
+
+    private BulkTodoInstanceCommand command(Operation operation, TodoInstance... instances) {
+        return BulkTodoInstanceCommand.builder()
+            .operation(operation)
+            .instanceIds(Arrays.stream(instances).map(TodoInstance::getId).toList())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InstanceRef> capturedRefs(String type) {
+        ArgumentCaptor<Collection<InstanceRef>> refs = ArgumentCaptor.forClass(Collection.class);
+        verify(mutationCapture).instancesChanged(refs.capture(), eq(type), anyMap());
+        return List.copyOf(refs.getValue());
+    }
+}
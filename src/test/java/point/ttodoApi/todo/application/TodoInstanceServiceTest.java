@@ -0,0 +1,155 @@
+package point.ttodoApi.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.category.infrastructure.persistence.CategoryRepository;
+import point.ttodoApi.experience.application.event.TodosCompletedEvent;
+import point.ttodoApi.todo.application.command.CreateTodoInstanceCommand;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TodoInstanceService 일간 집계 반영 테스트")
+@ExtendWith(MockitoExtension.class)
+class TodoInstanceServiceTest {
+
+    @Mock
+    private TodoInstanceRepository instanceRepository;
+
+    @Mock
+    private TodoDefinitionRepository definitionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TodoDailyRollupService rollupService;
+
+    @Mock
+    private TodoScheduleService scheduleService;
+
+    @Mock
+    private TodoRankService rankService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TodoInstanceService instanceService;
+
+    private final User owner = User.builder()
+        .id(UUID.randomUUID())
+        .email("owner@example.com")
+        .password("password")
+        .build();
+
+    private TodoInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        TodoDefinition definition = TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("todo")
+            .owner(owner)
+            .build();
+        instance = TodoInstance.builder()
+            .id(UUID.randomUUID())
+            .definition(definition)
+            .owner(owner)
+            .dueDate(LocalDate.now())
+            .build();
+
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        lenient().when(instanceRepository.findByIdAndOwner(instance.getId(), owner)).thenReturn(Optional.of(instance));
+        lenient().when(instanceRepository.save(any(TodoInstance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("반복 삭제 - 집계는 첫 삭제에서 한 번만 차감")
+    void deleteInstance_RecordsRemovedOnce_WhenDeletedTwice() {
+        instanceService.deleteInstance(owner.getId(), instance.getId());
+        instanceService.deleteInstance(owner.getId(), instance.getId());
+
+        assertThat(instance.isDeleted()).isTrue();
+        verify(rollupService, times(1)).recordRemoved(instance);
+        verify(instanceRepository, times(1)).save(instance);
+    }
+
+    @Test
+    @DisplayName("삭제된 인스턴스 완료 - 집계에 없는 행이므로 반영하지 않음")
+    void completeInstance_SkipsRollup_WhenDeleted() {
+        instance.softDelete();
+
+        instanceService.completeInstance(owner.getId(), instance.getId());
+
+        assertThat(instance.isCompleted()).isTrue();
+        verify(rollupService, never()).recordCompleted(any());
+    }
+
+    @Test
+    @DisplayName("살아있는 인스턴스 완료 - 완료 증분 반영")
+    void completeInstance_RecordsCompleted_WhenLive() {
+        instanceService.completeInstance(owner.getId(), instance.getId());
+
+        verify(rollupService).recordCompleted(instance);
+        verify(scheduleService).recordCompleted(instance);
+        verify(eventPublisher).publishEvent(new TodosCompletedEvent(owner.getId(), List.of(instance.getId())));
+    }
+
+    @Test
+    @DisplayName("인스턴스 생성 - 협업하지 않는 카테고리는 거부")
+    void createInstance_Throws_WhenCategoryNotShared() {
+        User stranger = User.builder()
+            .id(UUID.randomUUID())
+            .email("stranger@example.com")
+            .password("password")
+            .build();
+        Category category = Category.builder()
+            .id(UUID.randomUUID())
+            .name("other")
+            .owner(stranger)
+            .build();
+        when(definitionRepository.findById(instance.getDefinition().getId())).thenReturn(Optional.of(instance.getDefinition()));
+        when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+
+        assertThatThrownBy(() -> instanceService.createInstance(owner.getId(), CreateTodoInstanceCommand.builder()
+            .definitionId(instance.getDefinition().getId())
+            .categoryId(category.getId())
+            .build()))
+            .isInstanceOf(IllegalStateException.class);
+        verify(instanceRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("인스턴스 생성 - 집계와 함께 정의의 다음 발생일 갱신")
+    void createInstance_RecordsSchedule_WhenCreated() {
+        when(definitionRepository.findById(instance.getDefinition().getId())).thenReturn(Optional.of(instance.getDefinition()));
+        when(instanceRepository.getNextSequenceNumber(instance.getDefinition())).thenReturn(2);
+
+        TodoInstance created = instanceService.createInstance(owner.getId(), CreateTodoInstanceCommand.builder()
+            .definitionId(instance.getDefinition().getId())
+            .build());
+
+        verify(rollupService).recordAdded(created);
+        verify(scheduleService).recordUncompleted(created);
+    }
+}
@@ -0,0 +1,166 @@
+package point.ttodoApi.todo.application;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceArchiveRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TodoScheduleService 다음 발생일 테스트")
+@ExtendWith(MockitoExtension.class)
+class TodoScheduleServiceTest {
+
+    @Mock
+    private TodoDefinitionRepository definitionRepository;
+
+    @Mock
+    private TodoInstanceRepository instanceRepository;
+
+    @Mock
+    private TodoInstanceArchiveRepository archiveRepository;
+
+    @InjectMocks
+    private TodoScheduleService scheduleService;
+
+    // 오늘과 무관함을 보이도록 과거 날짜로 시작하는 시리즈
+    private final LocalDate anchor = LocalDate.now().minusDays(30);
+
+    private final User owner = User.builder()
+        .id(UUID.randomUUID())
+        .email("owner@example.com")
+        .password("password")
+        .build();
+
+    private TodoDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        definition = daily(1);
+    }
+
+    @Test
+    @DisplayName("재계산 - 오늘이 아니라 시리즈 기준일부터 세고, 완료/삭제(보관 포함)된 회차만 건너뜀")
+    void refresh_CountsFromAnchor_SkippingClosedOccurrences() {
+        definition.setScheduleStale(true);
+        when(instanceRepository.findClosedOccurrenceDates(definition, anchor)).thenReturn(Set.of(anchor.plusDays(1)));
+        when(archiveRepository.findClosedOccurrenceDates(definition.getId(), anchor)).thenReturn(Set.of(anchor));
+
+        scheduleService.refresh(definition);
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(2));
+        assertThat(definition.getScheduleStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 회차 삭제 - 다음 열린 발생일로 넘어감")
+    void recordDeleted_Advances_WhenNextOccurrenceDeleted() {
+        definition.setNextDueDate(anchor.plusDays(3));
+        givenNoneClosed();
+        TodoInstance instance = instance(anchor.plusDays(3));
+        instance.softDelete();
+
+        scheduleService.recordDeleted(instance);
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(4));
+    }
+
+    @Test
+    @DisplayName("이동한 회차 완료 - 옮긴 날짜가 아니라 원래 발생일로 판단")
+    void recordCompleted_UsesOriginalDate_WhenOccurrenceMoved() {
+        definition.setNextDueDate(anchor.plusDays(3));
+        givenNoneClosed();
+        TodoInstance instance = instance(anchor.plusDays(3));
+        instance.moveTo(anchor.plusDays(10));
+        instance.markComplete();
+
+        scheduleService.recordCompleted(instance);
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(4));
+    }
+
+    @Test
+    @DisplayName("앞선 회차 완료 취소 - 그 회차가 다시 다음 발생일이 됨")
+    void recordUncompleted_MovesNextBack_WhenEarlierOccurrenceReopened() {
+        definition.setNextDueDate(anchor.plusDays(5));
+
+        scheduleService.recordUncompleted(instance(anchor.plusDays(2)));
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(2));
+    }
+
+    @Test
+    @DisplayName("규칙에 없는 날짜(격일 사이, 기준일 이전)의 회차 - 다음 발생일을 바꾸지 않음")
+    void recordUncompleted_Ignores_WhenDateIsNotAnOccurrence() {
+        definition = daily(2);
+        definition.setNextDueDate(anchor.plusDays(4));
+
+        scheduleService.recordUncompleted(instance(anchor.plusDays(1)));
+        scheduleService.recordUncompleted(instance(anchor.minusDays(2)));
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(4));
+    }
+
+    @Test
+    @DisplayName("삭제된 회차 완료 취소 - 닫힌 회차이므로 다음 발생일을 바꾸지 않음")
+    void recordUncompleted_Ignores_WhenInstanceDeleted() {
+        definition.setNextDueDate(anchor.plusDays(5));
+        TodoInstance instance = instance(anchor.plusDays(2));
+        instance.softDelete();
+
+        scheduleService.recordUncompleted(instance);
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("미완료 회차 복구 - 다음 발생일보다 앞서면 다음 발생일이 됨")
+    void recordRestored_MovesNextBack_WhenPendingOccurrenceRestored() {
+        definition.setNextDueDate(anchor.plusDays(5));
+
+        scheduleService.recordRestored(instance(anchor.plusDays(1)));
+
+        assertThat(definition.getNextDueDate()).isEqualTo(anchor.plusDays(1));
+    }
+
+    private TodoDefinition daily(int interval) {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setInterval(interval);
+        return TodoDefinition.builder()
+            .id(UUID.randomUUID())
+            .title("운동")
+            .owner(owner)
+            .recurrenceRule(rule)
+            .baseDate(anchor)
+            .build();
+    }
+
+    private TodoInstance instance(LocalDate dueDate) {
+        return TodoInstance.builder()
+            .id(UUID.randomUUID())
+            .definition(definition)
+            .owner(owner)
+            .dueDate(dueDate)
+            .build();
+    }
+
+    private void givenNoneClosed() {
+        when(instanceRepository.findClosedOccurrenceDates(any(), any())).thenReturn(Set.of());
+        when(archiveRepository.findClosedOccurrenceDates(any(), any())).thenReturn(Set.of());
+    }
+}
@@ -0,0 +1,69 @@
+package point.ttodoApi.todo.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RankKey 분수 순위 키 테스트")
+class RankKeyTest {
+
+    @Test
+    @DisplayName("두 키 사이 - 사전순으로 사이에 위치")
+    void between_Returns_KeyBetweenBounds() {
+        String key = RankKey.between("0000abc8", "0000abc9");
+
+        assertTrue("0000abc8".compareTo(key) < 0);
+        assertTrue(key.compareTo("0000abc9") < 0);
+        assertTrue(RankKey.isValid(key));
+    }
+
+    @Test
+    @DisplayName("맨 뒤 추가 - 같은 길이에서 증가")
+    void between_Returns_IncrementedKey_WhenAppending() {
+        assertEquals("0000abc9", RankKey.between("0000abc8", null));
+        assertEquals("AC", RankKey.between("ABz", null));
+    }
+
+    @Test
+    @DisplayName("맨 앞 추가 - 끝자리가 0이 아닌 더 작은 키")
+    void between_Returns_SmallerKey_WhenPrepending() {
+        String key = RankKey.between(null, "00000018");
+
+        assertTrue(key.compareTo("00000018") < 0);
+        assertTrue(RankKey.isValid(key));
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 경계 - 예외")
+    void between_Throws_WhenBoundsOutOfOrder() {
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("a0", null));
+    }
+
+    @Test
+    @DisplayName("무작위 삽입 - 항상 정렬 순서 유지")
+    void between_KeepsOrder_ForRandomInsertions() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        keys.add(RankKey.between(null, null));
+
+        for (int i = 0; i < 5_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? null : keys.get(position - 1);
+            String upper = position == keys.size() ? null : keys.get(position);
+
+            String key = RankKey.between(lower, upper);
+
+            assertTrue(RankKey.isValid(key), key);
+            assertTrue(lower == null || lower.compareTo(key) < 0);
+            assertTrue(upper == null || key.compareTo(upper) < 0);
+            keys.add(position, key);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package point.ttodoApi.todo.domain.recurrence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RRuleFormatter 변환 테스트")
+class RRuleFormatterTest {
+
+    @Test
+    @DisplayName("주간 반복 - 간격과 요일 포함")
+    void format_Returns_WeeklyRuleWithIntervalAndDays() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(2);
+        rule.setByWeekDays(EnumSet.of(WeekDay.FR, WeekDay.MO));
+
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR", RRuleFormatter.format(rule, true));
+    }
+
+    @Test
+    @DisplayName("월간 n번째 요일 - 접두 BYDAY로 변환")
+    void format_Returns_PositionalByDay_WhenMonthlySetPos() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.MONTHLY);
+        rule.setByWeekDays(EnumSet.of(WeekDay.FR));
+        rule.setBySetPos(Set.of(-1, 1));
+
+        assertEquals("FREQ=MONTHLY;BYDAY=-1FR,1FR", RRuleFormatter.format(rule, true));
+    }
+
+    @Test
+    @DisplayName("종료 조건 - COUNT와 UNTIL 값 타입")
+    void format_Returns_EndConditions() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setEndCondition(new EndCondition(EndConditionType.COUNT, null, 5));
+        assertEquals("FREQ=DAILY;COUNT=5", RRuleFormatter.format(rule, true));
+
+        rule.setEndCondition(new EndCondition(EndConditionType.UNTIL, LocalDate.of(2025, 3, 1), null));
+        assertEquals("FREQ=DAILY;UNTIL=20250301", RRuleFormatter.format(rule, true));
+        assertEquals("FREQ=DAILY;UNTIL=20250301T235959", RRuleFormatter.format(rule, false));
+    }
+
+    @Test
+    @DisplayName("빈도 누락 시 예외")
+    void format_ThrowsException_WhenFrequencyMissing() {
+        assertThrows(IllegalArgumentException.class, () -> RRuleFormatter.format(new RecurrenceRule(), true));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,4 +84,73 @@ class RecurrenceEngineTest {
         assertEquals(1, dates.size());
         assertTrue(dates.contains(LocalDate.of(2025, 12, 31)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("다음 발생일 - 기준일 이후 첫 주간 발생일")
+    void nextOccurrence_ReturnsFirstDate_OnOrAfterFrom() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(1);
+        rule.setByWeekDays(Set.of(WeekDay.MO));
+
+        LocalDate anchor = LocalDate.of(2025, 1, 6); // 월요일
+        assertEquals(Optional.of(LocalDate.of(2025, 3, 3)),
+            RecurrenceEngine.nextOccurrence(rule, anchor, LocalDate.of(2025, 2, 25)));
+        assertEquals(Optional.of(LocalDate.of(2025, 3, 3)),
+            RecurrenceEngine.nextOccurrence(rule, anchor, LocalDate.of(2025, 3, 3)));
+    }
+
+    @Test
+    @DisplayName("다음 발생일 - 1년 넘게 떨어진 발생일도 탐색")
+    void nextOccurrence_SearchesBeyondFirstWindow_WhenRuleIsSparse() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.YEARLY);
+        rule.setInterval(3);
+
+        LocalDate anchor = LocalDate.of(2024, 5, 1);
+        assertEquals(Optional.of(LocalDate.of(2027, 5, 1)),
+            RecurrenceEngine.nextOccurrence(rule, anchor, LocalDate.of(2024, 5, 2)));
+    }
+
+    @Test
+    @DisplayName("마지막 발생일 - COUNT/UNTIL 종료, NEVER는 없음")
+    void lastOccurrence_ReturnsEndOfSeries_ByEndCondition() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.DAILY);
+        rule.setInterval(2);
+        LocalDate anchor = LocalDate.of(2025, 1, 1);
+
+        rule.setEndCondition(new EndCondition(EndConditionType.COUNT, null, 3));
+        assertEquals(Optional.of(LocalDate.of(2025, 1, 5)), RecurrenceEngine.lastOccurrence(rule, anchor));
+        assertEquals(Optional.empty(), RecurrenceEngine.nextOccurrence(rule, anchor, LocalDate.of(2025, 1, 6)));
+
+        rule.setEndCondition(new EndCondition(EndConditionType.UNTIL, LocalDate.of(2025, 1, 10), null));
+        assertEquals(Optional.of(LocalDate.of(2025, 1, 9)), RecurrenceEngine.lastOccurrence(rule, anchor));
+
+        rule.setEndCondition(new EndCondition(EndConditionType.NEVER, null, null));
+        assertEquals(Optional.empty(), RecurrenceEngine.lastOccurrence(rule, anchor));
+    }
+
+    @Test
+    @DisplayName("처음 N개 발생일 - BY* 규칙과 COUNT/UNTIL을 다음/마지막 발생일과 같게 전개")
+    void firstOccurrences_AgreesWithNextAndLastOccurrence() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setInterval(1);
+        rule.setByWeekDays(Set.of(WeekDay.MO, WeekDay.FR));
+        LocalDate anchor = LocalDate.of(2025, 1, 6); // 월요일
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 13)),
+            RecurrenceEngine.firstOccurrences(rule, anchor, 3));
+
+        rule.setEndCondition(new EndCondition(EndConditionType.COUNT, null, 3));
+        List<LocalDate> counted = RecurrenceEngine.firstOccurrences(rule, anchor, 10);
+        assertEquals(3, counted.size());
+        assertEquals(RecurrenceEngine.nextOccurrence(rule, anchor, anchor), Optional.of(counted.get(0)));
+        assertEquals(RecurrenceEngine.lastOccurrence(rule, anchor), Optional.of(counted.get(2)));
+
+        rule.setEndCondition(new EndCondition(EndConditionType.UNTIL, LocalDate.of(2025, 1, 16), null));
+        assertEquals(List.of(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 13)),
+            RecurrenceEngine.firstOccurrences(rule, anchor, 10));
+    }
+}
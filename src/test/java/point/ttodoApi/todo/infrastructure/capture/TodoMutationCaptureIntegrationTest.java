@@ -0,0 +1,321 @@
+package point.ttodoApi.todo.infrastructure.capture;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.application.TodoDefinitionService;
+import point.ttodoApi.todo.application.TodoInstanceBulkService;
+import point.ttodoApi.todo.application.TodoRankService;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand;
+import point.ttodoApi.todo.application.command.BulkTodoInstanceCommand.Operation;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 로그 기록(TodoMutationCapture) 통합 테스트
+ * 엔티티 쓰기는 바뀐 컬럼만, 일괄 쓰기는 서비스가 넘긴 컬럼만 기록하고, 쓰기와 함께 커밋/롤백되는지 확인
+ */
+@DisplayName("변경 로그 기록(TodoMutationCapture) 통합 테스트")
+class TodoMutationCaptureIntegrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    @Autowired
+    private TodoDefinitionService definitionService;
+
+    @Autowired
+    private TodoInstanceBulkService bulkService;
+
+    @Autowired
+    private TodoRankService rankService;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User owner;
+    private TodoDefinition definition;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(User.builder()
+                .email("capture-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build());
+            definition = definitionRepository.save(TodoDefinition.builder()
+                .title("daily")
+                .owner(owner)
+                .build());
+        });
+    }
+
+    @Test
+    @DisplayName("엔티티 생성 - 전체 행을 CREATE로 기록")
+    void save_LogsFullRow_WhenInstanceCreated() {
+        UUID id = save(instance());
+
+        Logged created = latest(id);
+        assertThat(created.type()).isEqualTo(TodoMutation.CREATE);
+        assertThat(created.columns()).contains("id", "title", "due_date", "completed", "is_pinned");
+    }
+
+    @Test
+    @DisplayName("엔티티 수정 - 바뀐 컬럼과 id만 UPDATE로 기록")
+    void update_LogsOnlyChangedColumns() {
+        UUID id = save(instance());
+
+        transactionTemplate.executeWithoutResult(status ->
+            instanceRepository.findById(id).orElseThrow().setTitle("renamed"));
+
+        Logged updated = latest(id);
+        assertThat(updated.type()).isEqualTo(TodoMutation.UPDATE);
+        assertThat(updated.columns()).contains("id", "title")
+            .doesNotContain("due_date", "completed", "is_pinned", "sequence_number");
+        assertThat(updated.data().get("title").asText()).isEqualTo("renamed");
+    }
+
+    @Test
+    @DisplayName("엔티티 완료 - 완료 여부가 바뀌면 STATUS_CHANGE로 기록")
+    void update_LogsStatusChange_WhenCompleted() {
+        UUID id = save(instance());
+
+        transactionTemplate.executeWithoutResult(status -> instanceRepository.findById(id).orElseThrow().markComplete());
+
+        Logged completed = latest(id);
+        assertThat(completed.type()).isEqualTo(TodoMutation.STATUS_CHANGE);
+        assertThat(completed.data().get("completed").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 완료 - 완료 컬럼만 STATUS_CHANGE로 기록")
+    void bulkComplete_LogsStatusChange() {
+        UUID id = save(instance());
+
+        bulk(Operation.COMPLETE, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.STATUS_CHANGE);
+        assertThat(logged.columns()).containsExactlyInAnyOrder("id", "completed", "completed_at", "updated_at");
+        assertThat(logged.data().get("completed").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 완료 취소 - 완료 컬럼만 STATUS_CHANGE로 기록")
+    void bulkUncomplete_LogsStatusChange() {
+        TodoInstance instance = instance();
+        instance.markComplete();
+        UUID id = save(instance);
+
+        bulk(Operation.UNCOMPLETE, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.STATUS_CHANGE);
+        assertThat(logged.columns()).containsExactlyInAnyOrder("id", "completed", "completed_at", "updated_at");
+        assertThat(logged.data().get("completed").asBoolean()).isFalse();
+        assertThat(logged.data().get("completed_at").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 - id만 DELETE로 기록")
+    void bulkDelete_LogsIdOnly() {
+        UUID id = save(instance());
+
+        bulk(Operation.DELETE, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.DELETE);
+        assertThat(logged.columns()).containsExactly("id");
+    }
+
+    @Test
+    @DisplayName("일괄 복구 - 다시 읽은 전체 행을 RESTORE로 기록")
+    void bulkRestore_LogsFullRow() {
+        TodoInstance instance = instance();
+        instance.softDelete();
+        UUID id = save(instance);
+
+        bulk(Operation.RESTORE, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.RESTORE);
+        assertThat(logged.columns()).contains("id", "title", "due_date", "completed", "deleted_at");
+        assertThat(logged.data().get("deleted_at").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 고정 - 고정 컬럼만 UPDATE로 기록")
+    void bulkPin_LogsPinnedColumn() {
+        UUID id = save(instance());
+
+        bulk(Operation.PIN, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.UPDATE);
+        assertThat(logged.columns()).containsExactlyInAnyOrder("id", "is_pinned", "updated_at");
+        assertThat(logged.data().get("is_pinned").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 날짜 이동 - 마감일 컬럼만 UPDATE로 기록")
+    void bulkMoveDate_LogsDueDateColumn() {
+        UUID id = save(instance());
+
+        bulkService.execute(owner.getId(), BulkTodoInstanceCommand.builder()
+            .operation(Operation.MOVE_DATE)
+            .instanceIds(List.of(id))
+            .dueDate(today.plusDays(3))
+            .build());
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.UPDATE);
+        assertThat(logged.columns()).containsExactlyInAnyOrder("id", "due_date", "updated_at");
+        assertThat(logged.data().get("due_date").asText()).isEqualTo(today.plusDays(3).toString());
+    }
+
+    @Test
+    @DisplayName("일괄 카테고리 변경 - 카테고리 컬럼만 UPDATE로 기록")
+    void bulkRecategorize_LogsCategoryColumn() {
+        UUID id = save(instance());
+
+        bulk(Operation.RECATEGORIZE, id);
+
+        Logged logged = latest(id);
+        assertThat(logged.type()).isEqualTo(TodoMutation.UPDATE);
+        assertThat(logged.columns()).containsExactlyInAnyOrder("id", "category_id", "updated_at");
+        assertThat(logged.data().get("category_id").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("정의 삭제 - 정의와 함께 소프트 삭제된 인스턴스도 DELETE로 기록")
+    void deleteDefinition_LogsCascadedInstanceDeletes() {
+        UUID first = save(instance());
+        UUID second = save(instance());
+
+        definitionService.deleteDefinition(owner.getId(), definition.getId());
+
+        assertThat(jdbcTemplate.queryForList("""
+            SELECT mutation_type FROM todo_definition_mutations
+            WHERE definition_id = ? ORDER BY xact_id DESC, seq DESC LIMIT 1
+            """, String.class, definition.getId())).containsExactly(TodoMutation.DELETE);
+        for (UUID id : List.of(first, second)) {
+            Logged logged = latest(id);
+            assertThat(logged.type()).isEqualTo(TodoMutation.DELETE);
+            assertThat(logged.columns()).containsExactly("id");
+        }
+    }
+
+    @Test
+    @DisplayName("순위 재배치 - 인스턴스마다 새 순위 키를 UPDATE로 기록")
+    void rebalance_LogsNewRankKeys() {
+        UUID first = save(instance());
+        UUID second = save(instance());
+
+        rankService.rebalance(owner.getId());
+
+        for (UUID id : List.of(first, second)) {
+            Logged logged = latest(id);
+            assertThat(logged.type()).isEqualTo(TodoMutation.UPDATE);
+            assertThat(logged.columns()).containsExactlyInAnyOrder("id", "rank_key");
+            assertThat(logged.data().get("rank_key").asText())
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT rank_key FROM todo_instances WHERE id = ?", String.class, id));
+        }
+    }
+
+    @Test
+    @DisplayName("롤백 - 엔티티 쓰기와 일괄 쓰기 모두 변경 로그가 남지 않음")
+    void rollback_LeavesNoLogRows() {
+        UUID id = save(instance());
+        int before = logged(id).size();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            instanceRepository.findById(id).orElseThrow().setTitle("rolled back");
+            instanceRepository.flush();
+            bulkService.execute(owner.getId(), BulkTodoInstanceCommand.builder()
+                .operation(Operation.COMPLETE)
+                .instanceIds(List.of(id))
+                .build());
+            status.setRollbackOnly();
+        });
+
+        assertThat(logged(id)).hasSize(before);
+    }
+
+    private void bulk(Operation operation, UUID id) {
+        bulkService.execute(owner.getId(), BulkTodoInstanceCommand.builder()
+            .operation(operation)
+            .instanceIds(List.of(id))
+            .build());
+    }
+
+    private TodoInstance instance() {
+        return TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(++sequence)
+            .title("instance " + sequence)
+            .dueDate(today)
+            .build();
+    }
+
+    private UUID save(TodoInstance instance) {
+        return transactionTemplate.execute(status -> instanceRepository.save(instance).getId());
+    }
+
+    private Logged latest(UUID instanceId) {
+        return logged(instanceId).getLast();
+    }
+
+    private List<Logged> logged(UUID instanceId) {
+        return jdbcTemplate.query("""
+            SELECT mutation_type, mutation_data::text AS data FROM todo_instance_mutations
+            WHERE instance_id = ? ORDER BY xact_id, seq
+            """, (rs, rowNum) -> new Logged(rs.getString("mutation_type"), json(rs.getString("data"))), instanceId);
+    }
+
+    private JsonNode json(String data) {
+        try {
+            return objectMapper.readTree(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Logged(String type, JsonNode data) {
+
+        Set<String> columns() {
+            Set<String> columns = new HashSet<>();
+            data.fieldNames().forEachRemaining(columns::add);
+            return columns;
+        }
+    }
+}
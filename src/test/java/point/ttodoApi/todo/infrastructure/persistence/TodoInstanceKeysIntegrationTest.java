@@ -0,0 +1,128 @@
+package point.ttodoApi.todo.infrastructure.persistence;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * V2.17 인스턴스 키 테이블 통합 테스트
+ * 파티션 키 때문에 넓어진 제약 대신 ID와 정의별 시퀀스 번호의 유일성을 보장하고, ID 조회를 한 파티션으로 좁힘
+ */
+@DisplayName("인스턴스 키(todo_instance_keys) 통합 테스트")
+class TodoInstanceKeysIntegrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    private final LocalDate today = LocalDate.now();
+
+    private User owner;
+    private TodoDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = userRepository.save(User.builder()
+                .email("keys-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build());
+            definition = definitionRepository.save(TodoDefinition.builder()
+                .title("daily")
+                .owner(owner)
+                .build());
+        });
+    }
+
+    @Test
+    @DisplayName("같은 정의의 시퀀스 번호 - 다른 달(파티션)이어도 중복 거부")
+    void insert_RejectsDuplicateSequence_AcrossPartitions() {
+        save(1, today);
+
+        assertThatThrownBy(() -> save(1, today.plusMonths(2)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("마감일 이동 - 키의 마감일도 따라가고 ID로 다시 찾을 수 있음")
+    void update_MovesKeyDueDate_WhenInstanceMovesPartition() {
+        UUID id = save(1, today);
+        LocalDate moved = today.plusMonths(3);
+
+        jdbcTemplate.update("UPDATE todo_instances SET due_date = ? WHERE id = ?", moved, id);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT due_date FROM todo_instance_keys WHERE id = ?", LocalDate.class, id))
+            .isEqualTo(moved);
+        assertThat(transactionTemplate.execute(status -> instanceRepository.findByIdAndOwner(id, owner)))
+            .get().extracting(TodoInstance::getDueDate).isEqualTo(moved);
+    }
+
+    @Test
+    @DisplayName("보관 - 보관된 회차의 키는 남아 다음 시퀀스 번호 계산에 포함되고 재사용되지 않음")
+    void archive_KeepsKey_SoSequenceStaysReserved() {
+        UUID id = save(1, today);
+
+        jdbcTemplate.update("""
+            WITH moved AS (DELETE FROM todo_instances WHERE id = ? RETURNING *)
+            INSERT INTO todo_instances_archive (
+              id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+              due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+              created_at, updated_at, deleted_at
+            )
+            SELECT id, definition_id, user_id, sequence_number, title, description, priority_id, category_id, tags,
+                   due_date, due_time, completed, completed_at, is_pinned, display_order, rank_key,
+                   created_at, updated_at, deleted_at
+            FROM moved
+            """, id);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todo_instance_keys WHERE id = ?", Integer.class, id))
+            .isEqualTo(1);
+        assertThat(instanceRepository.getNextSequenceNumber(definition)).isEqualTo(2);
+        assertThatThrownBy(() -> save(1, today.plusDays(1)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("영구 삭제 - 키도 함께 제거")
+    void delete_RemovesKey() {
+        UUID id = save(1, today);
+
+        jdbcTemplate.update("DELETE FROM todo_instances WHERE id = ?", id);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM todo_instance_keys WHERE id = ?", Integer.class, id))
+            .isZero();
+    }
+
+    private UUID save(int sequenceNumber, LocalDate dueDate) {
+        return transactionTemplate.execute(status -> instanceRepository.save(TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(sequenceNumber)
+            .dueDate(dueDate)
+            .build()).getId());
+    }
+}
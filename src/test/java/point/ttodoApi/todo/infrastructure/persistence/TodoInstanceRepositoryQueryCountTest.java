@@ -0,0 +1,141 @@
+package point.ttodoApi.todo.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import point.ttodoApi.category.domain.Category;
+import point.ttodoApi.shared.config.JpaAuditingConfig;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.user.domain.User;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TodoInstanceRepository 목록 조회 쿼리 수 회귀 테스트")
+@Tag("integration")
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.jakarta.persistence.validation.mode=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+@Testcontainers
+class TodoInstanceRepositoryQueryCountTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("오늘 목록 - 행 수와 무관하게 쿼리 수 일정")
+    void findTodayInstances_UsesConstantQueries_RegardlessOfRowCount() {
+        long small = countQueries(3, owner -> instanceRepository.findTodayInstances(owner, LocalDate.now()));
+        long large = countQueries(40, owner -> instanceRepository.findTodayInstances(owner, LocalDate.now()));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("날짜 범위 목록 - 행 수와 무관하게 쿼리 수 일정")
+    void findByDateRange_UsesConstantQueries_RegardlessOfRowCount() {
+        LocalDate today = LocalDate.now();
+        long small = countQueries(3, owner -> instanceRepository.findByDateRange(owner, today.minusDays(1), today.plusDays(1)));
+        long large = countQueries(40, owner -> instanceRepository.findByDateRange(owner, today.minusDays(1), today.plusDays(1)));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("고정 목록 - 행 수와 무관하게 쿼리 수 일정")
+    void findPinnedInstances_UsesConstantQueries_RegardlessOfRowCount() {
+        long small = countQueries(3, instanceRepository::findPinnedInstances);
+        long large = countQueries(40, instanceRepository::findPinnedInstances);
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    /**
+     * rows개의 인스턴스를 만든 뒤 조회 + effective* 접근까지의 쿼리 수 측정
+     */
+    private long countQueries(int rows, Function<User, List<TodoInstance>> query) {
+        User owner = seed(rows);
+        em.flush();
+        em.clear();
+        owner = em.find(User.class, owner.getId());
+
+        statistics.clear();
+        List<TodoInstance> instances = query.apply(owner);
+        for (TodoInstance instance : instances) {
+            instance.getEffectiveTitle();
+            instance.getEffectivePriorityId();
+            Category category = instance.getEffectiveCategory();
+            if (category != null) category.getName();
+            instance.getEffectiveTags().size();
+        }
+
+        assertThat(instances).hasSize(rows);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User seed(int rows) {
+        User owner = em.persist(User.builder()
+            .email(UUID.randomUUID() + "@example.com")
+            .password("password")
+            .build());
+        Category category = em.persist(Category.builder()
+            .name("category")
+            .owner(owner)
+            .build());
+
+        for (int i = 0; i < rows; i++) {
+            TodoDefinition definition = em.persist(TodoDefinition.builder()
+                .title("todo " + i)
+                .priorityId(1)
+                .category(i % 2 == 0 ? category : null)
+                .tags(new HashSet<>(Set.of("tag" + i, "common")))
+                .owner(owner)
+                .build());
+            em.persist(TodoInstance.builder()
+                .definition(definition)
+                .owner(owner)
+                .category(i % 2 == 0 ? null : category)
+                .tags(i % 3 == 0 ? new HashSet<>(Set.of("override")) : null)
+                .dueDate(LocalDate.now())
+                .isPinned(true)
+                .build());
+        }
+        return owner;
+    }
+}
@@ -102,4 +102,51 @@ class RecurrenceRuleJsonConverterTest {
         assertEquals(original.getTimezone(), deserialized.getTimezone());
         assertEquals(original.getAnchorDate(), deserialized.getAnchorDate());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testDecodedRulesDoNotShareState() {
+        String json = "{\"frequency\":\"WEEKLY\",\"interval\":3,\"byWeekDays\":[\"TU\"],\"exDates\":[\"2025-01-07\"]}";
+
+        RecurrenceRule first = converter.convertToEntityAttribute(json);
+        RecurrenceRule second = new RecurrenceRuleJsonConverter().convertToEntityAttribute(json);
+
+        assertNotSame(first, second);
+        assertEquals(Set.of(WeekDay.TU), second.getByWeekDays());
+
+        first.setInterval(1);
+        first.getByWeekDays().add(WeekDay.FR);
+        first.getExDates().add(LocalDate.of(2025, 1, 14));
+
+        RecurrenceRule third = converter.convertToEntityAttribute(json);
+        assertEquals(3, second.getInterval());
+        assertEquals(Set.of(WeekDay.TU), second.getByWeekDays());
+        assertEquals(Set.of(WeekDay.TU), third.getByWeekDays());
+        assertEquals(Set.of(LocalDate.of(2025, 1, 7)), third.getExDates());
+    }
+
+    @Test
+    void testDecodedRulesCompareByValue() {
+        String json = "{\"frequency\":\"WEEKLY\",\"byWeekDays\":[\"TU\"],\"endCondition\":{\"type\":\"COUNT\",\"count\":3}}";
+
+        RecurrenceRule first = converter.convertToEntityAttribute(json);
+        RecurrenceRule second = converter.convertToEntityAttribute(json);
+
+        assertEquals(first, second);
+        second.getByWeekDays().add(WeekDay.FR);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testUnknownFieldsAreIgnored() {
+        RecurrenceRule rule = converter.convertToEntityAttribute("{\"frequency\":\"DAILY\",\"count\":5}");
+
+        assertEquals(Frequency.DAILY, rule.getFrequency());
+    }
+
+    @Test
+    void testInvalidJsonIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> converter.parse("{not json"));
+        assertThrows(IllegalStateException.class, () -> converter.convertToEntityAttribute("{not json"));
+        assertNull(converter.parse("  "));
+    }
+}
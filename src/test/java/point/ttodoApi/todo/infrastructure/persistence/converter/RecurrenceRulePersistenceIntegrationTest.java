@@ -0,0 +1,89 @@
+package point.ttodoApi.todo.infrastructure.persistence.converter;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.recurrence.Frequency;
+import point.ttodoApi.todo.domain.recurrence.RecurrenceRule;
+import point.ttodoApi.todo.domain.recurrence.WeekDay;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 규칙(JSONB) 더티 체킹 통합 테스트
+ * 규칙을 교체하지 않고 제자리에서 고쳐도 저장되고, 고치지 않으면 UPDATE가 나가지 않는지 확인
+ */
+@DisplayName("반복 규칙 더티 체킹 통합 테스트")
+class RecurrenceRulePersistenceIntegrationTest extends MigratedDatabaseTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    private UUID definitionId;
+
+    @BeforeEach
+    void setUp() {
+        RecurrenceRule rule = new RecurrenceRule();
+        rule.setFrequency(Frequency.WEEKLY);
+        rule.setByWeekDays(new LinkedHashSet<>(List.of(WeekDay.MO)));
+        definitionId = transactionTemplate.execute(status -> {
+            User owner = userRepository.save(User.builder()
+                .email("rule-" + UUID.randomUUID() + "@example.com")
+                .password("password")
+                .build());
+            return definitionRepository.save(TodoDefinition.builder()
+                .title("weekly")
+                .owner(owner)
+                .recurrenceRule(rule)
+                .build()).getId();
+        });
+    }
+
+    @Test
+    @DisplayName("제자리 수정 - 간격과 요일 변경이 커밋 시 저장됨")
+    void inPlaceChange_IsFlushed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            RecurrenceRule rule = definitionRepository.findById(definitionId).orElseThrow().getRecurrenceRule();
+            rule.setInterval(3);
+            rule.getByWeekDays().add(WeekDay.FR);
+        });
+
+        RecurrenceRule stored = transactionTemplate.execute(status ->
+            definitionRepository.findById(definitionId).orElseThrow().getRecurrenceRule());
+        assertThat(stored.getInterval()).isEqualTo(3);
+        assertThat(stored.getByWeekDays()).containsExactlyInAnyOrder(WeekDay.MO, WeekDay.FR);
+    }
+
+    @Test
+    @DisplayName("변경 없음 - 읽기만 하면 UPDATE가 나가지 않음")
+    void unchangedRule_IsNotUpdated() {
+        int before = mutations();
+
+        transactionTemplate.executeWithoutResult(status ->
+            definitionRepository.findById(definitionId).orElseThrow().getRecurrenceRule().getInterval());
+
+        assertThat(mutations()).isEqualTo(before);
+    }
+
+    private int mutations() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM todo_definition_mutations WHERE definition_id = ?", Integer.class, definitionId));
+    }
+}
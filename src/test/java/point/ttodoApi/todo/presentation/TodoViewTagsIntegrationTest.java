@@ -0,0 +1,130 @@
+package point.ttodoApi.todo.presentation;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.ttodoApi.test.integration.MigratedDatabaseTest;
+import point.ttodoApi.todo.domain.TodoDefinition;
+import point.ttodoApi.todo.domain.TodoInstance;
+import point.ttodoApi.todo.infrastructure.persistence.TodoDefinitionRepository;
+import point.ttodoApi.todo.infrastructure.persistence.TodoInstanceRepository;
+import point.ttodoApi.user.domain.User;
+import point.ttodoApi.user.infrastructure.persistence.UserRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 태그별 투두 조회 (/todos/by-tags) 통합 테스트
+ * 인스턴스 태그가 있으면 인스턴스 태그로, 없으면 정의 태그로 일치 여부를 판단
+ */
+@DisplayName("태그별 투두 조회 통합 테스트")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoViewTagsIntegrationTest extends MigratedDatabaseTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-7000-8000-0000000007a9");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoDefinitionRepository definitionRepository;
+
+    @Autowired
+    private TodoInstanceRepository instanceRepository;
+
+    private int sequence;
+    private UUID inheritsWorkHome;
+    private UUID overridesToWork;
+    private UUID overridesAwayFromWork;
+
+    @BeforeAll
+    void seed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = userRepository.save(User.builder()
+                .id(USER_ID)
+                .email("tags@example.com")
+                .password("password")
+                .build());
+            TodoDefinition workHome = definitionRepository.save(TodoDefinition.builder()
+                .title("work and home")
+                .tags(new HashSet<>(Set.of("work", "home")))
+                .owner(owner)
+                .build());
+            TodoDefinition errands = definitionRepository.save(TodoDefinition.builder()
+                .title("errands")
+                .tags(new HashSet<>(Set.of("errand")))
+                .owner(owner)
+                .build());
+
+            inheritsWorkHome = save(instance(workHome, owner, null));
+            overridesAwayFromWork = save(instance(workHome, owner, Set.of("errand")));
+            overridesToWork = save(instance(errands, owner, Set.of("work")));
+            TodoInstance deleted = instance(workHome, owner, null);
+            deleted.softDelete();
+            save(deleted);
+        });
+    }
+
+    @Test
+    @DisplayName("ANY - 인스턴스 태그 또는 상속한 정의 태그가 하나라도 일치하면 포함 (삭제된 인스턴스 제외)")
+    void getTodosByTags_MatchesOwnOrInheritedTags_WhenAny() throws Exception {
+        mockMvc.perform(get("/todos/by-tags").param("tags", "work").param("match", "ANY").with(user()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", containsInAnyOrder(
+                inheritsWorkHome.toString(), overridesToWork.toString())));
+    }
+
+    @Test
+    @DisplayName("ALL - 모든 태그를 포함한 인스턴스만, 인스턴스 태그가 정의 태그를 가림")
+    void getTodosByTags_RequiresEveryTag_WhenAll() throws Exception {
+        mockMvc.perform(get("/todos/by-tags").param("tags", "work", "home").param("match", "ALL").with(user()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", containsInAnyOrder(inheritsWorkHome.toString())));
+    }
+
+    @Test
+    @DisplayName("ANY - 정의 태그를 덮어쓴 인스턴스는 자기 태그로만 일치")
+    void getTodosByTags_UsesInstanceTags_WhenOverridden() throws Exception {
+        mockMvc.perform(get("/todos/by-tags").param("tags", "errand").with(user()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", containsInAnyOrder(overridesAwayFromWork.toString())));
+    }
+
+    private TodoInstance instance(TodoDefinition definition, User owner, Set<String> tags) {
+        return TodoInstance.builder()
+            .definition(definition)
+            .owner(owner)
+            .sequenceNumber(++sequence)
+            .tags(tags == null ? null : new HashSet<>(tags))
+            .dueDate(LocalDate.now())
+            .build();
+    }
+
+    private UUID save(TodoInstance instance) {
+        return instanceRepository.save(instance).getId();
+    }
+
+    private static RequestPostProcessor user() {
+        return authentication(new UsernamePasswordAuthenticationToken(
+            USER_ID, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,49 @@
+-- Test-only Flyway callback: stand-ins for the tables that predate the V2 migrations.
+-- V2.x references users(id) and category(id), which already exist in the deployed database,
+-- while the entities write to "user" and categories (Hibernate adds their remaining columns
+-- after migration, as ddl-auto=update does in every environment). Copying entity inserts into
+-- the stand-ins lets tests save users and categories through the entities as usual.
+
+CREATE TABLE IF NOT EXISTS users (
+    id UUID PRIMARY KEY,
+    nickname VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS category (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS "user" (
+    id UUID PRIMARY KEY
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id UUID PRIMARY KEY
+);
+
+CREATE OR REPLACE FUNCTION copy_user_to_legacy_users()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO users (id) VALUES (NEW.id) ON CONFLICT (id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION copy_category_to_legacy_category()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO category (id) VALUES (NEW.id) ON CONFLICT (id) DO NOTHING;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER copy_user_to_legacy_users_trigger
+    BEFORE INSERT ON "user"
+    FOR EACH ROW
+    EXECUTE FUNCTION copy_user_to_legacy_users();
+
+CREATE OR REPLACE TRIGGER copy_category_to_legacy_category_trigger
+    BEFORE INSERT ON categories
+    FOR EACH ROW
+    EXECUTE FUNCTION copy_category_to_legacy_category();